@@ -0,0 +1,58 @@
+package pia4java;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * API responses shaped like the real ones, for benchmarks that must run
+ * offline.
+ */
+class BenchmarkPayloads {
+  static final byte[] TOKEN = ("{\"token\":\"" + "0123456789abcdef".repeat(8) + "\"}")
+      .getBytes(StandardCharsets.UTF_8);
+
+  static final byte[] ADD_KEY = ("{\"status\":\"OK\","
+      + "\"server_key\":\"u5rJ9hWZpLAbX6HhtAkCp7MFZv6JuRsa1SlPbJo8rFM=\","
+      + "\"server_port\":1337,"
+      + "\"server_ip\":\"154.21.23.2\","
+      + "\"server_vip\":\"10.14.128.1\","
+      + "\"peer_ip\":\"10.14.140.57\","
+      + "\"peer_pubkey\":\"e6b0W7nWddraDSKq42QrjrlP2bAlZjJ2sAJoZYr+tF0=\","
+      + "\"dns_servers\":[\"10.0.0.243\",\"10.0.0.242\"]}")
+      .getBytes(StandardCharsets.UTF_8);
+
+  private static final String[] SERVER_GROUPS = {"meta", "ikev2", "ovpntcp", "ovpnudp", "wg"};
+
+  /**
+   * Returns a serverlist with {@code regions} regions, each with a few
+   * servers per protocol, followed by a signature like the real one.
+   */
+  static byte[] serverList(int regions) {
+    StringBuilder json = new StringBuilder("{\"groups\":{");
+    for (int g = 0; g < SERVER_GROUPS.length; g++) {
+      json.append(g > 0 ? "," : "").append('"').append(SERVER_GROUPS[g])
+          .append("\":[{\"name\":\"").append(SERVER_GROUPS[g]).append("\",\"ports\":[1337,443,8080]}]");
+    }
+    json.append("},\"regions\":[");
+    for (int r = 0; r < regions; r++) {
+      json.append(r > 0 ? "," : "")
+          .append("{\"id\":\"region_").append(r).append("\",")
+          .append("\"name\":\"Region ").append(r).append("\",")
+          .append("\"country\":\"C").append((char) ('A' + r % 26)).append("\",")
+          .append("\"auto_region\":true,\"dns\":\"region").append(r).append(".privacy.network\",")
+          .append("\"port_forward\":").append(r % 3 != 0).append(",")
+          .append("\"geo\":false,\"offline\":false,\"servers\":{");
+      for (int g = 0; g < SERVER_GROUPS.length; g++) {
+        json.append(g > 0 ? "," : "").append('"').append(SERVER_GROUPS[g]).append("\":[");
+        for (int s = 0; s < 4; s++) {
+          json.append(s > 0 ? "," : "")
+              .append("{\"ip\":\"10.").append(r % 256).append('.').append(g).append('.').append(s)
+              .append("\",\"cn\":\"region").append(r).append(SERVER_GROUPS[g]).append(s).append("\"}");
+        }
+        json.append(']');
+      }
+      json.append("}}");
+    }
+    json.append("]}\n\n").append("A".repeat(344));
+    return json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,54 @@
+package pia4java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CidrAggregatorBenchmark {
+  @Param({"1000", "100000"})
+  public int addressCount;
+
+  private List<String> ipv4Addresses;
+  private List<String> ipv6Addresses;
+
+  @Setup
+  public void setUp() {
+    // Clustered like CDN addresses: a few thousand /24s, a few addresses each.
+    Random random = new Random(1);
+    ipv4Addresses = new ArrayList<>(addressCount);
+    ipv6Addresses = new ArrayList<>(addressCount);
+    for (int i = 0; i < addressCount; i++) {
+      int network = random.nextInt(Math.max(1, addressCount / 8));
+      ipv4Addresses.add("104." + (network >> 8 & 0xff) + "." + (network & 0xff) + "." + random.nextInt(256));
+      ipv6Addresses.add(String.format("2606:4700:%x::%x", network, random.nextInt(65536)));
+    }
+  }
+
+  @Benchmark
+  public List<String> aggregateIpv4() {
+    return CidrAggregator.aggregate(ipv4Addresses);
+  }
+
+  @Benchmark
+  public List<String> aggregateIpv4ToHundredPrefixes() {
+    return CidrAggregator.aggregate(ipv4Addresses, 100);
+  }
+
+  @Benchmark
+  public List<String> aggregateIpv6() {
+    return CidrAggregator.aggregate(ipv6Addresses);
+  }
+}
@@ -0,0 +1,157 @@
+package pia4java;
+
+import com.google.common.base.Preconditions;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Times {@link PiaManager}'s connect, restart and disconnect end to end, with
+ * no root and no network: commands go to a {@link FakeCommandRunner}, the PIA
+ * API is a {@link PiaStandIn} in this process and the system's files are
+ * under a temporary root, or {@code --root}, which could be on a tmpfs.  Each
+ * cycle connects, restarts in place and disconnects; the p50 and p99 of each
+ * step and of the whole cycle are reported with the bytes allocated per
+ * cycle.
+ *
+ * <p>{@code --max-p99-ms} and {@code --max-bytes-per-cycle} make the run fail
+ * when exceeded, for use as a regression check.
+ */
+public class ConnectCycles {
+  private static final String USAGE = "[--cycles=1000] [--warmup=100] [--backend=DIRECT|WG_QUICK] "
+      + "[--root=<dir>] [--max-p99-ms=0] [--max-bytes-per-cycle=0] [--command-us=2000] [--wg-quick-us=40000] "
+      + "[--ping-us=1000] [--handshake-ms=30] and PiaStandIn's fault options";
+  private static final String SRC_VALID_MARK_DIR = "proc/sys/net/ipv4/conf/all";
+
+  private final PiaManager piaManager;
+  private final FakeCommandRunner commandRunner;
+  private final LatencyHistogram connects = new LatencyHistogram();
+  private final LatencyHistogram restarts = new LatencyHistogram();
+  private final LatencyHistogram disconnects = new LatencyHistogram();
+  private final LatencyHistogram cycles = new LatencyHistogram();
+
+  ConnectCycles(PiaManager piaManager, FakeCommandRunner commandRunner) {
+    this.piaManager = piaManager;
+    this.commandRunner = commandRunner;
+  }
+
+  private void run(int count, boolean record) throws Exception {
+    for (int i = 0; i < count; i++) {
+      long start = System.nanoTime();
+      piaManager.connect();
+      long connected = System.nanoTime();
+      piaManager.restart();
+      long restarted = System.nanoTime();
+      piaManager.disconnect();
+      long end = System.nanoTime();
+      Preconditions.checkState(commandRunner.getInterfaceCount() == 0, "Interface left up after cycle %s", i);
+      if (record) {
+        connects.record(connected - start);
+        restarts.record(restarted - connected);
+        disconnects.record(end - restarted);
+        cycles.record(end - start);
+      }
+    }
+  }
+
+  private static String summary(String name, LatencyHistogram histogram) {
+    return String.format("%-10s p50 %8.2fms p99 %8.2fms max %8.2fms", name, histogram.percentileMillis(50),
+        histogram.percentileMillis(99), histogram.percentileMillis(100));
+  }
+
+  private static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getTotalThreadAllocatedBytes();
+  }
+
+  public static void main(String[] args) throws Exception {
+    int count = 1000;
+    int warmup = 100;
+    Proto.InterfaceBackend backend = Proto.InterfaceBackend.DIRECT;
+    Path root = null;
+    double maxP99Millis = 0;
+    long maxBytesPerCycle = 0;
+    FakeCommandRunner.Delays delays = new FakeCommandRunner.Delays();
+    PiaStandIn.Faults faults = new PiaStandIn.Faults();
+    for (String arg : args) {
+      if (arg.startsWith("--cycles=")) {
+        count = Integer.parseInt(arg.substring("--cycles=".length()));
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Integer.parseInt(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--backend=")) {
+        backend = Proto.InterfaceBackend.valueOf(arg.substring("--backend=".length()));
+      } else if (arg.startsWith("--root=")) {
+        root = Paths.get(arg.substring("--root=".length()));
+      } else if (arg.startsWith("--max-p99-ms=")) {
+        maxP99Millis = Double.parseDouble(arg.substring("--max-p99-ms=".length()));
+      } else if (arg.startsWith("--max-bytes-per-cycle=")) {
+        maxBytesPerCycle = Long.parseLong(arg.substring("--max-bytes-per-cycle=".length()));
+      } else {
+        Preconditions.checkState(delays.parse(arg) || faults.parse(arg), "Unknown argument %s; %s", arg, USAGE);
+      }
+    }
+    // Every restart logs its traffic gap.
+    Logger logger = Logger.getLogger("pia4java");
+    logger.setLevel(Level.WARNING);
+
+    boolean temporaryRoot = root == null;
+    root = temporaryRoot ? Files.createTempDirectory("pia4java-cycles") : Files.createDirectories(root);
+    Path cacheDir = Files.createDirectories(root.resolve("var/cache/pia4java"));
+    Files.createDirectories(root.resolve("etc/wireguard"));
+    Files.createDirectories(root.resolve(SRC_VALID_MARK_DIR));
+    Files.writeString(root.resolve("etc/resolv.conf"), "nameserver 127.0.0.1\n");
+    boolean failed = false;
+    try (PiaStandIn standIn = new PiaStandIn(0, PiaStandIn.DEFAULT_KEY_STORE, faults)) {
+      String url = "https://localhost:" + standIn.getPort();
+      Proto.PiaConfig config = Proto.PiaConfig.newBuilder()
+          .setPiaWireguardServer("localhost")
+          .setPiaWireguardPort(standIn.getPort())
+          .setPiaUsername("p0000000")
+          .setPiaPassword("secret")
+          .setPiaCaCertificate(PiaStandIn.DEFAULT_CA.toString())
+          .setTokenUrl(url + "/api/client/v2/token")
+          .setServerlistUrl(url + "/vpninfo/servers/v6")
+          .setCacheDir(cacheDir.toString())
+          .setInterfaceBackend(backend)
+          .build();
+      FakeCommandRunner commandRunner = new FakeCommandRunner(delays, root.resolve("etc/wireguard"));
+      ConnectCycles connectCycles = new ConnectCycles(new PiaManager(config, commandRunner, root), commandRunner);
+
+      connectCycles.run(warmup, false);
+      long allocatedBefore = allocatedBytes();
+      long start = System.nanoTime();
+      connectCycles.run(count, true);
+      double seconds = (System.nanoTime() - start) / 1e9;
+      long bytesPerCycle = (allocatedBytes() - allocatedBefore) / count;
+
+      System.out.printf("%d %s cycles in %.2fs%n", count, backend, seconds);
+      System.out.println(summary("connect", connectCycles.connects));
+      System.out.println(summary("restart", connectCycles.restarts));
+      System.out.println(summary("disconnect", connectCycles.disconnects));
+      System.out.println(summary("cycle", connectCycles.cycles));
+      System.out.printf("allocated %d bytes per cycle (client and stand-in)%n", bytesPerCycle);
+      if (maxP99Millis > 0 && connectCycles.cycles.percentileMillis(99) > maxP99Millis) {
+        System.out.printf("FAILED: cycle p99 over %.2fms%n", maxP99Millis);
+        failed = true;
+      }
+      if (maxBytesPerCycle > 0 && bytesPerCycle > maxBytesPerCycle) {
+        System.out.printf("FAILED: over %d bytes per cycle%n", maxBytesPerCycle);
+        failed = true;
+      }
+    } finally {
+      if (temporaryRoot) {
+        try (Stream<Path> files = Files.walk(root)) {
+          for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+            Files.delete(file);
+          }
+        }
+      }
+    }
+    System.exit(failed ? 1 : 0);
+  }
+}
@@ -0,0 +1,322 @@
+package pia4java;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers the {@code ip}, {@code wg}, {@code wg-quick} and {@code ping}
+ * commands that {@link PiaManager} runs from an in-memory model of the
+ * WireGuard interfaces, after delays like those of the real commands, so
+ * connects and restarts can be timed without root or a network.
+ *
+ * <p>A peer handshakes {@code handshakeMillis} after it is added or the
+ * interface's key changes.  Routes and rules are accepted and not kept.
+ */
+class FakeCommandRunner implements CommandExecutor.Runner {
+  /** How long each kind of command takes. */
+  static class Delays {
+    // A fork and exec of ip or wg.
+    long commandMicros = 2000;
+    // wg-quick, a shell script that runs a dozen commands.
+    long wgQuickMicros = 40000;
+    // A ping's round trip.
+    long pingMicros = 1000;
+    long handshakeMillis = 30;
+
+    /**
+     * Parses {@code arg} if it is one of the delay options, returning whether it was.
+     */
+    boolean parse(String arg) {
+      if (arg.startsWith("--command-us=")) {
+        commandMicros = Long.parseLong(arg.substring("--command-us=".length()));
+      } else if (arg.startsWith("--wg-quick-us=")) {
+        wgQuickMicros = Long.parseLong(arg.substring("--wg-quick-us=".length()));
+      } else if (arg.startsWith("--ping-us=")) {
+        pingMicros = Long.parseLong(arg.substring("--ping-us=".length()));
+      } else if (arg.startsWith("--handshake-ms=")) {
+        handshakeMillis = Long.parseLong(arg.substring("--handshake-ms=".length()));
+      } else {
+        return false;
+      }
+      return true;
+    }
+  }
+
+  private static class Interface {
+    String privateKey = "(none)";
+    int fwmark;
+    final List<String> addresses = new ArrayList<>();
+    final Map<String, Peer> peers = new LinkedHashMap<>();
+  }
+
+  private static class Peer {
+    String endpoint = "(none)";
+    List<String> allowedIps = List.of();
+    int persistentKeepalive;
+    long handshakeEpochMillis;
+  }
+
+  private final Delays delays;
+  private final Path wireGuardConfDir;
+  private final Map<String, Interface> interfaces = new LinkedHashMap<>();
+
+  /**
+   * {@code wireGuardConfDir} is where {@code wg-quick} finds the configurations.
+   */
+  FakeCommandRunner(Delays delays, Path wireGuardConfDir) {
+    this.delays = delays;
+    this.wireGuardConfDir = wireGuardConfDir;
+  }
+
+  /**
+   * Returns the number of interfaces that are up.
+   */
+  synchronized int getInterfaceCount() {
+    return interfaces.size();
+  }
+
+  @Override
+  public CompletableFuture<CommandExecutor.Result> start(Duration timeout, String input, String[] command) {
+    long delayMicros = switch (command[0]) {
+      case "wg-quick" -> delays.wgQuickMicros;
+      case "ping" -> delays.pingMicros;
+      default -> delays.commandMicros;
+    };
+    // Answered on the delay's timer thread: the model is quick to update.
+    Executor delayed = CompletableFuture.delayedExecutor(delayMicros, TimeUnit.MICROSECONDS, Runnable::run);
+    return CompletableFuture.supplyAsync(() -> run(input, command), delayed);
+  }
+
+  private synchronized CommandExecutor.Result run(String input, String[] command) {
+    try {
+      return switch (command[0]) {
+        case "ip" -> ip(input, command);
+        case "wg" -> wg(input, command);
+        case "wg-quick" -> wgQuick(command);
+        case "ping" -> ok("");
+        default -> new CommandExecutor.Result("", command[0] + ": command not found", 127);
+      };
+    } catch (IOException | RuntimeException e) {
+      return new CommandExecutor.Result("", String.join(" ", command) + ": " + e.getMessage(), 1);
+    }
+  }
+
+  private CommandExecutor.Result ip(String input, String[] command) {
+    if (command[1].equals("-batch")) {
+      for (String line : input.split("\n")) {
+        CommandExecutor.Result result = ipCommand(line.trim().split("\\s+"));
+        if (result.exitValue != 0) {
+          return result;
+        }
+      }
+      return ok("");
+    }
+    // ip -o address show dev <interface>
+    String name = command[command.length - 1];
+    Interface iface = interfaces.get(name);
+    if (iface == null) {
+      return noDevice(name);
+    }
+    StringBuilder out = new StringBuilder();
+    for (String address : iface.addresses) {
+      out.append("5: ").append(name).append("    inet ").append(address).append("/32 scope global ")
+          .append(name).append("\\       valid_lft forever preferred_lft forever\n");
+    }
+    return ok(out.toString());
+  }
+
+  private CommandExecutor.Result ipCommand(String[] words) {
+    if (words[0].equals("route") || words[0].equals("rule") || words[0].isEmpty()) {
+      return ok("");
+    }
+    String name = words[words.length - 1];
+    if (words[0].equals("link")) {
+      // link add|del|set dev <interface> ...
+      name = words[3];
+      switch (words[1]) {
+        case "add" -> {
+          if (interfaces.putIfAbsent(name, new Interface()) != null) {
+            return new CommandExecutor.Result("", "RTNETLINK answers: File exists", 2);
+          }
+          return ok("");
+        }
+        case "del" -> {
+          return interfaces.remove(name) != null ? ok("") : noDevice(name);
+        }
+        default -> {
+          return interfaces.containsKey(name) ? ok("") : noDevice(name);
+        }
+      }
+    }
+    // address add|del <address> dev <interface>
+    Interface iface = interfaces.get(name);
+    if (iface == null) {
+      return noDevice(name);
+    }
+    if (words[1].equals("add")) {
+      iface.addresses.add(words[2].replaceAll("/(32|128)$", ""));
+    } else {
+      iface.addresses.remove(words[2]);
+    }
+    return ok("");
+  }
+
+  private CommandExecutor.Result wg(String input, String[] command) {
+    String name = command[2];
+    Interface iface = interfaces.get(name);
+    if (iface == null) {
+      return new CommandExecutor.Result("", "Unable to access interface: No such device", 1);
+    }
+    return switch (command[1]) {
+      case "show" -> ok(dump(iface));
+      case "setconf" -> {
+        iface.peers.clear();
+        configure(iface, input);
+        yield ok("");
+      }
+      case "set" -> {
+        set(iface, input, Arrays.copyOfRange(command, 3, command.length));
+        yield ok("");
+      }
+      default -> new CommandExecutor.Result("", "Invalid subcommand " + command[1], 1);
+    };
+  }
+
+  private CommandExecutor.Result wgQuick(String[] command) throws IOException {
+    String name = command[2];
+    if (command[1].equals("down")) {
+      return interfaces.remove(name) != null
+          ? ok("")
+          : new CommandExecutor.Result("", "wg-quick: `" + name + "' is not a WireGuard interface", 1);
+    }
+    if (interfaces.containsKey(name)) {
+      return new CommandExecutor.Result("", "wg-quick: `" + name + "' already exists", 1);
+    }
+    Interface iface = new Interface();
+    configure(iface, Files.readString(wireGuardConfDir.resolve(name + ".conf")));
+    interfaces.put(name, iface);
+    return ok("");
+  }
+
+  /**
+   * Applies a {@code wg setconf} or wg-quick configuration.
+   */
+  private void configure(Interface iface, String configuration) {
+    Peer peer = null;
+    for (String line : configuration.split("\n")) {
+      int equals = line.indexOf('=');
+      if (equals < 0) {
+        continue;
+      }
+      String key = line.substring(0, equals).trim();
+      String value = line.substring(equals + 1).trim();
+      switch (key) {
+        case "PrivateKey" -> setPrivateKey(iface, value);
+        case "FwMark" -> iface.fwmark = Integer.parseInt(value);
+        case "Address" -> iface.addresses.add(value);
+        case "PublicKey" -> peer = addPeer(iface, value);
+        case "Endpoint" -> peer.endpoint = value;
+        case "AllowedIPs" -> {
+          List<String> allowedIps = new ArrayList<>(peer.allowedIps);
+          allowedIps.addAll(Arrays.asList(value.split(",\\s*")));
+          peer.allowedIps = allowedIps;
+        }
+        case "PersistentKeepalive" -> peer.persistentKeepalive = Integer.parseInt(value);
+        default -> {
+        }
+      }
+    }
+  }
+
+  /**
+   * Applies {@code wg set} arguments.  As with WireGuard, a peer's allowed
+   * IPs are taken from the other peers.
+   */
+  private void set(Interface iface, String input, String[] args) {
+    Peer peer = null;
+    String publicKey = null;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "private-key" -> {
+          // Always /dev/stdin.
+          i++;
+          setPrivateKey(iface, input.trim());
+        }
+        case "peer" -> {
+          publicKey = args[++i];
+          peer = iface.peers.get(publicKey);
+          if (peer == null) {
+            peer = addPeer(iface, publicKey);
+          }
+        }
+        case "remove" -> iface.peers.remove(publicKey);
+        case "endpoint" -> peer.endpoint = args[++i];
+        case "persistent-keepalive" -> peer.persistentKeepalive = Integer.parseInt(args[++i]);
+        case "allowed-ips" -> {
+          List<String> allowedIps = Arrays.asList(args[++i].split(","));
+          for (Peer other : iface.peers.values()) {
+            if (other != peer) {
+              List<String> kept = new ArrayList<>(other.allowedIps);
+              kept.removeAll(allowedIps);
+              other.allowedIps = kept;
+            }
+          }
+          peer.allowedIps = allowedIps;
+        }
+        default -> throw new IllegalStateException("Unknown argument " + args[i]);
+      }
+    }
+  }
+
+  private void setPrivateKey(Interface iface, String privateKey) {
+    if (!privateKey.equals(iface.privateKey)) {
+      iface.privateKey = privateKey;
+      // Every session is renegotiated with the new key.
+      for (Peer peer : iface.peers.values()) {
+        peer.handshakeEpochMillis = System.currentTimeMillis() + delays.handshakeMillis;
+      }
+    }
+  }
+
+  private Peer addPeer(Interface iface, String publicKey) {
+    Peer peer = new Peer();
+    peer.handshakeEpochMillis = System.currentTimeMillis() + delays.handshakeMillis;
+    iface.peers.put(publicKey, peer);
+    return peer;
+  }
+
+  private static String dump(Interface iface) {
+    long now = System.currentTimeMillis();
+    StringBuilder dump = new StringBuilder();
+    dump.append(iface.privateKey).append("\tpublic\t51820\t")
+        .append(iface.fwmark == 0 ? "off" : "0x" + Integer.toHexString(iface.fwmark)).append('\n');
+    for (Map.Entry<String, Peer> entry : iface.peers.entrySet()) {
+      Peer peer = entry.getValue();
+      boolean handshake = peer.handshakeEpochMillis <= now;
+      dump.append(entry.getKey()).append("\t(none)\t").append(peer.endpoint).append('\t')
+          .append(peer.allowedIps.isEmpty() ? "(none)" : String.join(",", peer.allowedIps)).append('\t')
+          .append(handshake ? peer.handshakeEpochMillis / 1000 : 0).append('\t')
+          .append(handshake ? 1024 : 0).append('\t').append(handshake ? 1024 : 148).append('\t')
+          .append(peer.persistentKeepalive == 0 ? "off" : peer.persistentKeepalive).append('\n');
+    }
+    return dump.toString();
+  }
+
+  private static CommandExecutor.Result ok(String stdout) {
+    return new CommandExecutor.Result(stdout.stripTrailing(), "", 0);
+  }
+
+  private static CommandExecutor.Result noDevice(String name) {
+    return new CommandExecutor.Result("", "Cannot find device \"" + name + "\"", 1);
+  }
+}
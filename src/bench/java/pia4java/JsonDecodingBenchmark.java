@@ -0,0 +1,47 @@
+package pia4java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonDecodingBenchmark {
+  private byte[] serverList;
+
+  @Setup
+  public void setUp() {
+    serverList = BenchmarkPayloads.serverList(200);
+  }
+
+  @Benchmark
+  public PiaManager.TokenResponse decodeToken() throws IOException {
+    return SimpleRestClient.decode(
+        new ByteArrayInputStream(BenchmarkPayloads.TOKEN), PiaManager.TokenResponse.class);
+  }
+
+  @Benchmark
+  public PiaManager.AddKeyResponse decodeAddKey() throws IOException {
+    return SimpleRestClient.decode(
+        new ByteArrayInputStream(BenchmarkPayloads.ADD_KEY), PiaManager.AddKeyResponse.class);
+  }
+
+  @Benchmark
+  public ServerList decodeServerList() throws IOException {
+    return SimpleRestClient.decode(new ByteArrayInputStream(serverList), ServerList.class);
+  }
+
+  @Benchmark
+  public ServerListIndex indexServerList() throws IOException {
+    return new ServerListIndex(SimpleRestClient.decode(new ByteArrayInputStream(serverList), ServerList.class));
+  }
+}
@@ -0,0 +1,41 @@
+package pia4java;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latencies in {@link QualityWindow}'s log-linear buckets, recorded from any
+ * thread.
+ */
+class LatencyHistogram {
+  private static final long MAX_MICROS = QualityWindow.lowest(QualityWindow.BUCKETS) - 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(QualityWindow.BUCKETS);
+
+  void record(long nanos) {
+    counts.incrementAndGet(QualityWindow.index(Math.min(nanos / 1000, MAX_MICROS)));
+  }
+
+  /**
+   * Returns the latency below which {@code percentile} percent of those
+   * recorded fall, or 0 if none were.
+   */
+  double percentileMillis(double percentile) {
+    long total = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      total += counts.get(i);
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        // The middle of the bucket.
+        return (QualityWindow.lowest(i) + QualityWindow.lowest(i + 1) - 1) / 2000.0;
+      }
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,177 @@
+package pia4java;
+
+import com.google.common.base.Preconditions;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives {@link SimpleRestClient} against a {@link PiaStandIn}, started in
+ * this process unless {@code --url} names one, and reports the achieved rate,
+ * latency percentiles, connections and allocation.
+ *
+ * <p>With {@code --rate}, requests are started on a fixed schedule and each
+ * latency is measured from when its request was due, so a stalled server
+ * shows up in the percentiles instead of just slowing the schedule down.
+ * {@code --concurrency} bounds the requests in flight either way.
+ */
+public class LoadGenerator {
+  private static final String USAGE = "[--url=https://localhost:8443] [--ca=standin/ca.crt] [--requests=20000] "
+      + "[--warmup=2000] [--concurrency=64] [--rate=0] [--endpoint=addKey|token|serverlist|signature|mixed] "
+      + "and PiaStandIn's fault options";
+
+  private final SimpleRestClient restClient;
+  private final String url;
+  private final String endpoint;
+  private final LatencyHistogram latencies = new LatencyHistogram();
+  private final AtomicLong failures = new AtomicLong();
+  // getRaw blocks, so serverlist requests run on their own threads.
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  LoadGenerator(SimpleRestClient restClient, String url, String endpoint) {
+    this.restClient = restClient;
+    this.url = url;
+    this.endpoint = endpoint;
+  }
+
+  private CompletableFuture<?> send(long sequence) {
+    String name = endpoint.equals("mixed")
+        ? new String[] {"addKey", "addKey", "addKey", "token", "signature"}[(int) (sequence % 5)]
+        : endpoint;
+    return switch (name) {
+      case "addKey" -> restClient.getAsync(Map.of("pt", "token", "pubkey", "key"), url + "/addKey",
+          PiaManager.AddKeyResponse.class);
+      case "token" -> restClient.postAsync(Map.of("username", "p0000000", "password", "secret"),
+          url + "/api/client/v2/token", PiaManager.TokenResponse.class);
+      case "signature" -> restClient.getAsync(Map.of("token", "token"), url + "/getSignature",
+          PortForwarder.SignatureResponse.class);
+      case "serverlist" -> CompletableFuture.runAsync(() -> {
+        try {
+          SimpleRestClient.RawResponse response = restClient.getRaw(url + "/vpninfo/servers/v6", Map.of());
+          Preconditions.checkState(response.statusCode == 200, "Non-OK response %s", response.statusCode);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        }
+      }, executor);
+      default -> throw new IllegalStateException("Unknown endpoint " + name + "; " + USAGE);
+    };
+  }
+
+  /**
+   * Sends {@code count} requests, at {@code rate} per second if it is
+   * positive, and records their latencies if {@code record}.
+   */
+  private void run(int count, int concurrency, double rate, boolean record) throws InterruptedException {
+    Semaphore inFlight = new Semaphore(concurrency);
+    long periodNanos = rate > 0 ? (long) (1e9 / rate) : 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      long due = start + i * periodNanos;
+      if (periodNanos > 0) {
+        long waitNanos = due - System.nanoTime();
+        if (waitNanos > 0) {
+          TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+      }
+      inFlight.acquire();
+      long sent = periodNanos > 0 ? due : System.nanoTime();
+      send(i).whenComplete((response, failure) -> {
+        if (record && failure != null) {
+          failures.incrementAndGet();
+        } else if (record) {
+          latencies.record(System.nanoTime() - sent);
+        }
+        inFlight.release();
+      });
+    }
+    inFlight.acquire(concurrency);
+    inFlight.release(concurrency);
+  }
+
+  private static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getTotalThreadAllocatedBytes();
+  }
+
+  public static void main(String[] args) throws Exception {
+    String url = null;
+    Path ca = PiaStandIn.DEFAULT_CA;
+    int requests = 20000;
+    int warmup = 2000;
+    int concurrency = 64;
+    double rate = 0;
+    String endpoint = "mixed";
+    PiaStandIn.Faults faults = new PiaStandIn.Faults();
+    for (String arg : args) {
+      if (arg.startsWith("--url=")) {
+        url = arg.substring("--url=".length());
+      } else if (arg.startsWith("--ca=")) {
+        ca = Paths.get(arg.substring("--ca=".length()));
+      } else if (arg.startsWith("--requests=")) {
+        requests = Integer.parseInt(arg.substring("--requests=".length()));
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Integer.parseInt(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--concurrency=")) {
+        concurrency = Integer.parseInt(arg.substring("--concurrency=".length()));
+      } else if (arg.startsWith("--rate=")) {
+        rate = Double.parseDouble(arg.substring("--rate=".length()));
+      } else if (arg.startsWith("--endpoint=")) {
+        endpoint = arg.substring("--endpoint=".length());
+      } else {
+        Preconditions.checkState(faults.parse(arg), "Unknown argument %s; %s", arg, USAGE);
+      }
+    }
+
+    PiaStandIn standIn = null;
+    if (url == null) {
+      standIn = new PiaStandIn(0, PiaStandIn.DEFAULT_KEY_STORE, faults);
+      url = "https://localhost:" + standIn.getPort();
+    }
+    Path cacheDir = Files.createTempDirectory("pia4java-load");
+    try {
+      PiaTrustManager trustManager = new PiaTrustManager(ca, cacheDir.resolve("pia-ca.p12"));
+      trustManager.addPiaHost("localhost");
+      LoadGenerator generator = new LoadGenerator(new SimpleRestClient(trustManager), url, endpoint);
+
+      generator.run(warmup, concurrency, rate, false);
+      long connectionsBefore = standIn != null ? standIn.getConnections() : 0;
+      long allocatedBefore = allocatedBytes();
+      long start = System.nanoTime();
+      generator.run(requests, concurrency, rate, true);
+      double seconds = (System.nanoTime() - start) / 1e9;
+      long allocated = allocatedBytes() - allocatedBefore;
+
+      System.out.printf("%d %s requests in %.2fs: %.0f/s, %d failed%n", requests, endpoint, seconds,
+          requests / seconds, generator.failures.get());
+      System.out.printf("latency p50 %.2fms p90 %.2fms p99 %.2fms p99.9 %.2fms max %.2fms%n",
+          generator.latencies.percentileMillis(50), generator.latencies.percentileMillis(90),
+          generator.latencies.percentileMillis(99), generator.latencies.percentileMillis(99.9),
+          generator.latencies.percentileMillis(100));
+      if (standIn != null) {
+        System.out.printf("connections %d (%d new during the run), server errors injected %d%n",
+            standIn.getConnections(), standIn.getConnections() - connectionsBefore, standIn.getErrors());
+      }
+      System.out.printf("allocated %d bytes per request%s%n", allocated / requests,
+          standIn != null ? " (client and stand-in)" : "");
+    } finally {
+      if (standIn != null) {
+        standIn.close();
+      }
+      try (var files = Files.list(cacheDir)) {
+        for (Path file : (Iterable<Path>) files::iterator) {
+          Files.delete(file);
+        }
+      }
+      Files.delete(cacheDir);
+    }
+    System.exit(0);
+  }
+}
@@ -0,0 +1,225 @@
+package pia4java;
+
+import com.google.common.base.Preconditions;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A local HTTPS stand-in for PIA's token, addKey, serverlist and port
+ * forwarding APIs, for load tests that must not reach PIA.  Responses are
+ * shaped like the real ones ({@link BenchmarkPayloads}), with every server and
+ * gateway at 127.0.0.1, named localhost.  Latency, errors and slow bodies can
+ * be injected.
+ *
+ * <p>The key is generated by {@code ant standin_keys}, along with the CA to
+ * point {@code pia_ca_certificate} at.
+ */
+public class PiaStandIn implements AutoCloseable {
+  static final Path DEFAULT_KEY_STORE = Paths.get("standin/server.p12");
+  static final String KEY_STORE_PASSWORD = "changeit";
+  static final Path DEFAULT_CA = Paths.get("standin/ca.crt");
+
+  private static final byte[] TOKEN = BenchmarkPayloads.TOKEN;
+  private static final byte[] ADD_KEY = new String(BenchmarkPayloads.ADD_KEY, StandardCharsets.UTF_8)
+      .replaceAll("\"server_(ip|vip)\":\"[0-9.]+\"", "\"server_$1\":\"127.0.0.1\"")
+      .getBytes(StandardCharsets.UTF_8);
+  private static final byte[] SERVER_LIST = new String(BenchmarkPayloads.serverList(100), StandardCharsets.UTF_8)
+      .replaceAll("\"ip\":\"[0-9.]+\",\"cn\":\"[^\"]+\"", "\"ip\":\"127.0.0.1\",\"cn\":\"localhost\"")
+      .getBytes(StandardCharsets.UTF_8);
+  private static final byte[] BIND_PORT = "{\"status\":\"OK\",\"message\":\"port scheduled for add\"}"
+      .getBytes(StandardCharsets.UTF_8);
+  // Bytes written per write of a slow body.
+  private static final int SLOW_BODY_CHUNK = 64;
+
+  /** What to inject into the responses. */
+  static class Faults {
+    long latencyMillis;
+    // Added to the latency, uniformly distributed.
+    long latencyJitterMillis;
+    // Fraction of requests answered with a 500.
+    double errorRate;
+    // Fraction of responses whose body is spread over slowBodyMillis.
+    double slowBodyRate;
+    long slowBodyMillis = 1000;
+
+    /**
+     * Parses {@code arg} if it is one of the fault options, returning whether it was.
+     */
+    boolean parse(String arg) {
+      if (arg.startsWith("--latency-ms=")) {
+        latencyMillis = Long.parseLong(arg.substring("--latency-ms=".length()));
+      } else if (arg.startsWith("--latency-jitter-ms=")) {
+        latencyJitterMillis = Long.parseLong(arg.substring("--latency-jitter-ms=".length()));
+      } else if (arg.startsWith("--error-rate=")) {
+        errorRate = Double.parseDouble(arg.substring("--error-rate=".length()));
+      } else if (arg.startsWith("--slow-body-rate=")) {
+        slowBodyRate = Double.parseDouble(arg.substring("--slow-body-rate=".length()));
+      } else if (arg.startsWith("--slow-body-ms=")) {
+        slowBodyMillis = Long.parseLong(arg.substring("--slow-body-ms=".length()));
+      } else {
+        return false;
+      }
+      return true;
+    }
+  }
+
+  private final HttpsServer server;
+  // Platform threads: HttpsServer blocks on TLS inside synchronized blocks,
+  // which would pin the carriers that an in-process client also runs on.
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final Faults faults;
+  // Remote addresses seen, one per connection.
+  private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong errors = new AtomicLong();
+
+  PiaStandIn(int port, Path keyStorePath, Faults faults) throws IOException, GeneralSecurityException {
+    this.faults = faults;
+    KeyStore keyStore = KeyStore.getInstance("PKCS12");
+    try (InputStream in = Files.newInputStream(keyStorePath)) {
+      keyStore.load(in, KEY_STORE_PASSWORD.toCharArray());
+    }
+    KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    kmf.init(keyStore, KEY_STORE_PASSWORD.toCharArray());
+    SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(kmf.getKeyManagers(), null, null);
+
+    server = HttpsServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 4096);
+    server.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+    server.setExecutor(executor);
+    server.createContext("/", this::handle);
+    server.start();
+  }
+
+  int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  long getConnections() {
+    return connections.size();
+  }
+
+  long getRequests() {
+    return requests.get();
+  }
+
+  long getErrors() {
+    return errors.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      requests.incrementAndGet();
+      connections.add(exchange.getRemoteAddress());
+      exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      long delayMillis = faults.latencyMillis
+          + (faults.latencyJitterMillis > 0 ? random.nextLong(faults.latencyJitterMillis + 1) : 0);
+      if (delayMillis > 0) {
+        Thread.sleep(delayMillis);
+      }
+      if (random.nextDouble() < faults.errorRate) {
+        errors.incrementAndGet();
+        exchange.sendResponseHeaders(500, -1);
+        return;
+      }
+      byte[] body = getBody(exchange.getRequestURI().getPath());
+      if (body == null) {
+        exchange.sendResponseHeaders(404, -1);
+        return;
+      }
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      OutputStream out = exchange.getResponseBody();
+      if (random.nextDouble() < faults.slowBodyRate) {
+        int chunks = (body.length + SLOW_BODY_CHUNK - 1) / SLOW_BODY_CHUNK;
+        long pauseNanos = faults.slowBodyMillis * 1_000_000 / Math.max(1, chunks - 1);
+        for (int offset = 0; offset < body.length; offset += SLOW_BODY_CHUNK) {
+          if (offset > 0) {
+            Thread.sleep(pauseNanos / 1_000_000, (int) (pauseNanos % 1_000_000));
+          }
+          out.write(body, offset, Math.min(SLOW_BODY_CHUNK, body.length - offset));
+          out.flush();
+        }
+      } else {
+        out.write(body);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static byte[] getBody(String path) {
+    return switch (path) {
+      case "/api/client/v2/token" -> TOKEN;
+      case "/addKey" -> ADD_KEY;
+      case "/vpninfo/servers/v6" -> SERVER_LIST;
+      case "/getSignature" -> getSignature();
+      case "/bindPort" -> BIND_PORT;
+      default -> null;
+    };
+  }
+
+  private static byte[] getSignature() {
+    int port = ThreadLocalRandom.current().nextInt(10000, 60000);
+    String payload = "{\"token\":\"standin\",\"port\":" + port + ",\"expires_at\":\""
+        + Instant.now().plus(60, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS) + "\"}";
+    return ("{\"status\":\"OK\",\"payload\":\""
+        + Base64.getEncoder().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+        + "\",\"signature\":\"" + Base64.getEncoder().encodeToString(new byte[64]) + "\"}")
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Serves until killed.
+   */
+  public static void main(String[] args) throws Exception {
+    int port = 8443;
+    Path keyStore = DEFAULT_KEY_STORE;
+    Faults faults = new Faults();
+    for (String arg : args) {
+      if (arg.startsWith("--port=")) {
+        port = Integer.parseInt(arg.substring("--port=".length()));
+      } else if (arg.startsWith("--keystore=")) {
+        keyStore = Paths.get(arg.substring("--keystore=".length()));
+      } else {
+        Preconditions.checkState(faults.parse(arg), "Unknown argument %s; [--port=8443] [--keystore=<p12>] "
+            + "[--latency-ms=0] [--latency-jitter-ms=0] [--error-rate=0] [--slow-body-rate=0] "
+            + "[--slow-body-ms=1000]", arg);
+      }
+    }
+    PiaStandIn standIn = new PiaStandIn(port, keyStore, faults);
+    System.out.println("Serving on https://localhost:" + standIn.getPort());
+    Thread.currentThread().join();
+  }
+}
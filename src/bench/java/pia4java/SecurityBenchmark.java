@@ -0,0 +1,85 @@
+package pia4java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Certificate, trust manager and key setup.  Run from the project root so that
+ * props/ca.rsa.4096.crt resolves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecurityBenchmark {
+  private Path trustStorePath;
+
+  @Setup
+  public void compileTrustStore() throws IOException, GeneralSecurityException {
+    trustStorePath = Files.createTempDirectory("pia4java-bench").resolve("pia-ca.p12");
+    PiaTrustStore.createPiaTrustManager(Paths.get("props/ca.rsa.4096.crt"), trustStorePath);
+  }
+
+  @TearDown
+  public void deleteTrustStore() throws IOException {
+    Files.delete(trustStorePath);
+    Files.delete(trustStorePath.getParent());
+  }
+
+  @Benchmark
+  public List<Certificate> loadCertificates() throws IOException, GeneralSecurityException {
+    return new PemCertificateLoader().loadCertificates(Paths.get("props/ca.rsa.4096.crt"));
+  }
+
+  /**
+   * The first certificate check of a run against a PIA host: loads the
+   * precompiled PIA trust store.
+   */
+  @Benchmark
+  public X509ExtendedTrustManager loadPiaTrustStore() throws IOException, GeneralSecurityException {
+    return PiaTrustStore.createPiaTrustManager(Paths.get("props/ca.rsa.4096.crt"), trustStorePath);
+  }
+
+  /**
+   * What every run used to pay: the PIA CA merged into a copy of cacerts.
+   */
+  @Benchmark
+  public X509TrustManager loadCacertsWithPiaCa() throws IOException, GeneralSecurityException {
+    KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+    try (InputStream in = Files.newInputStream(
+        Paths.get(System.getProperty("java.home"), "lib", "security", "cacerts"))) {
+      keyStore.load(in, "changeit".toCharArray());
+    }
+    List<Certificate> certificates = new PemCertificateLoader().loadCertificates(Paths.get("props/ca.rsa.4096.crt"));
+    for (int i = 0; i < certificates.size(); i++) {
+      keyStore.setCertificateEntry("cert-" + i, certificates.get(i));
+    }
+    TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    tmf.init(keyStore);
+    return (X509TrustManager) tmf.getTrustManagers()[0];
+  }
+
+  @Benchmark
+  public WireGuardKeyPair generateKeyPair() throws GeneralSecurityException {
+    return WireGuardKeyPair.generate();
+  }
+}
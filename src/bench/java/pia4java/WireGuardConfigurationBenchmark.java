@@ -0,0 +1,66 @@
+package pia4java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireGuardConfigurationBenchmark {
+  @Param({"1", "100", "1000", "50000", "100000"})
+  public int allowedIpCount;
+
+  private PiaManager.AddKeyResponse addKeyResponse;
+  private List<String> allowedIps;
+  private Path directory;
+
+  @Setup
+  public void setUp() throws IOException {
+    addKeyResponse = SimpleRestClient.decode(
+        new ByteArrayInputStream(BenchmarkPayloads.ADD_KEY), PiaManager.AddKeyResponse.class);
+    String[] addresses = new String[allowedIpCount];
+    for (int i = 0; i < allowedIpCount; i++) {
+      // Every other address, so that none aggregate.
+      addresses[i] = "100." + (i >> 15 & 0xff) + "." + (i >> 7 & 0xff) + "." + (i << 1 & 0xff);
+    }
+    allowedIps = PiaManager.AddKeyResponse.toAllowedIps(addresses);
+    directory = Files.createTempDirectory("wireguard");
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(directory.resolve("pia.conf"));
+    Files.delete(directory);
+  }
+
+  private InterfaceSetup getInterfaceSetup() {
+    return new InterfaceSetup("pia", addKeyResponse.peerIp, InterfaceSetup.DEFAULT_MTU, "cHJpdmF0ZWtleQ==",
+        addKeyResponse.serverKey, addKeyResponse.serverIp + ":" + addKeyResponse.serverPort,
+        allowedIps, List.of(), InterfaceSetup.TABLE_AUTO, 25);
+  }
+
+  @Benchmark
+  public void renderWgQuickConfiguration() throws IOException {
+    getInterfaceSetup().writeWgQuickConfiguration(Writer.nullWriter());
+  }
+
+  @Benchmark
+  public void writeWgQuickConfiguration() throws IOException {
+    getInterfaceSetup().writeWgQuickConfiguration(directory.resolve("pia.conf"));
+  }
+}
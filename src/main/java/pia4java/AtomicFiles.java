@@ -0,0 +1,64 @@
+package pia4java;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * Replaces files atomically: the content is written to a temporary file next
+ * to the target, synced, and renamed over the target, and the directory is
+ * synced, so readers and a crash leave either the old file or the new one.
+ */
+class AtomicFiles {
+  private AtomicFiles() {}
+
+  /**
+   * Replaces {@code path} with {@code content}.  If {@code ownerOnly}, the
+   * file and any directory created for it are accessible only by their
+   * owner; otherwise the file is readable by everyone.
+   */
+  static void write(Path path, byte[] content, boolean ownerOnly) throws IOException {
+    Path directory = path.toAbsolutePath().getParent();
+    if (!Files.isDirectory(directory)) {
+      if (ownerOnly) {
+        Files.createDirectories(directory,
+            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+      } else {
+        Files.createDirectories(directory);
+      }
+    }
+    // Created owner-only, and only opened up once the content is complete.
+    Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp",
+        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+    try {
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+      if (!ownerOnly) {
+        Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-r--r--"));
+      }
+      Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    syncDirectory(directory);
+  }
+
+  /**
+   * Syncs {@code directory}, which makes a rename in it durable.
+   */
+  static void syncDirectory(Path directory) throws IOException {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    }
+  }
+}
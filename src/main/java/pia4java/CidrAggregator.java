@@ -0,0 +1,444 @@
+package pia4java;
+
+import com.google.common.net.InetAddresses;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Aggregates IPv4 and IPv6 addresses and prefixes into the fewest prefixes
+ * that cover exactly the same addresses, or, with a budget, into at most that
+ * many prefixes that may cover more.
+ *
+ * <p>The prefixes are kept sorted and disjoint, as the leaves of a binary
+ * prefix trie in address order.  Two neighbouring leaves meet at their
+ * smallest common prefix, and collapsing that trie node replaces every leaf
+ * under it.  Sibling leaves are merged exactly; over budget, the deepest
+ * nodes are collapsed first.  Working on the leaves rather than
+ * on a node per bit costs a sort, and no 128 nodes per IPv6 address.
+ */
+class CidrAggregator {
+  private static final int IPV4 = 4;
+  private static final int IPV6 = 6;
+
+  // The address is left-aligned in 128 bits, so that IPv4 and IPv6 prefixes
+  // share the bit arithmetic and an IPv4 /24 keeps the top 24 bits.
+  private static class Prefix {
+    final int family;
+    final long high;
+    final long low;
+    final int length;
+    // Input addresses under this prefix.
+    double covered;
+
+    Prefix(int family, long high, long low, int length) {
+      this.family = family;
+      this.length = length;
+      this.high = maskHigh(high, length);
+      this.low = maskLow(low, length);
+    }
+
+    int width() {
+      return family == IPV4 ? 32 : 128;
+    }
+
+    double size() {
+      return Math.scalb(1.0, width() - length);
+    }
+
+    boolean contains(Prefix other) {
+      return family == other.family && length <= other.length
+          && maskHigh(other.high, length) == high && maskLow(other.low, length) == low;
+    }
+
+    @Override
+    public String toString() {
+      if (family == IPV4) {
+        int address = (int) (high >>> 32);
+        return (address >>> 24) + "." + (address >>> 16 & 0xff) + "." + (address >>> 8 & 0xff) + "."
+            + (address & 0xff) + "/" + length;
+      }
+      return formatIpv6(high, low) + "/" + length;
+    }
+  }
+
+  private static final Comparator<Prefix> ADDRESS_ORDER = (a, b) -> {
+    if (a.family != b.family) {
+      return Integer.compare(a.family, b.family);
+    } else if (a.high != b.high) {
+      return Long.compareUnsigned(a.high, b.high);
+    } else if (a.low != b.low) {
+      return Long.compareUnsigned(a.low, b.low);
+    }
+    return Integer.compare(a.length, b.length);
+  };
+
+  // Collapsing the common prefix of two neighbouring leaves.
+  private static class Candidate {
+    final Prefix left;
+    final Prefix right;
+    final int leftIndex;
+    final int rightIndex;
+    final Prefix merged;
+    // Addresses the collapse adds, not counting other leaves it absorbs.
+    final double extra;
+
+    Candidate(Prefix left, Prefix right, int leftIndex, int rightIndex) {
+      this.left = left;
+      this.right = right;
+      this.leftIndex = leftIndex;
+      this.rightIndex = rightIndex;
+      this.merged = commonPrefix(left, right);
+      this.extra = merged.size() - left.covered - right.covered;
+    }
+  }
+
+  private static final Comparator<Candidate> FEWEST_EXTRA_FIRST = (a, b) -> Double.compare(a.extra, b.extra);
+
+  /**
+   * Returns the fewest prefixes covering exactly {@code prefixes}, each an
+   * address or a CIDR prefix, IPv4 before IPv6 and in address order.
+   */
+  static List<String> aggregate(Collection<String> prefixes) {
+    return aggregate(prefixes, 0);
+  }
+
+  /**
+   * Like {@link #aggregate(Collection)}, but with at most {@code maxPrefixes}
+   * prefixes if it is positive.  Prefixes of different families are never
+   * merged, so there is at least one per family.
+   */
+  static List<String> aggregate(Collection<String> prefixes, int maxPrefixes) {
+    // IPv4 prefixes, most of the input, are sorted as primitive keys: the
+    // address, then the length.
+    long[] ipv4Keys = new long[prefixes.size()];
+    int ipv4Count = 0;
+    List<Prefix> ipv6Prefixes = new ArrayList<>();
+    for (String prefix : prefixes) {
+      if (prefix.indexOf(':') < 0) {
+        int slash = prefix.indexOf('/');
+        long address = parseIpv4(slash >= 0 ? prefix.substring(0, slash) : prefix) & 0xffffffffL;
+        int length = slash >= 0 ? parseLength(prefix, slash, 32) : 32;
+        ipv4Keys[ipv4Count++] = (address & -1L << 32 - length) << 8 | length;
+        continue;
+      }
+      Prefix parsed = parseIpv6(prefix);
+      if (parsed.family == IPV4) {
+        ipv4Keys[ipv4Count++] = parsed.high >>> 24 | parsed.length;
+      } else {
+        ipv6Prefixes.add(parsed);
+      }
+    }
+    Arrays.sort(ipv4Keys, 0, ipv4Count);
+    ipv6Prefixes.sort(ADDRESS_ORDER);
+    Prefix[] sorted = new Prefix[ipv4Count + ipv6Prefixes.size()];
+    for (int i = 0; i < ipv4Count; i++) {
+      sorted[i] = new Prefix(IPV4, ipv4Keys[i] >>> 8 << 32, 0, (int) (ipv4Keys[i] & 0xff));
+    }
+    for (int i = 0; i < ipv6Prefixes.size(); i++) {
+      sorted[ipv4Count + i] = ipv6Prefixes.get(i);
+    }
+    List<Prefix> leaves = mergeExact(sorted);
+    if (maxPrefixes > 0 && leaves.size() > maxPrefixes) {
+      leaves = collapse(leaves, maxPrefixes);
+    }
+    List<String> result = new ArrayList<>(leaves.size());
+    for (Prefix leaf : leaves) {
+      result.add(leaf.toString());
+    }
+    return result;
+  }
+
+  /**
+   * Drops the prefixes contained in another and merges siblings into their
+   * parent, repeatedly.  {@code sorted} must be in {@link #ADDRESS_ORDER}, so a
+   * containing prefix comes just before the prefixes it contains.
+   */
+  private static List<Prefix> mergeExact(Prefix[] sorted) {
+    List<Prefix> stack = new ArrayList<>();
+    for (Prefix prefix : sorted) {
+      if (!stack.isEmpty() && stack.get(stack.size() - 1).contains(prefix)) {
+        continue;
+      }
+      prefix.covered = prefix.size();
+      stack.add(prefix);
+      while (stack.size() >= 2) {
+        Prefix left = stack.get(stack.size() - 2);
+        Prefix right = stack.get(stack.size() - 1);
+        if (left.family != right.family || left.length != right.length || left.length == 0) {
+          break;
+        }
+        Prefix parent = commonPrefix(left, right);
+        if (parent.length != left.length - 1) {
+          break;
+        }
+        parent.covered = left.covered + right.covered;
+        stack.remove(stack.size() - 1);
+        stack.set(stack.size() - 1, parent);
+      }
+    }
+    return stack;
+  }
+
+  /**
+   * Collapses trie nodes, deepest first, until at most
+   * {@code maxPrefixes} leaves are left.
+   */
+  private static List<Prefix> collapse(List<Prefix> leaves, int maxPrefixes) {
+    int n = leaves.size();
+    Prefix[] items = leaves.toArray(new Prefix[0]);
+    int[] previous = new int[n];
+    int[] next = new int[n];
+    List<List<Candidate>> buckets = new ArrayList<>();
+    for (int length = 0; length <= 128; length++) {
+      buckets.add(new ArrayList<>());
+    }
+    for (int i = 0; i < n; i++) {
+      previous[i] = i - 1;
+      next[i] = i + 1 < n ? i + 1 : -1;
+      offer(buckets, items, i - 1, i);
+    }
+
+    int count = n;
+    for (int length = 128; length >= 0 && count > maxPrefixes; length--) {
+      List<Candidate> bucket = buckets.get(length);
+      bucket.sort(FEWEST_EXTRA_FIRST);
+      for (int c = 0; c < bucket.size() && count > maxPrefixes; c++) {
+        count -= collapse(bucket.get(c), items, previous, next, buckets);
+      }
+      bucket.clear();
+    }
+
+    List<Prefix> result = new ArrayList<>(count);
+    for (int i = 0; i >= 0; i = next[i]) {
+      result.add(items[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Replaces the leaves under {@code candidate}'s common prefix with that
+   * prefix and returns the number of leaves removed.
+   */
+  private static int collapse(Candidate candidate, Prefix[] items, int[] previous, int[] next,
+      List<List<Candidate>> buckets) {
+    if (items[candidate.leftIndex] != candidate.left || items[candidate.rightIndex] != candidate.right) {
+      // One side was absorbed since.
+      return 0;
+    }
+    Prefix merged = candidate.merged;
+    int first = candidate.leftIndex;
+    while (previous[first] >= 0 && merged.contains(items[previous[first]])) {
+      first = previous[first];
+    }
+    merged.covered = 0;
+    int removed = 0;
+    int last = first;
+    for (int i = first; i >= 0 && merged.contains(items[i]); i = next[i]) {
+      merged.covered += items[i].covered;
+      if (i != first) {
+        items[i] = null;
+        removed++;
+      }
+      last = i;
+    }
+    items[first] = merged;
+    next[first] = next[last];
+    if (next[last] >= 0) {
+      previous[next[last]] = first;
+    }
+    offer(buckets, items, previous[first], first);
+    offer(buckets, items, first, next[first]);
+    return removed;
+  }
+
+  private static void offer(List<List<Candidate>> buckets, Prefix[] items, int left, int right) {
+    if (left >= 0 && right >= 0 && items[left].family == items[right].family) {
+      Candidate candidate = new Candidate(items[left], items[right], left, right);
+      buckets.get(candidate.merged.length).add(candidate);
+    }
+  }
+
+  private static Prefix commonPrefix(Prefix a, Prefix b) {
+    long difference = a.high ^ b.high;
+    int length = difference != 0
+        ? Long.numberOfLeadingZeros(difference)
+        : 64 + Long.numberOfLeadingZeros(a.low ^ b.low);
+    length = Math.min(length, Math.min(a.length, b.length));
+    return new Prefix(a.family, a.high, a.low, length);
+  }
+
+  private static Prefix parseIpv6(String prefix) {
+    int slash = prefix.indexOf('/');
+    String address = slash >= 0 ? prefix.substring(0, slash) : prefix;
+    int length = slash >= 0 ? parseLength(prefix, slash, 128) : 128;
+    long high;
+    long low;
+    long[] groups = parseIpv6Groups(address);
+    if (groups != null) {
+      high = groups[0];
+      low = groups[1];
+    } else {
+      byte[] bytes = InetAddresses.forString(address).getAddress();
+      if (bytes.length == 4) {
+        // InetAddresses returns IPv4-mapped addresses as IPv4.
+        high = 0;
+        low = 0xffff00000000L | Ints.fromByteArray(bytes) & 0xffffffffL;
+      } else {
+        high = Longs.fromByteArray(bytes);
+        low = Longs.fromByteArray(Arrays.copyOfRange(bytes, 8, 16));
+      }
+    }
+    // Only a prefix within ::ffff:0:0/96 is IPv4; a shorter one also covers
+    // IPv6 addresses.
+    if (high == 0 && low >>> 32 == 0xffff && length >= 96) {
+      return new Prefix(IPV4, low << 32, 0, length - 96);
+    }
+    return new Prefix(IPV6, high, low, length);
+  }
+
+  /**
+   * Parses eight hex groups, or fewer around one "::", into the high and low
+   * halves of the address.  Returns null for the other forms, such as a
+   * trailing dotted quad, which are left to InetAddresses.
+   */
+  private static long[] parseIpv6Groups(String address) {
+    int[] groups = new int[8];
+    int count = 0;
+    int gap = -1;
+    int i = 0;
+    int n = address.length();
+    if (address.startsWith("::")) {
+      gap = 0;
+      i = 2;
+    }
+    while (i < n) {
+      int value = 0;
+      int digits = 0;
+      int digit;
+      while (i < n && (digit = Character.digit(address.charAt(i), 16)) >= 0) {
+        value = value << 4 | digit;
+        digits++;
+        i++;
+      }
+      if (digits == 0 || digits > 4 || count == 8) {
+        return null;
+      }
+      groups[count++] = value;
+      if (i == n) {
+        break;
+      } else if (address.charAt(i) != ':' || ++i == n) {
+        return null;
+      }
+      if (address.charAt(i) == ':') {
+        if (gap >= 0) {
+          return null;
+        }
+        gap = count;
+        i++;
+      }
+    }
+    if (gap < 0 ? count != 8 : count == 8) {
+      return null;
+    }
+    long[] halves = new long[2];
+    int shift = gap < 0 ? 0 : 8 - count;
+    for (int group = 0; group < count; group++) {
+      int position = gap >= 0 && group >= gap ? group + shift : group;
+      halves[position / 4] |= (long) groups[group] << (3 - position % 4) * 16;
+    }
+    return halves;
+  }
+
+  /**
+   * Formats an IPv6 address as RFC 5952 recommends, like InetAddresses and
+   * wg: lowercase, and the longest run of two or more zero groups as "::".
+   */
+  private static String formatIpv6(long high, long low) {
+    int[] groups = new int[8];
+    int bestStart = -1;
+    int bestLength = 1;
+    int runStart = -1;
+    for (int i = 0; i < 8; i++) {
+      groups[i] = (int) ((i < 4 ? high : low) >>> (3 - i % 4) * 16) & 0xffff;
+      if (groups[i] != 0) {
+        runStart = -1;
+      } else {
+        runStart = runStart < 0 ? i : runStart;
+        if (i - runStart + 1 > bestLength) {
+          bestStart = runStart;
+          bestLength = i - runStart + 1;
+        }
+      }
+    }
+    StringBuilder result = new StringBuilder(39);
+    for (int i = 0; i < 8; i++) {
+      if (i == bestStart) {
+        result.append("::");
+        i += bestLength - 1;
+        continue;
+      }
+      if (result.length() > 0 && result.charAt(result.length() - 1) != ':') {
+        result.append(':');
+      }
+      result.append(Integer.toHexString(groups[i]));
+    }
+    return result.toString();
+  }
+
+  // Dotted quads are most of the input, and this is several times faster
+  // than InetAddresses.
+  private static int parseIpv4(String address) {
+    int result = 0;
+    int octet = -1;
+    int octets = 0;
+    for (int i = 0; i <= address.length(); i++) {
+      char c = i < address.length() ? address.charAt(i) : '.';
+      if (c == '.') {
+        if (octet < 0 || ++octets > 4) {
+          throw new IllegalArgumentException("Not an IPv4 address: " + address);
+        }
+        result = result << 8 | octet;
+        octet = -1;
+      } else if (c >= '0' && c <= '9' && octet != 0) {
+        octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+        if (octet > 255) {
+          throw new IllegalArgumentException("Not an IPv4 address: " + address);
+        }
+      } else {
+        throw new IllegalArgumentException("Not an IPv4 address: " + address);
+      }
+    }
+    if (octets != 4) {
+      throw new IllegalArgumentException("Not an IPv4 address: " + address);
+    }
+    return result;
+  }
+
+  private static int parseLength(String prefix, int slash, int width) {
+    int length = Integer.parseInt(prefix.substring(slash + 1));
+    if (length < 0 || length > width) {
+      throw new IllegalArgumentException("Bad prefix length: " + prefix);
+    }
+    return length;
+  }
+
+  private static long maskHigh(long high, int length) {
+    if (length >= 64) {
+      return high;
+    }
+    return length == 0 ? 0 : high & -1L << 64 - length;
+  }
+
+  private static long maskLow(long low, int length) {
+    if (length <= 64) {
+      return 0;
+    }
+    return length == 128 ? low : low & -1L << 128 - length;
+  }
+}
@@ -0,0 +1,254 @@
+package pia4java;
+
+import com.google.common.base.MoreObjects;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs external commands.  Input is written and stdout and stderr are drained
+ * on their own virtual threads, so a command never blocks on a full pipe, and
+ * each stream keeps at most a fixed number of bytes; the rest is read and
+ * dropped.  A command still running at its deadline is killed together with
+ * the processes it started.
+ *
+ * <p>{@link #executeAsync} returns at once, so independent commands can run in
+ * parallel; {@link #execute} waits for the result.
+ *
+ * <p>Commands are started by a {@link Runner}, which can be replaced to run
+ * without root or the real commands, as the benchmarks do.
+ */
+class CommandExecutor {
+  private static final Logger logger = Logger.getLogger(CommandExecutor.class.getCanonicalName());
+
+  static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+  // Output kept per stream.  wg show all dump is about 200 bytes per peer.
+  static final int DEFAULT_MAX_OUTPUT_BYTES = 16 << 20;
+  private static final int READ_BUFFER_BYTES = 64 << 10;
+
+  static class Result {
+    final String stdout;
+    final String stderr;
+    final int exitValue;
+
+    Result(String stdout, String stderr, int exitValue) {
+      this.stdout = stdout;
+      this.stderr = stderr;
+      this.exitValue = exitValue;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("stdout", stdout)
+          .add("stderr", stderr)
+          .add("exitValue", exitValue)
+          .toString();
+    }
+  }
+
+  /**
+   * A command ran longer than its timeout and was killed, possibly halfway
+   * through its work.
+   */
+  static class CommandTimeoutException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    CommandTimeoutException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Told when each command starts; the returned callback is called once when
+   * it ends, with its result, or null if it failed to run or timed out.
+   */
+  interface Listener {
+    Completion started(String[] command);
+  }
+
+  interface Completion {
+    void finished(Result result);
+  }
+
+  /**
+   * Starts commands.  The result fails with a CommandTimeoutException if the
+   * command runs longer than {@code timeout}; cancelling it kills the command.
+   */
+  interface Runner {
+    CompletableFuture<Result> start(Duration timeout, String input, String[] command);
+  }
+
+  private final Listener listener;
+  private final Runner runner;
+
+  CommandExecutor(Listener listener) {
+    this(listener, DEFAULT_MAX_OUTPUT_BYTES);
+  }
+
+  CommandExecutor(Listener listener, int maxOutputBytes) {
+    this(listener, processRunner(maxOutputBytes));
+  }
+
+  CommandExecutor(Listener listener, Runner runner) {
+    this.listener = listener;
+    this.runner = runner;
+  }
+
+  /**
+   * Returns a runner that starts each command as a process, keeping at most
+   * {@code maxOutputBytes} of each of its output streams.
+   */
+  static Runner processRunner(int maxOutputBytes) {
+    return new ProcessRunner(maxOutputBytes);
+  }
+
+  /**
+   * Runs {@code command} with {@code input} as its stdin and waits at most
+   * {@link #DEFAULT_TIMEOUT} for it.
+   */
+  Result execute(String input, String... command) throws IOException, InterruptedException {
+    return execute(DEFAULT_TIMEOUT, input, command);
+  }
+
+  Result execute(Duration timeout, String input, String... command) throws IOException, InterruptedException {
+    CompletableFuture<Result> result = executeAsync(timeout, input, command);
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      result.cancel(true);
+      throw e;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      } else if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Starts {@code command} with {@code input} as its stdin.  The result fails
+   * with a {@link CommandTimeoutException} if the command runs longer than
+   * {@code timeout}; cancelling it kills the command.
+   */
+  CompletableFuture<Result> executeAsync(Duration timeout, String input, String... command) {
+    Completion completion = listener.started(command);
+    CompletableFuture<Result> result = runner.start(timeout, input, command);
+    // Also reached on failure and cancellation, with no result.
+    result.whenComplete((finished, failure) -> completion.finished(finished));
+    return result;
+  }
+
+  private static class ProcessRunner implements Runner {
+    private final int maxOutputBytes;
+
+    ProcessRunner(int maxOutputBytes) {
+      this.maxOutputBytes = maxOutputBytes;
+    }
+
+    @Override
+    public CompletableFuture<Result> start(Duration timeout, String input, String[] command) {
+      Process process;
+      try {
+        process = new ProcessBuilder(command).start();
+      } catch (IOException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+
+      writeInput(process, input, command[0]);
+      CompletableFuture<String> stdout = drain(process.getInputStream(), command[0] + "-stdout");
+      CompletableFuture<String> stderr = drain(process.getErrorStream(), command[0] + "-stderr");
+      // The deadline also covers the output, which a process the command left
+      // running in the background can hold open.
+      CompletableFuture<Result> result = process.onExit()
+          .thenCompose(exited -> stdout.thenCombine(stderr,
+              (out, err) -> new Result(out, err, exited.exitValue())))
+          .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+      CompletableFuture<Result> resultWithTimeout = result.exceptionallyCompose(failure -> {
+        if (failure instanceof TimeoutException) {
+          destroyTree(process);
+          return CompletableFuture.failedFuture(new CommandTimeoutException(
+              String.join(" ", command) + " timed out after " + timeout.toMillis() + "ms"));
+        }
+        return CompletableFuture.failedFuture(failure);
+      });
+      resultWithTimeout.whenComplete((finished, failure) -> {
+        if (failure != null) {
+          // Also reached on cancellation.
+          destroyTree(process);
+        }
+      });
+      return resultWithTimeout;
+    }
+
+    private CompletableFuture<String> drain(InputStream stream, String threadName) {
+      CompletableFuture<String> future = new CompletableFuture<>();
+      Thread.ofVirtual().name(threadName).start(() -> {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long dropped = 0;
+        byte[] buffer = new byte[READ_BUFFER_BYTES];
+        try (stream) {
+          int read;
+          while ((read = stream.read(buffer)) >= 0) {
+            int kept = Math.min(read, maxOutputBytes - output.size());
+            output.write(buffer, 0, kept);
+            dropped += read - kept;
+          }
+        } catch (IOException e) {
+          // The stream is closed when the process is destroyed.
+          logger.log(Level.FINE, "Unable to read " + threadName, e);
+        }
+        if (dropped > 0) {
+          logger.warning("Dropped " + dropped + " bytes of " + threadName);
+        }
+        future.complete(output.toString(StandardCharsets.UTF_8).stripTrailing());
+      });
+      return future;
+    }
+  }
+
+  private static void writeInput(Process process, String input, String name) {
+    OutputStream stdin = process.getOutputStream();
+    if (input.isEmpty()) {
+      closeQuietly(stdin);
+      return;
+    }
+    Thread.ofVirtual().name(name + "-stdin").start(() -> {
+      try (stdin) {
+        stdin.write(input.getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        // The command exited without reading all of its input.
+        logger.log(Level.FINE, "Unable to write to " + name, e);
+      }
+    });
+  }
+
+  /**
+   * Kills {@code process} and its descendants.  The descendants are listed
+   * first, since they are reparented once the process is gone.
+   */
+  private static void destroyTree(Process process) {
+    process.descendants().forEach(ProcessHandle::destroyForcibly);
+    process.destroyForcibly();
+  }
+
+  private static void closeQuietly(OutputStream stream) {
+    try {
+      stream.close();
+    } catch (IOException e) {
+      logger.log(Level.FINE, "Unable to close stdin", e);
+    }
+  }
+}
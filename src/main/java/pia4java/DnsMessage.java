@@ -0,0 +1,150 @@
+package pia4java;
+
+import com.google.common.base.Preconditions;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Encodes DNS queries and decodes the answer section of responses
+ * (RFC 1035 section 4).
+ */
+class DnsMessage {
+  static final int TYPE_A = 1;
+  static final int TYPE_CNAME = 5;
+  static final int TYPE_AAAA = 28;
+  static final int RCODE_NXDOMAIN = 3;
+  private static final int CLASS_IN = 1;
+  private static final int FLAG_RESPONSE = 0x8000;
+  private static final int FLAG_TRUNCATED = 0x0200;
+  private static final int FLAG_RECURSION_DESIRED = 0x0100;
+  private static final int MAX_POINTER_JUMPS = 32;
+
+  static class Record {
+    final String name;
+    final int type;
+    final long ttlSeconds;
+    // An InetAddress for A and AAAA records, the target name for CNAME records.
+    final Object data;
+
+    Record(String name, int type, long ttlSeconds, Object data) {
+      this.name = name;
+      this.type = type;
+      this.ttlSeconds = ttlSeconds;
+      this.data = data;
+    }
+  }
+
+  final int id;
+  final boolean truncated;
+  final int rcode;
+  final List<Record> answers;
+
+  private DnsMessage(int id, boolean truncated, int rcode, List<Record> answers) {
+    this.id = id;
+    this.truncated = truncated;
+    this.rcode = rcode;
+    this.answers = answers;
+  }
+
+  static String normalize(String name) {
+    String lower = name.toLowerCase(Locale.ROOT);
+    return lower.endsWith(".") ? lower.substring(0, lower.length() - 1) : lower;
+  }
+
+  static byte[] encodeQuery(int id, String name, int type) {
+    String normalized = normalize(name);
+    ByteBuffer buffer = ByteBuffer.allocate(12 + normalized.length() + 2 + 4);
+    buffer.putShort((short) id);
+    buffer.putShort((short) FLAG_RECURSION_DESIRED);
+    buffer.putShort((short) 1);  // QDCOUNT
+    buffer.putShort((short) 0);  // ANCOUNT
+    buffer.putShort((short) 0);  // NSCOUNT
+    buffer.putShort((short) 0);  // ARCOUNT
+    for (String label : normalized.split("\\.")) {
+      byte[] bytes = label.getBytes(StandardCharsets.US_ASCII);
+      Preconditions.checkArgument(bytes.length > 0 && bytes.length < 64, "Bad name " + name);
+      buffer.put((byte) bytes.length);
+      buffer.put(bytes);
+    }
+    buffer.put((byte) 0);
+    buffer.putShort((short) type);
+    buffer.putShort((short) CLASS_IN);
+    return buffer.array();
+  }
+
+  static DnsMessage decode(ByteBuffer buffer) throws UnknownHostException {
+    try {
+      int id = buffer.getShort() & 0xffff;
+      int flags = buffer.getShort() & 0xffff;
+      Preconditions.checkArgument((flags & FLAG_RESPONSE) != 0, "Not a DNS response");
+      int questions = buffer.getShort() & 0xffff;
+      int answerCount = buffer.getShort() & 0xffff;
+      buffer.getShort();  // NSCOUNT
+      buffer.getShort();  // ARCOUNT
+      for (int i = 0; i < questions; i++) {
+        readName(buffer);
+        buffer.position(buffer.position() + 4);  // QTYPE, QCLASS
+      }
+      List<Record> answers = new ArrayList<>(answerCount);
+      boolean truncated = (flags & FLAG_TRUNCATED) != 0;
+      for (int i = 0; i < answerCount && !truncated; i++) {
+        String name = readName(buffer);
+        int type = buffer.getShort() & 0xffff;
+        int recordClass = buffer.getShort() & 0xffff;
+        long ttl = buffer.getInt() & 0xffffffffL;
+        int length = buffer.getShort() & 0xffff;
+        int end = buffer.position() + length;
+        if (recordClass == CLASS_IN && type == TYPE_A && length == 4
+            || recordClass == CLASS_IN && type == TYPE_AAAA && length == 16) {
+          byte[] address = new byte[length];
+          buffer.get(address);
+          answers.add(new Record(name, type, ttl, InetAddress.getByAddress(address)));
+        } else if (recordClass == CLASS_IN && type == TYPE_CNAME) {
+          answers.add(new Record(name, type, ttl, readName(buffer)));
+        }
+        buffer.position(end);
+      }
+      return new DnsMessage(id, truncated, flags & 0xf, answers);
+    } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("Malformed DNS response", e);
+    }
+  }
+
+  private static String readName(ByteBuffer buffer) {
+    StringBuilder name = new StringBuilder();
+    int position = buffer.position();
+    int resumeAt = -1;
+    for (int jumps = 0; ; ) {
+      int length = buffer.get(position) & 0xff;
+      if (length == 0) {
+        position++;
+        break;
+      }
+      if ((length & 0xc0) == 0xc0) {
+        Preconditions.checkArgument(++jumps <= MAX_POINTER_JUMPS, "DNS name pointer loop");
+        if (resumeAt < 0) {
+          resumeAt = position + 2;
+        }
+        position = ((length & 0x3f) << 8) | (buffer.get(position + 1) & 0xff);
+        continue;
+      }
+      Preconditions.checkArgument((length & 0xc0) == 0, "Unsupported DNS label type");
+      if (name.length() > 0) {
+        name.append('.');
+      }
+      for (int i = 1; i <= length; i++) {
+        name.append((char) (buffer.get(position + i) & 0xff));
+      }
+      position += 1 + length;
+    }
+    buffer.position(resumeAt >= 0 ? resumeAt : position);
+    return normalize(name.toString());
+  }
+}
@@ -0,0 +1,315 @@
+package pia4java;
+
+import com.google.common.base.Preconditions;
+import com.google.common.net.HostAndPort;
+import com.google.common.net.InetAddresses;
+import com.google.common.util.concurrent.RateLimiter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Resolves A and AAAA records by speaking DNS directly to one upstream server,
+ * over UDP with a TCP retry for truncated answers.  Answers are cached in
+ * memory and on disk until their TTL expires, so resolving a list again only
+ * queries the names whose answers expired.  An expired answer is still used
+ * for a day if the name can't be resolved.
+ *
+ * <p>Names are resolved concurrently, but the queries in flight and the
+ * queries per second are limited so that thousands of names don't flood the
+ * upstream, and each name has a deadline.
+ */
+public class DnsResolver {
+  private final Logger logger = Logger.getLogger(getClass().getCanonicalName());
+
+  private static final int DNS_PORT = 53;
+  private static final int TIMEOUT_MILLIS = 2000;
+  private static final int UDP_ATTEMPTS = 2;
+  private static final int MAX_UDP_RESPONSE = 512;
+  private static final int MAX_CNAME_HOPS = 8;
+  // Answers without address records are cached for this long.
+  private static final long NEGATIVE_TTL_SECONDS = 30;
+  // How long an expired answer is kept for when its name can't be resolved.
+  private static final long STALE_MILLIS = TimeUnit.DAYS.toMillis(1);
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private final InetSocketAddress upstream;
+  private final Path cachePath;
+  private final Map<String, Proto.DnsCache.Entry> cache = new ConcurrentHashMap<>();
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Semaphore queryPermits;
+  private final RateLimiter queryRate;
+  private final long timeoutMillis;
+
+  public DnsResolver(InetSocketAddress upstream, Path cachePath) {
+    this(upstream, cachePath, Proto.DnsSettings.getDefaultInstance());
+  }
+
+  public DnsResolver(InetSocketAddress upstream, Path cachePath, Proto.DnsSettings settings) {
+    this.upstream = upstream;
+    this.cachePath = cachePath;
+    this.queryPermits = new Semaphore(settings.getMaxConcurrency());
+    this.queryRate = RateLimiter.create(settings.getQueriesPerSecond());
+    this.timeoutMillis = settings.getTimeoutMillis();
+    Proto.DnsCache.Builder builder = Proto.DnsCache.newBuilder();
+    TextProtoFiles.merge(cachePath, builder);
+    long now = System.currentTimeMillis();
+    for (Proto.DnsCache.Entry entry : builder.getEntryList()) {
+      if (entry.getExpiresEpochMillis() + STALE_MILLIS > now) {
+        cache.put(cacheKey(entry.getName(), entry.getType()), entry);
+      }
+    }
+  }
+
+  /**
+   * Returns the upstream from {@code dnsServer} ("host" or "host:port"), or the
+   * first nameserver in {@code resolvConf} if it is empty.
+   */
+  static InetSocketAddress parseUpstream(String dnsServer, Path resolvConf) throws IOException {
+    if (dnsServer.isEmpty()) {
+      for (String line : Files.readAllLines(resolvConf)) {
+        String[] fields = line.trim().split("\\s+");
+        if (fields.length >= 2 && fields[0].equals("nameserver")) {
+          dnsServer = fields[1];
+          break;
+        }
+      }
+      Preconditions.checkState(!dnsServer.isEmpty(), "No nameserver in " + resolvConf);
+    }
+    HostAndPort hostAndPort = HostAndPort.fromString(dnsServer);
+    return new InetSocketAddress(hostAndPort.getHost(), hostAndPort.getPortOrDefault(DNS_PORT));
+  }
+
+  /**
+   * Returns the IPv4 and IPv6 addresses of {@code name}, following CNAMEs.
+   * The A and AAAA lookups run concurrently.
+   */
+  public List<InetAddress> resolve(String name) throws IOException, InterruptedException {
+    List<InetAddress> addresses = resolveAll(List.of(name)).get(name);
+    if (addresses == null) {
+      throw new IOException("Unable to resolve " + name);
+    }
+    return addresses;
+  }
+
+  /**
+   * Resolves every name in {@code names} like {@link #resolve}, all at once,
+   * and writes the cache once at the end.  A name that fails or times out is
+   * logged and left out of the result.
+   */
+  public Map<String, List<InetAddress>> resolveAll(Collection<String> names)
+      throws IOException, InterruptedException {
+    Map<String, CompletableFuture<List<InetAddress>>> ipv4 = new LinkedHashMap<>();
+    Map<String, CompletableFuture<List<InetAddress>>> ipv6 = new LinkedHashMap<>();
+    for (String name : names) {
+      ipv4.put(name, lookupAsync(name, DnsMessage.TYPE_A));
+      ipv6.put(name, lookupAsync(name, DnsMessage.TYPE_AAAA));
+    }
+    Map<String, List<InetAddress>> addresses = new LinkedHashMap<>();
+    int failures = 0;
+    for (String name : names) {
+      try {
+        List<InetAddress> nameAddresses = new ArrayList<>(ipv4.get(name).get());
+        nameAddresses.addAll(ipv6.get(name).get());
+        addresses.put(name, nameAddresses);
+      } catch (ExecutionException e) {
+        failures++;
+        logger.warning("Unable to resolve " + name + ": " + e.getCause());
+      }
+    }
+    if (failures > 0) {
+      logger.warning("Resolved " + addresses.size() + " of " + names.size() + " names");
+    }
+    if (!names.isEmpty()) {
+      save();
+    }
+    return addresses;
+  }
+
+  private CompletableFuture<List<InetAddress>> lookupAsync(String name, int type) {
+    CompletableFuture<List<InetAddress>> future = new CompletableFuture<>();
+    executor.execute(() -> {
+      try {
+        future.complete(lookup(DnsMessage.normalize(name), type));
+      } catch (Throwable t) {
+        future.completeExceptionally(t);
+      }
+    });
+    return future;
+  }
+
+  private List<InetAddress> lookup(String name, int type) throws IOException, InterruptedException {
+    String key = cacheKey(name, type);
+    Proto.DnsCache.Entry cached = cache.get(key);
+    if (cached == null || cached.getExpiresEpochMillis() <= System.currentTimeMillis()) {
+      queryPermits.acquire();
+      try {
+        Proto.DnsCache.Entry answer = query(name, type, System.currentTimeMillis() + timeoutMillis);
+        cache.put(key, answer);
+        cached = answer;
+      } catch (IOException | RuntimeException e) {
+        if (cached == null) {
+          throw e;
+        }
+        logger.fine("Using the expired answer for " + name + " type " + type + ": " + e);
+      } finally {
+        queryPermits.release();
+      }
+    }
+    List<InetAddress> addresses = new ArrayList<>();
+    for (String address : cached.getAddressList()) {
+      addresses.add(InetAddresses.forString(address));
+    }
+    return addresses;
+  }
+
+  private Proto.DnsCache.Entry query(String name, int type, long deadlineMillis) throws IOException {
+    String target = name;
+    long ttlSeconds = Long.MAX_VALUE;
+    List<String> addresses = new ArrayList<>();
+    for (int hop = 0; hop < MAX_CNAME_HOPS; hop++) {
+      DnsMessage response = exchange(target, type, deadlineMillis);
+      // Resolvers usually include the CNAME chain, so follow it within the
+      // answer and only query again if it ends without addresses.
+      String next = target;
+      for (int link = 0; link < MAX_CNAME_HOPS; link++) {
+        String cname = null;
+        for (DnsMessage.Record record : response.answers) {
+          if (!record.name.equals(next)) {
+            continue;
+          }
+          if (record.type == type) {
+            addresses.add(((InetAddress) record.data).getHostAddress());
+            ttlSeconds = Math.min(ttlSeconds, record.ttlSeconds);
+          } else if (record.type == DnsMessage.TYPE_CNAME) {
+            cname = (String) record.data;
+            ttlSeconds = Math.min(ttlSeconds, record.ttlSeconds);
+          }
+        }
+        if (!addresses.isEmpty() || cname == null) {
+          break;
+        }
+        next = cname;
+      }
+      if (!addresses.isEmpty() || next.equals(target) || response.rcode == DnsMessage.RCODE_NXDOMAIN) {
+        break;
+      }
+      target = next;
+    }
+    if (addresses.isEmpty()) {
+      ttlSeconds = NEGATIVE_TTL_SECONDS;
+    }
+    logger.fine("Resolved " + name + " type " + type + " " + addresses + " ttl " + ttlSeconds);
+    return Proto.DnsCache.Entry.newBuilder()
+        .setName(name)
+        .setType(type)
+        .addAllAddress(addresses)
+        .setExpiresEpochMillis(System.currentTimeMillis() + ttlSeconds * 1000)
+        .build();
+  }
+
+  private DnsMessage exchange(String name, int type, long deadlineMillis) throws IOException {
+    int id = RANDOM.nextInt(0x10000);
+    byte[] query = DnsMessage.encodeQuery(id, name, type);
+    DnsMessage response = null;
+    for (int attempt = 0; attempt < UDP_ATTEMPTS && response == null; attempt++) {
+      queryRate.acquire();
+      response = exchangeUdp(id, query, getTimeoutMillis(name, deadlineMillis));
+    }
+    if (response == null || response.truncated) {
+      queryRate.acquire();
+      response = exchangeTcp(id, query, getTimeoutMillis(name, deadlineMillis));
+    }
+    Preconditions.checkState(response.rcode == 0 || response.rcode == DnsMessage.RCODE_NXDOMAIN,
+        "DNS error " + response.rcode + " for " + name);
+    return response;
+  }
+
+  /**
+   * Returns the socket timeout for the next attempt at resolving
+   * {@code name}, or throws if its deadline has passed.
+   */
+  private static int getTimeoutMillis(String name, long deadlineMillis) throws SocketTimeoutException {
+    long remaining = deadlineMillis - System.currentTimeMillis();
+    if (remaining <= 0) {
+      throw new SocketTimeoutException("Timed out resolving " + name);
+    }
+    return (int) Math.min(remaining, TIMEOUT_MILLIS);
+  }
+
+  private DnsMessage exchangeUdp(int id, byte[] query, int timeoutMillis) throws IOException {
+    try (DatagramSocket socket = new DatagramSocket()) {
+      socket.connect(upstream);
+      socket.setSoTimeout(timeoutMillis);
+      socket.send(new DatagramPacket(query, query.length));
+      DatagramPacket packet = new DatagramPacket(new byte[MAX_UDP_RESPONSE], MAX_UDP_RESPONSE);
+      // Skips stray datagrams, e.g. late answers to an earlier attempt.
+      while (true) {
+        socket.receive(packet);
+        DnsMessage response = DnsMessage.decode(ByteBuffer.wrap(packet.getData(), 0, packet.getLength()));
+        if (response.id == id) {
+          return response;
+        }
+      }
+    } catch (SocketTimeoutException e) {
+      logger.fine("DNS query to " + upstream + " timed out");
+      return null;
+    }
+  }
+
+  private DnsMessage exchangeTcp(int id, byte[] query, int timeoutMillis) throws IOException {
+    try (Socket socket = new Socket()) {
+      socket.connect(upstream, timeoutMillis);
+      socket.setSoTimeout(timeoutMillis);
+      DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+      out.writeShort(query.length);
+      out.write(query);
+      out.flush();
+      DataInputStream in = new DataInputStream(socket.getInputStream());
+      byte[] body = new byte[in.readUnsignedShort()];
+      in.readFully(body);
+      DnsMessage response = DnsMessage.decode(ByteBuffer.wrap(body));
+      Preconditions.checkState(response.id == id, "DNS response id mismatch");
+      return response;
+    }
+  }
+
+  private static String cacheKey(String name, int type) {
+    return type + " " + name;
+  }
+
+  private synchronized void save() throws IOException {
+    long now = System.currentTimeMillis();
+    Proto.DnsCache.Builder builder = Proto.DnsCache.newBuilder();
+    for (Proto.DnsCache.Entry entry : cache.values()) {
+      if (entry.getExpiresEpochMillis() + STALE_MILLIS > now) {
+        builder.addEntry(entry);
+      }
+    }
+    TextProtoFiles.write(cachePath, builder.build(), false);
+  }
+}
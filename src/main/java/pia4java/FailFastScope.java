@@ -0,0 +1,81 @@
+package pia4java;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs tasks concurrently on virtual threads.  As soon as one task fails, the
+ * others are interrupted and every {@link #join} rethrows that first failure.
+ * This is a small stand-in for StructuredTaskScope.ShutdownOnFailure, which
+ * is still a preview API in Java 21.
+ */
+class FailFastScope implements AutoCloseable {
+  interface Task<T> {
+    T call() throws Exception;
+  }
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final CompletableFuture<Void> failure = new CompletableFuture<>();
+
+  <T> CompletableFuture<T> fork(Task<T> task) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    executor.execute(() -> {
+      try {
+        future.complete(task.call());
+      } catch (Throwable t) {
+        future.completeExceptionally(t);
+        if (failure.completeExceptionally(t)) {
+          executor.shutdownNow();
+        }
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Waits for {@code future}, or for the first failure of any task in the scope.
+   */
+  <T> T join(CompletableFuture<T> future)
+      throws IOException, GeneralSecurityException, InterruptedException {
+    try {
+      CompletableFuture.anyOf(future, failure).get();
+      if (failure.isCompletedExceptionally()) {
+        failure.get();
+      }
+      return future.get();
+    } catch (ExecutionException | CompletionException e) {
+      throw rethrow(e.getCause());
+    }
+  }
+
+  /**
+   * Throws {@code cause} as one of the checked exceptions tasks are expected
+   * to fail with, or as an unchecked exception.
+   */
+  static RuntimeException rethrow(Throwable cause)
+      throws IOException, GeneralSecurityException, InterruptedException {
+    if (cause instanceof IOException e) {
+      throw e;
+    } else if (cause instanceof GeneralSecurityException e) {
+      throw e;
+    } else if (cause instanceof InterruptedException e) {
+      throw e;
+    } else if (cause instanceof RuntimeException e) {
+      throw e;
+    } else if (cause instanceof Error e) {
+      throw e;
+    }
+    throw new IllegalStateException(cause);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    executor.close();
+  }
+}
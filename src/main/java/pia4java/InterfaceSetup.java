@@ -0,0 +1,229 @@
+package pia4java;
+
+import com.google.common.base.Preconditions;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Brings up a WireGuard interface without wg-quick: the link, address and
+ * routes are set by one {@code ip -batch} script and the key and peer by one
+ * {@code wg setconf}, instead of wg-quick's fork per step and per route.  The
+ * commands are only rendered here, so they can be checked without root.
+ *
+ * <p>A default route is installed the way wg-quick does it: in its own table,
+ * used by everything but WireGuard's own packets, which carry a firewall mark.
+ * As with wg-quick's {@code Table}, the routes can instead go to a given table,
+ * with no rules, or not be installed at all.
+ *
+ * <p>The same interface is also written as a wg-quick configuration.
+ */
+class InterfaceSetup {
+  // wg-quick's MTU for a 1500 byte path: 80 bytes of IPv6 and WireGuard headers.
+  static final int DEFAULT_MTU = 1420;
+  // The firewall mark and routing table of the default route, as in wg-quick.
+  static final int DEFAULT_ROUTE_TABLE = 51820;
+  static final String TABLE_AUTO = "auto";
+  static final String TABLE_OFF = "off";
+  // Deadline of the commands that bring an interface up or down, which can
+  // take much longer than other commands: wg-quick forks an ip per route.
+  static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(30);
+  private static final Duration COMMAND_TIMEOUT_PER_ROUTE = Duration.ofMillis(5);
+  // Allowed IPs per AllowedIPs line of the wg-quick configuration.
+  private static final int ALLOWED_IPS_PER_LINE = 256;
+  private static final int WRITE_BUFFER_CHARS = 64 << 10;
+
+  final String interfaceName;
+  final String address;
+  final int mtu;
+  final String privateKey;
+  final String peerPublicKey;
+  final String endpoint;
+  final List<String> allowedIps;
+  // Only written to the wg-quick configuration.
+  final List<String> dnsServers;
+  final String table;
+  final int persistentKeepaliveSeconds;
+
+  InterfaceSetup(String interfaceName, String address, int mtu, String privateKey, String peerPublicKey,
+      String endpoint, List<String> allowedIps, List<String> dnsServers, String table,
+      int persistentKeepaliveSeconds) {
+    Preconditions.checkState(table.equals(TABLE_AUTO) || table.equals(TABLE_OFF) || table.matches("[0-9]+"),
+        "Invalid table %s", table);
+    this.interfaceName = interfaceName;
+    this.address = address;
+    this.mtu = mtu;
+    this.privateKey = privateKey;
+    this.peerPublicKey = peerPublicKey;
+    this.endpoint = endpoint;
+    this.allowedIps = allowedIps;
+    this.dnsServers = dnsServers;
+    this.table = table;
+    this.persistentKeepaliveSeconds = persistentKeepaliveSeconds;
+  }
+
+  /**
+   * Returns the deadline of commands that route or configure all of the
+   * allowed IPs.
+   */
+  Duration getCommandTimeout() {
+    return COMMAND_TIMEOUT.plus(COMMAND_TIMEOUT_PER_ROUTE.multipliedBy(allowedIps.size()));
+  }
+
+  /**
+   * Returns whether the default route is installed in its own table, behind a
+   * firewall mark.
+   */
+  boolean hasDefaultRoute() {
+    return table.equals(TABLE_AUTO) && allowedIps.contains(PiaManager.DEFAULT_ROUTE);
+  }
+
+  /**
+   * Returns the {@code ip -batch} commands that create the link, address it,
+   * bring it up and route the allowed IPs other than a default route in its
+   * own table.
+   */
+  String getUpCommands() {
+    StringBuilder commands = new StringBuilder();
+    commands.append("link add dev ").append(interfaceName).append(" type wireguard\n");
+    commands.append("address add ").append(address).append(" dev ").append(interfaceName).append('\n');
+    commands.append("link set dev ").append(interfaceName).append(" mtu ").append(mtu).append(" up\n");
+    for (String allowedIp : allowedIps) {
+      if (!hasDefaultRoute() || !allowedIp.equals(PiaManager.DEFAULT_ROUTE)) {
+        commands.append(getRouteCommand("add", allowedIp));
+      }
+    }
+    return commands.toString();
+  }
+
+  /**
+   * Returns the {@code ip -batch} command that routes {@code allowedIp}
+   * through the interface, or an empty string if routes are off.
+   */
+  String getRouteCommand(String verb, String allowedIp) {
+    if (table.equals(TABLE_OFF)) {
+      return "";
+    }
+    String command = "route " + verb + " " + allowedIp + " dev " + interfaceName;
+    return (table.equals(TABLE_AUTO) ? command : command + " table " + table) + "\n";
+  }
+
+  /**
+   * Returns the {@code ip -batch} commands that install the default route, or
+   * an empty string.  They must run after {@link #getWireGuardConfiguration}
+   * has set the firewall mark, or WireGuard's own packets would loop.
+   */
+  String getDefaultRouteCommands() {
+    if (!hasDefaultRoute()) {
+      return "";
+    }
+    return "route add " + PiaManager.DEFAULT_ROUTE + " dev " + interfaceName + " table " + DEFAULT_ROUTE_TABLE + "\n"
+        + "rule add not fwmark " + DEFAULT_ROUTE_TABLE + " table " + DEFAULT_ROUTE_TABLE + "\n"
+        + "rule add table main suppress_prefixlength 0\n";
+  }
+
+  /**
+   * Returns the configuration for {@code wg setconf}.
+   */
+  String getWireGuardConfiguration() {
+    StringBuilder configuration = new StringBuilder();
+    configuration.append("[Interface]\n");
+    configuration.append("PrivateKey = ").append(privateKey).append('\n');
+    if (hasDefaultRoute()) {
+      configuration.append("FwMark = ").append(DEFAULT_ROUTE_TABLE).append('\n');
+    }
+    configuration.append("[Peer]\n");
+    configuration.append("PublicKey = ").append(peerPublicKey).append('\n');
+    configuration.append("AllowedIPs = ").append(String.join(", ", allowedIps)).append('\n');
+    configuration.append("Endpoint = ").append(endpoint).append('\n');
+    if (persistentKeepaliveSeconds > 0) {
+      configuration.append("PersistentKeepalive = ").append(persistentKeepaliveSeconds).append('\n');
+    }
+    return configuration.toString();
+  }
+
+  /**
+   * Writes the wg-quick configuration to {@code out}.  The allowed IPs are
+   * written as they are read, spread over several AllowedIPs lines, so the
+   * configuration is never held in memory whole.
+   */
+  void writeWgQuickConfiguration(Writer out) throws IOException {
+    out.write("[Interface]\n");
+    out.append("Address = ").append(address).append('\n');
+    out.append("PrivateKey = ").append(privateKey).append('\n');
+    out.append("MTU = ").append(Integer.toString(mtu)).append('\n');
+    if (!dnsServers.isEmpty()) {
+      out.append("DNS = ").append(String.join(", ", dnsServers)).append('\n');
+    }
+    if (!table.equals(TABLE_AUTO)) {
+      out.append("Table = ").append(table).append('\n');
+    }
+    out.write("[Peer]\n");
+    out.append("PublicKey = ").append(peerPublicKey).append('\n');
+    for (int i = 0; i < allowedIps.size(); i++) {
+      if (i % ALLOWED_IPS_PER_LINE == 0) {
+        out.write(i == 0 ? "AllowedIPs = " : "\nAllowedIPs = ");
+      } else {
+        out.write(", ");
+      }
+      out.write(allowedIps.get(i));
+      if (i == allowedIps.size() - 1) {
+        out.write('\n');
+      }
+    }
+    out.append("Endpoint = ").append(endpoint).append('\n');
+    if (persistentKeepaliveSeconds > 0) {
+      out.append("PersistentKeepalive = ").append(Integer.toString(persistentKeepaliveSeconds)).append('\n');
+    }
+  }
+
+  /**
+   * Replaces the wg-quick configuration at {@code path}.  It is written to a
+   * temporary file readable only by its owner, synced, and renamed over
+   * {@code path}, so a crash leaves either the old configuration or the new
+   * one.
+   */
+  void writeWgQuickConfiguration(Path path) throws IOException {
+    Path directory = path.toAbsolutePath().getParent();
+    Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp",
+        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+    try {
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+          // The encoder wraps every string it is given; whole buffers are cheaper.
+          Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS)) {
+        writeWgQuickConfiguration(writer);
+        writer.flush();
+        channel.force(true);
+      }
+      Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    // The rename is only durable once the directory is synced.
+    AtomicFiles.syncDirectory(directory);
+  }
+
+  /**
+   * Returns the {@code ip -batch} commands that remove the interface, its
+   * routes and, if it has the default route, the default route's rules.
+   */
+  static String getDownCommands(String interfaceName, boolean defaultRoute) {
+    String commands = "link del dev " + interfaceName + "\n";
+    if (defaultRoute) {
+      commands += "rule del not fwmark " + DEFAULT_ROUTE_TABLE + " table " + DEFAULT_ROUTE_TABLE + "\n"
+          + "rule del table main suppress_prefixlength 0\n";
+    }
+    return commands;
+  }
+}
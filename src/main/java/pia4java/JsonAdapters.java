@@ -0,0 +1,256 @@
+package pia4java;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written Gson readers for the PIA API responses.  They decode straight
+ * from a {@link JsonReader} without reflection and skip every field that is
+ * not needed.  Only reading is hand-written; the responses are written, as by
+ * tests and tools, with Gson's reflective adapters.
+ */
+class JsonAdapters {
+  static final Gson GSON = new GsonBuilder()
+      .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+      .registerTypeAdapterFactory(readWith(PiaManager.TokenResponse.class, new TokenResponseReader()))
+      .registerTypeAdapterFactory(readWith(PiaManager.AddKeyResponse.class, new AddKeyResponseReader()))
+      .registerTypeAdapterFactory(readWith(ServerList.class, new ServerListReader()))
+      .registerTypeAdapterFactory(readWith(PortForwarder.SignatureResponse.class, new SignatureResponseReader()))
+      .registerTypeAdapterFactory(readWith(PortForwarder.Payload.class, new PayloadReader()))
+      .registerTypeAdapterFactory(readWith(PortForwarder.BindPortResponse.class, new BindPortResponseReader()))
+      .create();
+
+  private JsonAdapters() {}
+
+  interface ResponseReader<T> {
+    T read(JsonReader in) throws IOException;
+  }
+
+  /**
+   * Returns a factory of a null-safe adapter for {@code type} that reads with
+   * {@code reader} and writes with the adapter Gson would use without it.
+   */
+  private static <T> TypeAdapterFactory readWith(Class<T> type, ResponseReader<T> reader) {
+    return new TypeAdapterFactory() {
+      @Override
+      public <U> TypeAdapter<U> create(Gson gson, TypeToken<U> typeToken) {
+        if (typeToken.getRawType() != type) {
+          return null;
+        }
+        TypeAdapter<U> writer = gson.getDelegateAdapter(this, typeToken);
+        return new TypeAdapter<U>() {
+          @Override
+          public void write(JsonWriter out, U value) throws IOException {
+            writer.write(out, value);
+          }
+
+          @Override
+          @SuppressWarnings("unchecked")
+          public U read(JsonReader in) throws IOException {
+            return (U) reader.read(in);
+          }
+        }.nullSafe();
+      }
+    };
+  }
+
+  static class TokenResponseReader implements ResponseReader<PiaManager.TokenResponse> {
+    @Override
+    public PiaManager.TokenResponse read(JsonReader in) throws IOException {
+      PiaManager.TokenResponse response = new PiaManager.TokenResponse();
+      in.beginObject();
+      while (in.hasNext()) {
+        if (in.nextName().equals("token")) {
+          response.token = nextString(in);
+        } else {
+          in.skipValue();
+        }
+      }
+      in.endObject();
+      return response;
+    }
+  }
+
+  static class AddKeyResponseReader implements ResponseReader<PiaManager.AddKeyResponse> {
+    @Override
+    public PiaManager.AddKeyResponse read(JsonReader in) throws IOException {
+      PiaManager.AddKeyResponse response = new PiaManager.AddKeyResponse();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "status" -> response.status = nextString(in);
+          case "server_key" -> response.serverKey = nextString(in);
+          case "server_port" -> response.serverPort = in.nextInt();
+          case "server_ip" -> response.serverIp = nextString(in);
+          case "server_vip" -> response.serverVip = nextString(in);
+          case "peer_ip" -> response.peerIp = nextString(in);
+          case "peer_pubkey" -> response.peerPubkey = nextString(in);
+          case "dns_servers" -> response.dnsServers = nextStringArray(in);
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+      return response;
+    }
+  }
+
+  static class ServerListReader implements ResponseReader<ServerList> {
+    @Override
+    public ServerList read(JsonReader in) throws IOException {
+      ServerList serverList = new ServerList();
+      in.beginObject();
+      while (in.hasNext()) {
+        if (in.nextName().equals("regions")) {
+          List<ServerList.Region> regions = new ArrayList<>();
+          in.beginArray();
+          while (in.hasNext()) {
+            regions.add(readRegion(in));
+          }
+          in.endArray();
+          serverList.regions = regions.toArray(new ServerList.Region[0]);
+        } else {
+          in.skipValue();
+        }
+      }
+      in.endObject();
+      return serverList;
+    }
+
+    private static ServerList.Region readRegion(JsonReader in) throws IOException {
+      ServerList.Region region = new ServerList.Region();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "id" -> region.id = nextString(in);
+          case "name" -> region.name = nextString(in);
+          case "country" -> region.country = nextString(in);
+          case "port_forward" -> region.portForward = in.nextBoolean();
+          case "offline" -> region.offline = in.nextBoolean();
+          case "servers" -> region.servers = readServers(in);
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+      return region;
+    }
+
+    private static ServerList.Servers readServers(JsonReader in) throws IOException {
+      ServerList.Servers servers = new ServerList.Servers();
+      in.beginObject();
+      while (in.hasNext()) {
+        if (in.nextName().equals("wg")) {
+          List<ServerList.Server> wg = new ArrayList<>();
+          in.beginArray();
+          while (in.hasNext()) {
+            wg.add(readServer(in));
+          }
+          in.endArray();
+          servers.wg = wg.toArray(new ServerList.Server[0]);
+        } else {
+          in.skipValue();
+        }
+      }
+      in.endObject();
+      return servers;
+    }
+
+    private static ServerList.Server readServer(JsonReader in) throws IOException {
+      ServerList.Server server = new ServerList.Server();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "ip" -> server.ip = nextString(in);
+          case "cn" -> server.cn = nextString(in);
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+      return server;
+    }
+  }
+
+  static class SignatureResponseReader implements ResponseReader<PortForwarder.SignatureResponse> {
+    @Override
+    public PortForwarder.SignatureResponse read(JsonReader in) throws IOException {
+      PortForwarder.SignatureResponse response = new PortForwarder.SignatureResponse();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "status" -> response.status = nextString(in);
+          case "payload" -> response.payload = nextString(in);
+          case "signature" -> response.signature = nextString(in);
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+      return response;
+    }
+  }
+
+  static class PayloadReader implements ResponseReader<PortForwarder.Payload> {
+    @Override
+    public PortForwarder.Payload read(JsonReader in) throws IOException {
+      PortForwarder.Payload payload = new PortForwarder.Payload();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "port" -> payload.port = in.nextInt();
+          case "expires_at" -> payload.expiresAt = nextString(in);
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+      return payload;
+    }
+  }
+
+  static class BindPortResponseReader implements ResponseReader<PortForwarder.BindPortResponse> {
+    @Override
+    public PortForwarder.BindPortResponse read(JsonReader in) throws IOException {
+      PortForwarder.BindPortResponse response = new PortForwarder.BindPortResponse();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "status" -> response.status = nextString(in);
+          case "message" -> response.message = nextString(in);
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+      return response;
+    }
+  }
+
+  private static String nextString(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return in.nextString();
+  }
+
+  private static String[] nextStringArray(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    List<String> values = new ArrayList<>();
+    in.beginArray();
+    while (in.hasNext()) {
+      values.add(nextString(in));
+    }
+    in.endArray();
+    return values.toArray(new String[0]);
+  }
+}
@@ -0,0 +1,233 @@
+package pia4java;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the tunnel MTU for a server: the largest packet that reaches the
+ * server unfragmented, less WireGuard's overhead.  Packets with the don't
+ * fragment bit set are sent in rounds of a few concurrent sizes, each round
+ * narrowing the range between the largest size that got through and the
+ * smallest that didn't, and an MTU reported by a router bounds the range at
+ * once.  Results are cached per server, in memory and on disk.
+ */
+class PathMtuDiscovery {
+  private static final Logger logger = Logger.getLogger(PathMtuDiscovery.class.getCanonicalName());
+
+  /**
+   * Sends packets of a given size, including the IP header, with the don't
+   * fragment bit set.
+   */
+  interface Probe {
+    /**
+     * Completes with {@link #PASSED} if the packet was answered, the MTU a
+     * router reported if it was too big, or {@link #LOST}.
+     */
+    CompletableFuture<Integer> send(String host, int packetSize);
+  }
+
+  static final int PASSED = 0;
+  static final int LOST = -1;
+
+  // Outer IP header, UDP header, and WireGuard's data header and tag.
+  static final int IPV4_OVERHEAD = 20 + 8 + 32;
+  static final int IPV6_OVERHEAD = 40 + 8 + 32;
+  private static final int MAX_PATH_MTU = 1500;
+  // Every IPv4 link carries 576 bytes and every IPv6 link 1280.
+  private static final int MIN_IPV4_PATH_MTU = 576;
+  private static final int MIN_IPV6_PATH_MTU = 1280;
+  private static final int PROBES_PER_ROUND = 3;
+  // A lost packet is sent again before it counts as too big.
+  private static final int ATTEMPTS = 2;
+  private static final long CACHE_MILLIS = TimeUnit.DAYS.toMillis(1);
+  // How long a host that didn't answer is left unprobed.
+  private static final long NEGATIVE_CACHE_MILLIS = TimeUnit.HOURS.toMillis(1);
+  private static final Duration PING_TIMEOUT = Duration.ofSeconds(3);
+  private static final Pattern REPORTED_MTU = Pattern.compile("mtu ?= ?(\\d+)");
+
+  private final Probe probe;
+  private final Path cachePath;
+  private final Map<String, Proto.PathMtuCache.Entry> cache = new ConcurrentHashMap<>();
+
+  PathMtuDiscovery(Probe probe, Path cachePath) {
+    this.probe = probe;
+    this.cachePath = cachePath;
+    Proto.PathMtuCache.Builder builder = Proto.PathMtuCache.newBuilder();
+    TextProtoFiles.merge(cachePath, builder);
+    for (Proto.PathMtuCache.Entry entry : builder.getEntryList()) {
+      cache.put(entry.getHost(), entry);
+    }
+  }
+
+  /**
+   * Returns a probe that runs {@code ping}, which reports the local link's
+   * MTU and any MTU a router sent back.  Pings carry WireGuard's firewall
+   * mark, so with a tunnel's default route up they still take the path
+   * outside the tunnel, which the tunnel's own packets take.
+   */
+  static Probe pingProbe(CommandExecutor commandExecutor) {
+    return (host, packetSize) -> {
+      boolean ipv6 = isIpv6(host);
+      // The payload excludes the IP and ICMP headers.
+      int payload = packetSize - (ipv6 ? 48 : 28);
+      return commandExecutor.executeAsync(PING_TIMEOUT, "",
+              "ping", ipv6 ? "-6" : "-4", "-n", "-q", "-c", "1", "-W", "1", "-M", "do",
+              "-m", Integer.toString(InterfaceSetup.DEFAULT_ROUTE_TABLE), "-s", Integer.toString(payload), host)
+          .thenApply(result -> {
+            Matcher matcher = REPORTED_MTU.matcher(result.stdout + "\n" + result.stderr);
+            if (matcher.find()) {
+              return Integer.parseInt(matcher.group(1));
+            }
+            return result.exitValue == 0 ? PASSED : LOST;
+          });
+    };
+  }
+
+  /**
+   * Returns the tunnel MTU for an endpoint at {@code host}, or {@code fallback}
+   * if the path MTU can't be found.
+   */
+  int getTunnelMtu(String host, int fallback) throws InterruptedException {
+    int pathMtu = getPathMtu(host);
+    if (pathMtu == 0) {
+      logger.warning("No path MTU to " + host + ", using MTU " + fallback);
+      return fallback;
+    }
+    return pathMtu - (isIpv6(host) ? IPV6_OVERHEAD : IPV4_OVERHEAD);
+  }
+
+  /**
+   * Returns the path MTU to {@code host}, probing it unless a recent result
+   * is cached, or 0 if the host doesn't answer.
+   */
+  int getPathMtu(String host) throws InterruptedException {
+    Proto.PathMtuCache.Entry cached = cache.get(host);
+    if (cached != null && isFresh(cached, System.currentTimeMillis())) {
+      return cached.getPathMtu();
+    }
+    int pathMtu = discover(host);
+    logger.fine("Path MTU to " + host + " is " + pathMtu);
+    cache.put(host, Proto.PathMtuCache.Entry.newBuilder()
+        .setHost(host)
+        .setPathMtu(pathMtu)
+        .setMeasuredEpochMillis(System.currentTimeMillis())
+        .build());
+    try {
+      save();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Unable to save " + cachePath, e);
+    }
+    return pathMtu;
+  }
+
+  private static boolean isFresh(Proto.PathMtuCache.Entry entry, long now) {
+    return now - entry.getMeasuredEpochMillis() < (entry.getPathMtu() > 0 ? CACHE_MILLIS : NEGATIVE_CACHE_MILLIS);
+  }
+
+  int discover(String host) throws InterruptedException {
+    int minPathMtu = isIpv6(host) ? MIN_IPV6_PATH_MTU : MIN_IPV4_PATH_MTU;
+    // The first round also checks that the host answers at all.
+    int[] firstRound = send(host, List.of(MAX_PATH_MTU, minPathMtu));
+    if (firstRound[0] == PASSED) {
+      return MAX_PATH_MTU;
+    }
+    if (firstRound[1] != PASSED) {
+      return 0;
+    }
+    // The path MTU is in [good, bad).
+    int good = minPathMtu;
+    int bad = bound(MAX_PATH_MTU, firstRound[0], good);
+    while (bad - good > 1) {
+      List<Integer> sizes = new ArrayList<>();
+      for (int i = 1; i <= PROBES_PER_ROUND; i++) {
+        int size = good + (int) ((long) (bad - good) * i / (PROBES_PER_ROUND + 1));
+        if (size > good && (sizes.isEmpty() || size > sizes.get(sizes.size() - 1))) {
+          sizes.add(size);
+        }
+      }
+      int[] results = send(host, sizes);
+      int newBad = bad;
+      for (int i = 0; i < sizes.size(); i++) {
+        if (results[i] == PASSED) {
+          good = Math.max(good, sizes.get(i));
+        } else {
+          newBad = Math.min(newBad, bound(sizes.get(i), results[i], good));
+        }
+      }
+      // A smaller size can be lost where a larger one got through.
+      bad = Math.max(newBad, good + 1);
+    }
+    return good;
+  }
+
+  /**
+   * Returns the smallest size known not to fit after a packet of
+   * {@code packetSize} failed with {@code result}.
+   */
+  private static int bound(int packetSize, int result, int good) {
+    if (result > good && result < packetSize) {
+      return result + 1;
+    }
+    return packetSize;
+  }
+
+  /**
+   * Sends one packet of each size concurrently, sending lost packets again,
+   * and returns each packet's result.
+   */
+  private int[] send(String host, List<Integer> sizes) throws InterruptedException {
+    int[] results = new int[sizes.size()];
+    for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+      List<CompletableFuture<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < sizes.size(); i++) {
+        futures.add(attempt == 0 || results[i] == LOST
+            ? probe.send(host, sizes.get(i))
+            : CompletableFuture.completedFuture(results[i]));
+      }
+      boolean lost = false;
+      for (int i = 0; i < sizes.size(); i++) {
+        try {
+          results[i] = futures.get(i).get();
+        } catch (ExecutionException e) {
+          logger.log(Level.FINE, "Probe of " + host + " failed", e.getCause());
+          results[i] = LOST;
+        } catch (InterruptedException e) {
+          futures.forEach(future -> future.cancel(true));
+          throw e;
+        }
+        lost |= results[i] == LOST;
+      }
+      if (!lost) {
+        break;
+      }
+    }
+    return results;
+  }
+
+  private synchronized void save() throws IOException {
+    Proto.PathMtuCache.Builder builder = Proto.PathMtuCache.newBuilder();
+    long now = System.currentTimeMillis();
+    for (Proto.PathMtuCache.Entry entry : cache.values()) {
+      if (isFresh(entry, now)) {
+        builder.addEntry(entry);
+      }
+    }
+    TextProtoFiles.write(cachePath, builder.build(), false);
+  }
+
+  private static boolean isIpv6(String host) {
+    return host.indexOf(':') >= 0;
+  }
+}
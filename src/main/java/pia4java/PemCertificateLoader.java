@@ -2,6 +2,8 @@ package pia4java;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.cert.Certificate;
@@ -15,7 +17,12 @@ import java.util.regex.Pattern;
 
 public class PemCertificateLoader {
   public List<Certificate> loadCertificates(Path pemCertificateFile) throws IOException, CertificateException {
-    String pemContent = new String(Files.readAllBytes(pemCertificateFile));
+    String pemContent = new String(Files.readAllBytes(pemCertificateFile), StandardCharsets.US_ASCII);
+    return readCertificates(pemContent);
+  }
+
+  public List<Certificate> loadCertificates(InputStream in) throws IOException, CertificateException {
+    String pemContent = new String(in.readAllBytes(), StandardCharsets.US_ASCII);
     return readCertificates(pemContent);
   }
 
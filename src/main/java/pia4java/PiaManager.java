@@ -3,84 +3,778 @@ package pia4java;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
+import com.google.common.net.HostAndPort;
 import com.google.protobuf.TextFormat;
 
 import java.io.BufferedReader;
-import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.net.InetAddress;
+import java.net.URI;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
 import java.security.KeyManagementException;
-import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class PiaManager {
   private static final Logger logger = Logger.getLogger(PiaManager.class.getCanonicalName());
-  private static final String PIA_GET_TOKEN_URL = "https://www.privateinternetaccess.com/api/client/v2/token";
   private static final String PIA_ADD_KEY_URL_FORMAT_SPEC = "https://%s:%s/addKey";
-  private static final File PIA_WIREGUARD_CONF_PATH = new File("/etc/wireguard/pia.conf");
+  private static final int PIA_DEFAULT_WIREGUARD_PORT = 1337;
+  static final String DEFAULT_ROUTE = "0.0.0.0/0";
+  // System files, relative to the system root.
+  private static final String WIREGUARD_CONF_DIR = "etc/wireguard";
+  private static final String RESOLV_CONF = "etc/resolv.conf";
+  private static final String SRC_VALID_MARK = "proc/sys/net/ipv4/conf/all/src_valid_mark";
+  private static final Duration RESTART_HANDSHAKE_TIMEOUT = Duration.ofSeconds(5);
+  private static final Duration HANDSHAKE_POLL_INTERVAL = Duration.ofMillis(20);
   private final Proto.PiaConfig config;
+  private final Path srcValidMarkPath;
+  private final List<PiaTunnel> tunnels;
+  // Which tunnel routes each resolved address.
+  private final Map<String, String> tunnelByAddress = new ConcurrentHashMap<>();
+  // The standby registration of each tunnel that has one.
+  private final Map<String, Registration> standbys = new ConcurrentHashMap<>();
+  // Tunnels whose standby is being registered.
+  private final Set<String> standbyRefreshes = ConcurrentHashMap.newKeySet();
+  // The registration each tunnel was last brought up or switched to.
+  private final Map<String, Registration> activeRegistrations = new ConcurrentHashMap<>();
   private final PiaTrustManager trustManager;
+  private final SimpleRestClient restClient;
+  private final TokenCache tokenCache;
+  private final WireGuardKeyPool keyPool;
+  private final DnsResolver dnsResolver;
+  private final ServerListCache serverListCache;
+  private final PortForwarder portForwarder;
+  private final PathMtuDiscovery pathMtuDiscovery;
+  private final Timings timings = new Timings();
+  private final CommandExecutor commandExecutor;
 
   public static void main(String args[]) throws Exception {
-     Preconditions.checkState(args.length == 2,
-         "up|down|restart");
+     Preconditions.checkState(args.length >= 2,
+         "up|down|restart|daemon [--timings] [--timings-file=<path>]");
+     boolean printTimings = false;
+     String timingsFile = null;
+     for (int i = 2; i < args.length; i++) {
+       if (args[i].equals("--timings")) {
+         printTimings = true;
+       } else if (args[i].startsWith("--timings-file=")) {
+         timingsFile = args[i].substring("--timings-file=".length());
+       } else {
+         throw new IllegalStateException("Unrecognized flag " + args[i]);
+       }
+     }
      PiaManager piaManager = new PiaManager(loadConfig(args[0]));
-     switch (args[1]) {
-       case "up" -> piaManager.connect();
-       case "down" -> piaManager.disconnect();
-       case "restart" -> { piaManager.disconnect(); piaManager.connect(); }
-       default -> throw new IllegalStateException("Unrecognized command " + args[1]);
+     try (Timings.Phase phase = piaManager.timings.begin(args[1])) {
+       switch (args[1]) {
+         case "up" -> piaManager.connect();
+         case "down" -> piaManager.disconnect();
+         case "restart" -> piaManager.restart();
+         case "daemon" -> piaManager.supervise();
+         default -> throw new IllegalStateException("Unrecognized command " + args[1]);
+       }
+       phase.succeed();
+     } finally {
+       if (printTimings) {
+         piaManager.timings.printSummary(System.out);
+       }
+       if (timingsFile != null) {
+         piaManager.timings.appendToHistory(Paths.get(timingsFile));
+       }
      }
   }
 
-  public PiaManager(Proto.PiaConfig config) throws CertificateException, IOException, KeyStoreException, NoSuchAlgorithmException {
+  public PiaManager(Proto.PiaConfig config) throws IOException, NoSuchAlgorithmException, KeyManagementException {
+    this(config, CommandExecutor.processRunner(CommandExecutor.DEFAULT_MAX_OUTPUT_BYTES), Paths.get("/"));
+  }
+
+  /**
+   * Runs {@code ip}, {@code wg}, {@code wg-quick} and {@code ping} with
+   * {@code commandRunner}, and finds the system's files (/etc/wireguard,
+   * /etc/resolv.conf and /proc/sys) under {@code systemRoot} instead of /.
+   */
+  PiaManager(Proto.PiaConfig config, CommandExecutor.Runner commandRunner, Path systemRoot)
+      throws IOException, NoSuchAlgorithmException, KeyManagementException {
     this.config = config;
-    this.trustManager = new pia4java.PiaTrustManager();
+    this.srcValidMarkPath = systemRoot.resolve(SRC_VALID_MARK);
+    this.commandExecutor = new CommandExecutor(command -> {
+      Timings.Phase phase = timings.begin("command", command[0] + " " + command[1]);
+      return result -> {
+        if (result != null) {
+          phase.setOutcome(result.exitValue == 0 ? "ok" : "exit " + result.exitValue);
+        }
+        phase.close();
+      };
+    }, commandRunner);
+    this.tunnels = PiaTunnel.fromConfig(config, systemRoot.resolve(WIREGUARD_CONF_DIR));
+    this.trustManager = new PiaTrustManager(
+        Paths.get(config.getPiaCaCertificate()), Paths.get(config.getCacheDir(), "pia-ca.p12"));
+    for (PiaTunnel tunnel : tunnels) {
+      if (tunnel.piaWireguardServer != null) {
+        trustManager.addPiaHost(tunnel.piaWireguardServer);
+      }
+    }
+    if (config.hasPiaCaCertificate()) {
+      trustManager.addPiaHost(URI.create(config.getTokenUrl()).getHost());
+      trustManager.addPiaHost(URI.create(config.getServerlistUrl()).getHost());
+    }
+    this.restClient = new SimpleRestClient(trustManager);
+    this.tokenCache = new TokenCache(
+        Paths.get(config.getCacheDir(), "token.txt"), config.getPiaUsername(), this::retrieveToken);
+    this.keyPool = config.getKeyPoolSize() > 0 ? new WireGuardKeyPool(config.getKeyPoolSize()) : null;
+    this.dnsResolver = new DnsResolver(
+        DnsResolver.parseUpstream(config.getDnsServer(), systemRoot.resolve(RESOLV_CONF)),
+        Paths.get(config.getCacheDir(), "dns.txt"), config.getDns());
+    this.serverListCache = new ServerListCache(restClient, config.getServerlistUrl(), Paths.get(config.getCacheDir()),
+        config.hasServerlistPublicKey() ? Paths.get(config.getServerlistPublicKey()) : null,
+        Duration.ofSeconds(config.getServerlistMaxAgeSeconds()));
+    this.portForwarder = new PortForwarder(restClient, trustManager, tokenCache, Paths.get(config.getCacheDir()));
+    this.pathMtuDiscovery = new PathMtuDiscovery(PathMtuDiscovery.pingProbe(commandExecutor),
+        Paths.get(config.getCacheDir(), "mtu.txt"));
+  }
+
+  /**
+   * Brings up every tunnel concurrently.
+   */
+  public void connect() throws IOException, GeneralSecurityException, InterruptedException {
+    forEachTunnel(this::connect);
+  }
+
+  private void connect(PiaTunnel tunnel) throws IOException, GeneralSecurityException, InterruptedException {
+    Registration registration = register(tunnel);
+    writeConfiguration(tunnel, registration);
+    up(tunnel, registration);
+    activeRegistrations.put(tunnel.interfaceName, registration);
+    forwardPort(tunnel, registration);
+  }
+
+  private void up(PiaTunnel tunnel, Registration registration) throws IOException, InterruptedException {
+    try (Timings.Phase phase = timings.begin("interface", "up " + tunnel.interfaceName)) {
+      if (config.getInterfaceBackend() == Proto.InterfaceBackend.WG_QUICK) {
+        CommandExecutor.Result result;
+        try {
+          result = runCommand(getInterfaceSetup(tunnel, registration).getCommandTimeout(), "",
+              new String[] { "wg-quick", "up", tunnel.interfaceName });
+        } catch (CommandExecutor.CommandTimeoutException e) {
+          // Killed, wg-quick doesn't undo what it did.
+          throw downAfter(e, tunnel, true);
+        }
+        Preconditions.checkState(result.exitValue == 0, result);
+      } else {
+        upDirect(tunnel, registration);
+      }
+      phase.succeed();
+    }
+  }
+
+  private void upDirect(PiaTunnel tunnel, Registration registration) throws IOException, InterruptedException {
+    InterfaceSetup setup = getInterfaceSetup(tunnel, registration);
+    try {
+      runIpBatch(setup.getUpCommands(), setup.getCommandTimeout());
+    } catch (CommandExecutor.CommandTimeoutException e) {
+      // Killed partway, after adding the link.
+      throw downAfter(e, tunnel, false);
+    }
+    boolean addingDefaultRoute = false;
+    try {
+      CommandExecutor.Result result = runCommand(setup.getCommandTimeout(), setup.getWireGuardConfiguration(),
+          new String[] { "wg", "setconf", tunnel.interfaceName, "/dev/stdin" });
+      Preconditions.checkState(result.exitValue == 0, result);
+      if (setup.hasDefaultRoute()) {
+        // Replies to the marked packets must pass reverse path filtering.
+        Files.writeString(srcValidMarkPath, "1\n");
+        addingDefaultRoute = true;
+        runIpBatch(setup.getDefaultRouteCommands(), InterfaceSetup.COMMAND_TIMEOUT);
+      }
+    } catch (IOException e) {
+      throw downAfter(e, tunnel, false);
+    } catch (RuntimeException e) {
+      // Rules that failed to be added can be another VPN's; only those of a
+      // killed batch are known to be ours.
+      throw downAfter(e, tunnel, addingDefaultRoute && e instanceof CommandExecutor.CommandTimeoutException);
+    }
+  }
+
+  /**
+   * Takes down an interface that failed to come up with {@code failure},
+   * including the default route's rules if {@code defaultRoute}, and returns
+   * {@code failure} with any failure to take it down suppressed.
+   */
+  private <E extends Exception> E downAfter(E failure, PiaTunnel tunnel, boolean defaultRoute)
+      throws InterruptedException {
+    try {
+      if (config.getInterfaceBackend() == Proto.InterfaceBackend.WG_QUICK) {
+        CommandExecutor.Result result = runCommand(InterfaceSetup.COMMAND_TIMEOUT, "",
+            new String[] { "wg-quick", "down", tunnel.interfaceName });
+        Preconditions.checkState(result.exitValue == 0, result);
+      } else {
+        runIpBatch(InterfaceSetup.getDownCommands(tunnel.interfaceName, defaultRoute), InterfaceSetup.COMMAND_TIMEOUT);
+      }
+    } catch (IOException | RuntimeException cleanupFailure) {
+      failure.addSuppressed(cleanupFailure);
+    }
+    return failure;
+  }
+
+  private interface TunnelAction {
+    void run(PiaTunnel tunnel) throws IOException, GeneralSecurityException, InterruptedException;
+  }
+
+  /**
+   * Runs {@code action} on every tunnel concurrently.  A failing tunnel doesn't
+   * stop the others; once all are done, the first failure is rethrown with the
+   * others suppressed.
+   */
+  private void forEachTunnel(TunnelAction action) throws IOException, GeneralSecurityException, InterruptedException {
+    if (tunnels.size() == 1) {
+      action.run(tunnels.get(0));
+      return;
+    }
+    List<Future<Void>> futures = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (PiaTunnel tunnel : tunnels) {
+        futures.add(executor.submit(() -> {
+          action.run(tunnel);
+          return null;
+        }));
+      }
+    }
+    Throwable failure = null;
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        futures.get(i).get();
+      } catch (ExecutionException e) {
+        logger.warning(tunnels.get(i).interfaceName + " failed: " + e.getCause());
+        if (failure == null) {
+          failure = e.getCause();
+        } else {
+          failure.addSuppressed(e.getCause());
+        }
+      }
+    }
+    if (failure != null) {
+      throw FailFastScope.rethrow(failure);
+    }
+  }
+
+  /**
+   * Switches a running interface to a newly registered key without taking it
+   * down, so its routes, rules and addresses stay in place.  This is not make
+   * before break: the interface has one private key, and replacing it ends
+   * the old peer's session, so traffic stops until the new peer's first
+   * handshake.  The old peer is removed after that handshake.  Falls back to
+   * a full reconnect if the interface is down or the default route would
+   * have to move.
+   */
+  public void restart() throws IOException, GeneralSecurityException, InterruptedException {
+    forEachTunnel(this::restart);
+  }
+
+  private void restart(PiaTunnel tunnel) throws IOException, GeneralSecurityException, InterruptedException {
+    String name = tunnel.interfaceName;
+    WireGuardDump current = readInterface(tunnel);
+    if (current == null) {
+      connect(tunnel);
+      return;
+    }
+    Registration registration = register(tunnel);
+    writeConfiguration(tunnel, registration);
+    long gapMillis = switchTo(tunnel, current, registration);
+    activeRegistrations.put(tunnel.interfaceName, registration);
+    forwardPort(tunnel, registration);
+    if (gapMillis >= 0) {
+      // Expected: nothing passes between the key switch and the handshake.
+      logger.info("Restarted " + name + ", traffic gap until the new handshake " + gapMillis + "ms");
+    } else {
+      logger.warning("Restarted " + name + " in place, but no handshake within "
+          + RESTART_HANDSHAKE_TIMEOUT.toMillis() + "ms");
+    }
   }
 
-  public void connect() throws IOException, NoSuchAlgorithmException, KeyManagementException, InterruptedException {
-    String[] allowedIps = new String[0];
-    if (config.hasTargetDomain()) {
-      CommandResult result = runCommand("",
-          new String[]{"dig", "+short", config.getTargetDomain()});
+  /**
+   * Switches the running interface {@code current} to {@code registration}
+   * as {@link #restart} describes.  Returns the traffic gap, or -1 if the new
+   * peer didn't handshake in time.
+   */
+  private long switchTo(PiaTunnel tunnel, WireGuardDump current, Registration registration)
+      throws IOException, InterruptedException {
+    String name = tunnel.interfaceName;
+    long start = System.nanoTime();
+    CommandExecutor.Result result;
+    List<String> oldAddresses = getInterfaceAddresses(tunnel);
+    Set<String> oldAllowedIps = new LinkedHashSet<>();
+    for (WireGuardDump.Peer peer : current.peers) {
+      oldAllowedIps.addAll(peer.allowedIps);
+    }
+
+    AddKeyResponse response = registration.addKeyResponse;
+    InterfaceSetup setup = getInterfaceSetup(tunnel, registration);
+    Set<String> newAllowedIps = new LinkedHashSet<>(registration.allowedIps);
+    if (oldAllowedIps.contains(DEFAULT_ROUTE) != newAllowedIps.contains(DEFAULT_ROUTE)) {
+      logger.info("Default route changes, restarting " + name);
+      disconnect(tunnel);
+      up(tunnel, registration);
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    boolean handshake;
+    long gapMillis;
+    try (Timings.Phase phase = timings.begin("interface", "switch " + name)) {
+      long startEpochSeconds = System.currentTimeMillis() / 1000;
+      // Allowed IPs move from the old peer to the new one, and a keepalive is
+      // sent immediately to start the handshake.  The new key invalidates the
+      // old peer's session, so the traffic gap starts here.
+      result = runCommand(setup.getCommandTimeout(), registration.privateKey, new String[] {
+          "wg", "set", name, "private-key", "/dev/stdin",
+          "peer", response.serverKey,
+          "endpoint", response.serverIp + ":" + response.serverPort,
+          "allowed-ips", String.join(",", newAllowedIps),
+          "persistent-keepalive", "25" });
+      Preconditions.checkState(result.exitValue == 0, result);
+      StringBuilder commands = new StringBuilder();
+      // The new server can be on a path with another MTU.
+      commands.append("link set dev ").append(name).append(" mtu ").append(registration.mtu).append('\n');
+      if (!oldAddresses.contains(response.peerIp)) {
+        commands.append("address add ").append(response.peerIp).append(" dev ").append(name).append('\n');
+      }
+      if (!setup.hasDefaultRoute()) {
+        for (String allowedIp : newAllowedIps) {
+          if (!oldAllowedIps.contains(allowedIp)) {
+            commands.append(setup.getRouteCommand("replace", allowedIp));
+          }
+        }
+      }
+      runIpBatch(commands.toString(), setup.getCommandTimeout());
+
+      handshake = awaitHandshake(tunnel, response.serverKey, startEpochSeconds);
+      gapMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      for (WireGuardDump.Peer peer : current.peers) {
+        if (!peer.publicKey.equals(response.serverKey)) {
+          result = runCommand("", new String[] { "wg", "set", name, "peer", peer.publicKey, "remove" });
+          Preconditions.checkState(result.exitValue == 0, result);
+        }
+      }
+      // Back to the configured keepalive, which 0 turns off.
+      result = runCommand("", new String[] {
+          "wg", "set", name, "peer", response.serverKey,
+          "persistent-keepalive", Integer.toString(config.getPersistentKeepaliveSeconds()) });
       Preconditions.checkState(result.exitValue == 0, result);
-      allowedIps = result.stdout.split("\\n");
+      commands.setLength(0);
+      for (String oldAddress : oldAddresses) {
+        if (!oldAddress.equals(response.peerIp)) {
+          commands.append("address del ").append(oldAddress).append(" dev ").append(name).append('\n');
+        }
+      }
+      if (!setup.hasDefaultRoute()) {
+        for (String allowedIp : oldAllowedIps) {
+          if (!newAllowedIps.contains(allowedIp)) {
+            commands.append(setup.getRouteCommand("del", allowedIp));
+          }
+        }
+      }
+      runIpBatch(commands.toString(), setup.getCommandTimeout());
+      phase.setOutcome(handshake ? "ok" : "no handshake");
+    } catch (CommandExecutor.CommandTimeoutException e) {
+      // The interface is left somewhere between the two peers.
+      logger.log(Level.WARNING, "Switching " + name + " timed out, restarting it", e);
+      disconnect(tunnel);
+      up(tunnel, registration);
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+    return handshake ? gapMillis : -1;
+  }
+
+  /**
+   * Switches a failed tunnel to its standby key, which is already registered
+   * on a server in another region, so only the peer switch and its handshake
+   * stand between the failure and traffic flowing again.  Without a standby
+   * this is {@link #restart}.  A new standby is registered in the background.
+   */
+  private void failover(PiaTunnel tunnel) throws IOException, GeneralSecurityException, InterruptedException {
+    String name = tunnel.interfaceName;
+    Registration standby = standbys.remove(name);
+    WireGuardDump current = readInterface(tunnel);
+    if (standby == null || current == null) {
+      restart(tunnel);
+    } else {
+      long start = System.nanoTime();
+      long gapMillis;
+      try (Timings.Phase phase = timings.begin("failover", name)) {
+        writeConfiguration(tunnel, standby);
+        gapMillis = switchTo(tunnel, current, standby);
+        phase.setOutcome(gapMillis >= 0 ? "ok" : "no handshake");
+      }
+      long failoverMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      if (gapMillis >= 0) {
+        logger.info("Failed " + name + " over to " + standby.server + ", traffic gap " + gapMillis + "ms, "
+            + failoverMillis + "ms in total");
+      } else {
+        logger.warning("Failed " + name + " over to " + standby.server + ", but no handshake within "
+            + RESTART_HANDSHAKE_TIMEOUT.toMillis() + "ms");
+      }
+      activeRegistrations.put(name, standby);
+      forwardPort(tunnel, standby);
+    }
+    startStandbyRefresh(tunnel);
+  }
+
+  /**
+   * Starts registering a new standby for {@code tunnel} on its own virtual
+   * thread, so the registration never holds up health checks, unless one is
+   * already being registered.
+   */
+  private void startStandbyRefresh(PiaTunnel tunnel) {
+    String name = tunnel.interfaceName;
+    if (!standbyRefreshes.add(name)) {
+      logger.fine("A standby for " + name + " is already being registered");
+      return;
+    }
+    Thread.ofVirtual().name("standby-" + name).start(() -> {
+      try {
+        refreshStandby(tunnel);
+      } finally {
+        standbyRefreshes.remove(name);
+      }
+    });
+  }
+
+  /**
+   * Registers a new standby key for {@code tunnel} on a server outside the
+   * region of the server it is connected to, replacing the previous one.  If
+   * the tunnel fails over meanwhile, the standby is registered again to avoid
+   * the new server's region.  Failures are logged; the tunnel then fails over
+   * with a full restart.
+   */
+  private void refreshStandby(PiaTunnel tunnel) {
+    String name = tunnel.interfaceName;
+    try {
+      String primaryIp = readPrimaryIp(tunnel);
+      while (primaryIp != null) {
+        String avoidedIp = primaryIp;
+        Registration standby = register(tunnel, () -> selectStandbyServer(tunnel, avoidedIp));
+        primaryIp = readPrimaryIp(tunnel);
+        if (avoidedIp.equals(primaryIp)) {
+          standbys.put(name, standby);
+          logger.info("Standby for " + name + " registered on " + standby.server);
+          return;
+        }
+        logger.fine(name + " switched servers while its standby was registered");
+      }
+      logger.fine(name + " is down, not registering a standby");
+    } catch (IOException | GeneralSecurityException | RuntimeException e) {
+      logger.log(Level.WARNING, "Unable to register a standby for " + name, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns the address of the server {@code tunnel} is connected to, or
+   * null if it is down.
+   */
+  private String readPrimaryIp(PiaTunnel tunnel) throws IOException, InterruptedException {
+    WireGuardDump current = readInterface(tunnel);
+    if (current == null || current.peers.isEmpty()) {
+      return null;
+    }
+    return HostAndPort.fromString(current.peers.get(0).endpoint).getHost();
+  }
+
+  /**
+   * Keeps the tunnels up until the process is killed: connects if needed,
+   * reconnects each tunnel when its health checks fail and refreshes the token
+   * ahead of expiry.  With a quality monitor, each tunnel's round trip times,
+   * jitter and loss are reported too.
+   */
+  public void supervise() throws InterruptedException {
+    List<TunnelSupervisor> supervisors = new ArrayList<>();
+    for (PiaTunnel tunnel : tunnels) {
+      supervisors.add(new TunnelSupervisor(tunnel.interfaceName, config.getSupervisor(),
+          new TunnelSupervisor.Tunnel() {
+            @Override
+            public WireGuardDump read() throws IOException, InterruptedException {
+              return readInterface(tunnel);
+            }
+
+            @Override
+            public void reconnect() throws IOException, GeneralSecurityException, InterruptedException {
+              failover(tunnel);
+            }
+          }));
+      if (tunnel.standby != null) {
+        // After the first check, so that the tunnel is up and the standby can
+        // avoid its region.
+        supervisors.get(supervisors.size() - 1).getExecutor().scheduleWithFixedDelay(
+            () -> startStandbyRefresh(tunnel), config.getSupervisor().getCheckIntervalSeconds(),
+            tunnel.standby.getRefreshIntervalSeconds(), TimeUnit.SECONDS);
+      }
+      if (config.hasQualityMonitor()) {
+        startQualityMonitor(tunnel);
+      }
+    }
+    // Retrieving a token blocks on HTTPS and the disk, so it runs on a thread
+    // of its own rather than holding up a tunnel's health checks.
+    tokenCache.scheduleRefresh(Executors.newSingleThreadScheduledExecutor(
+        Thread.ofVirtual().name("token-refresh").factory()));
+    portForwarder.scheduleRenewals(supervisors.get(0).getExecutor());
+    for (TunnelSupervisor supervisor : supervisors) {
+      supervisor.start();
+    }
+    for (TunnelSupervisor supervisor : supervisors) {
+      supervisor.awaitTermination();
     }
+  }
+
+  private void startQualityMonitor(PiaTunnel tunnel) {
+    Proto.QualityMonitor monitorConfig = config.getQualityMonitor();
+    String name = tunnel.interfaceName;
+    new QualityMonitor(name, monitorConfig,
+        () -> {
+          if (monitorConfig.hasTarget()) {
+            return monitorConfig.getTarget();
+          }
+          // Unknown until this process brings the tunnel up.
+          Registration registration = activeRegistrations.get(name);
+          return registration != null ? registration.addKeyResponse.serverVip : null;
+        },
+        QualityMonitor.tcpProbe(monitorConfig.getPort(), monitorConfig.getTimeoutMillis()),
+        Paths.get(config.getCacheDir(), name + ".quality.txt")).start();
+  }
+
+  private WireGuardDump readInterface(PiaTunnel tunnel) throws IOException, InterruptedException {
+    CommandExecutor.Result result = runCommand("", new String[] { "wg", "show", tunnel.interfaceName, "dump" });
+    return result.exitValue == 0 ? WireGuardDump.parse(result.stdout) : null;
+  }
+
+  private static class Registration {
+    final PiaServer server;
+    final AddKeyResponse addKeyResponse;
+    final String privateKey;
+    final List<String> allowedIps;
+    final int mtu;
+
+    Registration(PiaServer server, AddKeyResponse addKeyResponse, String privateKey, List<String> allowedIps,
+        int mtu) {
+      this.server = server;
+      this.addKeyResponse = addKeyResponse;
+      this.privateKey = privateKey;
+      this.allowedIps = allowedIps;
+      this.mtu = mtu;
+    }
+  }
+
+  private Registration register(PiaTunnel tunnel) throws IOException, GeneralSecurityException, InterruptedException {
+    return register(tunnel, () -> selectServer(tunnel));
+  }
 
-    String token = retrieveToken();
+  private Registration register(PiaTunnel tunnel, FailFastScope.Task<PiaServer> serverSelection)
+      throws IOException, GeneralSecurityException, InterruptedException {
+    // Only addKey depends on the server, token and keypair, and only the
+    // configuration depends on the resolved addresses, so everything else
+    // runs concurrently.
+    boolean tokenWasCached = tokenCache.hasValidToken();
+    try (FailFastScope scope = new FailFastScope()) {
+      String name = tunnel.interfaceName;
+      CompletableFuture<String[]> resolvedIps = scope.fork(() -> timed("dns", name, () -> resolveDomains(tunnel)));
+      CompletableFuture<PiaServer> server = scope.fork(() -> timed("server", name, serverSelection));
+      CompletableFuture<String> token = scope.fork(() -> timed("token", null, tokenCache::getToken));
+      CompletableFuture<WireGuardKeyPair> keyPair = scope.fork(() -> timed("keygen", name,
+          () -> keyPool != null ? keyPool.take() : WireGuardKeyPair.generate()));
+      // The path is probed while the key is added.
+      CompletableFuture<Integer> mtu = config.hasMtu()
+          ? CompletableFuture.completedFuture(config.getMtu())
+          : scope.fork(() -> timed("mtu", name, () -> pathMtuDiscovery.getTunnelMtu(
+              scope.join(server).getAddress(), InterfaceSetup.DEFAULT_MTU)));
 
-    CommandResult result = runCommand("", new String[] { "wg", "genkey" });
+      String publicKey = scope.join(keyPair).publicKey;
+      logger.fine("Public  key [" + publicKey + "]");
+      PiaServer selectedServer = scope.join(server);
+      String selectedToken = scope.join(token);
+      AddKeyResponse addKeyResponse;
+      try (Timings.Phase phase = timings.begin("addKey", name)) {
+        addKeyResponse = registerKey(selectedServer, selectedToken, tokenWasCached, publicKey);
+        phase.succeed();
+      }
+      logger.fine("Add key     [" + addKeyResponse + "]");
+      String[] addresses = routableAddresses(tunnel, scope.join(resolvedIps), addKeyResponse.peerIp);
+      boolean monitorsVip = config.hasQualityMonitor() && !config.getQualityMonitor().hasTarget();
+      if ((tunnel.portForwarding != null || monitorsVip) && addresses.length > 0) {
+        // The port forwarding API is served by, and the quality monitor
+        // probes, the gateway inside the tunnel.
+        addresses = Arrays.copyOf(addresses, addresses.length + 1);
+        addresses[addresses.length - 1] = addKeyResponse.serverVip;
+      }
+      List<String> allowedIps = AddKeyResponse.toAllowedIps(addresses, config.getMaxAllowedIps());
+      if (allowedIps.size() < addresses.length) {
+        logger.fine(addresses.length + " addresses routed as " + allowedIps.size() + " prefixes");
+      }
+      return new Registration(selectedServer, addKeyResponse, scope.join(keyPair).privateKey, allowedIps,
+          scope.join(mtu));
+    }
+  }
+
+  private <T> T timed(String phaseName, String detail, FailFastScope.Task<T> task) throws Exception {
+    try (Timings.Phase phase = timings.begin(phaseName, detail)) {
+      T result = task.call();
+      phase.succeed();
+      return result;
+    }
+  }
+
+  private InterfaceSetup getInterfaceSetup(PiaTunnel tunnel, Registration registration) {
+    AddKeyResponse response = registration.addKeyResponse;
+    return new InterfaceSetup(tunnel.interfaceName, response.peerIp, registration.mtu,
+        registration.privateKey, response.serverKey, response.serverIp + ":" + response.serverPort,
+        registration.allowedIps,
+        config.getUsePiaDns() && response.dnsServers != null ? Arrays.asList(response.dnsServers) : List.of(),
+        config.getTable(), config.getPersistentKeepaliveSeconds());
+  }
+
+  private void writeConfiguration(PiaTunnel tunnel, Registration registration) throws IOException {
+    try (Timings.Phase phase = timings.begin("config", tunnel.interfaceName)) {
+      getInterfaceSetup(tunnel, registration).writeWgQuickConfiguration(tunnel.configurationPath);
+      phase.succeed();
+    }
+  }
+
+  private List<String> getInterfaceAddresses(PiaTunnel tunnel) throws IOException, InterruptedException {
+    CommandExecutor.Result result = runCommand("", new String[] {
+        "ip", "-o", "address", "show", "dev", tunnel.interfaceName });
     Preconditions.checkState(result.exitValue == 0, result);
-    String privateKey = result.stdout;
-    logger.fine("Private key [" + privateKey + "]");
+    List<String> addresses = new ArrayList<>();
+    for (String line : result.stdout.split("\n")) {
+      // 5: pia    inet 10.13.128.2/32 scope global pia\       valid_lft forever ...
+      String[] fields = line.trim().split("\\s+");
+      for (int i = 0; i + 1 < fields.length; i++) {
+        if (fields[i].equals("inet") || fields[i].equals("inet6")) {
+          addresses.add(fields[i + 1].endsWith("/32") || fields[i + 1].endsWith("/128")
+              ? fields[i + 1].substring(0, fields[i + 1].indexOf('/'))
+              : fields[i + 1]);
+        }
+      }
+    }
+    return addresses;
+  }
 
-    result = runCommand(privateKey, new String[] { "wg", "pubkey" });
+  private boolean awaitHandshake(PiaTunnel tunnel, String peerPublicKey, long sinceEpochSeconds)
+      throws IOException, InterruptedException {
+    long deadline = System.nanoTime() + RESTART_HANDSHAKE_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      WireGuardDump dump = readInterface(tunnel);
+      Preconditions.checkState(dump != null, tunnel.interfaceName + " went down");
+      WireGuardDump.Peer peer = dump.getPeer(peerPublicKey);
+      if (peer != null && peer.latestHandshakeEpochSeconds >= sinceEpochSeconds) {
+        return true;
+      }
+      Thread.sleep(HANDSHAKE_POLL_INTERVAL.toMillis());
+    }
+    return false;
+  }
+
+  private void runIpBatch(String commands, Duration timeout) throws IOException, InterruptedException {
+    if (commands.isEmpty()) {
+      return;
+    }
+    CommandExecutor.Result result = runCommand(timeout, commands, new String[] { "ip", "-batch", "-" });
     Preconditions.checkState(result.exitValue == 0, result);
-    String publicKey = result.stdout;
-    logger.fine("Public  key [" + publicKey + "]");
+  }
 
-    AddKeyResponse addKeyResponse = addKey(token, publicKey);
-    logger.fine("Add key     [" + addKeyResponse + "]");
+  /**
+   * Returns the {@code addresses} of the families the tunnel has an address
+   * of.  PIA only gives tunnels an IPv4 address, and IPv6 packets routed into
+   * such a tunnel would be dropped, so AAAA answers keep their usual route.
+   */
+  private static String[] routableAddresses(PiaTunnel tunnel, String[] addresses, String peerIp) {
+    if (peerIp.indexOf(':') >= 0) {
+      return addresses;
+    }
+    String[] ipv4 = Arrays.stream(addresses).filter(address -> address.indexOf(':') < 0).toArray(String[]::new);
+    if (ipv4.length < addresses.length) {
+      logger.fine(tunnel.interfaceName + " has no IPv6 address, not routing " + (addresses.length - ipv4.length)
+          + " IPv6 addresses");
+    }
+    Preconditions.checkState(tunnel.domains.isEmpty() || ipv4.length > 0,
+        "No IPv4 address for the domains of " + tunnel.interfaceName);
+    return ipv4;
+  }
 
-    String wireguardConfiguration = addKeyResponse.getWireGuardConfiguration(privateKey, allowedIps);
+  private String[] resolveDomains(PiaTunnel tunnel) throws IOException, InterruptedException {
+    // A domain that doesn't resolve is left out rather than failing the
+    // tunnel, unless no domain resolves: no addresses means the default route.
+    Set<String> addresses = new LinkedHashSet<>();
+    for (Map.Entry<String, List<InetAddress>> entry : dnsResolver.resolveAll(tunnel.domains).entrySet()) {
+      if (entry.getValue().isEmpty()) {
+        logger.warning("No addresses for " + entry.getKey());
+      }
+      for (InetAddress address : entry.getValue()) {
+        addresses.add(address.getHostAddress());
+      }
+    }
+    Preconditions.checkState(tunnel.domains.isEmpty() || !addresses.isEmpty(),
+        "No domain of " + tunnel.interfaceName + " resolved");
+    // Domains of different tunnels can share addresses, but a route can only
+    // go through one interface.
+    String name = tunnel.interfaceName;
+    tunnelByAddress.entrySet().removeIf(entry -> entry.getValue().equals(name) && !addresses.contains(entry.getKey()));
+    addresses.removeIf(address -> !tunnelByAddress.computeIfAbsent(address, k -> name).equals(name));
+    Preconditions.checkState(tunnel.domains.isEmpty() || !addresses.isEmpty(),
+        "All addresses of " + name + " are routed through other tunnels");
+    return addresses.toArray(new String[0]);
+  }
 
-    Files.deleteIfExists(PIA_WIREGUARD_CONF_PATH.toPath());
-    Files.writeString(PIA_WIREGUARD_CONF_PATH.toPath(), wireguardConfiguration);
 
-    result = runCommand("", new String[] { "wg-quick", "up", "pia" });
-    Preconditions.checkState(result.exitValue == 0, result);
+  private AddKeyResponse registerKey(PiaServer server, String token, boolean tokenWasCached, String publicKey)
+      throws IOException, InterruptedException {
+    try {
+      return addKey(server, token, publicKey);
+    } catch (IllegalStateException e) {
+      if (!tokenWasCached) {
+        throw e;
+      }
+      logger.info("Cached token rejected, retrying with a new token: " + e.getMessage());
+      return addKey(server, tokenCache.refresh(), publicKey);
+    }
+  }
+
+  public void disconnect() throws IOException, GeneralSecurityException, InterruptedException {
+    forEachTunnel(this::disconnect);
   }
 
-  public void disconnect() throws IOException, InterruptedException {
-    CommandResult result = runCommand("", new String[] { "wg-quick", "down", "pia" });
+  private void disconnect(PiaTunnel tunnel) throws IOException, InterruptedException {
+    if (tunnel.portForwarding != null) {
+      portForwarder.stop(tunnel.interfaceName, tunnel.portForwarding);
+    }
+    if (config.getInterfaceBackend() == Proto.InterfaceBackend.DIRECT) {
+      WireGuardDump dump = readInterface(tunnel);
+      if (dump == null) {
+        return;
+      }
+      // Only the default route of this process marks its packets; the rules of
+      // another VPN's default route are left alone.
+      runIpBatch(InterfaceSetup.getDownCommands(tunnel.interfaceName,
+          dump.fwmark == InterfaceSetup.DEFAULT_ROUTE_TABLE), InterfaceSetup.COMMAND_TIMEOUT);
+      return;
+    }
+    CommandExecutor.Result result = runCommand(InterfaceSetup.COMMAND_TIMEOUT, "",
+        new String[] { "wg-quick", "down", tunnel.interfaceName });
     if (result.exitValue != 0
         && result.stderr.contains("is not a WireGuard interface")) {
       return;
@@ -88,17 +782,71 @@ public class PiaManager {
     Preconditions.checkState(result.exitValue == 0, result);
   }
 
-  private static class TokenResponse {
+  private PiaServer selectServer(PiaTunnel tunnel) throws IOException, GeneralSecurityException, InterruptedException {
+    if (tunnel.serverSelection == null) {
+      return new PiaServer(tunnel.piaWireguardServer, null, null);
+    }
+    ServerListIndex index;
+    try (Timings.Phase phase = timings.begin("serverlist")) {
+      index = serverListCache.get();
+      phase.succeed();
+    }
+    Proto.ServerSelection selection = tunnel.portForwarding != null
+        ? tunnel.serverSelection.toBuilder().setPortForward(true).build()
+        : tunnel.serverSelection;
+    PiaServer server = new ServerSelector(selection, getWireGuardPort()).select(index);
+    trustManager.expectServerName(server.ip, server.hostname);
+    return server;
+  }
+
+  private PiaServer selectStandbyServer(PiaTunnel tunnel, String primaryIp)
+      throws IOException, GeneralSecurityException, InterruptedException {
+    ServerListIndex index = serverListCache.get();
+    PiaServer primary = index.getServerByIp(primaryIp);
+    Proto.ServerSelection selection = tunnel.standby.getServerSelection();
+    if (tunnel.portForwarding != null) {
+      selection = selection.toBuilder().setPortForward(true).build();
+    }
+    PiaServer server = new ServerSelector(selection, getWireGuardPort())
+        .select(index, primary != null ? primary.regionId : null);
+    trustManager.expectServerName(server.ip, server.hostname);
+    return server;
+  }
+
+  private void forwardPort(PiaTunnel tunnel, Registration registration)
+      throws IOException, GeneralSecurityException, InterruptedException {
+    if (tunnel.portForwarding == null) {
+      return;
+    }
+    // The gateway's certificate names the server's common name, which only
+    // the serverlist knows if the server was configured by hostname.
+    String hostname = registration.server.hostname;
+    if (registration.server.ip == null) {
+      PiaServer listed = serverListCache.get().getServerByIp(registration.addKeyResponse.serverIp);
+      if (listed != null) {
+        hostname = listed.hostname;
+      }
+    }
+    try (Timings.Phase phase = timings.begin("portForward", tunnel.interfaceName)) {
+      portForwarder.forward(tunnel.interfaceName, tunnel.portForwarding, hostname,
+          registration.addKeyResponse.serverVip);
+      phase.succeed();
+    }
+  }
+
+  private int getWireGuardPort() {
+    return config.hasPiaWireguardPort() ? config.getPiaWireguardPort() : PIA_DEFAULT_WIREGUARD_PORT;
+  }
+
+  static class TokenResponse {
     String token;
   }
 
-  public String retrieveToken() throws IOException, NoSuchAlgorithmException, KeyManagementException {
+  public String retrieveToken() throws IOException, InterruptedException {
     Map<String, String> params = Maps.newLinkedHashMap();
     params.put("username", config.getPiaUsername());
     params.put("password", config.getPiaPassword());
-    TokenResponse tokenResponse =
-        new pia4java.SimpleRestClient<TokenResponse>(trustManager).post(
-            params, PIA_GET_TOKEN_URL, TokenResponse.class);
+    TokenResponse tokenResponse = restClient.post(params, config.getTokenUrl(), TokenResponse.class);
     return tokenResponse.token;
   }
 
@@ -127,87 +875,44 @@ public class PiaManager {
           .toString();
     }
 
-    String getWireGuardConfiguration(String privateKey, String[] allowedIps) {
-      String allowedIpsCombined = "";
-      if (allowedIps.length > 0) {
-        for (int i = 0; i < allowedIps.length; i++) {
-          if (i > 0) {
-            allowedIpsCombined += ", ";
-          }
-          allowedIpsCombined += allowedIps[i] + "/32";
-        }
-      } else {
-        allowedIpsCombined = "0.0.0.0/0";
-      }
-      return String.format(
-          "[Interface]\n" +
-          "Address = %s\n" +
-          "PrivateKey = %s\n" +
-          "[Peer]\n" +
-          "PublicKey = %s\n" +
-          "AllowedIPs = %s\n" +
-          "Endpoint = %s:%d\n",
-          peerIp,
-          privateKey,
-          serverKey,
-          allowedIpsCombined,
-          serverIp,
-          serverPort
-      );
-    }
-  }
-
-  private AddKeyResponse addKey(String token, String publicKey)
-      throws IOException, NoSuchAlgorithmException, KeyManagementException {
+    static List<String> toAllowedIps(String[] addresses) {
+      return toAllowedIps(addresses, 0);
+    }
+
+    /**
+     * Returns the prefixes to route for {@code addresses}, aggregated into at
+     * most {@code maxPrefixes} if it is positive, or the default route if
+     * there are no addresses.
+     */
+    static List<String> toAllowedIps(String[] addresses, int maxPrefixes) {
+      if (addresses.length == 0) {
+        return List.of(DEFAULT_ROUTE);
+      }
+      return CidrAggregator.aggregate(Arrays.asList(addresses), maxPrefixes);
+    }
+  }
+
+  private AddKeyResponse addKey(PiaServer server, String token, String publicKey)
+      throws IOException, InterruptedException {
     Map<String, String> params = Map.of("pt", token, "pubkey", publicKey);
-    pia4java.SimpleRestClient<AddKeyResponse> client = new pia4java.SimpleRestClient<>(trustManager);
     AddKeyResponse response =
-        client.get(params,
+        restClient.get(params,
             PIA_ADD_KEY_URL_FORMAT_SPEC.formatted(
-                config.getPiaWireguardServer(),
-                config.getPiaWireguardPort()),
+                server.getAddress(),
+                getWireGuardPort()),
             AddKeyResponse.class);
     Preconditions.checkState(response.status.equals("OK"), response.status);
     return response;
   }
 
-  private static class CommandResult {
-    final String stdout;
-    final String stderr;
-    final int exitValue;
-    CommandResult(String stdout, String stderr, int exitValue) {
-      this.stdout = stdout;
-      this.stderr = stderr;
-      this.exitValue = exitValue;
-    }
-
-    @Override
-    public String toString() {
-      return MoreObjects.toStringHelper(this)
-          .add("stdout", stdout)
-          .add("stderr", stderr)
-          .add("exitValue", exitValue)
-          .toString();
-    }
+  private CommandExecutor.Result runCommand(String inputToCommand, String[] command)
+      throws IOException, InterruptedException {
+    return commandExecutor.execute(inputToCommand, command);
   }
 
-  private static final int WAIT_FOR_PROCESS_SECONDS = 5;
-
-  private CommandResult runCommand(String inputToCommand, String[] command)
+  private CommandExecutor.Result runCommand(Duration timeout, String inputToCommand, String[] command)
       throws IOException, InterruptedException {
-    Runtime runtime = Runtime.getRuntime();
-    Process process = runtime.exec(command);
-
-    if (!inputToCommand.isEmpty()) {
-      OutputStream outputStream = process.getOutputStream();
-      outputStream.write(inputToCommand.getBytes(StandardCharsets.UTF_8));
-      outputStream.close();
-    }
-
-    String stderr = new String(process.getErrorStream().readAllBytes()).stripTrailing();
-    String stdout = new String(process.getInputStream().readAllBytes()).stripTrailing();
-    Preconditions.checkState(process.waitFor(WAIT_FOR_PROCESS_SECONDS, TimeUnit.SECONDS));
-    return new CommandResult(stdout, stderr, process.exitValue());
+    return commandExecutor.execute(timeout, inputToCommand, command);
   }
 
   private static Proto.PiaConfig loadConfig(String path) throws IOException {
@@ -0,0 +1,34 @@
+package pia4java;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * A WireGuard server to register with.  When an ip is present, requests are
+ * sent to the ip and the server certificate is matched against the hostname,
+ * which is the common name the serverlist advertises for the server.
+ */
+public class PiaServer {
+  final String hostname;
+  final String ip;
+  final String regionId;
+
+  PiaServer(String hostname, String ip, String regionId) {
+    this.hostname = hostname;
+    this.ip = ip;
+    this.regionId = regionId;
+  }
+
+  String getAddress() {
+    return ip != null ? ip : hostname;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("hostname", hostname)
+        .add("ip", ip)
+        .add("regionId", regionId)
+        .omitNullValues()
+        .toString();
+  }
+}
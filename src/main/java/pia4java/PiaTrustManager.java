@@ -1,75 +1,191 @@
 package pia4java;
 
-import com.google.common.base.Preconditions;
+import com.google.common.collect.ObjectArrays;
 
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.TrustManagerFactory;
-import javax.net.ssl.X509TrustManager;
-import java.io.FileInputStream;
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+import javax.naming.ldap.Rdn;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.X509ExtendedTrustManager;
 import java.io.IOException;
+import java.net.Socket;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.security.KeyStore;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.Certificate;
+import java.security.GeneralSecurityException;
 import java.security.cert.CertificateException;
+import java.security.cert.CertificateParsingException;
 import java.security.cert.X509Certificate;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.logging.Logger;
-
-public class PiaTrustManager implements X509TrustManager {
-  private final Logger logger = Logger.getLogger(getClass().getCanonicalName());
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Trusts only the PIA CA for PIA hosts (the configured WireGuard server and
+ * servers picked from the serverlist) and the JDK's default trust store for
+ * every other host.  Nothing is loaded until the first certificate check, so
+ * commands that never use TLS don't pay for it.
+ */
+public class PiaTrustManager extends X509ExtendedTrustManager {
   // https://github.com/pia-foss/manual-connections/blob/master/ca.rsa.4096.crt
-  private static final String PIA_TRUST_STORE = "props/ca.rsa.4096.crt";
+  private static final Path PIA_TRUST_STORE = Paths.get("props/ca.rsa.4096.crt");
 
-  private final X509TrustManager trustManager;
+  private final Path caPath;
+  private final Path cachePath;
+  private final Set<String> piaHosts = ConcurrentHashMap.newKeySet();
 
-  public PiaTrustManager() throws IOException, KeyStoreException, CertificateException, NoSuchAlgorithmException {
-    KeyStore keyStore = loadDefaultJavaKeystore();
-    List<Certificate> certificates = new pia4java.PemCertificateLoader().loadCertificates(Paths.get(PIA_TRUST_STORE));
+  // PIA WireGuard servers are addressed by ip, but their certificates name the
+  // server's common name from the serverlist.
+  private final Map<String, String> serverNamesByIp = new ConcurrentHashMap<>();
 
-    for (int i = 0; i < certificates.size(); i++) {
-      keyStore.setCertificateEntry("cert-" + i, certificates.get(i));
-    }
+  /**
+   * @param cachePath where the compiled PIA trust store is kept between runs
+   */
+  public PiaTrustManager(Path cachePath) {
+    this(PIA_TRUST_STORE, cachePath);
+  }
 
-    TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-    tmf.init(keyStore);
+  /**
+   * @param caPath PEM file of the CA trusted for PIA hosts
+   * @param cachePath where the compiled trust store is kept between runs
+   */
+  public PiaTrustManager(Path caPath, Path cachePath) {
+    this.caPath = caPath;
+    this.cachePath = cachePath;
+  }
 
-    TrustManager[] trustManagers = tmf.getTrustManagers();
-    Preconditions.checkState(trustManagers.length > 0, "No trust managers found");
-    Preconditions.checkState(trustManagers[0] instanceof X509TrustManager,
-        "Unexpected trust manager type: " + trustManagers[0].getClass().getName());
+  /**
+   * Trusts only the PIA CA when connecting to {@code host}.
+   */
+  public void addPiaHost(String host) {
+    piaHosts.add(host);
+  }
 
-    trustManager = (X509TrustManager) trustManagers[0];
+  /**
+   * Accepts a certificate for {@code serverName} when connecting to {@code ip}.
+   */
+  public void expectServerName(String ip, String serverName) {
+    serverNamesByIp.put(ip, serverName);
   }
 
-  private KeyStore loadDefaultJavaKeystore() throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
-    String javaHome = System.getProperty("java.home");
-    String cacertsPath = System.getProperty(
-        "javax.net.ssl.keyStore", javaHome + "/lib/security/cacerts");
-    String cacertsPassword = System.getProperty(
-        "javax.net.ssl.keyStorePassword", "changeit");
-    KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
-    try (FileInputStream fis = new FileInputStream(cacertsPath)) {
-      keyStore.load(fis, cacertsPassword.toCharArray());
+  private X509ExtendedTrustManager getPiaTrustManager() throws CertificateException {
+    try {
+      return PiaTrustStore.getPiaTrustManager(caPath, cachePath);
+    } catch (IOException | GeneralSecurityException e) {
+      throw new CertificateException("Cannot load the PIA trust store", e);
     }
-    return keyStore;
+  }
+
+  private X509ExtendedTrustManager getDefaultTrustManager() throws CertificateException {
+    try {
+      return PiaTrustStore.getDefaultTrustManager();
+    } catch (GeneralSecurityException e) {
+      throw new CertificateException("Cannot load the default trust store", e);
+    }
+  }
+
+  private X509ExtendedTrustManager getTrustManager(String host) throws CertificateException {
+    return host != null && (piaHosts.contains(host) || serverNamesByIp.containsKey(host))
+        ? getPiaTrustManager()
+        : getDefaultTrustManager();
   }
 
   @Override
   public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
-    trustManager.checkClientTrusted(chain, authType);
+    getDefaultTrustManager().checkClientTrusted(chain, authType);
   }
 
   @Override
   public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+    getDefaultTrustManager().checkServerTrusted(chain, authType);
+  }
+
+  @Override
+  public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket)
+      throws CertificateException {
+    getDefaultTrustManager().checkClientTrusted(chain, authType, socket);
+  }
+
+  @Override
+  public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket)
+      throws CertificateException {
+    String host = socket instanceof SSLSocket sslSocket && sslSocket.getHandshakeSession() != null
+        ? sslSocket.getHandshakeSession().getPeerHost()
+        : null;
+    checkServerTrusted(chain, authType, host, trustManager -> trustManager.checkServerTrusted(chain, authType, socket));
+  }
+
+  @Override
+  public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+      throws CertificateException {
+    getDefaultTrustManager().checkClientTrusted(chain, authType, engine);
+  }
+
+  @Override
+  public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+      throws CertificateException {
+    String host = engine != null ? engine.getPeerHost() : null;
+    checkServerTrusted(chain, authType, host, trustManager -> trustManager.checkServerTrusted(chain, authType, engine));
+  }
+
+  private interface ServerCheck {
+    void check(X509ExtendedTrustManager trustManager) throws CertificateException;
+  }
+
+  private void checkServerTrusted(X509Certificate[] chain, String authType, String host, ServerCheck check)
+      throws CertificateException {
+    X509ExtendedTrustManager trustManager = getTrustManager(host);
+    String serverName = host != null ? serverNamesByIp.get(host) : null;
+    if (serverName == null) {
+      check.check(trustManager);
+      return;
+    }
+    // The connection's host is an ip, so check the chain and the expected
+    // server name rather than the ip.
     trustManager.checkServerTrusted(chain, authType);
+    checkServerName(chain[0], serverName);
+  }
+
+  private static void checkServerName(X509Certificate certificate, String serverName)
+      throws CertificateException {
+    try {
+      for (Rdn rdn : new LdapName(certificate.getSubjectX500Principal().getName()).getRdns()) {
+        if (rdn.getType().equalsIgnoreCase("CN") && serverName.equalsIgnoreCase(rdn.getValue().toString())) {
+          return;
+        }
+      }
+    } catch (InvalidNameException e) {
+      throw new CertificateException(e);
+    }
+    if (hasSubjectAlternativeName(certificate, serverName)) {
+      return;
+    }
+    throw new CertificateException("Certificate does not match " + serverName);
+  }
+
+  private static boolean hasSubjectAlternativeName(X509Certificate certificate, String serverName)
+      throws CertificateParsingException {
+    Collection<List<?>> names = certificate.getSubjectAlternativeNames();
+    if (names == null) {
+      return false;
+    }
+    for (List<?> name : names) {
+      if (name.size() >= 2 && serverName.equalsIgnoreCase(String.valueOf(name.get(1)))) {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
   public X509Certificate[] getAcceptedIssuers() {
-    return Arrays.copyOf(trustManager.getAcceptedIssuers(), trustManager.getAcceptedIssuers().length);
+    try {
+      return ObjectArrays.concat(getPiaTrustManager().getAcceptedIssuers(),
+          getDefaultTrustManager().getAcceptedIssuers(), X509Certificate.class);
+    } catch (CertificateException e) {
+      throw new IllegalStateException(e);
+    }
   }
 }
@@ -0,0 +1,170 @@
+package pia4java;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
+
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Trust managers shared by the whole process, each built on first use.
+ *
+ * <p>The PIA trust manager trusts only the certificates in a PEM file.  The
+ * parsed certificates are kept in a PKCS12 store whose aliases carry the
+ * SHA-256 of the PEM file, so later runs load the store instead of parsing the
+ * PEM, and an edited PEM file is noticed and recompiled.  Within a run the
+ * trust manager is kept, and the PEM file is only read again once its
+ * modification time changes.  The store holds only
+ * public certificates, so it has no password; that also skips the PBKDF2 of a
+ * password protected store, which costs more than parsing the PEM.  It is
+ * readable and writable only by its owner.
+ */
+class PiaTrustStore {
+  private static final Logger logger = Logger.getLogger(PiaTrustStore.class.getCanonicalName());
+
+  private static class Loaded {
+    final FileTime pemModified;
+    final X509ExtendedTrustManager trustManager;
+
+    Loaded(FileTime pemModified, X509ExtendedTrustManager trustManager) {
+      this.pemModified = pemModified;
+      this.trustManager = trustManager;
+    }
+  }
+
+  // By PEM file.  Loading blocks on files, so it doesn't hold a monitor.
+  private static final Map<Path, Loaded> piaTrustManagers = new ConcurrentHashMap<>();
+  private static final Lock piaTrustManagersLock = new ReentrantLock();
+  private static X509ExtendedTrustManager defaultTrustManager;
+
+  private PiaTrustStore() {}
+
+  /**
+   * Returns a trust manager for the certificates in {@code pemPath}, compiled
+   * to (or loaded from) the PKCS12 store at {@code cachePath}.
+   */
+  static X509ExtendedTrustManager getPiaTrustManager(Path pemPath, Path cachePath)
+      throws IOException, GeneralSecurityException {
+    // Taken before the file is read, so an edit during the read is seen next time.
+    FileTime pemModified = Files.getLastModifiedTime(pemPath);
+    Loaded loaded = piaTrustManagers.get(pemPath);
+    if (loaded != null && loaded.pemModified.equals(pemModified)) {
+      return loaded.trustManager;
+    }
+    piaTrustManagersLock.lock();
+    try {
+      loaded = piaTrustManagers.get(pemPath);
+      if (loaded == null || !loaded.pemModified.equals(pemModified)) {
+        loaded = new Loaded(pemModified, createPiaTrustManager(pemPath, cachePath));
+        piaTrustManagers.put(pemPath, loaded);
+      }
+      return loaded.trustManager;
+    } finally {
+      piaTrustManagersLock.unlock();
+    }
+  }
+
+  /**
+   * Like {@link #getPiaTrustManager} but never shared; for benchmarks.
+   */
+  static X509ExtendedTrustManager createPiaTrustManager(Path pemPath, Path cachePath)
+      throws IOException, GeneralSecurityException {
+    byte[] pem = Files.readAllBytes(pemPath);
+    return createTrustManager(loadOrCompile(pem, Hashing.sha256().hashBytes(pem).toString(), cachePath));
+  }
+
+  private static KeyStore loadOrCompile(byte[] pem, String hash, Path cachePath)
+      throws IOException, GeneralSecurityException {
+    KeyStore keyStore = load(cachePath, hash);
+    if (keyStore == null) {
+      keyStore = compile(pem, hash);
+      save(keyStore, cachePath);
+    }
+    return keyStore;
+  }
+
+  /**
+   * Returns the JDK's default trust manager, which trusts the cacerts store.
+   */
+  static synchronized X509ExtendedTrustManager getDefaultTrustManager() throws GeneralSecurityException {
+    if (defaultTrustManager == null) {
+      defaultTrustManager = createTrustManager(null);
+    }
+    return defaultTrustManager;
+  }
+
+  /**
+   * Returns the store at {@code cachePath}, or null if it is missing, unreadable
+   * or was compiled from a different PEM file.
+   */
+  private static KeyStore load(Path cachePath, String hash) {
+    try (InputStream in = Files.newInputStream(cachePath)) {
+      KeyStore keyStore = KeyStore.getInstance("PKCS12");
+      keyStore.load(in, null);
+      List<String> aliases = Collections.list(keyStore.aliases());
+      if (aliases.isEmpty()) {
+        return null;
+      }
+      for (String alias : aliases) {
+        if (!alias.startsWith(hash + "-")) {
+          logger.info("Certificates changed, recompiling " + cachePath);
+          return null;
+        }
+      }
+      return keyStore;
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException | GeneralSecurityException e) {
+      logger.log(Level.WARNING, "Ignoring unreadable " + cachePath, e);
+      return null;
+    }
+  }
+
+  private static KeyStore compile(byte[] pem, String hash) throws IOException, GeneralSecurityException {
+    List<Certificate> certificates = new PemCertificateLoader().loadCertificates(new ByteArrayInputStream(pem));
+    Preconditions.checkState(!certificates.isEmpty(), "No certificates in PIA trust store");
+    KeyStore keyStore = KeyStore.getInstance("PKCS12");
+    keyStore.load(null, null);
+    for (int i = 0; i < certificates.size(); i++) {
+      keyStore.setCertificateEntry(hash + "-" + i, certificates.get(i));
+    }
+    return keyStore;
+  }
+
+  private static void save(KeyStore keyStore, Path cachePath) throws IOException, GeneralSecurityException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    keyStore.store(out, null);
+    AtomicFiles.write(cachePath, out.toByteArray(), true);
+  }
+
+  private static X509ExtendedTrustManager createTrustManager(KeyStore keyStore) throws GeneralSecurityException {
+    TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    tmf.init(keyStore);
+
+    TrustManager[] trustManagers = tmf.getTrustManagers();
+    Preconditions.checkState(trustManagers.length > 0, "No trust managers found");
+    Preconditions.checkState(trustManagers[0] instanceof X509ExtendedTrustManager,
+        "Unexpected trust manager type: " + trustManagers[0].getClass().getName());
+    return (X509ExtendedTrustManager) trustManagers[0];
+  }
+}
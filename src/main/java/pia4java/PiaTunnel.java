@@ -0,0 +1,158 @@
+package pia4java;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One WireGuard interface: the server it connects to and the domains routed
+ * through it.
+ */
+class PiaTunnel {
+  // Prefix of the names of unnamed tunnels.
+  private static final String DEFAULT_INTERFACE = "pia";
+
+  final String interfaceName;
+  final Path configurationPath;
+  final String piaWireguardServer;
+  // Null if the server is not picked from the serverlist.
+  final Proto.ServerSelection serverSelection;
+  final List<String> domains;
+  // Null if no port is forwarded.
+  final Proto.PortForwarding portForwarding;
+  // Null if the daemon keeps no standby.
+  final Proto.Standby standby;
+
+  PiaTunnel(String interfaceName, Path configurationDir, String piaWireguardServer,
+      Proto.ServerSelection serverSelection, List<String> domains, Proto.PortForwarding portForwarding,
+      Proto.Standby standby) {
+    this.interfaceName = interfaceName;
+    this.configurationPath = configurationDir.resolve(interfaceName + ".conf");
+    this.piaWireguardServer = piaWireguardServer;
+    this.serverSelection = serverSelection;
+    this.domains = domains;
+    this.portForwarding = portForwarding;
+    this.standby = standby;
+  }
+
+  /**
+   * Returns the tunnels of {@code config}: its {@code tunnel}s, named pia0..piaN
+   * unless named explicitly, or a single tunnel named {@code interface_name}
+   * built from the top level fields.  {@code sharded_domain}s are added to the
+   * tunnel picked by {@link #shardOf}, as are the top level
+   * {@code domain_list}s if there are {@code tunnel}s.  Their wg-quick
+   * configurations are kept in {@code configurationDir}.
+   */
+  static List<PiaTunnel> fromConfig(Proto.PiaConfig config, Path configurationDir) throws IOException {
+    List<String> shardedDomains = new ArrayList<>(config.getShardedDomainList());
+    List<Proto.Tunnel> tunnelConfigs = config.getTunnelList();
+    if (tunnelConfigs.isEmpty()) {
+      Proto.Tunnel.Builder builder = Proto.Tunnel.newBuilder().setName(config.getInterfaceName());
+      if (config.hasPiaWireguardServer()) {
+        builder.setPiaWireguardServer(config.getPiaWireguardServer());
+      }
+      if (config.hasServerSelection()) {
+        builder.setServerSelection(config.getServerSelection());
+      }
+      if (config.hasTargetDomain()) {
+        builder.addTargetDomain(config.getTargetDomain());
+      }
+      if (config.hasPortForwarding()) {
+        builder.setPortForwarding(config.getPortForwarding());
+      }
+      if (config.hasStandby()) {
+        builder.setStandby(config.getStandby());
+      }
+      builder.addAllDomainList(config.getDomainListList());
+      tunnelConfigs = List.of(builder.build());
+    } else {
+      for (String domainList : config.getDomainListList()) {
+        shardedDomains.addAll(readDomainList(Paths.get(domainList)));
+      }
+    }
+
+    List<Set<String>> domains = new ArrayList<>();
+    for (Proto.Tunnel tunnelConfig : tunnelConfigs) {
+      Set<String> tunnelDomains = new LinkedHashSet<>(tunnelConfig.getTargetDomainList());
+      for (String domainList : tunnelConfig.getDomainListList()) {
+        tunnelDomains.addAll(readDomainList(Paths.get(domainList)));
+      }
+      domains.add(tunnelDomains);
+    }
+    for (String domain : shardedDomains) {
+      domains.get(shardOf(domain, tunnelConfigs.size())).add(domain);
+    }
+
+    List<PiaTunnel> tunnels = new ArrayList<>();
+    Set<String> names = new HashSet<>();
+    for (int i = 0; i < tunnelConfigs.size(); i++) {
+      Proto.Tunnel tunnelConfig = tunnelConfigs.get(i);
+      String name = tunnelConfig.hasName() ? tunnelConfig.getName() : DEFAULT_INTERFACE + i;
+      Preconditions.checkState(names.add(name), "Duplicate tunnel " + name);
+      Preconditions.checkState(tunnelConfig.hasPiaWireguardServer() || tunnelConfig.hasServerSelection(),
+          "Tunnel " + name + " has neither pia_wireguard_server nor server_selection");
+      // Each tunnel without domains would claim the default route.
+      Preconditions.checkState(tunnelConfigs.size() == 1 || !domains.get(i).isEmpty(),
+          "Tunnel " + name + " has no domains");
+      tunnels.add(new PiaTunnel(name, configurationDir,
+          tunnelConfig.hasPiaWireguardServer() ? tunnelConfig.getPiaWireguardServer() : null,
+          tunnelConfig.hasServerSelection() ? tunnelConfig.getServerSelection() : null,
+          List.copyOf(domains.get(i)),
+          tunnelConfig.hasPortForwarding() ? tunnelConfig.getPortForwarding() : null,
+          tunnelConfig.hasStandby() ? tunnelConfig.getStandby() : null));
+    }
+    return tunnels;
+  }
+
+  /**
+   * Reads a file of domains, one per line.  Blank lines and anything after a
+   * "#" are ignored.
+   */
+  static List<String> readDomainList(Path path) throws IOException {
+    Set<String> domains = new LinkedHashSet<>();
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int comment = line.indexOf('#');
+        String domain = (comment >= 0 ? line.substring(0, comment) : line).trim();
+        if (!domain.isEmpty()) {
+          domains.add(DnsMessage.normalize(domain));
+        }
+      }
+    }
+    return List.copyOf(domains);
+  }
+
+  /**
+   * Returns the index of the tunnel that carries {@code domain}.  Adding a
+   * tunnel at the end moves only the domains the new tunnel takes over.
+   */
+  static int shardOf(String domain, int tunnelCount) {
+    return Hashing.consistentHash(
+        Hashing.murmur3_128().hashString(DnsMessage.normalize(domain), StandardCharsets.UTF_8), tunnelCount);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("interfaceName", interfaceName)
+        .add("piaWireguardServer", piaWireguardServer)
+        .add("domains", domains.size())
+        .add("portForwarding", portForwarding != null)
+        .add("standby", standby != null)
+        .omitNullValues()
+        .toString();
+  }
+}
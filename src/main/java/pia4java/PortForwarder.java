@@ -0,0 +1,229 @@
+package pia4java;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Forwards a port through a tunnel with PIA's getSignature and bindPort API,
+ * served by the server's gateway inside the tunnel.  A binding lapses unless
+ * bindPort is called again every 15 minutes.  Every binding is renewed from
+ * one shared scheduler, and each renewal is an asynchronous request, so many
+ * ports need no thread of their own.
+ *
+ * <p>The signed payload is kept in the cache directory and reused while it is
+ * valid, so the same port survives restarting this process.  The port is
+ * written to a file for the services that accept inbound connections.
+ */
+public class PortForwarder {
+  private final Logger logger = Logger.getLogger(getClass().getCanonicalName());
+
+  private static final String GET_SIGNATURE_URL_FORMAT_SPEC = "https://%s:%d/getSignature";
+  private static final String BIND_PORT_URL_FORMAT_SPEC = "https://%s:%d/bindPort";
+  private static final Duration BIND_INTERVAL = Duration.ofMinutes(15);
+  // A payload this close to expiry is replaced by a new one, with a new port.
+  private static final Duration EXPIRY_MARGIN = Duration.ofDays(1);
+
+  static class SignatureResponse {
+    String status;
+    String payload;
+    String signature;
+  }
+
+  // The base64 JSON payload of a SignatureResponse.
+  static class Payload {
+    int port;
+    String expiresAt;
+  }
+
+  static class BindPortResponse {
+    String status;
+    String message;
+  }
+
+  private static class Binding {
+    final String interfaceName;
+    final Proto.PortForwarding config;
+    final Proto.ForwardedPort forwardedPort;
+    ScheduledFuture<?> renewal;
+
+    Binding(String interfaceName, Proto.PortForwarding config, Proto.ForwardedPort forwardedPort) {
+      this.interfaceName = interfaceName;
+      this.config = config;
+      this.forwardedPort = forwardedPort;
+    }
+  }
+
+  private final SimpleRestClient restClient;
+  private final PiaTrustManager trustManager;
+  private final TokenCache tokenCache;
+  private final Path cacheDir;
+  private final Map<String, Binding> bindings = new ConcurrentHashMap<>();
+  private ScheduledExecutorService executor;
+
+  public PortForwarder(SimpleRestClient restClient, PiaTrustManager trustManager, TokenCache tokenCache,
+      Path cacheDir) {
+    this.restClient = restClient;
+    this.trustManager = trustManager;
+    this.tokenCache = tokenCache;
+    this.cacheDir = cacheDir;
+  }
+
+  /**
+   * Forwards a port through {@code interfaceName} and binds it.  The server's
+   * gateway is {@code gateway} and its certificate names {@code hostname}.
+   * Returns the port.
+   */
+  public int forward(String interfaceName, Proto.PortForwarding config, String hostname, String gateway)
+      throws IOException, InterruptedException {
+    trustManager.expectServerName(gateway, hostname);
+    Path statePath = cacheDir.resolve(interfaceName + "-port.txt");
+    Proto.ForwardedPort.Builder builder = Proto.ForwardedPort.newBuilder();
+    Proto.ForwardedPort forwardedPort;
+    if (TextProtoFiles.merge(statePath, builder)
+        && builder.getHostname().equals(hostname) && builder.getGateway().equals(gateway)
+        && !isExpiring(builder.build())) {
+      forwardedPort = builder.build();
+    } else {
+      forwardedPort = getSignature(hostname, gateway, config.getApiPort());
+      TextProtoFiles.write(statePath, forwardedPort, true);
+    }
+    try {
+      bindAsync(forwardedPort, config.getApiPort()).get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException ioException) {
+        throw ioException.getCause();
+      } else if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      } else if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+    AtomicFiles.write(getPortFile(interfaceName, config),
+        (forwardedPort.getPort() + "\n").getBytes(StandardCharsets.UTF_8), false);
+    logger.info("Forwarded port " + forwardedPort.getPort() + " through " + interfaceName);
+
+    Binding binding = new Binding(interfaceName, config, forwardedPort);
+    synchronized (this) {
+      cancel(bindings.put(interfaceName, binding));
+      if (executor != null) {
+        scheduleRenewal(binding);
+      }
+    }
+    return forwardedPort.getPort();
+  }
+
+  /**
+   * Stops renewing the port forwarded through {@code interfaceName} and
+   * deletes its port file.
+   */
+  public void stop(String interfaceName, Proto.PortForwarding config) throws IOException {
+    synchronized (this) {
+      cancel(bindings.remove(interfaceName));
+    }
+    Files.deleteIfExists(getPortFile(interfaceName, config));
+  }
+
+  /**
+   * Renews every binding, current and future, every 15 minutes for as long as
+   * {@code executor} runs.
+   */
+  public synchronized void scheduleRenewals(ScheduledExecutorService executor) {
+    this.executor = executor;
+    for (Binding binding : bindings.values()) {
+      scheduleRenewal(binding);
+    }
+  }
+
+  private void scheduleRenewal(Binding binding) {
+    long intervalMillis = BIND_INTERVAL.toMillis();
+    binding.renewal = executor.scheduleAtFixedRate(
+        () -> renew(binding), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private static void cancel(Binding binding) {
+    if (binding != null && binding.renewal != null) {
+      binding.renewal.cancel(false);
+    }
+  }
+
+  private void renew(Binding binding) {
+    Proto.ForwardedPort forwardedPort = binding.forwardedPort;
+    if (isExpiring(forwardedPort)) {
+      // Getting a new payload needs a token, so it runs off the scheduler.
+      Thread.ofVirtual().name("port-forward-" + binding.interfaceName).start(() -> {
+        try {
+          forward(binding.interfaceName, binding.config, forwardedPort.getHostname(), forwardedPort.getGateway());
+        } catch (IOException | RuntimeException e) {
+          logger.log(Level.WARNING, "Unable to forward a new port through " + binding.interfaceName, e);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      return;
+    }
+    bindAsync(forwardedPort, binding.config.getApiPort()).whenComplete((response, failure) -> {
+      if (failure != null) {
+        logger.log(Level.WARNING, "Unable to renew port " + forwardedPort.getPort()
+            + " through " + binding.interfaceName, failure);
+      } else {
+        logger.fine("Renewed port " + forwardedPort.getPort() + " through " + binding.interfaceName);
+      }
+    });
+  }
+
+  private Proto.ForwardedPort getSignature(String hostname, String gateway, int apiPort)
+      throws IOException, InterruptedException {
+    SignatureResponse response = restClient.get(Map.of("token", tokenCache.getToken()),
+        GET_SIGNATURE_URL_FORMAT_SPEC.formatted(gateway, apiPort), SignatureResponse.class);
+    Preconditions.checkState("OK".equals(response.status), "getSignature failed: " + response.status);
+    Payload payload = JsonAdapters.GSON.fromJson(
+        new String(Base64.getDecoder().decode(response.payload), StandardCharsets.UTF_8), Payload.class);
+    return Proto.ForwardedPort.newBuilder()
+        .setHostname(hostname)
+        .setGateway(gateway)
+        .setPayload(response.payload)
+        .setSignature(response.signature)
+        .setPort(payload.port)
+        .setExpiresEpochMillis(Instant.parse(payload.expiresAt).toEpochMilli())
+        .build();
+  }
+
+  private CompletableFuture<BindPortResponse> bindAsync(Proto.ForwardedPort forwardedPort, int apiPort) {
+    return restClient.getAsync(
+            Map.of("payload", forwardedPort.getPayload(), "signature", forwardedPort.getSignature()),
+            BIND_PORT_URL_FORMAT_SPEC.formatted(forwardedPort.getGateway(), apiPort),
+            BindPortResponse.class)
+        .thenApply(response -> {
+          Preconditions.checkState("OK".equals(response.status),
+              "bindPort failed: " + response.status + " " + response.message);
+          return response;
+        });
+  }
+
+  private static boolean isExpiring(Proto.ForwardedPort forwardedPort) {
+    return forwardedPort.getExpiresEpochMillis() - EXPIRY_MARGIN.toMillis() <= System.currentTimeMillis();
+  }
+
+  private Path getPortFile(String interfaceName, Proto.PortForwarding config) {
+    return config.hasPortFile() ? Paths.get(config.getPortFile()) : cacheDir.resolve(interfaceName + ".port");
+  }
+}
@@ -14,113 +14,231 @@ public final class Proto {
     registerAllExtensions(
         (com.google.protobuf.ExtensionRegistryLite) registry);
   }
-  public interface PiaConfigOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:pia4java.PiaConfig)
-      com.google.protobuf.MessageOrBuilder {
-
+  /**
+   * Protobuf enum {@code pia4java.InterfaceBackend}
+   */
+  public enum InterfaceBackend
+      implements com.google.protobuf.ProtocolMessageEnum {
     /**
-     * <code>optional string pia_wireguard_server = 1;</code>
-     * @return Whether the piaWireguardServer field is set.
+     * <pre>
+     * Runs wg-quick with the configuration written to /etc/wireguard.
+     * </pre>
+     *
+     * <code>WG_QUICK = 1;</code>
      */
-    boolean hasPiaWireguardServer();
+    WG_QUICK(1),
     /**
-     * <code>optional string pia_wireguard_server = 1;</code>
-     * @return The piaWireguardServer.
+     * <pre>
+     * Sets the interface up with one ip -batch and one wg setconf.
+     * </pre>
+     *
+     * <code>DIRECT = 2;</code>
      */
-    java.lang.String getPiaWireguardServer();
+    DIRECT(2),
+    ;
+
     /**
-     * <code>optional string pia_wireguard_server = 1;</code>
-     * @return The bytes for piaWireguardServer.
+     * <pre>
+     * Runs wg-quick with the configuration written to /etc/wireguard.
+     * </pre>
+     *
+     * <code>WG_QUICK = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getPiaWireguardServerBytes();
+    public static final int WG_QUICK_VALUE = 1;
+    /**
+     * <pre>
+     * Sets the interface up with one ip -batch and one wg setconf.
+     * </pre>
+     *
+     * <code>DIRECT = 2;</code>
+     */
+    public static final int DIRECT_VALUE = 2;
+
+
+    public final int getNumber() {
+      return value;
+    }
 
     /**
-     * <code>optional int32 pia_wireguard_port = 2;</code>
-     * @return Whether the piaWireguardPort field is set.
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
      */
-    boolean hasPiaWireguardPort();
+    @java.lang.Deprecated
+    public static InterfaceBackend valueOf(int value) {
+      return forNumber(value);
+    }
+
     /**
-     * <code>optional int32 pia_wireguard_port = 2;</code>
-     * @return The piaWireguardPort.
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
      */
-    int getPiaWireguardPort();
+    public static InterfaceBackend forNumber(int value) {
+      switch (value) {
+        case 1: return WG_QUICK;
+        case 2: return DIRECT;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<InterfaceBackend>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        InterfaceBackend> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<InterfaceBackend>() {
+            public InterfaceBackend findValueByNumber(int number) {
+              return InterfaceBackend.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return pia4java.Proto.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final InterfaceBackend[] VALUES = values();
+
+    public static InterfaceBackend valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private InterfaceBackend(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:pia4java.InterfaceBackend)
+  }
+
+  public interface ServerSelectionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.ServerSelection)
+      com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string pia_username = 3;</code>
-     * @return Whether the piaUsername field is set.
+     * <pre>
+     * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+     * All regions are candidates when empty.
+     * </pre>
+     *
+     * <code>repeated string region = 1;</code>
+     * @return A list containing the region.
      */
-    boolean hasPiaUsername();
+    java.util.List<java.lang.String>
+        getRegionList();
     /**
-     * <code>optional string pia_username = 3;</code>
-     * @return The piaUsername.
+     * <pre>
+     * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+     * All regions are candidates when empty.
+     * </pre>
+     *
+     * <code>repeated string region = 1;</code>
+     * @return The count of region.
      */
-    java.lang.String getPiaUsername();
+    int getRegionCount();
     /**
-     * <code>optional string pia_username = 3;</code>
-     * @return The bytes for piaUsername.
+     * <pre>
+     * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+     * All regions are candidates when empty.
+     * </pre>
+     *
+     * <code>repeated string region = 1;</code>
+     * @param index The index of the element to return.
+     * @return The region at the given index.
+     */
+    java.lang.String getRegion(int index);
+    /**
+     * <pre>
+     * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+     * All regions are candidates when empty.
+     * </pre>
+     *
+     * <code>repeated string region = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the region at the given index.
      */
     com.google.protobuf.ByteString
-        getPiaUsernameBytes();
+        getRegionBytes(int index);
 
     /**
-     * <code>optional string pia_password = 4;</code>
-     * @return Whether the piaPassword field is set.
+     * <code>optional int32 probe_budget_ms = 2 [default = 2000];</code>
+     * @return Whether the probeBudgetMs field is set.
      */
-    boolean hasPiaPassword();
+    boolean hasProbeBudgetMs();
     /**
-     * <code>optional string pia_password = 4;</code>
-     * @return The piaPassword.
+     * <code>optional int32 probe_budget_ms = 2 [default = 2000];</code>
+     * @return The probeBudgetMs.
      */
-    java.lang.String getPiaPassword();
+    int getProbeBudgetMs();
+
     /**
-     * <code>optional string pia_password = 4;</code>
-     * @return The bytes for piaPassword.
+     * <code>optional int32 max_probes = 3 [default = 32];</code>
+     * @return Whether the maxProbes field is set.
      */
-    com.google.protobuf.ByteString
-        getPiaPasswordBytes();
-
+    boolean hasMaxProbes();
     /**
-     * <code>optional string target_domain = 5;</code>
-     * @return Whether the targetDomain field is set.
+     * <code>optional int32 max_probes = 3 [default = 32];</code>
+     * @return The maxProbes.
      */
-    boolean hasTargetDomain();
+    int getMaxProbes();
+
     /**
-     * <code>optional string target_domain = 5;</code>
-     * @return The targetDomain.
+     * <pre>
+     * Only consider regions that support port forwarding.
+     * </pre>
+     *
+     * <code>optional bool port_forward = 4;</code>
+     * @return Whether the portForward field is set.
      */
-    java.lang.String getTargetDomain();
+    boolean hasPortForward();
     /**
-     * <code>optional string target_domain = 5;</code>
-     * @return The bytes for targetDomain.
+     * <pre>
+     * Only consider regions that support port forwarding.
+     * </pre>
+     *
+     * <code>optional bool port_forward = 4;</code>
+     * @return The portForward.
      */
-    com.google.protobuf.ByteString
-        getTargetDomainBytes();
+    boolean getPortForward();
   }
   /**
-   * Protobuf type {@code pia4java.PiaConfig}
+   * Protobuf type {@code pia4java.ServerSelection}
    */
-  public static final class PiaConfig extends
+  public static final class ServerSelection extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:pia4java.PiaConfig)
-      PiaConfigOrBuilder {
+      // @@protoc_insertion_point(message_implements:pia4java.ServerSelection)
+      ServerSelectionOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use PiaConfig.newBuilder() to construct.
-    private PiaConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ServerSelection.newBuilder() to construct.
+    private ServerSelection(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private PiaConfig() {
-      piaWireguardServer_ = "";
-      piaUsername_ = "";
-      piaPassword_ = "";
-      targetDomain_ = "";
+    private ServerSelection() {
+      region_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      probeBudgetMs_ = 2000;
+      maxProbes_ = 32;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new PiaConfig();
+      return new ServerSelection();
     }
 
     @java.lang.Override
@@ -128,7 +246,7 @@ public final class Proto {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private PiaConfig(
+    private ServerSelection(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -149,31 +267,26 @@ public final class Proto {
               break;
             case 10: {
               com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              piaWireguardServer_ = bs;
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                region_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              region_.add(bs);
               break;
             }
             case 16: {
-              bitField0_ |= 0x00000002;
-              piaWireguardPort_ = input.readInt32();
-              break;
-            }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000004;
-              piaUsername_ = bs;
+              bitField0_ |= 0x00000001;
+              probeBudgetMs_ = input.readInt32();
               break;
             }
-            case 34: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000008;
-              piaPassword_ = bs;
+            case 24: {
+              bitField0_ |= 0x00000002;
+              maxProbes_ = input.readInt32();
               break;
             }
-            case 42: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000010;
-              targetDomain_ = bs;
+            case 32: {
+              bitField0_ |= 0x00000004;
+              portForward_ = input.readBool();
               break;
             }
             default: {
@@ -191,263 +304,172 @@ public final class Proto {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          region_ = region_.getUnmodifiableView();
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return pia4java.Proto.internal_static_pia4java_PiaConfig_descriptor;
+      return pia4java.Proto.internal_static_pia4java_ServerSelection_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return pia4java.Proto.internal_static_pia4java_PiaConfig_fieldAccessorTable
+      return pia4java.Proto.internal_static_pia4java_ServerSelection_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              pia4java.Proto.PiaConfig.class, pia4java.Proto.PiaConfig.Builder.class);
+              pia4java.Proto.ServerSelection.class, pia4java.Proto.ServerSelection.Builder.class);
     }
 
     private int bitField0_;
-    public static final int PIA_WIREGUARD_SERVER_FIELD_NUMBER = 1;
-    private volatile java.lang.Object piaWireguardServer_;
+    public static final int REGION_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList region_;
     /**
-     * <code>optional string pia_wireguard_server = 1;</code>
-     * @return Whether the piaWireguardServer field is set.
+     * <pre>
+     * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+     * All regions are candidates when empty.
+     * </pre>
+     *
+     * <code>repeated string region = 1;</code>
+     * @return A list containing the region.
      */
-    @java.lang.Override
-    public boolean hasPiaWireguardServer() {
-      return ((bitField0_ & 0x00000001) != 0);
+    public com.google.protobuf.ProtocolStringList
+        getRegionList() {
+      return region_;
     }
     /**
-     * <code>optional string pia_wireguard_server = 1;</code>
-     * @return The piaWireguardServer.
+     * <pre>
+     * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+     * All regions are candidates when empty.
+     * </pre>
+     *
+     * <code>repeated string region = 1;</code>
+     * @return The count of region.
      */
-    @java.lang.Override
-    public java.lang.String getPiaWireguardServer() {
-      java.lang.Object ref = piaWireguardServer_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          piaWireguardServer_ = s;
-        }
-        return s;
-      }
+    public int getRegionCount() {
+      return region_.size();
     }
     /**
-     * <code>optional string pia_wireguard_server = 1;</code>
-     * @return The bytes for piaWireguardServer.
+     * <pre>
+     * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+     * All regions are candidates when empty.
+     * </pre>
+     *
+     * <code>repeated string region = 1;</code>
+     * @param index The index of the element to return.
+     * @return The region at the given index.
+     */
+    public java.lang.String getRegion(int index) {
+      return region_.get(index);
+    }
+    /**
+     * <pre>
+     * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+     * All regions are candidates when empty.
+     * </pre>
+     *
+     * <code>repeated string region = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the region at the given index.
      */
-    @java.lang.Override
     public com.google.protobuf.ByteString
-        getPiaWireguardServerBytes() {
-      java.lang.Object ref = piaWireguardServer_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        piaWireguardServer_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+        getRegionBytes(int index) {
+      return region_.getByteString(index);
     }
 
-    public static final int PIA_WIREGUARD_PORT_FIELD_NUMBER = 2;
-    private int piaWireguardPort_;
+    public static final int PROBE_BUDGET_MS_FIELD_NUMBER = 2;
+    private int probeBudgetMs_;
     /**
-     * <code>optional int32 pia_wireguard_port = 2;</code>
-     * @return Whether the piaWireguardPort field is set.
+     * <code>optional int32 probe_budget_ms = 2 [default = 2000];</code>
+     * @return Whether the probeBudgetMs field is set.
      */
     @java.lang.Override
-    public boolean hasPiaWireguardPort() {
-      return ((bitField0_ & 0x00000002) != 0);
+    public boolean hasProbeBudgetMs() {
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>optional int32 pia_wireguard_port = 2;</code>
-     * @return The piaWireguardPort.
+     * <code>optional int32 probe_budget_ms = 2 [default = 2000];</code>
+     * @return The probeBudgetMs.
      */
     @java.lang.Override
-    public int getPiaWireguardPort() {
-      return piaWireguardPort_;
+    public int getProbeBudgetMs() {
+      return probeBudgetMs_;
     }
 
-    public static final int PIA_USERNAME_FIELD_NUMBER = 3;
-    private volatile java.lang.Object piaUsername_;
+    public static final int MAX_PROBES_FIELD_NUMBER = 3;
+    private int maxProbes_;
     /**
-     * <code>optional string pia_username = 3;</code>
-     * @return Whether the piaUsername field is set.
+     * <code>optional int32 max_probes = 3 [default = 32];</code>
+     * @return Whether the maxProbes field is set.
      */
     @java.lang.Override
-    public boolean hasPiaUsername() {
-      return ((bitField0_ & 0x00000004) != 0);
+    public boolean hasMaxProbes() {
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
-     * <code>optional string pia_username = 3;</code>
-     * @return The piaUsername.
+     * <code>optional int32 max_probes = 3 [default = 32];</code>
+     * @return The maxProbes.
      */
     @java.lang.Override
-    public java.lang.String getPiaUsername() {
-      java.lang.Object ref = piaUsername_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          piaUsername_ = s;
-        }
-        return s;
-      }
+    public int getMaxProbes() {
+      return maxProbes_;
     }
+
+    public static final int PORT_FORWARD_FIELD_NUMBER = 4;
+    private boolean portForward_;
     /**
-     * <code>optional string pia_username = 3;</code>
-     * @return The bytes for piaUsername.
+     * <pre>
+     * Only consider regions that support port forwarding.
+     * </pre>
+     *
+     * <code>optional bool port_forward = 4;</code>
+     * @return Whether the portForward field is set.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString
-        getPiaUsernameBytes() {
-      java.lang.Object ref = piaUsername_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        piaUsername_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public boolean hasPortForward() {
+      return ((bitField0_ & 0x00000004) != 0);
     }
-
-    public static final int PIA_PASSWORD_FIELD_NUMBER = 4;
-    private volatile java.lang.Object piaPassword_;
     /**
-     * <code>optional string pia_password = 4;</code>
-     * @return Whether the piaPassword field is set.
+     * <pre>
+     * Only consider regions that support port forwarding.
+     * </pre>
+     *
+     * <code>optional bool port_forward = 4;</code>
+     * @return The portForward.
      */
     @java.lang.Override
-    public boolean hasPiaPassword() {
-      return ((bitField0_ & 0x00000008) != 0);
+    public boolean getPortForward() {
+      return portForward_;
     }
-    /**
-     * <code>optional string pia_password = 4;</code>
-     * @return The piaPassword.
-     */
+
+    private byte memoizedIsInitialized = -1;
     @java.lang.Override
-    public java.lang.String getPiaPassword() {
-      java.lang.Object ref = piaPassword_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          piaPassword_ = s;
-        }
-        return s;
-      }
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
     }
-    /**
-     * <code>optional string pia_password = 4;</code>
-     * @return The bytes for piaPassword.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getPiaPasswordBytes() {
-      java.lang.Object ref = piaPassword_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        piaPassword_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int TARGET_DOMAIN_FIELD_NUMBER = 5;
-    private volatile java.lang.Object targetDomain_;
-    /**
-     * <code>optional string target_domain = 5;</code>
-     * @return Whether the targetDomain field is set.
-     */
-    @java.lang.Override
-    public boolean hasTargetDomain() {
-      return ((bitField0_ & 0x00000010) != 0);
-    }
-    /**
-     * <code>optional string target_domain = 5;</code>
-     * @return The targetDomain.
-     */
-    @java.lang.Override
-    public java.lang.String getTargetDomain() {
-      java.lang.Object ref = targetDomain_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          targetDomain_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>optional string target_domain = 5;</code>
-     * @return The bytes for targetDomain.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getTargetDomainBytes() {
-      java.lang.Object ref = targetDomain_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        targetDomain_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
+
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      for (int i = 0; i < region_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, region_.getRaw(i));
+      }
       if (((bitField0_ & 0x00000001) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, piaWireguardServer_);
+        output.writeInt32(2, probeBudgetMs_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeInt32(2, piaWireguardPort_);
+        output.writeInt32(3, maxProbes_);
       }
       if (((bitField0_ & 0x00000004) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, piaUsername_);
-      }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, piaPassword_);
-      }
-      if (((bitField0_ & 0x00000010) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, targetDomain_);
+        output.writeBool(4, portForward_);
       }
       unknownFields.writeTo(output);
     }
@@ -458,21 +480,25 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < region_.size(); i++) {
+          dataSize += computeStringSizeNoTag(region_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRegionList().size();
+      }
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, piaWireguardServer_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, probeBudgetMs_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, piaWireguardPort_);
+          .computeInt32Size(3, maxProbes_);
       }
       if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, piaUsername_);
-      }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, piaPassword_);
-      }
-      if (((bitField0_ & 0x00000010) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, targetDomain_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, portForward_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -484,35 +510,27 @@ public final class Proto {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof pia4java.Proto.PiaConfig)) {
+      if (!(obj instanceof pia4java.Proto.ServerSelection)) {
         return super.equals(obj);
       }
-      pia4java.Proto.PiaConfig other = (pia4java.Proto.PiaConfig) obj;
+      pia4java.Proto.ServerSelection other = (pia4java.Proto.ServerSelection) obj;
 
-      if (hasPiaWireguardServer() != other.hasPiaWireguardServer()) return false;
-      if (hasPiaWireguardServer()) {
-        if (!getPiaWireguardServer()
-            .equals(other.getPiaWireguardServer())) return false;
-      }
-      if (hasPiaWireguardPort() != other.hasPiaWireguardPort()) return false;
-      if (hasPiaWireguardPort()) {
-        if (getPiaWireguardPort()
-            != other.getPiaWireguardPort()) return false;
-      }
-      if (hasPiaUsername() != other.hasPiaUsername()) return false;
-      if (hasPiaUsername()) {
-        if (!getPiaUsername()
-            .equals(other.getPiaUsername())) return false;
+      if (!getRegionList()
+          .equals(other.getRegionList())) return false;
+      if (hasProbeBudgetMs() != other.hasProbeBudgetMs()) return false;
+      if (hasProbeBudgetMs()) {
+        if (getProbeBudgetMs()
+            != other.getProbeBudgetMs()) return false;
       }
-      if (hasPiaPassword() != other.hasPiaPassword()) return false;
-      if (hasPiaPassword()) {
-        if (!getPiaPassword()
-            .equals(other.getPiaPassword())) return false;
+      if (hasMaxProbes() != other.hasMaxProbes()) return false;
+      if (hasMaxProbes()) {
+        if (getMaxProbes()
+            != other.getMaxProbes()) return false;
       }
-      if (hasTargetDomain() != other.hasTargetDomain()) return false;
-      if (hasTargetDomain()) {
-        if (!getTargetDomain()
-            .equals(other.getTargetDomain())) return false;
+      if (hasPortForward() != other.hasPortForward()) return false;
+      if (hasPortForward()) {
+        if (getPortForward()
+            != other.getPortForward()) return false;
       }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
@@ -525,94 +543,91 @@ public final class Proto {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasPiaWireguardServer()) {
-        hash = (37 * hash) + PIA_WIREGUARD_SERVER_FIELD_NUMBER;
-        hash = (53 * hash) + getPiaWireguardServer().hashCode();
-      }
-      if (hasPiaWireguardPort()) {
-        hash = (37 * hash) + PIA_WIREGUARD_PORT_FIELD_NUMBER;
-        hash = (53 * hash) + getPiaWireguardPort();
+      if (getRegionCount() > 0) {
+        hash = (37 * hash) + REGION_FIELD_NUMBER;
+        hash = (53 * hash) + getRegionList().hashCode();
       }
-      if (hasPiaUsername()) {
-        hash = (37 * hash) + PIA_USERNAME_FIELD_NUMBER;
-        hash = (53 * hash) + getPiaUsername().hashCode();
+      if (hasProbeBudgetMs()) {
+        hash = (37 * hash) + PROBE_BUDGET_MS_FIELD_NUMBER;
+        hash = (53 * hash) + getProbeBudgetMs();
       }
-      if (hasPiaPassword()) {
-        hash = (37 * hash) + PIA_PASSWORD_FIELD_NUMBER;
-        hash = (53 * hash) + getPiaPassword().hashCode();
+      if (hasMaxProbes()) {
+        hash = (37 * hash) + MAX_PROBES_FIELD_NUMBER;
+        hash = (53 * hash) + getMaxProbes();
       }
-      if (hasTargetDomain()) {
-        hash = (37 * hash) + TARGET_DOMAIN_FIELD_NUMBER;
-        hash = (53 * hash) + getTargetDomain().hashCode();
+      if (hasPortForward()) {
+        hash = (37 * hash) + PORT_FORWARD_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getPortForward());
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static pia4java.Proto.PiaConfig parseFrom(
+    public static pia4java.Proto.ServerSelection parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static pia4java.Proto.PiaConfig parseFrom(
+    public static pia4java.Proto.ServerSelection parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static pia4java.Proto.PiaConfig parseFrom(
+    public static pia4java.Proto.ServerSelection parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static pia4java.Proto.PiaConfig parseFrom(
+    public static pia4java.Proto.ServerSelection parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static pia4java.Proto.PiaConfig parseFrom(byte[] data)
+    public static pia4java.Proto.ServerSelection parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static pia4java.Proto.PiaConfig parseFrom(
+    public static pia4java.Proto.ServerSelection parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static pia4java.Proto.PiaConfig parseFrom(java.io.InputStream input)
+    public static pia4java.Proto.ServerSelection parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static pia4java.Proto.PiaConfig parseFrom(
+    public static pia4java.Proto.ServerSelection parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static pia4java.Proto.PiaConfig parseDelimitedFrom(java.io.InputStream input)
+    public static pia4java.Proto.ServerSelection parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static pia4java.Proto.PiaConfig parseDelimitedFrom(
+    public static pia4java.Proto.ServerSelection parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static pia4java.Proto.PiaConfig parseFrom(
+    public static pia4java.Proto.ServerSelection parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static pia4java.Proto.PiaConfig parseFrom(
+    public static pia4java.Proto.ServerSelection parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -625,7 +640,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(pia4java.Proto.PiaConfig prototype) {
+    public static Builder newBuilder(pia4java.Proto.ServerSelection prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -641,26 +656,26 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code pia4java.PiaConfig}
+     * Protobuf type {@code pia4java.ServerSelection}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:pia4java.PiaConfig)
-        pia4java.Proto.PiaConfigOrBuilder {
+        // @@protoc_insertion_point(builder_implements:pia4java.ServerSelection)
+        pia4java.Proto.ServerSelectionOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return pia4java.Proto.internal_static_pia4java_PiaConfig_descriptor;
+        return pia4java.Proto.internal_static_pia4java_ServerSelection_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return pia4java.Proto.internal_static_pia4java_PiaConfig_fieldAccessorTable
+        return pia4java.Proto.internal_static_pia4java_ServerSelection_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                pia4java.Proto.PiaConfig.class, pia4java.Proto.PiaConfig.Builder.class);
+                pia4java.Proto.ServerSelection.class, pia4java.Proto.ServerSelection.Builder.class);
       }
 
-      // Construct using pia4java.Proto.PiaConfig.newBuilder()
+      // Construct using pia4java.Proto.ServerSelection.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -678,33 +693,31 @@ public final class Proto {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        piaWireguardServer_ = "";
+        region_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
-        piaWireguardPort_ = 0;
+        probeBudgetMs_ = 2000;
         bitField0_ = (bitField0_ & ~0x00000002);
-        piaUsername_ = "";
+        maxProbes_ = 32;
         bitField0_ = (bitField0_ & ~0x00000004);
-        piaPassword_ = "";
+        portForward_ = false;
         bitField0_ = (bitField0_ & ~0x00000008);
-        targetDomain_ = "";
-        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return pia4java.Proto.internal_static_pia4java_PiaConfig_descriptor;
+        return pia4java.Proto.internal_static_pia4java_ServerSelection_descriptor;
       }
 
       @java.lang.Override
-      public pia4java.Proto.PiaConfig getDefaultInstanceForType() {
-        return pia4java.Proto.PiaConfig.getDefaultInstance();
+      public pia4java.Proto.ServerSelection getDefaultInstanceForType() {
+        return pia4java.Proto.ServerSelection.getDefaultInstance();
       }
 
       @java.lang.Override
-      public pia4java.Proto.PiaConfig build() {
-        pia4java.Proto.PiaConfig result = buildPartial();
+      public pia4java.Proto.ServerSelection build() {
+        pia4java.Proto.ServerSelection result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -712,30 +725,27 @@ public final class Proto {
       }
 
       @java.lang.Override
-      public pia4java.Proto.PiaConfig buildPartial() {
-        pia4java.Proto.PiaConfig result = new pia4java.Proto.PiaConfig(this);
+      public pia4java.Proto.ServerSelection buildPartial() {
+        pia4java.Proto.ServerSelection result = new pia4java.Proto.ServerSelection(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          to_bitField0_ |= 0x00000001;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          region_ = region_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
         }
-        result.piaWireguardServer_ = piaWireguardServer_;
+        result.region_ = region_;
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.piaWireguardPort_ = piaWireguardPort_;
-          to_bitField0_ |= 0x00000002;
+          to_bitField0_ |= 0x00000001;
         }
+        result.probeBudgetMs_ = probeBudgetMs_;
         if (((from_bitField0_ & 0x00000004) != 0)) {
-          to_bitField0_ |= 0x00000004;
+          to_bitField0_ |= 0x00000002;
         }
-        result.piaUsername_ = piaUsername_;
+        result.maxProbes_ = maxProbes_;
         if (((from_bitField0_ & 0x00000008) != 0)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        result.piaPassword_ = piaPassword_;
-        if (((from_bitField0_ & 0x00000010) != 0)) {
-          to_bitField0_ |= 0x00000010;
+          result.portForward_ = portForward_;
+          to_bitField0_ |= 0x00000004;
         }
-        result.targetDomain_ = targetDomain_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -775,38 +785,34 @@ public final class Proto {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof pia4java.Proto.PiaConfig) {
-          return mergeFrom((pia4java.Proto.PiaConfig)other);
+        if (other instanceof pia4java.Proto.ServerSelection) {
+          return mergeFrom((pia4java.Proto.ServerSelection)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(pia4java.Proto.PiaConfig other) {
-        if (other == pia4java.Proto.PiaConfig.getDefaultInstance()) return this;
-        if (other.hasPiaWireguardServer()) {
-          bitField0_ |= 0x00000001;
-          piaWireguardServer_ = other.piaWireguardServer_;
+      public Builder mergeFrom(pia4java.Proto.ServerSelection other) {
+        if (other == pia4java.Proto.ServerSelection.getDefaultInstance()) return this;
+        if (!other.region_.isEmpty()) {
+          if (region_.isEmpty()) {
+            region_ = other.region_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureRegionIsMutable();
+            region_.addAll(other.region_);
+          }
           onChanged();
         }
-        if (other.hasPiaWireguardPort()) {
-          setPiaWireguardPort(other.getPiaWireguardPort());
-        }
-        if (other.hasPiaUsername()) {
-          bitField0_ |= 0x00000004;
-          piaUsername_ = other.piaUsername_;
-          onChanged();
+        if (other.hasProbeBudgetMs()) {
+          setProbeBudgetMs(other.getProbeBudgetMs());
         }
-        if (other.hasPiaPassword()) {
-          bitField0_ |= 0x00000008;
-          piaPassword_ = other.piaPassword_;
-          onChanged();
+        if (other.hasMaxProbes()) {
+          setMaxProbes(other.getMaxProbes());
         }
-        if (other.hasTargetDomain()) {
-          bitField0_ |= 0x00000010;
-          targetDomain_ = other.targetDomain_;
-          onChanged();
+        if (other.hasPortForward()) {
+          setPortForward(other.getPortForward());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -823,11 +829,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        pia4java.Proto.PiaConfig parsedMessage = null;
+        pia4java.Proto.ServerSelection parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (pia4java.Proto.PiaConfig) e.getUnfinishedMessage();
+          parsedMessage = (pia4java.Proto.ServerSelection) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -838,379 +844,22772 @@ public final class Proto {
       }
       private int bitField0_;
 
-      private java.lang.Object piaWireguardServer_ = "";
+      private com.google.protobuf.LazyStringList region_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureRegionIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          region_ = new com.google.protobuf.LazyStringArrayList(region_);
+          bitField0_ |= 0x00000001;
+         }
+      }
       /**
-       * <code>optional string pia_wireguard_server = 1;</code>
-       * @return Whether the piaWireguardServer field is set.
+       * <pre>
+       * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+       * All regions are candidates when empty.
+       * </pre>
+       *
+       * <code>repeated string region = 1;</code>
+       * @return A list containing the region.
        */
-      public boolean hasPiaWireguardServer() {
-        return ((bitField0_ & 0x00000001) != 0);
+      public com.google.protobuf.ProtocolStringList
+          getRegionList() {
+        return region_.getUnmodifiableView();
       }
       /**
-       * <code>optional string pia_wireguard_server = 1;</code>
-       * @return The piaWireguardServer.
+       * <pre>
+       * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+       * All regions are candidates when empty.
+       * </pre>
+       *
+       * <code>repeated string region = 1;</code>
+       * @return The count of region.
        */
-      public java.lang.String getPiaWireguardServer() {
-        java.lang.Object ref = piaWireguardServer_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            piaWireguardServer_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public int getRegionCount() {
+        return region_.size();
       }
       /**
-       * <code>optional string pia_wireguard_server = 1;</code>
-       * @return The bytes for piaWireguardServer.
+       * <pre>
+       * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+       * All regions are candidates when empty.
+       * </pre>
+       *
+       * <code>repeated string region = 1;</code>
+       * @param index The index of the element to return.
+       * @return The region at the given index.
+       */
+      public java.lang.String getRegion(int index) {
+        return region_.get(index);
+      }
+      /**
+       * <pre>
+       * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+       * All regions are candidates when empty.
+       * </pre>
+       *
+       * <code>repeated string region = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the region at the given index.
        */
       public com.google.protobuf.ByteString
-          getPiaWireguardServerBytes() {
-        java.lang.Object ref = piaWireguardServer_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          piaWireguardServer_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+          getRegionBytes(int index) {
+        return region_.getByteString(index);
       }
       /**
-       * <code>optional string pia_wireguard_server = 1;</code>
-       * @param value The piaWireguardServer to set.
+       * <pre>
+       * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+       * All regions are candidates when empty.
+       * </pre>
+       *
+       * <code>repeated string region = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The region to set.
        * @return This builder for chaining.
        */
-      public Builder setPiaWireguardServer(
-          java.lang.String value) {
+      public Builder setRegion(
+          int index, java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
-        piaWireguardServer_ = value;
+  ensureRegionIsMutable();
+        region_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional string pia_wireguard_server = 1;</code>
+       * <pre>
+       * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+       * All regions are candidates when empty.
+       * </pre>
+       *
+       * <code>repeated string region = 1;</code>
+       * @param value The region to add.
        * @return This builder for chaining.
        */
-      public Builder clearPiaWireguardServer() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        piaWireguardServer_ = getDefaultInstance().getPiaWireguardServer();
-        onChanged();
-        return this;
+      public Builder addRegion(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRegionIsMutable();
+        region_.add(value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional string pia_wireguard_server = 1;</code>
-       * @param value The bytes for piaWireguardServer to set.
+       * <pre>
+       * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+       * All regions are candidates when empty.
+       * </pre>
+       *
+       * <code>repeated string region = 1;</code>
+       * @param values The region to add.
        * @return This builder for chaining.
        */
-      public Builder setPiaWireguardServerBytes(
+      public Builder addAllRegion(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRegionIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, region_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+       * All regions are candidates when empty.
+       * </pre>
+       *
+       * <code>repeated string region = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRegion() {
+        region_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Region ids (e.g. "us_new_hampshire-pf") or country codes (e.g. "US").
+       * All regions are candidates when empty.
+       * </pre>
+       *
+       * <code>repeated string region = 1;</code>
+       * @param value The bytes of the region to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRegionBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
-        piaWireguardServer_ = value;
+  ensureRegionIsMutable();
+        region_.add(value);
         onChanged();
         return this;
       }
 
-      private int piaWireguardPort_ ;
+      private int probeBudgetMs_ = 2000;
       /**
-       * <code>optional int32 pia_wireguard_port = 2;</code>
-       * @return Whether the piaWireguardPort field is set.
+       * <code>optional int32 probe_budget_ms = 2 [default = 2000];</code>
+       * @return Whether the probeBudgetMs field is set.
        */
       @java.lang.Override
-      public boolean hasPiaWireguardPort() {
+      public boolean hasProbeBudgetMs() {
         return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>optional int32 pia_wireguard_port = 2;</code>
-       * @return The piaWireguardPort.
+       * <code>optional int32 probe_budget_ms = 2 [default = 2000];</code>
+       * @return The probeBudgetMs.
        */
       @java.lang.Override
-      public int getPiaWireguardPort() {
-        return piaWireguardPort_;
+      public int getProbeBudgetMs() {
+        return probeBudgetMs_;
       }
       /**
-       * <code>optional int32 pia_wireguard_port = 2;</code>
-       * @param value The piaWireguardPort to set.
+       * <code>optional int32 probe_budget_ms = 2 [default = 2000];</code>
+       * @param value The probeBudgetMs to set.
        * @return This builder for chaining.
        */
-      public Builder setPiaWireguardPort(int value) {
+      public Builder setProbeBudgetMs(int value) {
         bitField0_ |= 0x00000002;
-        piaWireguardPort_ = value;
+        probeBudgetMs_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional int32 pia_wireguard_port = 2;</code>
+       * <code>optional int32 probe_budget_ms = 2 [default = 2000];</code>
        * @return This builder for chaining.
        */
-      public Builder clearPiaWireguardPort() {
+      public Builder clearProbeBudgetMs() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        piaWireguardPort_ = 0;
+        probeBudgetMs_ = 2000;
         onChanged();
         return this;
       }
 
-      private java.lang.Object piaUsername_ = "";
+      private int maxProbes_ = 32;
       /**
-       * <code>optional string pia_username = 3;</code>
-       * @return Whether the piaUsername field is set.
+       * <code>optional int32 max_probes = 3 [default = 32];</code>
+       * @return Whether the maxProbes field is set.
        */
-      public boolean hasPiaUsername() {
+      @java.lang.Override
+      public boolean hasMaxProbes() {
         return ((bitField0_ & 0x00000004) != 0);
       }
       /**
-       * <code>optional string pia_username = 3;</code>
-       * @return The piaUsername.
+       * <code>optional int32 max_probes = 3 [default = 32];</code>
+       * @return The maxProbes.
        */
-      public java.lang.String getPiaUsername() {
-        java.lang.Object ref = piaUsername_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            piaUsername_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      @java.lang.Override
+      public int getMaxProbes() {
+        return maxProbes_;
       }
       /**
-       * <code>optional string pia_username = 3;</code>
-       * @return The bytes for piaUsername.
+       * <code>optional int32 max_probes = 3 [default = 32];</code>
+       * @param value The maxProbes to set.
+       * @return This builder for chaining.
        */
-      public com.google.protobuf.ByteString
-          getPiaUsernameBytes() {
-        java.lang.Object ref = piaUsername_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          piaUsername_ = b;
-          return b;
+      public Builder setMaxProbes(int value) {
+        bitField0_ |= 0x00000004;
+        maxProbes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 max_probes = 3 [default = 32];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxProbes() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        maxProbes_ = 32;
+        onChanged();
+        return this;
+      }
+
+      private boolean portForward_ ;
+      /**
+       * <pre>
+       * Only consider regions that support port forwarding.
+       * </pre>
+       *
+       * <code>optional bool port_forward = 4;</code>
+       * @return Whether the portForward field is set.
+       */
+      @java.lang.Override
+      public boolean hasPortForward() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * Only consider regions that support port forwarding.
+       * </pre>
+       *
+       * <code>optional bool port_forward = 4;</code>
+       * @return The portForward.
+       */
+      @java.lang.Override
+      public boolean getPortForward() {
+        return portForward_;
+      }
+      /**
+       * <pre>
+       * Only consider regions that support port forwarding.
+       * </pre>
+       *
+       * <code>optional bool port_forward = 4;</code>
+       * @param value The portForward to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPortForward(boolean value) {
+        bitField0_ |= 0x00000008;
+        portForward_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Only consider regions that support port forwarding.
+       * </pre>
+       *
+       * <code>optional bool port_forward = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPortForward() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        portForward_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.ServerSelection)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.ServerSelection)
+    private static final pia4java.Proto.ServerSelection DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.ServerSelection();
+    }
+
+    public static pia4java.Proto.ServerSelection getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<ServerSelection>
+        PARSER = new com.google.protobuf.AbstractParser<ServerSelection>() {
+      @java.lang.Override
+      public ServerSelection parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ServerSelection(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ServerSelection> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ServerSelection> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.ServerSelection getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StandbyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.Standby)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Picks the backup server.  Servers in the primary server's region are
+     * never picked.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+     * @return Whether the serverSelection field is set.
+     */
+    boolean hasServerSelection();
+    /**
+     * <pre>
+     * Picks the backup server.  Servers in the primary server's region are
+     * never picked.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+     * @return The serverSelection.
+     */
+    pia4java.Proto.ServerSelection getServerSelection();
+    /**
+     * <pre>
+     * Picks the backup server.  Servers in the primary server's region are
+     * never picked.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+     */
+    pia4java.Proto.ServerSelectionOrBuilder getServerSelectionOrBuilder();
+
+    /**
+     * <pre>
+     * The standby key is registered anew this often, well before PIA would
+     * drop an unused key.
+     * </pre>
+     *
+     * <code>optional int32 refresh_interval_seconds = 2 [default = 600];</code>
+     * @return Whether the refreshIntervalSeconds field is set.
+     */
+    boolean hasRefreshIntervalSeconds();
+    /**
+     * <pre>
+     * The standby key is registered anew this often, well before PIA would
+     * drop an unused key.
+     * </pre>
+     *
+     * <code>optional int32 refresh_interval_seconds = 2 [default = 600];</code>
+     * @return The refreshIntervalSeconds.
+     */
+    int getRefreshIntervalSeconds();
+  }
+  /**
+   * Protobuf type {@code pia4java.Standby}
+   */
+  public static final class Standby extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.Standby)
+      StandbyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Standby.newBuilder() to construct.
+    private Standby(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Standby() {
+      refreshIntervalSeconds_ = 600;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Standby();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Standby(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              pia4java.Proto.ServerSelection.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) != 0)) {
+                subBuilder = serverSelection_.toBuilder();
+              }
+              serverSelection_ = input.readMessage(pia4java.Proto.ServerSelection.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(serverSelection_);
+                serverSelection_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              refreshIntervalSeconds_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_Standby_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_Standby_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.Standby.class, pia4java.Proto.Standby.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SERVER_SELECTION_FIELD_NUMBER = 1;
+    private pia4java.Proto.ServerSelection serverSelection_;
+    /**
+     * <pre>
+     * Picks the backup server.  Servers in the primary server's region are
+     * never picked.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+     * @return Whether the serverSelection field is set.
+     */
+    @java.lang.Override
+    public boolean hasServerSelection() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * Picks the backup server.  Servers in the primary server's region are
+     * never picked.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+     * @return The serverSelection.
+     */
+    @java.lang.Override
+    public pia4java.Proto.ServerSelection getServerSelection() {
+      return serverSelection_ == null ? pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+    }
+    /**
+     * <pre>
+     * Picks the backup server.  Servers in the primary server's region are
+     * never picked.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.ServerSelectionOrBuilder getServerSelectionOrBuilder() {
+      return serverSelection_ == null ? pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+    }
+
+    public static final int REFRESH_INTERVAL_SECONDS_FIELD_NUMBER = 2;
+    private int refreshIntervalSeconds_;
+    /**
+     * <pre>
+     * The standby key is registered anew this often, well before PIA would
+     * drop an unused key.
+     * </pre>
+     *
+     * <code>optional int32 refresh_interval_seconds = 2 [default = 600];</code>
+     * @return Whether the refreshIntervalSeconds field is set.
+     */
+    @java.lang.Override
+    public boolean hasRefreshIntervalSeconds() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * The standby key is registered anew this often, well before PIA would
+     * drop an unused key.
+     * </pre>
+     *
+     * <code>optional int32 refresh_interval_seconds = 2 [default = 600];</code>
+     * @return The refreshIntervalSeconds.
+     */
+    @java.lang.Override
+    public int getRefreshIntervalSeconds() {
+      return refreshIntervalSeconds_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getServerSelection());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, refreshIntervalSeconds_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getServerSelection());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, refreshIntervalSeconds_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.Standby)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.Standby other = (pia4java.Proto.Standby) obj;
+
+      if (hasServerSelection() != other.hasServerSelection()) return false;
+      if (hasServerSelection()) {
+        if (!getServerSelection()
+            .equals(other.getServerSelection())) return false;
+      }
+      if (hasRefreshIntervalSeconds() != other.hasRefreshIntervalSeconds()) return false;
+      if (hasRefreshIntervalSeconds()) {
+        if (getRefreshIntervalSeconds()
+            != other.getRefreshIntervalSeconds()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasServerSelection()) {
+        hash = (37 * hash) + SERVER_SELECTION_FIELD_NUMBER;
+        hash = (53 * hash) + getServerSelection().hashCode();
+      }
+      if (hasRefreshIntervalSeconds()) {
+        hash = (37 * hash) + REFRESH_INTERVAL_SECONDS_FIELD_NUMBER;
+        hash = (53 * hash) + getRefreshIntervalSeconds();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.Standby parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.Standby parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.Standby parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.Standby parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.Standby parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.Standby parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.Standby parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.Standby parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.Standby parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.Standby parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.Standby parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.Standby parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.Standby prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pia4java.Standby}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.Standby)
+        pia4java.Proto.StandbyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_Standby_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_Standby_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.Standby.class, pia4java.Proto.Standby.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.Standby.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getServerSelectionFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (serverSelectionBuilder_ == null) {
+          serverSelection_ = null;
+        } else {
+          serverSelectionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        refreshIntervalSeconds_ = 600;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_Standby_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.Standby getDefaultInstanceForType() {
+        return pia4java.Proto.Standby.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.Standby build() {
+        pia4java.Proto.Standby result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.Standby buildPartial() {
+        pia4java.Proto.Standby result = new pia4java.Proto.Standby(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          if (serverSelectionBuilder_ == null) {
+            result.serverSelection_ = serverSelection_;
+          } else {
+            result.serverSelection_ = serverSelectionBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.refreshIntervalSeconds_ = refreshIntervalSeconds_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.Standby) {
+          return mergeFrom((pia4java.Proto.Standby)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.Standby other) {
+        if (other == pia4java.Proto.Standby.getDefaultInstance()) return this;
+        if (other.hasServerSelection()) {
+          mergeServerSelection(other.getServerSelection());
+        }
+        if (other.hasRefreshIntervalSeconds()) {
+          setRefreshIntervalSeconds(other.getRefreshIntervalSeconds());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.Standby parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.Standby) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private pia4java.Proto.ServerSelection serverSelection_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.ServerSelection, pia4java.Proto.ServerSelection.Builder, pia4java.Proto.ServerSelectionOrBuilder> serverSelectionBuilder_;
+      /**
+       * <pre>
+       * Picks the backup server.  Servers in the primary server's region are
+       * never picked.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+       * @return Whether the serverSelection field is set.
+       */
+      public boolean hasServerSelection() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * Picks the backup server.  Servers in the primary server's region are
+       * never picked.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+       * @return The serverSelection.
+       */
+      public pia4java.Proto.ServerSelection getServerSelection() {
+        if (serverSelectionBuilder_ == null) {
+          return serverSelection_ == null ? pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+        } else {
+          return serverSelectionBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Picks the backup server.  Servers in the primary server's region are
+       * never picked.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+       */
+      public Builder setServerSelection(pia4java.Proto.ServerSelection value) {
+        if (serverSelectionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          serverSelection_ = value;
+          onChanged();
+        } else {
+          serverSelectionBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <pre>
+       * Picks the backup server.  Servers in the primary server's region are
+       * never picked.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+       */
+      public Builder setServerSelection(
+          pia4java.Proto.ServerSelection.Builder builderForValue) {
+        if (serverSelectionBuilder_ == null) {
+          serverSelection_ = builderForValue.build();
+          onChanged();
+        } else {
+          serverSelectionBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <pre>
+       * Picks the backup server.  Servers in the primary server's region are
+       * never picked.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+       */
+      public Builder mergeServerSelection(pia4java.Proto.ServerSelection value) {
+        if (serverSelectionBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+              serverSelection_ != null &&
+              serverSelection_ != pia4java.Proto.ServerSelection.getDefaultInstance()) {
+            serverSelection_ =
+              pia4java.Proto.ServerSelection.newBuilder(serverSelection_).mergeFrom(value).buildPartial();
+          } else {
+            serverSelection_ = value;
+          }
+          onChanged();
+        } else {
+          serverSelectionBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <pre>
+       * Picks the backup server.  Servers in the primary server's region are
+       * never picked.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+       */
+      public Builder clearServerSelection() {
+        if (serverSelectionBuilder_ == null) {
+          serverSelection_ = null;
+          onChanged();
+        } else {
+          serverSelectionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <pre>
+       * Picks the backup server.  Servers in the primary server's region are
+       * never picked.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+       */
+      public pia4java.Proto.ServerSelection.Builder getServerSelectionBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getServerSelectionFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Picks the backup server.  Servers in the primary server's region are
+       * never picked.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+       */
+      public pia4java.Proto.ServerSelectionOrBuilder getServerSelectionOrBuilder() {
+        if (serverSelectionBuilder_ != null) {
+          return serverSelectionBuilder_.getMessageOrBuilder();
+        } else {
+          return serverSelection_ == null ?
+              pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+        }
+      }
+      /**
+       * <pre>
+       * Picks the backup server.  Servers in the primary server's region are
+       * never picked.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.ServerSelection, pia4java.Proto.ServerSelection.Builder, pia4java.Proto.ServerSelectionOrBuilder> 
+          getServerSelectionFieldBuilder() {
+        if (serverSelectionBuilder_ == null) {
+          serverSelectionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              pia4java.Proto.ServerSelection, pia4java.Proto.ServerSelection.Builder, pia4java.Proto.ServerSelectionOrBuilder>(
+                  getServerSelection(),
+                  getParentForChildren(),
+                  isClean());
+          serverSelection_ = null;
+        }
+        return serverSelectionBuilder_;
+      }
+
+      private int refreshIntervalSeconds_ = 600;
+      /**
+       * <pre>
+       * The standby key is registered anew this often, well before PIA would
+       * drop an unused key.
+       * </pre>
+       *
+       * <code>optional int32 refresh_interval_seconds = 2 [default = 600];</code>
+       * @return Whether the refreshIntervalSeconds field is set.
+       */
+      @java.lang.Override
+      public boolean hasRefreshIntervalSeconds() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * The standby key is registered anew this often, well before PIA would
+       * drop an unused key.
+       * </pre>
+       *
+       * <code>optional int32 refresh_interval_seconds = 2 [default = 600];</code>
+       * @return The refreshIntervalSeconds.
+       */
+      @java.lang.Override
+      public int getRefreshIntervalSeconds() {
+        return refreshIntervalSeconds_;
+      }
+      /**
+       * <pre>
+       * The standby key is registered anew this often, well before PIA would
+       * drop an unused key.
+       * </pre>
+       *
+       * <code>optional int32 refresh_interval_seconds = 2 [default = 600];</code>
+       * @param value The refreshIntervalSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRefreshIntervalSeconds(int value) {
+        bitField0_ |= 0x00000002;
+        refreshIntervalSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The standby key is registered anew this often, well before PIA would
+       * drop an unused key.
+       * </pre>
+       *
+       * <code>optional int32 refresh_interval_seconds = 2 [default = 600];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRefreshIntervalSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        refreshIntervalSeconds_ = 600;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.Standby)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.Standby)
+    private static final pia4java.Proto.Standby DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.Standby();
+    }
+
+    public static pia4java.Proto.Standby getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<Standby>
+        PARSER = new com.google.protobuf.AbstractParser<Standby>() {
+      @java.lang.Override
+      public Standby parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Standby(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Standby> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Standby> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.Standby getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DnsSettingsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.DnsSettings)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Queries in flight at once.
+     * </pre>
+     *
+     * <code>optional int32 max_concurrency = 1 [default = 64];</code>
+     * @return Whether the maxConcurrency field is set.
+     */
+    boolean hasMaxConcurrency();
+    /**
+     * <pre>
+     * Queries in flight at once.
+     * </pre>
+     *
+     * <code>optional int32 max_concurrency = 1 [default = 64];</code>
+     * @return The maxConcurrency.
+     */
+    int getMaxConcurrency();
+
+    /**
+     * <pre>
+     * Queries sent per second, including CNAME hops and retries.
+     * </pre>
+     *
+     * <code>optional double queries_per_second = 2 [default = 500];</code>
+     * @return Whether the queriesPerSecond field is set.
+     */
+    boolean hasQueriesPerSecond();
+    /**
+     * <pre>
+     * Queries sent per second, including CNAME hops and retries.
+     * </pre>
+     *
+     * <code>optional double queries_per_second = 2 [default = 500];</code>
+     * @return The queriesPerSecond.
+     */
+    double getQueriesPerSecond();
+
+    /**
+     * <pre>
+     * A domain that isn't resolved in this long is skipped.
+     * </pre>
+     *
+     * <code>optional int32 timeout_millis = 3 [default = 5000];</code>
+     * @return Whether the timeoutMillis field is set.
+     */
+    boolean hasTimeoutMillis();
+    /**
+     * <pre>
+     * A domain that isn't resolved in this long is skipped.
+     * </pre>
+     *
+     * <code>optional int32 timeout_millis = 3 [default = 5000];</code>
+     * @return The timeoutMillis.
+     */
+    int getTimeoutMillis();
+  }
+  /**
+   * Protobuf type {@code pia4java.DnsSettings}
+   */
+  public static final class DnsSettings extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.DnsSettings)
+      DnsSettingsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DnsSettings.newBuilder() to construct.
+    private DnsSettings(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DnsSettings() {
+      maxConcurrency_ = 64;
+      queriesPerSecond_ = 500D;
+      timeoutMillis_ = 5000;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DnsSettings();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DnsSettings(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              maxConcurrency_ = input.readInt32();
+              break;
+            }
+            case 17: {
+              bitField0_ |= 0x00000002;
+              queriesPerSecond_ = input.readDouble();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              timeoutMillis_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_DnsSettings_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_DnsSettings_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.DnsSettings.class, pia4java.Proto.DnsSettings.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int MAX_CONCURRENCY_FIELD_NUMBER = 1;
+    private int maxConcurrency_;
+    /**
+     * <pre>
+     * Queries in flight at once.
+     * </pre>
+     *
+     * <code>optional int32 max_concurrency = 1 [default = 64];</code>
+     * @return Whether the maxConcurrency field is set.
+     */
+    @java.lang.Override
+    public boolean hasMaxConcurrency() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * Queries in flight at once.
+     * </pre>
+     *
+     * <code>optional int32 max_concurrency = 1 [default = 64];</code>
+     * @return The maxConcurrency.
+     */
+    @java.lang.Override
+    public int getMaxConcurrency() {
+      return maxConcurrency_;
+    }
+
+    public static final int QUERIES_PER_SECOND_FIELD_NUMBER = 2;
+    private double queriesPerSecond_;
+    /**
+     * <pre>
+     * Queries sent per second, including CNAME hops and retries.
+     * </pre>
+     *
+     * <code>optional double queries_per_second = 2 [default = 500];</code>
+     * @return Whether the queriesPerSecond field is set.
+     */
+    @java.lang.Override
+    public boolean hasQueriesPerSecond() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * Queries sent per second, including CNAME hops and retries.
+     * </pre>
+     *
+     * <code>optional double queries_per_second = 2 [default = 500];</code>
+     * @return The queriesPerSecond.
+     */
+    @java.lang.Override
+    public double getQueriesPerSecond() {
+      return queriesPerSecond_;
+    }
+
+    public static final int TIMEOUT_MILLIS_FIELD_NUMBER = 3;
+    private int timeoutMillis_;
+    /**
+     * <pre>
+     * A domain that isn't resolved in this long is skipped.
+     * </pre>
+     *
+     * <code>optional int32 timeout_millis = 3 [default = 5000];</code>
+     * @return Whether the timeoutMillis field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimeoutMillis() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * A domain that isn't resolved in this long is skipped.
+     * </pre>
+     *
+     * <code>optional int32 timeout_millis = 3 [default = 5000];</code>
+     * @return The timeoutMillis.
+     */
+    @java.lang.Override
+    public int getTimeoutMillis() {
+      return timeoutMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, maxConcurrency_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeDouble(2, queriesPerSecond_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(3, timeoutMillis_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, maxConcurrency_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, queriesPerSecond_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, timeoutMillis_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.DnsSettings)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.DnsSettings other = (pia4java.Proto.DnsSettings) obj;
+
+      if (hasMaxConcurrency() != other.hasMaxConcurrency()) return false;
+      if (hasMaxConcurrency()) {
+        if (getMaxConcurrency()
+            != other.getMaxConcurrency()) return false;
+      }
+      if (hasQueriesPerSecond() != other.hasQueriesPerSecond()) return false;
+      if (hasQueriesPerSecond()) {
+        if (java.lang.Double.doubleToLongBits(getQueriesPerSecond())
+            != java.lang.Double.doubleToLongBits(
+                other.getQueriesPerSecond())) return false;
+      }
+      if (hasTimeoutMillis() != other.hasTimeoutMillis()) return false;
+      if (hasTimeoutMillis()) {
+        if (getTimeoutMillis()
+            != other.getTimeoutMillis()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasMaxConcurrency()) {
+        hash = (37 * hash) + MAX_CONCURRENCY_FIELD_NUMBER;
+        hash = (53 * hash) + getMaxConcurrency();
+      }
+      if (hasQueriesPerSecond()) {
+        hash = (37 * hash) + QUERIES_PER_SECOND_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getQueriesPerSecond()));
+      }
+      if (hasTimeoutMillis()) {
+        hash = (37 * hash) + TIMEOUT_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + getTimeoutMillis();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.DnsSettings parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.DnsSettings parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.DnsSettings parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.DnsSettings parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.DnsSettings parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.DnsSettings parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.DnsSettings parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.DnsSettings parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.DnsSettings parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.DnsSettings parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.DnsSettings parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.DnsSettings parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.DnsSettings prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pia4java.DnsSettings}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.DnsSettings)
+        pia4java.Proto.DnsSettingsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_DnsSettings_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_DnsSettings_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.DnsSettings.class, pia4java.Proto.DnsSettings.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.DnsSettings.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        maxConcurrency_ = 64;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        queriesPerSecond_ = 500D;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        timeoutMillis_ = 5000;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_DnsSettings_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.DnsSettings getDefaultInstanceForType() {
+        return pia4java.Proto.DnsSettings.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.DnsSettings build() {
+        pia4java.Proto.DnsSettings result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.DnsSettings buildPartial() {
+        pia4java.Proto.DnsSettings result = new pia4java.Proto.DnsSettings(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.maxConcurrency_ = maxConcurrency_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.queriesPerSecond_ = queriesPerSecond_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.timeoutMillis_ = timeoutMillis_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.DnsSettings) {
+          return mergeFrom((pia4java.Proto.DnsSettings)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.DnsSettings other) {
+        if (other == pia4java.Proto.DnsSettings.getDefaultInstance()) return this;
+        if (other.hasMaxConcurrency()) {
+          setMaxConcurrency(other.getMaxConcurrency());
+        }
+        if (other.hasQueriesPerSecond()) {
+          setQueriesPerSecond(other.getQueriesPerSecond());
+        }
+        if (other.hasTimeoutMillis()) {
+          setTimeoutMillis(other.getTimeoutMillis());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.DnsSettings parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.DnsSettings) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int maxConcurrency_ = 64;
+      /**
+       * <pre>
+       * Queries in flight at once.
+       * </pre>
+       *
+       * <code>optional int32 max_concurrency = 1 [default = 64];</code>
+       * @return Whether the maxConcurrency field is set.
+       */
+      @java.lang.Override
+      public boolean hasMaxConcurrency() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * Queries in flight at once.
+       * </pre>
+       *
+       * <code>optional int32 max_concurrency = 1 [default = 64];</code>
+       * @return The maxConcurrency.
+       */
+      @java.lang.Override
+      public int getMaxConcurrency() {
+        return maxConcurrency_;
+      }
+      /**
+       * <pre>
+       * Queries in flight at once.
+       * </pre>
+       *
+       * <code>optional int32 max_concurrency = 1 [default = 64];</code>
+       * @param value The maxConcurrency to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxConcurrency(int value) {
+        bitField0_ |= 0x00000001;
+        maxConcurrency_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Queries in flight at once.
+       * </pre>
+       *
+       * <code>optional int32 max_concurrency = 1 [default = 64];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxConcurrency() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        maxConcurrency_ = 64;
+        onChanged();
+        return this;
+      }
+
+      private double queriesPerSecond_ = 500D;
+      /**
+       * <pre>
+       * Queries sent per second, including CNAME hops and retries.
+       * </pre>
+       *
+       * <code>optional double queries_per_second = 2 [default = 500];</code>
+       * @return Whether the queriesPerSecond field is set.
+       */
+      @java.lang.Override
+      public boolean hasQueriesPerSecond() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * Queries sent per second, including CNAME hops and retries.
+       * </pre>
+       *
+       * <code>optional double queries_per_second = 2 [default = 500];</code>
+       * @return The queriesPerSecond.
+       */
+      @java.lang.Override
+      public double getQueriesPerSecond() {
+        return queriesPerSecond_;
+      }
+      /**
+       * <pre>
+       * Queries sent per second, including CNAME hops and retries.
+       * </pre>
+       *
+       * <code>optional double queries_per_second = 2 [default = 500];</code>
+       * @param value The queriesPerSecond to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQueriesPerSecond(double value) {
+        bitField0_ |= 0x00000002;
+        queriesPerSecond_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Queries sent per second, including CNAME hops and retries.
+       * </pre>
+       *
+       * <code>optional double queries_per_second = 2 [default = 500];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearQueriesPerSecond() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        queriesPerSecond_ = 500D;
+        onChanged();
+        return this;
+      }
+
+      private int timeoutMillis_ = 5000;
+      /**
+       * <pre>
+       * A domain that isn't resolved in this long is skipped.
+       * </pre>
+       *
+       * <code>optional int32 timeout_millis = 3 [default = 5000];</code>
+       * @return Whether the timeoutMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimeoutMillis() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * A domain that isn't resolved in this long is skipped.
+       * </pre>
+       *
+       * <code>optional int32 timeout_millis = 3 [default = 5000];</code>
+       * @return The timeoutMillis.
+       */
+      @java.lang.Override
+      public int getTimeoutMillis() {
+        return timeoutMillis_;
+      }
+      /**
+       * <pre>
+       * A domain that isn't resolved in this long is skipped.
+       * </pre>
+       *
+       * <code>optional int32 timeout_millis = 3 [default = 5000];</code>
+       * @param value The timeoutMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeoutMillis(int value) {
+        bitField0_ |= 0x00000004;
+        timeoutMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * A domain that isn't resolved in this long is skipped.
+       * </pre>
+       *
+       * <code>optional int32 timeout_millis = 3 [default = 5000];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimeoutMillis() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timeoutMillis_ = 5000;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.DnsSettings)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.DnsSettings)
+    private static final pia4java.Proto.DnsSettings DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.DnsSettings();
+    }
+
+    public static pia4java.Proto.DnsSettings getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<DnsSettings>
+        PARSER = new com.google.protobuf.AbstractParser<DnsSettings>() {
+      @java.lang.Override
+      public DnsSettings parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DnsSettings(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DnsSettings> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DnsSettings> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.DnsSettings getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SupervisorOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.Supervisor)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int32 check_interval_seconds = 1 [default = 10];</code>
+     * @return Whether the checkIntervalSeconds field is set.
+     */
+    boolean hasCheckIntervalSeconds();
+    /**
+     * <code>optional int32 check_interval_seconds = 1 [default = 10];</code>
+     * @return The checkIntervalSeconds.
+     */
+    int getCheckIntervalSeconds();
+
+    /**
+     * <pre>
+     * While sending, the tunnel is unhealthy if the latest handshake is older
+     * than this.  WireGuard re-handshakes every two minutes under traffic.
+     * </pre>
+     *
+     * <code>optional int32 max_handshake_age_seconds = 2 [default = 180];</code>
+     * @return Whether the maxHandshakeAgeSeconds field is set.
+     */
+    boolean hasMaxHandshakeAgeSeconds();
+    /**
+     * <pre>
+     * While sending, the tunnel is unhealthy if the latest handshake is older
+     * than this.  WireGuard re-handshakes every two minutes under traffic.
+     * </pre>
+     *
+     * <code>optional int32 max_handshake_age_seconds = 2 [default = 180];</code>
+     * @return The maxHandshakeAgeSeconds.
+     */
+    int getMaxHandshakeAgeSeconds();
+
+    /**
+     * <pre>
+     * While sending, the tunnel is unhealthy if nothing was received for this long.
+     * </pre>
+     *
+     * <code>optional int32 max_receive_stall_seconds = 3 [default = 30];</code>
+     * @return Whether the maxReceiveStallSeconds field is set.
+     */
+    boolean hasMaxReceiveStallSeconds();
+    /**
+     * <pre>
+     * While sending, the tunnel is unhealthy if nothing was received for this long.
+     * </pre>
+     *
+     * <code>optional int32 max_receive_stall_seconds = 3 [default = 30];</code>
+     * @return The maxReceiveStallSeconds.
+     */
+    int getMaxReceiveStallSeconds();
+
+    /**
+     * <code>optional int32 min_backoff_seconds = 4 [default = 1];</code>
+     * @return Whether the minBackoffSeconds field is set.
+     */
+    boolean hasMinBackoffSeconds();
+    /**
+     * <code>optional int32 min_backoff_seconds = 4 [default = 1];</code>
+     * @return The minBackoffSeconds.
+     */
+    int getMinBackoffSeconds();
+
+    /**
+     * <code>optional int32 max_backoff_seconds = 5 [default = 300];</code>
+     * @return Whether the maxBackoffSeconds field is set.
+     */
+    boolean hasMaxBackoffSeconds();
+    /**
+     * <code>optional int32 max_backoff_seconds = 5 [default = 300];</code>
+     * @return The maxBackoffSeconds.
+     */
+    int getMaxBackoffSeconds();
+  }
+  /**
+   * Protobuf type {@code pia4java.Supervisor}
+   */
+  public static final class Supervisor extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.Supervisor)
+      SupervisorOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Supervisor.newBuilder() to construct.
+    private Supervisor(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Supervisor() {
+      checkIntervalSeconds_ = 10;
+      maxHandshakeAgeSeconds_ = 180;
+      maxReceiveStallSeconds_ = 30;
+      minBackoffSeconds_ = 1;
+      maxBackoffSeconds_ = 300;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Supervisor();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Supervisor(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              checkIntervalSeconds_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              maxHandshakeAgeSeconds_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              maxReceiveStallSeconds_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              minBackoffSeconds_ = input.readInt32();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              maxBackoffSeconds_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_Supervisor_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_Supervisor_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.Supervisor.class, pia4java.Proto.Supervisor.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CHECK_INTERVAL_SECONDS_FIELD_NUMBER = 1;
+    private int checkIntervalSeconds_;
+    /**
+     * <code>optional int32 check_interval_seconds = 1 [default = 10];</code>
+     * @return Whether the checkIntervalSeconds field is set.
+     */
+    @java.lang.Override
+    public boolean hasCheckIntervalSeconds() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional int32 check_interval_seconds = 1 [default = 10];</code>
+     * @return The checkIntervalSeconds.
+     */
+    @java.lang.Override
+    public int getCheckIntervalSeconds() {
+      return checkIntervalSeconds_;
+    }
+
+    public static final int MAX_HANDSHAKE_AGE_SECONDS_FIELD_NUMBER = 2;
+    private int maxHandshakeAgeSeconds_;
+    /**
+     * <pre>
+     * While sending, the tunnel is unhealthy if the latest handshake is older
+     * than this.  WireGuard re-handshakes every two minutes under traffic.
+     * </pre>
+     *
+     * <code>optional int32 max_handshake_age_seconds = 2 [default = 180];</code>
+     * @return Whether the maxHandshakeAgeSeconds field is set.
+     */
+    @java.lang.Override
+    public boolean hasMaxHandshakeAgeSeconds() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * While sending, the tunnel is unhealthy if the latest handshake is older
+     * than this.  WireGuard re-handshakes every two minutes under traffic.
+     * </pre>
+     *
+     * <code>optional int32 max_handshake_age_seconds = 2 [default = 180];</code>
+     * @return The maxHandshakeAgeSeconds.
+     */
+    @java.lang.Override
+    public int getMaxHandshakeAgeSeconds() {
+      return maxHandshakeAgeSeconds_;
+    }
+
+    public static final int MAX_RECEIVE_STALL_SECONDS_FIELD_NUMBER = 3;
+    private int maxReceiveStallSeconds_;
+    /**
+     * <pre>
+     * While sending, the tunnel is unhealthy if nothing was received for this long.
+     * </pre>
+     *
+     * <code>optional int32 max_receive_stall_seconds = 3 [default = 30];</code>
+     * @return Whether the maxReceiveStallSeconds field is set.
+     */
+    @java.lang.Override
+    public boolean hasMaxReceiveStallSeconds() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * While sending, the tunnel is unhealthy if nothing was received for this long.
+     * </pre>
+     *
+     * <code>optional int32 max_receive_stall_seconds = 3 [default = 30];</code>
+     * @return The maxReceiveStallSeconds.
+     */
+    @java.lang.Override
+    public int getMaxReceiveStallSeconds() {
+      return maxReceiveStallSeconds_;
+    }
+
+    public static final int MIN_BACKOFF_SECONDS_FIELD_NUMBER = 4;
+    private int minBackoffSeconds_;
+    /**
+     * <code>optional int32 min_backoff_seconds = 4 [default = 1];</code>
+     * @return Whether the minBackoffSeconds field is set.
+     */
+    @java.lang.Override
+    public boolean hasMinBackoffSeconds() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int32 min_backoff_seconds = 4 [default = 1];</code>
+     * @return The minBackoffSeconds.
+     */
+    @java.lang.Override
+    public int getMinBackoffSeconds() {
+      return minBackoffSeconds_;
+    }
+
+    public static final int MAX_BACKOFF_SECONDS_FIELD_NUMBER = 5;
+    private int maxBackoffSeconds_;
+    /**
+     * <code>optional int32 max_backoff_seconds = 5 [default = 300];</code>
+     * @return Whether the maxBackoffSeconds field is set.
+     */
+    @java.lang.Override
+    public boolean hasMaxBackoffSeconds() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int32 max_backoff_seconds = 5 [default = 300];</code>
+     * @return The maxBackoffSeconds.
+     */
+    @java.lang.Override
+    public int getMaxBackoffSeconds() {
+      return maxBackoffSeconds_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, checkIntervalSeconds_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, maxHandshakeAgeSeconds_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(3, maxReceiveStallSeconds_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt32(4, minBackoffSeconds_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt32(5, maxBackoffSeconds_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, checkIntervalSeconds_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, maxHandshakeAgeSeconds_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, maxReceiveStallSeconds_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, minBackoffSeconds_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, maxBackoffSeconds_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.Supervisor)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.Supervisor other = (pia4java.Proto.Supervisor) obj;
+
+      if (hasCheckIntervalSeconds() != other.hasCheckIntervalSeconds()) return false;
+      if (hasCheckIntervalSeconds()) {
+        if (getCheckIntervalSeconds()
+            != other.getCheckIntervalSeconds()) return false;
+      }
+      if (hasMaxHandshakeAgeSeconds() != other.hasMaxHandshakeAgeSeconds()) return false;
+      if (hasMaxHandshakeAgeSeconds()) {
+        if (getMaxHandshakeAgeSeconds()
+            != other.getMaxHandshakeAgeSeconds()) return false;
+      }
+      if (hasMaxReceiveStallSeconds() != other.hasMaxReceiveStallSeconds()) return false;
+      if (hasMaxReceiveStallSeconds()) {
+        if (getMaxReceiveStallSeconds()
+            != other.getMaxReceiveStallSeconds()) return false;
+      }
+      if (hasMinBackoffSeconds() != other.hasMinBackoffSeconds()) return false;
+      if (hasMinBackoffSeconds()) {
+        if (getMinBackoffSeconds()
+            != other.getMinBackoffSeconds()) return false;
+      }
+      if (hasMaxBackoffSeconds() != other.hasMaxBackoffSeconds()) return false;
+      if (hasMaxBackoffSeconds()) {
+        if (getMaxBackoffSeconds()
+            != other.getMaxBackoffSeconds()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasCheckIntervalSeconds()) {
+        hash = (37 * hash) + CHECK_INTERVAL_SECONDS_FIELD_NUMBER;
+        hash = (53 * hash) + getCheckIntervalSeconds();
+      }
+      if (hasMaxHandshakeAgeSeconds()) {
+        hash = (37 * hash) + MAX_HANDSHAKE_AGE_SECONDS_FIELD_NUMBER;
+        hash = (53 * hash) + getMaxHandshakeAgeSeconds();
+      }
+      if (hasMaxReceiveStallSeconds()) {
+        hash = (37 * hash) + MAX_RECEIVE_STALL_SECONDS_FIELD_NUMBER;
+        hash = (53 * hash) + getMaxReceiveStallSeconds();
+      }
+      if (hasMinBackoffSeconds()) {
+        hash = (37 * hash) + MIN_BACKOFF_SECONDS_FIELD_NUMBER;
+        hash = (53 * hash) + getMinBackoffSeconds();
+      }
+      if (hasMaxBackoffSeconds()) {
+        hash = (37 * hash) + MAX_BACKOFF_SECONDS_FIELD_NUMBER;
+        hash = (53 * hash) + getMaxBackoffSeconds();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.Supervisor parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.Supervisor parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.Supervisor parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.Supervisor parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.Supervisor parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.Supervisor parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.Supervisor parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.Supervisor parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.Supervisor parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.Supervisor parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.Supervisor parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.Supervisor parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.Supervisor prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pia4java.Supervisor}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.Supervisor)
+        pia4java.Proto.SupervisorOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_Supervisor_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_Supervisor_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.Supervisor.class, pia4java.Proto.Supervisor.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.Supervisor.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        checkIntervalSeconds_ = 10;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        maxHandshakeAgeSeconds_ = 180;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        maxReceiveStallSeconds_ = 30;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        minBackoffSeconds_ = 1;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        maxBackoffSeconds_ = 300;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_Supervisor_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.Supervisor getDefaultInstanceForType() {
+        return pia4java.Proto.Supervisor.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.Supervisor build() {
+        pia4java.Proto.Supervisor result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.Supervisor buildPartial() {
+        pia4java.Proto.Supervisor result = new pia4java.Proto.Supervisor(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.checkIntervalSeconds_ = checkIntervalSeconds_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.maxHandshakeAgeSeconds_ = maxHandshakeAgeSeconds_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.maxReceiveStallSeconds_ = maxReceiveStallSeconds_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.minBackoffSeconds_ = minBackoffSeconds_;
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.maxBackoffSeconds_ = maxBackoffSeconds_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.Supervisor) {
+          return mergeFrom((pia4java.Proto.Supervisor)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.Supervisor other) {
+        if (other == pia4java.Proto.Supervisor.getDefaultInstance()) return this;
+        if (other.hasCheckIntervalSeconds()) {
+          setCheckIntervalSeconds(other.getCheckIntervalSeconds());
+        }
+        if (other.hasMaxHandshakeAgeSeconds()) {
+          setMaxHandshakeAgeSeconds(other.getMaxHandshakeAgeSeconds());
+        }
+        if (other.hasMaxReceiveStallSeconds()) {
+          setMaxReceiveStallSeconds(other.getMaxReceiveStallSeconds());
+        }
+        if (other.hasMinBackoffSeconds()) {
+          setMinBackoffSeconds(other.getMinBackoffSeconds());
+        }
+        if (other.hasMaxBackoffSeconds()) {
+          setMaxBackoffSeconds(other.getMaxBackoffSeconds());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.Supervisor parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.Supervisor) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int checkIntervalSeconds_ = 10;
+      /**
+       * <code>optional int32 check_interval_seconds = 1 [default = 10];</code>
+       * @return Whether the checkIntervalSeconds field is set.
+       */
+      @java.lang.Override
+      public boolean hasCheckIntervalSeconds() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional int32 check_interval_seconds = 1 [default = 10];</code>
+       * @return The checkIntervalSeconds.
+       */
+      @java.lang.Override
+      public int getCheckIntervalSeconds() {
+        return checkIntervalSeconds_;
+      }
+      /**
+       * <code>optional int32 check_interval_seconds = 1 [default = 10];</code>
+       * @param value The checkIntervalSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCheckIntervalSeconds(int value) {
+        bitField0_ |= 0x00000001;
+        checkIntervalSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 check_interval_seconds = 1 [default = 10];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCheckIntervalSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        checkIntervalSeconds_ = 10;
+        onChanged();
+        return this;
+      }
+
+      private int maxHandshakeAgeSeconds_ = 180;
+      /**
+       * <pre>
+       * While sending, the tunnel is unhealthy if the latest handshake is older
+       * than this.  WireGuard re-handshakes every two minutes under traffic.
+       * </pre>
+       *
+       * <code>optional int32 max_handshake_age_seconds = 2 [default = 180];</code>
+       * @return Whether the maxHandshakeAgeSeconds field is set.
+       */
+      @java.lang.Override
+      public boolean hasMaxHandshakeAgeSeconds() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * While sending, the tunnel is unhealthy if the latest handshake is older
+       * than this.  WireGuard re-handshakes every two minutes under traffic.
+       * </pre>
+       *
+       * <code>optional int32 max_handshake_age_seconds = 2 [default = 180];</code>
+       * @return The maxHandshakeAgeSeconds.
+       */
+      @java.lang.Override
+      public int getMaxHandshakeAgeSeconds() {
+        return maxHandshakeAgeSeconds_;
+      }
+      /**
+       * <pre>
+       * While sending, the tunnel is unhealthy if the latest handshake is older
+       * than this.  WireGuard re-handshakes every two minutes under traffic.
+       * </pre>
+       *
+       * <code>optional int32 max_handshake_age_seconds = 2 [default = 180];</code>
+       * @param value The maxHandshakeAgeSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxHandshakeAgeSeconds(int value) {
+        bitField0_ |= 0x00000002;
+        maxHandshakeAgeSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * While sending, the tunnel is unhealthy if the latest handshake is older
+       * than this.  WireGuard re-handshakes every two minutes under traffic.
+       * </pre>
+       *
+       * <code>optional int32 max_handshake_age_seconds = 2 [default = 180];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxHandshakeAgeSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        maxHandshakeAgeSeconds_ = 180;
+        onChanged();
+        return this;
+      }
+
+      private int maxReceiveStallSeconds_ = 30;
+      /**
+       * <pre>
+       * While sending, the tunnel is unhealthy if nothing was received for this long.
+       * </pre>
+       *
+       * <code>optional int32 max_receive_stall_seconds = 3 [default = 30];</code>
+       * @return Whether the maxReceiveStallSeconds field is set.
+       */
+      @java.lang.Override
+      public boolean hasMaxReceiveStallSeconds() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * While sending, the tunnel is unhealthy if nothing was received for this long.
+       * </pre>
+       *
+       * <code>optional int32 max_receive_stall_seconds = 3 [default = 30];</code>
+       * @return The maxReceiveStallSeconds.
+       */
+      @java.lang.Override
+      public int getMaxReceiveStallSeconds() {
+        return maxReceiveStallSeconds_;
+      }
+      /**
+       * <pre>
+       * While sending, the tunnel is unhealthy if nothing was received for this long.
+       * </pre>
+       *
+       * <code>optional int32 max_receive_stall_seconds = 3 [default = 30];</code>
+       * @param value The maxReceiveStallSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxReceiveStallSeconds(int value) {
+        bitField0_ |= 0x00000004;
+        maxReceiveStallSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * While sending, the tunnel is unhealthy if nothing was received for this long.
+       * </pre>
+       *
+       * <code>optional int32 max_receive_stall_seconds = 3 [default = 30];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxReceiveStallSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        maxReceiveStallSeconds_ = 30;
+        onChanged();
+        return this;
+      }
+
+      private int minBackoffSeconds_ = 1;
+      /**
+       * <code>optional int32 min_backoff_seconds = 4 [default = 1];</code>
+       * @return Whether the minBackoffSeconds field is set.
+       */
+      @java.lang.Override
+      public boolean hasMinBackoffSeconds() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int32 min_backoff_seconds = 4 [default = 1];</code>
+       * @return The minBackoffSeconds.
+       */
+      @java.lang.Override
+      public int getMinBackoffSeconds() {
+        return minBackoffSeconds_;
+      }
+      /**
+       * <code>optional int32 min_backoff_seconds = 4 [default = 1];</code>
+       * @param value The minBackoffSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMinBackoffSeconds(int value) {
+        bitField0_ |= 0x00000008;
+        minBackoffSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 min_backoff_seconds = 4 [default = 1];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMinBackoffSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        minBackoffSeconds_ = 1;
+        onChanged();
+        return this;
+      }
+
+      private int maxBackoffSeconds_ = 300;
+      /**
+       * <code>optional int32 max_backoff_seconds = 5 [default = 300];</code>
+       * @return Whether the maxBackoffSeconds field is set.
+       */
+      @java.lang.Override
+      public boolean hasMaxBackoffSeconds() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int32 max_backoff_seconds = 5 [default = 300];</code>
+       * @return The maxBackoffSeconds.
+       */
+      @java.lang.Override
+      public int getMaxBackoffSeconds() {
+        return maxBackoffSeconds_;
+      }
+      /**
+       * <code>optional int32 max_backoff_seconds = 5 [default = 300];</code>
+       * @param value The maxBackoffSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxBackoffSeconds(int value) {
+        bitField0_ |= 0x00000010;
+        maxBackoffSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 max_backoff_seconds = 5 [default = 300];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxBackoffSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        maxBackoffSeconds_ = 300;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.Supervisor)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.Supervisor)
+    private static final pia4java.Proto.Supervisor DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.Supervisor();
+    }
+
+    public static pia4java.Proto.Supervisor getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<Supervisor>
+        PARSER = new com.google.protobuf.AbstractParser<Supervisor>() {
+      @java.lang.Override
+      public Supervisor parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Supervisor(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Supervisor> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Supervisor> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.Supervisor getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QualityMonitorOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.QualityMonitor)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Host probed through the tunnel; defaults to the server's VIP, the
+     * gateway inside the tunnel.
+     * </pre>
+     *
+     * <code>optional string target = 1;</code>
+     * @return Whether the target field is set.
+     */
+    boolean hasTarget();
+    /**
+     * <pre>
+     * Host probed through the tunnel; defaults to the server's VIP, the
+     * gateway inside the tunnel.
+     * </pre>
+     *
+     * <code>optional string target = 1;</code>
+     * @return The target.
+     */
+    java.lang.String getTarget();
+    /**
+     * <pre>
+     * Host probed through the tunnel; defaults to the server's VIP, the
+     * gateway inside the tunnel.
+     * </pre>
+     *
+     * <code>optional string target = 1;</code>
+     * @return The bytes for target.
+     */
+    com.google.protobuf.ByteString
+        getTargetBytes();
+
+    /**
+     * <pre>
+     * A probe times a TCP connect to this port.  A refused connection is
+     * answered as quickly as an accepted one.
+     * </pre>
+     *
+     * <code>optional int32 port = 2 [default = 19999];</code>
+     * @return Whether the port field is set.
+     */
+    boolean hasPort();
+    /**
+     * <pre>
+     * A probe times a TCP connect to this port.  A refused connection is
+     * answered as quickly as an accepted one.
+     * </pre>
+     *
+     * <code>optional int32 port = 2 [default = 19999];</code>
+     * @return The port.
+     */
+    int getPort();
+
+    /**
+     * <code>optional int32 interval_millis = 3 [default = 1000];</code>
+     * @return Whether the intervalMillis field is set.
+     */
+    boolean hasIntervalMillis();
+    /**
+     * <code>optional int32 interval_millis = 3 [default = 1000];</code>
+     * @return The intervalMillis.
+     */
+    int getIntervalMillis();
+
+    /**
+     * <pre>
+     * A probe not answered within this is lost.
+     * </pre>
+     *
+     * <code>optional int32 timeout_millis = 4 [default = 1000];</code>
+     * @return Whether the timeoutMillis field is set.
+     */
+    boolean hasTimeoutMillis();
+    /**
+     * <pre>
+     * A probe not answered within this is lost.
+     * </pre>
+     *
+     * <code>optional int32 timeout_millis = 4 [default = 1000];</code>
+     * @return The timeoutMillis.
+     */
+    int getTimeoutMillis();
+
+    /**
+     * <pre>
+     * Percentiles, jitter and loss are over this window.
+     * </pre>
+     *
+     * <code>optional int32 window_seconds = 5 [default = 60];</code>
+     * @return Whether the windowSeconds field is set.
+     */
+    boolean hasWindowSeconds();
+    /**
+     * <pre>
+     * Percentiles, jitter and loss are over this window.
+     * </pre>
+     *
+     * <code>optional int32 window_seconds = 5 [default = 60];</code>
+     * @return The windowSeconds.
+     */
+    int getWindowSeconds();
+
+    /**
+     * <code>optional int32 report_interval_seconds = 6 [default = 60];</code>
+     * @return Whether the reportIntervalSeconds field is set.
+     */
+    boolean hasReportIntervalSeconds();
+    /**
+     * <code>optional int32 report_interval_seconds = 6 [default = 60];</code>
+     * @return The reportIntervalSeconds.
+     */
+    int getReportIntervalSeconds();
+
+    /**
+     * <pre>
+     * A report over either limit is logged as a warning.
+     * </pre>
+     *
+     * <code>optional double max_loss_percent = 7;</code>
+     * @return Whether the maxLossPercent field is set.
+     */
+    boolean hasMaxLossPercent();
+    /**
+     * <pre>
+     * A report over either limit is logged as a warning.
+     * </pre>
+     *
+     * <code>optional double max_loss_percent = 7;</code>
+     * @return The maxLossPercent.
+     */
+    double getMaxLossPercent();
+
+    /**
+     * <code>optional double max_p99_rtt_millis = 8;</code>
+     * @return Whether the maxP99RttMillis field is set.
+     */
+    boolean hasMaxP99RttMillis();
+    /**
+     * <code>optional double max_p99_rtt_millis = 8;</code>
+     * @return The maxP99RttMillis.
+     */
+    double getMaxP99RttMillis();
+  }
+  /**
+   * Protobuf type {@code pia4java.QualityMonitor}
+   */
+  public static final class QualityMonitor extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.QualityMonitor)
+      QualityMonitorOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QualityMonitor.newBuilder() to construct.
+    private QualityMonitor(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QualityMonitor() {
+      target_ = "";
+      port_ = 19999;
+      intervalMillis_ = 1000;
+      timeoutMillis_ = 1000;
+      windowSeconds_ = 60;
+      reportIntervalSeconds_ = 60;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QualityMonitor();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private QualityMonitor(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              target_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              port_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              intervalMillis_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              timeoutMillis_ = input.readInt32();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              windowSeconds_ = input.readInt32();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              reportIntervalSeconds_ = input.readInt32();
+              break;
+            }
+            case 57: {
+              bitField0_ |= 0x00000040;
+              maxLossPercent_ = input.readDouble();
+              break;
+            }
+            case 65: {
+              bitField0_ |= 0x00000080;
+              maxP99RttMillis_ = input.readDouble();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_QualityMonitor_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_QualityMonitor_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.QualityMonitor.class, pia4java.Proto.QualityMonitor.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int TARGET_FIELD_NUMBER = 1;
+    private volatile java.lang.Object target_;
+    /**
+     * <pre>
+     * Host probed through the tunnel; defaults to the server's VIP, the
+     * gateway inside the tunnel.
+     * </pre>
+     *
+     * <code>optional string target = 1;</code>
+     * @return Whether the target field is set.
+     */
+    @java.lang.Override
+    public boolean hasTarget() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * Host probed through the tunnel; defaults to the server's VIP, the
+     * gateway inside the tunnel.
+     * </pre>
+     *
+     * <code>optional string target = 1;</code>
+     * @return The target.
+     */
+    @java.lang.Override
+    public java.lang.String getTarget() {
+      java.lang.Object ref = target_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          target_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Host probed through the tunnel; defaults to the server's VIP, the
+     * gateway inside the tunnel.
+     * </pre>
+     *
+     * <code>optional string target = 1;</code>
+     * @return The bytes for target.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTargetBytes() {
+      java.lang.Object ref = target_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        target_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PORT_FIELD_NUMBER = 2;
+    private int port_;
+    /**
+     * <pre>
+     * A probe times a TCP connect to this port.  A refused connection is
+     * answered as quickly as an accepted one.
+     * </pre>
+     *
+     * <code>optional int32 port = 2 [default = 19999];</code>
+     * @return Whether the port field is set.
+     */
+    @java.lang.Override
+    public boolean hasPort() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * A probe times a TCP connect to this port.  A refused connection is
+     * answered as quickly as an accepted one.
+     * </pre>
+     *
+     * <code>optional int32 port = 2 [default = 19999];</code>
+     * @return The port.
+     */
+    @java.lang.Override
+    public int getPort() {
+      return port_;
+    }
+
+    public static final int INTERVAL_MILLIS_FIELD_NUMBER = 3;
+    private int intervalMillis_;
+    /**
+     * <code>optional int32 interval_millis = 3 [default = 1000];</code>
+     * @return Whether the intervalMillis field is set.
+     */
+    @java.lang.Override
+    public boolean hasIntervalMillis() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int32 interval_millis = 3 [default = 1000];</code>
+     * @return The intervalMillis.
+     */
+    @java.lang.Override
+    public int getIntervalMillis() {
+      return intervalMillis_;
+    }
+
+    public static final int TIMEOUT_MILLIS_FIELD_NUMBER = 4;
+    private int timeoutMillis_;
+    /**
+     * <pre>
+     * A probe not answered within this is lost.
+     * </pre>
+     *
+     * <code>optional int32 timeout_millis = 4 [default = 1000];</code>
+     * @return Whether the timeoutMillis field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimeoutMillis() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * A probe not answered within this is lost.
+     * </pre>
+     *
+     * <code>optional int32 timeout_millis = 4 [default = 1000];</code>
+     * @return The timeoutMillis.
+     */
+    @java.lang.Override
+    public int getTimeoutMillis() {
+      return timeoutMillis_;
+    }
+
+    public static final int WINDOW_SECONDS_FIELD_NUMBER = 5;
+    private int windowSeconds_;
+    /**
+     * <pre>
+     * Percentiles, jitter and loss are over this window.
+     * </pre>
+     *
+     * <code>optional int32 window_seconds = 5 [default = 60];</code>
+     * @return Whether the windowSeconds field is set.
+     */
+    @java.lang.Override
+    public boolean hasWindowSeconds() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <pre>
+     * Percentiles, jitter and loss are over this window.
+     * </pre>
+     *
+     * <code>optional int32 window_seconds = 5 [default = 60];</code>
+     * @return The windowSeconds.
+     */
+    @java.lang.Override
+    public int getWindowSeconds() {
+      return windowSeconds_;
+    }
+
+    public static final int REPORT_INTERVAL_SECONDS_FIELD_NUMBER = 6;
+    private int reportIntervalSeconds_;
+    /**
+     * <code>optional int32 report_interval_seconds = 6 [default = 60];</code>
+     * @return Whether the reportIntervalSeconds field is set.
+     */
+    @java.lang.Override
+    public boolean hasReportIntervalSeconds() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional int32 report_interval_seconds = 6 [default = 60];</code>
+     * @return The reportIntervalSeconds.
+     */
+    @java.lang.Override
+    public int getReportIntervalSeconds() {
+      return reportIntervalSeconds_;
+    }
+
+    public static final int MAX_LOSS_PERCENT_FIELD_NUMBER = 7;
+    private double maxLossPercent_;
+    /**
+     * <pre>
+     * A report over either limit is logged as a warning.
+     * </pre>
+     *
+     * <code>optional double max_loss_percent = 7;</code>
+     * @return Whether the maxLossPercent field is set.
+     */
+    @java.lang.Override
+    public boolean hasMaxLossPercent() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <pre>
+     * A report over either limit is logged as a warning.
+     * </pre>
+     *
+     * <code>optional double max_loss_percent = 7;</code>
+     * @return The maxLossPercent.
+     */
+    @java.lang.Override
+    public double getMaxLossPercent() {
+      return maxLossPercent_;
+    }
+
+    public static final int MAX_P99_RTT_MILLIS_FIELD_NUMBER = 8;
+    private double maxP99RttMillis_;
+    /**
+     * <code>optional double max_p99_rtt_millis = 8;</code>
+     * @return Whether the maxP99RttMillis field is set.
+     */
+    @java.lang.Override
+    public boolean hasMaxP99RttMillis() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>optional double max_p99_rtt_millis = 8;</code>
+     * @return The maxP99RttMillis.
+     */
+    @java.lang.Override
+    public double getMaxP99RttMillis() {
+      return maxP99RttMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, target_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, port_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(3, intervalMillis_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt32(4, timeoutMillis_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt32(5, windowSeconds_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeInt32(6, reportIntervalSeconds_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeDouble(7, maxLossPercent_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeDouble(8, maxP99RttMillis_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, target_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, port_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, intervalMillis_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, timeoutMillis_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, windowSeconds_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, reportIntervalSeconds_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(7, maxLossPercent_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(8, maxP99RttMillis_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.QualityMonitor)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.QualityMonitor other = (pia4java.Proto.QualityMonitor) obj;
+
+      if (hasTarget() != other.hasTarget()) return false;
+      if (hasTarget()) {
+        if (!getTarget()
+            .equals(other.getTarget())) return false;
+      }
+      if (hasPort() != other.hasPort()) return false;
+      if (hasPort()) {
+        if (getPort()
+            != other.getPort()) return false;
+      }
+      if (hasIntervalMillis() != other.hasIntervalMillis()) return false;
+      if (hasIntervalMillis()) {
+        if (getIntervalMillis()
+            != other.getIntervalMillis()) return false;
+      }
+      if (hasTimeoutMillis() != other.hasTimeoutMillis()) return false;
+      if (hasTimeoutMillis()) {
+        if (getTimeoutMillis()
+            != other.getTimeoutMillis()) return false;
+      }
+      if (hasWindowSeconds() != other.hasWindowSeconds()) return false;
+      if (hasWindowSeconds()) {
+        if (getWindowSeconds()
+            != other.getWindowSeconds()) return false;
+      }
+      if (hasReportIntervalSeconds() != other.hasReportIntervalSeconds()) return false;
+      if (hasReportIntervalSeconds()) {
+        if (getReportIntervalSeconds()
+            != other.getReportIntervalSeconds()) return false;
+      }
+      if (hasMaxLossPercent() != other.hasMaxLossPercent()) return false;
+      if (hasMaxLossPercent()) {
+        if (java.lang.Double.doubleToLongBits(getMaxLossPercent())
+            != java.lang.Double.doubleToLongBits(
+                other.getMaxLossPercent())) return false;
+      }
+      if (hasMaxP99RttMillis() != other.hasMaxP99RttMillis()) return false;
+      if (hasMaxP99RttMillis()) {
+        if (java.lang.Double.doubleToLongBits(getMaxP99RttMillis())
+            != java.lang.Double.doubleToLongBits(
+                other.getMaxP99RttMillis())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasTarget()) {
+        hash = (37 * hash) + TARGET_FIELD_NUMBER;
+        hash = (53 * hash) + getTarget().hashCode();
+      }
+      if (hasPort()) {
+        hash = (37 * hash) + PORT_FIELD_NUMBER;
+        hash = (53 * hash) + getPort();
+      }
+      if (hasIntervalMillis()) {
+        hash = (37 * hash) + INTERVAL_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + getIntervalMillis();
+      }
+      if (hasTimeoutMillis()) {
+        hash = (37 * hash) + TIMEOUT_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + getTimeoutMillis();
+      }
+      if (hasWindowSeconds()) {
+        hash = (37 * hash) + WINDOW_SECONDS_FIELD_NUMBER;
+        hash = (53 * hash) + getWindowSeconds();
+      }
+      if (hasReportIntervalSeconds()) {
+        hash = (37 * hash) + REPORT_INTERVAL_SECONDS_FIELD_NUMBER;
+        hash = (53 * hash) + getReportIntervalSeconds();
+      }
+      if (hasMaxLossPercent()) {
+        hash = (37 * hash) + MAX_LOSS_PERCENT_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getMaxLossPercent()));
+      }
+      if (hasMaxP99RttMillis()) {
+        hash = (37 * hash) + MAX_P99_RTT_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getMaxP99RttMillis()));
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.QualityMonitor parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.QualityMonitor parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.QualityMonitor parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.QualityMonitor parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.QualityMonitor parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.QualityMonitor parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.QualityMonitor parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.QualityMonitor parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.QualityMonitor parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.QualityMonitor parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.QualityMonitor parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.QualityMonitor parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.QualityMonitor prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pia4java.QualityMonitor}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.QualityMonitor)
+        pia4java.Proto.QualityMonitorOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_QualityMonitor_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_QualityMonitor_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.QualityMonitor.class, pia4java.Proto.QualityMonitor.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.QualityMonitor.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        target_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        port_ = 19999;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        intervalMillis_ = 1000;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timeoutMillis_ = 1000;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        windowSeconds_ = 60;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        reportIntervalSeconds_ = 60;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        maxLossPercent_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        maxP99RttMillis_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_QualityMonitor_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.QualityMonitor getDefaultInstanceForType() {
+        return pia4java.Proto.QualityMonitor.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.QualityMonitor build() {
+        pia4java.Proto.QualityMonitor result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.QualityMonitor buildPartial() {
+        pia4java.Proto.QualityMonitor result = new pia4java.Proto.QualityMonitor(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.target_ = target_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.port_ = port_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.intervalMillis_ = intervalMillis_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.timeoutMillis_ = timeoutMillis_;
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.windowSeconds_ = windowSeconds_;
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.reportIntervalSeconds_ = reportIntervalSeconds_;
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.maxLossPercent_ = maxLossPercent_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.maxP99RttMillis_ = maxP99RttMillis_;
+          to_bitField0_ |= 0x00000080;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.QualityMonitor) {
+          return mergeFrom((pia4java.Proto.QualityMonitor)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.QualityMonitor other) {
+        if (other == pia4java.Proto.QualityMonitor.getDefaultInstance()) return this;
+        if (other.hasTarget()) {
+          bitField0_ |= 0x00000001;
+          target_ = other.target_;
+          onChanged();
+        }
+        if (other.hasPort()) {
+          setPort(other.getPort());
+        }
+        if (other.hasIntervalMillis()) {
+          setIntervalMillis(other.getIntervalMillis());
+        }
+        if (other.hasTimeoutMillis()) {
+          setTimeoutMillis(other.getTimeoutMillis());
+        }
+        if (other.hasWindowSeconds()) {
+          setWindowSeconds(other.getWindowSeconds());
+        }
+        if (other.hasReportIntervalSeconds()) {
+          setReportIntervalSeconds(other.getReportIntervalSeconds());
+        }
+        if (other.hasMaxLossPercent()) {
+          setMaxLossPercent(other.getMaxLossPercent());
+        }
+        if (other.hasMaxP99RttMillis()) {
+          setMaxP99RttMillis(other.getMaxP99RttMillis());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.QualityMonitor parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.QualityMonitor) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object target_ = "";
+      /**
+       * <pre>
+       * Host probed through the tunnel; defaults to the server's VIP, the
+       * gateway inside the tunnel.
+       * </pre>
+       *
+       * <code>optional string target = 1;</code>
+       * @return Whether the target field is set.
+       */
+      public boolean hasTarget() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * Host probed through the tunnel; defaults to the server's VIP, the
+       * gateway inside the tunnel.
+       * </pre>
+       *
+       * <code>optional string target = 1;</code>
+       * @return The target.
+       */
+      public java.lang.String getTarget() {
+        java.lang.Object ref = target_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            target_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Host probed through the tunnel; defaults to the server's VIP, the
+       * gateway inside the tunnel.
+       * </pre>
+       *
+       * <code>optional string target = 1;</code>
+       * @return The bytes for target.
+       */
+      public com.google.protobuf.ByteString
+          getTargetBytes() {
+        java.lang.Object ref = target_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          target_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Host probed through the tunnel; defaults to the server's VIP, the
+       * gateway inside the tunnel.
+       * </pre>
+       *
+       * <code>optional string target = 1;</code>
+       * @param value The target to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTarget(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        target_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Host probed through the tunnel; defaults to the server's VIP, the
+       * gateway inside the tunnel.
+       * </pre>
+       *
+       * <code>optional string target = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTarget() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        target_ = getDefaultInstance().getTarget();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Host probed through the tunnel; defaults to the server's VIP, the
+       * gateway inside the tunnel.
+       * </pre>
+       *
+       * <code>optional string target = 1;</code>
+       * @param value The bytes for target to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTargetBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        target_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int port_ = 19999;
+      /**
+       * <pre>
+       * A probe times a TCP connect to this port.  A refused connection is
+       * answered as quickly as an accepted one.
+       * </pre>
+       *
+       * <code>optional int32 port = 2 [default = 19999];</code>
+       * @return Whether the port field is set.
+       */
+      @java.lang.Override
+      public boolean hasPort() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * A probe times a TCP connect to this port.  A refused connection is
+       * answered as quickly as an accepted one.
+       * </pre>
+       *
+       * <code>optional int32 port = 2 [default = 19999];</code>
+       * @return The port.
+       */
+      @java.lang.Override
+      public int getPort() {
+        return port_;
+      }
+      /**
+       * <pre>
+       * A probe times a TCP connect to this port.  A refused connection is
+       * answered as quickly as an accepted one.
+       * </pre>
+       *
+       * <code>optional int32 port = 2 [default = 19999];</code>
+       * @param value The port to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPort(int value) {
+        bitField0_ |= 0x00000002;
+        port_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * A probe times a TCP connect to this port.  A refused connection is
+       * answered as quickly as an accepted one.
+       * </pre>
+       *
+       * <code>optional int32 port = 2 [default = 19999];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPort() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        port_ = 19999;
+        onChanged();
+        return this;
+      }
+
+      private int intervalMillis_ = 1000;
+      /**
+       * <code>optional int32 interval_millis = 3 [default = 1000];</code>
+       * @return Whether the intervalMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasIntervalMillis() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int32 interval_millis = 3 [default = 1000];</code>
+       * @return The intervalMillis.
+       */
+      @java.lang.Override
+      public int getIntervalMillis() {
+        return intervalMillis_;
+      }
+      /**
+       * <code>optional int32 interval_millis = 3 [default = 1000];</code>
+       * @param value The intervalMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIntervalMillis(int value) {
+        bitField0_ |= 0x00000004;
+        intervalMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 interval_millis = 3 [default = 1000];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIntervalMillis() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        intervalMillis_ = 1000;
+        onChanged();
+        return this;
+      }
+
+      private int timeoutMillis_ = 1000;
+      /**
+       * <pre>
+       * A probe not answered within this is lost.
+       * </pre>
+       *
+       * <code>optional int32 timeout_millis = 4 [default = 1000];</code>
+       * @return Whether the timeoutMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimeoutMillis() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * A probe not answered within this is lost.
+       * </pre>
+       *
+       * <code>optional int32 timeout_millis = 4 [default = 1000];</code>
+       * @return The timeoutMillis.
+       */
+      @java.lang.Override
+      public int getTimeoutMillis() {
+        return timeoutMillis_;
+      }
+      /**
+       * <pre>
+       * A probe not answered within this is lost.
+       * </pre>
+       *
+       * <code>optional int32 timeout_millis = 4 [default = 1000];</code>
+       * @param value The timeoutMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeoutMillis(int value) {
+        bitField0_ |= 0x00000008;
+        timeoutMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * A probe not answered within this is lost.
+       * </pre>
+       *
+       * <code>optional int32 timeout_millis = 4 [default = 1000];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimeoutMillis() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        timeoutMillis_ = 1000;
+        onChanged();
+        return this;
+      }
+
+      private int windowSeconds_ = 60;
+      /**
+       * <pre>
+       * Percentiles, jitter and loss are over this window.
+       * </pre>
+       *
+       * <code>optional int32 window_seconds = 5 [default = 60];</code>
+       * @return Whether the windowSeconds field is set.
+       */
+      @java.lang.Override
+      public boolean hasWindowSeconds() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <pre>
+       * Percentiles, jitter and loss are over this window.
+       * </pre>
+       *
+       * <code>optional int32 window_seconds = 5 [default = 60];</code>
+       * @return The windowSeconds.
+       */
+      @java.lang.Override
+      public int getWindowSeconds() {
+        return windowSeconds_;
+      }
+      /**
+       * <pre>
+       * Percentiles, jitter and loss are over this window.
+       * </pre>
+       *
+       * <code>optional int32 window_seconds = 5 [default = 60];</code>
+       * @param value The windowSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWindowSeconds(int value) {
+        bitField0_ |= 0x00000010;
+        windowSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Percentiles, jitter and loss are over this window.
+       * </pre>
+       *
+       * <code>optional int32 window_seconds = 5 [default = 60];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWindowSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        windowSeconds_ = 60;
+        onChanged();
+        return this;
+      }
+
+      private int reportIntervalSeconds_ = 60;
+      /**
+       * <code>optional int32 report_interval_seconds = 6 [default = 60];</code>
+       * @return Whether the reportIntervalSeconds field is set.
+       */
+      @java.lang.Override
+      public boolean hasReportIntervalSeconds() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional int32 report_interval_seconds = 6 [default = 60];</code>
+       * @return The reportIntervalSeconds.
+       */
+      @java.lang.Override
+      public int getReportIntervalSeconds() {
+        return reportIntervalSeconds_;
+      }
+      /**
+       * <code>optional int32 report_interval_seconds = 6 [default = 60];</code>
+       * @param value The reportIntervalSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReportIntervalSeconds(int value) {
+        bitField0_ |= 0x00000020;
+        reportIntervalSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 report_interval_seconds = 6 [default = 60];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReportIntervalSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        reportIntervalSeconds_ = 60;
+        onChanged();
+        return this;
+      }
+
+      private double maxLossPercent_ ;
+      /**
+       * <pre>
+       * A report over either limit is logged as a warning.
+       * </pre>
+       *
+       * <code>optional double max_loss_percent = 7;</code>
+       * @return Whether the maxLossPercent field is set.
+       */
+      @java.lang.Override
+      public boolean hasMaxLossPercent() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <pre>
+       * A report over either limit is logged as a warning.
+       * </pre>
+       *
+       * <code>optional double max_loss_percent = 7;</code>
+       * @return The maxLossPercent.
+       */
+      @java.lang.Override
+      public double getMaxLossPercent() {
+        return maxLossPercent_;
+      }
+      /**
+       * <pre>
+       * A report over either limit is logged as a warning.
+       * </pre>
+       *
+       * <code>optional double max_loss_percent = 7;</code>
+       * @param value The maxLossPercent to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxLossPercent(double value) {
+        bitField0_ |= 0x00000040;
+        maxLossPercent_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * A report over either limit is logged as a warning.
+       * </pre>
+       *
+       * <code>optional double max_loss_percent = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxLossPercent() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        maxLossPercent_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double maxP99RttMillis_ ;
+      /**
+       * <code>optional double max_p99_rtt_millis = 8;</code>
+       * @return Whether the maxP99RttMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasMaxP99RttMillis() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional double max_p99_rtt_millis = 8;</code>
+       * @return The maxP99RttMillis.
+       */
+      @java.lang.Override
+      public double getMaxP99RttMillis() {
+        return maxP99RttMillis_;
+      }
+      /**
+       * <code>optional double max_p99_rtt_millis = 8;</code>
+       * @param value The maxP99RttMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxP99RttMillis(double value) {
+        bitField0_ |= 0x00000080;
+        maxP99RttMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double max_p99_rtt_millis = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxP99RttMillis() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        maxP99RttMillis_ = 0D;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.QualityMonitor)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.QualityMonitor)
+    private static final pia4java.Proto.QualityMonitor DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.QualityMonitor();
+    }
+
+    public static pia4java.Proto.QualityMonitor getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<QualityMonitor>
+        PARSER = new com.google.protobuf.AbstractParser<QualityMonitor>() {
+      @java.lang.Override
+      public QualityMonitor parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new QualityMonitor(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<QualityMonitor> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QualityMonitor> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.QualityMonitor getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QualityReportOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.QualityReport)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string interface_name = 1;</code>
+     * @return Whether the interfaceName field is set.
+     */
+    boolean hasInterfaceName();
+    /**
+     * <code>optional string interface_name = 1;</code>
+     * @return The interfaceName.
+     */
+    java.lang.String getInterfaceName();
+    /**
+     * <code>optional string interface_name = 1;</code>
+     * @return The bytes for interfaceName.
+     */
+    com.google.protobuf.ByteString
+        getInterfaceNameBytes();
+
+    /**
+     * <code>optional string target = 2;</code>
+     * @return Whether the target field is set.
+     */
+    boolean hasTarget();
+    /**
+     * <code>optional string target = 2;</code>
+     * @return The target.
+     */
+    java.lang.String getTarget();
+    /**
+     * <code>optional string target = 2;</code>
+     * @return The bytes for target.
+     */
+    com.google.protobuf.ByteString
+        getTargetBytes();
+
+    /**
+     * <code>optional int64 epoch_millis = 3;</code>
+     * @return Whether the epochMillis field is set.
+     */
+    boolean hasEpochMillis();
+    /**
+     * <code>optional int64 epoch_millis = 3;</code>
+     * @return The epochMillis.
+     */
+    long getEpochMillis();
+
+    /**
+     * <code>optional int32 window_seconds = 4;</code>
+     * @return Whether the windowSeconds field is set.
+     */
+    boolean hasWindowSeconds();
+    /**
+     * <code>optional int32 window_seconds = 4;</code>
+     * @return The windowSeconds.
+     */
+    int getWindowSeconds();
+
+    /**
+     * <code>optional int64 probes = 5;</code>
+     * @return Whether the probes field is set.
+     */
+    boolean hasProbes();
+    /**
+     * <code>optional int64 probes = 5;</code>
+     * @return The probes.
+     */
+    long getProbes();
+
+    /**
+     * <code>optional double loss_percent = 6;</code>
+     * @return Whether the lossPercent field is set.
+     */
+    boolean hasLossPercent();
+    /**
+     * <code>optional double loss_percent = 6;</code>
+     * @return The lossPercent.
+     */
+    double getLossPercent();
+
+    /**
+     * <code>optional double jitter_millis = 7;</code>
+     * @return Whether the jitterMillis field is set.
+     */
+    boolean hasJitterMillis();
+    /**
+     * <code>optional double jitter_millis = 7;</code>
+     * @return The jitterMillis.
+     */
+    double getJitterMillis();
+
+    /**
+     * <code>optional double rtt_p50_millis = 8;</code>
+     * @return Whether the rttP50Millis field is set.
+     */
+    boolean hasRttP50Millis();
+    /**
+     * <code>optional double rtt_p50_millis = 8;</code>
+     * @return The rttP50Millis.
+     */
+    double getRttP50Millis();
+
+    /**
+     * <code>optional double rtt_p90_millis = 9;</code>
+     * @return Whether the rttP90Millis field is set.
+     */
+    boolean hasRttP90Millis();
+    /**
+     * <code>optional double rtt_p90_millis = 9;</code>
+     * @return The rttP90Millis.
+     */
+    double getRttP90Millis();
+
+    /**
+     * <code>optional double rtt_p99_millis = 10;</code>
+     * @return Whether the rttP99Millis field is set.
+     */
+    boolean hasRttP99Millis();
+    /**
+     * <code>optional double rtt_p99_millis = 10;</code>
+     * @return The rttP99Millis.
+     */
+    double getRttP99Millis();
+
+    /**
+     * <code>optional double rtt_max_millis = 11;</code>
+     * @return Whether the rttMaxMillis field is set.
+     */
+    boolean hasRttMaxMillis();
+    /**
+     * <code>optional double rtt_max_millis = 11;</code>
+     * @return The rttMaxMillis.
+     */
+    double getRttMaxMillis();
+  }
+  /**
+   * <pre>
+   * Written to &lt;cache_dir&gt;/&lt;interface&gt;.quality.txt with every report.
+   * </pre>
+   *
+   * Protobuf type {@code pia4java.QualityReport}
+   */
+  public static final class QualityReport extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.QualityReport)
+      QualityReportOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QualityReport.newBuilder() to construct.
+    private QualityReport(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QualityReport() {
+      interfaceName_ = "";
+      target_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QualityReport();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private QualityReport(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              interfaceName_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              target_ = bs;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              epochMillis_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              windowSeconds_ = input.readInt32();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              probes_ = input.readInt64();
+              break;
+            }
+            case 49: {
+              bitField0_ |= 0x00000020;
+              lossPercent_ = input.readDouble();
+              break;
+            }
+            case 57: {
+              bitField0_ |= 0x00000040;
+              jitterMillis_ = input.readDouble();
+              break;
+            }
+            case 65: {
+              bitField0_ |= 0x00000080;
+              rttP50Millis_ = input.readDouble();
+              break;
+            }
+            case 73: {
+              bitField0_ |= 0x00000100;
+              rttP90Millis_ = input.readDouble();
+              break;
+            }
+            case 81: {
+              bitField0_ |= 0x00000200;
+              rttP99Millis_ = input.readDouble();
+              break;
+            }
+            case 89: {
+              bitField0_ |= 0x00000400;
+              rttMaxMillis_ = input.readDouble();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_QualityReport_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_QualityReport_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.QualityReport.class, pia4java.Proto.QualityReport.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int INTERFACE_NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object interfaceName_;
+    /**
+     * <code>optional string interface_name = 1;</code>
+     * @return Whether the interfaceName field is set.
+     */
+    @java.lang.Override
+    public boolean hasInterfaceName() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string interface_name = 1;</code>
+     * @return The interfaceName.
+     */
+    @java.lang.Override
+    public java.lang.String getInterfaceName() {
+      java.lang.Object ref = interfaceName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          interfaceName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string interface_name = 1;</code>
+     * @return The bytes for interfaceName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInterfaceNameBytes() {
+      java.lang.Object ref = interfaceName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        interfaceName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TARGET_FIELD_NUMBER = 2;
+    private volatile java.lang.Object target_;
+    /**
+     * <code>optional string target = 2;</code>
+     * @return Whether the target field is set.
+     */
+    @java.lang.Override
+    public boolean hasTarget() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string target = 2;</code>
+     * @return The target.
+     */
+    @java.lang.Override
+    public java.lang.String getTarget() {
+      java.lang.Object ref = target_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          target_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string target = 2;</code>
+     * @return The bytes for target.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTargetBytes() {
+      java.lang.Object ref = target_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        target_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int EPOCH_MILLIS_FIELD_NUMBER = 3;
+    private long epochMillis_;
+    /**
+     * <code>optional int64 epoch_millis = 3;</code>
+     * @return Whether the epochMillis field is set.
+     */
+    @java.lang.Override
+    public boolean hasEpochMillis() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int64 epoch_millis = 3;</code>
+     * @return The epochMillis.
+     */
+    @java.lang.Override
+    public long getEpochMillis() {
+      return epochMillis_;
+    }
+
+    public static final int WINDOW_SECONDS_FIELD_NUMBER = 4;
+    private int windowSeconds_;
+    /**
+     * <code>optional int32 window_seconds = 4;</code>
+     * @return Whether the windowSeconds field is set.
+     */
+    @java.lang.Override
+    public boolean hasWindowSeconds() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int32 window_seconds = 4;</code>
+     * @return The windowSeconds.
+     */
+    @java.lang.Override
+    public int getWindowSeconds() {
+      return windowSeconds_;
+    }
+
+    public static final int PROBES_FIELD_NUMBER = 5;
+    private long probes_;
+    /**
+     * <code>optional int64 probes = 5;</code>
+     * @return Whether the probes field is set.
+     */
+    @java.lang.Override
+    public boolean hasProbes() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int64 probes = 5;</code>
+     * @return The probes.
+     */
+    @java.lang.Override
+    public long getProbes() {
+      return probes_;
+    }
+
+    public static final int LOSS_PERCENT_FIELD_NUMBER = 6;
+    private double lossPercent_;
+    /**
+     * <code>optional double loss_percent = 6;</code>
+     * @return Whether the lossPercent field is set.
+     */
+    @java.lang.Override
+    public boolean hasLossPercent() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional double loss_percent = 6;</code>
+     * @return The lossPercent.
+     */
+    @java.lang.Override
+    public double getLossPercent() {
+      return lossPercent_;
+    }
+
+    public static final int JITTER_MILLIS_FIELD_NUMBER = 7;
+    private double jitterMillis_;
+    /**
+     * <code>optional double jitter_millis = 7;</code>
+     * @return Whether the jitterMillis field is set.
+     */
+    @java.lang.Override
+    public boolean hasJitterMillis() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional double jitter_millis = 7;</code>
+     * @return The jitterMillis.
+     */
+    @java.lang.Override
+    public double getJitterMillis() {
+      return jitterMillis_;
+    }
+
+    public static final int RTT_P50_MILLIS_FIELD_NUMBER = 8;
+    private double rttP50Millis_;
+    /**
+     * <code>optional double rtt_p50_millis = 8;</code>
+     * @return Whether the rttP50Millis field is set.
+     */
+    @java.lang.Override
+    public boolean hasRttP50Millis() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>optional double rtt_p50_millis = 8;</code>
+     * @return The rttP50Millis.
+     */
+    @java.lang.Override
+    public double getRttP50Millis() {
+      return rttP50Millis_;
+    }
+
+    public static final int RTT_P90_MILLIS_FIELD_NUMBER = 9;
+    private double rttP90Millis_;
+    /**
+     * <code>optional double rtt_p90_millis = 9;</code>
+     * @return Whether the rttP90Millis field is set.
+     */
+    @java.lang.Override
+    public boolean hasRttP90Millis() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <code>optional double rtt_p90_millis = 9;</code>
+     * @return The rttP90Millis.
+     */
+    @java.lang.Override
+    public double getRttP90Millis() {
+      return rttP90Millis_;
+    }
+
+    public static final int RTT_P99_MILLIS_FIELD_NUMBER = 10;
+    private double rttP99Millis_;
+    /**
+     * <code>optional double rtt_p99_millis = 10;</code>
+     * @return Whether the rttP99Millis field is set.
+     */
+    @java.lang.Override
+    public boolean hasRttP99Millis() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <code>optional double rtt_p99_millis = 10;</code>
+     * @return The rttP99Millis.
+     */
+    @java.lang.Override
+    public double getRttP99Millis() {
+      return rttP99Millis_;
+    }
+
+    public static final int RTT_MAX_MILLIS_FIELD_NUMBER = 11;
+    private double rttMaxMillis_;
+    /**
+     * <code>optional double rtt_max_millis = 11;</code>
+     * @return Whether the rttMaxMillis field is set.
+     */
+    @java.lang.Override
+    public boolean hasRttMaxMillis() {
+      return ((bitField0_ & 0x00000400) != 0);
+    }
+    /**
+     * <code>optional double rtt_max_millis = 11;</code>
+     * @return The rttMaxMillis.
+     */
+    @java.lang.Override
+    public double getRttMaxMillis() {
+      return rttMaxMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, interfaceName_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, target_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, epochMillis_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt32(4, windowSeconds_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt64(5, probes_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeDouble(6, lossPercent_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeDouble(7, jitterMillis_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeDouble(8, rttP50Millis_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        output.writeDouble(9, rttP90Millis_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        output.writeDouble(10, rttP99Millis_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        output.writeDouble(11, rttMaxMillis_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, interfaceName_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, target_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, epochMillis_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, windowSeconds_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, probes_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(6, lossPercent_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(7, jitterMillis_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(8, rttP50Millis_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(9, rttP90Millis_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(10, rttP99Millis_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(11, rttMaxMillis_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.QualityReport)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.QualityReport other = (pia4java.Proto.QualityReport) obj;
+
+      if (hasInterfaceName() != other.hasInterfaceName()) return false;
+      if (hasInterfaceName()) {
+        if (!getInterfaceName()
+            .equals(other.getInterfaceName())) return false;
+      }
+      if (hasTarget() != other.hasTarget()) return false;
+      if (hasTarget()) {
+        if (!getTarget()
+            .equals(other.getTarget())) return false;
+      }
+      if (hasEpochMillis() != other.hasEpochMillis()) return false;
+      if (hasEpochMillis()) {
+        if (getEpochMillis()
+            != other.getEpochMillis()) return false;
+      }
+      if (hasWindowSeconds() != other.hasWindowSeconds()) return false;
+      if (hasWindowSeconds()) {
+        if (getWindowSeconds()
+            != other.getWindowSeconds()) return false;
+      }
+      if (hasProbes() != other.hasProbes()) return false;
+      if (hasProbes()) {
+        if (getProbes()
+            != other.getProbes()) return false;
+      }
+      if (hasLossPercent() != other.hasLossPercent()) return false;
+      if (hasLossPercent()) {
+        if (java.lang.Double.doubleToLongBits(getLossPercent())
+            != java.lang.Double.doubleToLongBits(
+                other.getLossPercent())) return false;
+      }
+      if (hasJitterMillis() != other.hasJitterMillis()) return false;
+      if (hasJitterMillis()) {
+        if (java.lang.Double.doubleToLongBits(getJitterMillis())
+            != java.lang.Double.doubleToLongBits(
+                other.getJitterMillis())) return false;
+      }
+      if (hasRttP50Millis() != other.hasRttP50Millis()) return false;
+      if (hasRttP50Millis()) {
+        if (java.lang.Double.doubleToLongBits(getRttP50Millis())
+            != java.lang.Double.doubleToLongBits(
+                other.getRttP50Millis())) return false;
+      }
+      if (hasRttP90Millis() != other.hasRttP90Millis()) return false;
+      if (hasRttP90Millis()) {
+        if (java.lang.Double.doubleToLongBits(getRttP90Millis())
+            != java.lang.Double.doubleToLongBits(
+                other.getRttP90Millis())) return false;
+      }
+      if (hasRttP99Millis() != other.hasRttP99Millis()) return false;
+      if (hasRttP99Millis()) {
+        if (java.lang.Double.doubleToLongBits(getRttP99Millis())
+            != java.lang.Double.doubleToLongBits(
+                other.getRttP99Millis())) return false;
+      }
+      if (hasRttMaxMillis() != other.hasRttMaxMillis()) return false;
+      if (hasRttMaxMillis()) {
+        if (java.lang.Double.doubleToLongBits(getRttMaxMillis())
+            != java.lang.Double.doubleToLongBits(
+                other.getRttMaxMillis())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasInterfaceName()) {
+        hash = (37 * hash) + INTERFACE_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getInterfaceName().hashCode();
+      }
+      if (hasTarget()) {
+        hash = (37 * hash) + TARGET_FIELD_NUMBER;
+        hash = (53 * hash) + getTarget().hashCode();
+      }
+      if (hasEpochMillis()) {
+        hash = (37 * hash) + EPOCH_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getEpochMillis());
+      }
+      if (hasWindowSeconds()) {
+        hash = (37 * hash) + WINDOW_SECONDS_FIELD_NUMBER;
+        hash = (53 * hash) + getWindowSeconds();
+      }
+      if (hasProbes()) {
+        hash = (37 * hash) + PROBES_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getProbes());
+      }
+      if (hasLossPercent()) {
+        hash = (37 * hash) + LOSS_PERCENT_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getLossPercent()));
+      }
+      if (hasJitterMillis()) {
+        hash = (37 * hash) + JITTER_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getJitterMillis()));
+      }
+      if (hasRttP50Millis()) {
+        hash = (37 * hash) + RTT_P50_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getRttP50Millis()));
+      }
+      if (hasRttP90Millis()) {
+        hash = (37 * hash) + RTT_P90_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getRttP90Millis()));
+      }
+      if (hasRttP99Millis()) {
+        hash = (37 * hash) + RTT_P99_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getRttP99Millis()));
+      }
+      if (hasRttMaxMillis()) {
+        hash = (37 * hash) + RTT_MAX_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getRttMaxMillis()));
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.QualityReport parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.QualityReport parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.QualityReport parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.QualityReport parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.QualityReport parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.QualityReport parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.QualityReport parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.QualityReport parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.QualityReport parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.QualityReport parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.QualityReport parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.QualityReport parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.QualityReport prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Written to &lt;cache_dir&gt;/&lt;interface&gt;.quality.txt with every report.
+     * </pre>
+     *
+     * Protobuf type {@code pia4java.QualityReport}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.QualityReport)
+        pia4java.Proto.QualityReportOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_QualityReport_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_QualityReport_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.QualityReport.class, pia4java.Proto.QualityReport.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.QualityReport.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        interfaceName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        target_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        epochMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        windowSeconds_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        probes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        lossPercent_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        jitterMillis_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        rttP50Millis_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        rttP90Millis_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        rttP99Millis_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000200);
+        rttMaxMillis_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000400);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_QualityReport_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.QualityReport getDefaultInstanceForType() {
+        return pia4java.Proto.QualityReport.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.QualityReport build() {
+        pia4java.Proto.QualityReport result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.QualityReport buildPartial() {
+        pia4java.Proto.QualityReport result = new pia4java.Proto.QualityReport(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.interfaceName_ = interfaceName_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.target_ = target_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.epochMillis_ = epochMillis_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.windowSeconds_ = windowSeconds_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.probes_ = probes_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.lossPercent_ = lossPercent_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.jitterMillis_ = jitterMillis_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.rttP50Millis_ = rttP50Millis_;
+          to_bitField0_ |= 0x00000080;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.rttP90Millis_ = rttP90Millis_;
+          to_bitField0_ |= 0x00000100;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.rttP99Millis_ = rttP99Millis_;
+          to_bitField0_ |= 0x00000200;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.rttMaxMillis_ = rttMaxMillis_;
+          to_bitField0_ |= 0x00000400;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.QualityReport) {
+          return mergeFrom((pia4java.Proto.QualityReport)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.QualityReport other) {
+        if (other == pia4java.Proto.QualityReport.getDefaultInstance()) return this;
+        if (other.hasInterfaceName()) {
+          bitField0_ |= 0x00000001;
+          interfaceName_ = other.interfaceName_;
+          onChanged();
+        }
+        if (other.hasTarget()) {
+          bitField0_ |= 0x00000002;
+          target_ = other.target_;
+          onChanged();
+        }
+        if (other.hasEpochMillis()) {
+          setEpochMillis(other.getEpochMillis());
+        }
+        if (other.hasWindowSeconds()) {
+          setWindowSeconds(other.getWindowSeconds());
+        }
+        if (other.hasProbes()) {
+          setProbes(other.getProbes());
+        }
+        if (other.hasLossPercent()) {
+          setLossPercent(other.getLossPercent());
+        }
+        if (other.hasJitterMillis()) {
+          setJitterMillis(other.getJitterMillis());
+        }
+        if (other.hasRttP50Millis()) {
+          setRttP50Millis(other.getRttP50Millis());
+        }
+        if (other.hasRttP90Millis()) {
+          setRttP90Millis(other.getRttP90Millis());
+        }
+        if (other.hasRttP99Millis()) {
+          setRttP99Millis(other.getRttP99Millis());
+        }
+        if (other.hasRttMaxMillis()) {
+          setRttMaxMillis(other.getRttMaxMillis());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.QualityReport parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.QualityReport) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object interfaceName_ = "";
+      /**
+       * <code>optional string interface_name = 1;</code>
+       * @return Whether the interfaceName field is set.
+       */
+      public boolean hasInterfaceName() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string interface_name = 1;</code>
+       * @return The interfaceName.
+       */
+      public java.lang.String getInterfaceName() {
+        java.lang.Object ref = interfaceName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            interfaceName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string interface_name = 1;</code>
+       * @return The bytes for interfaceName.
+       */
+      public com.google.protobuf.ByteString
+          getInterfaceNameBytes() {
+        java.lang.Object ref = interfaceName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          interfaceName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string interface_name = 1;</code>
+       * @param value The interfaceName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        interfaceName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string interface_name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInterfaceName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        interfaceName_ = getDefaultInstance().getInterfaceName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string interface_name = 1;</code>
+       * @param value The bytes for interfaceName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        interfaceName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object target_ = "";
+      /**
+       * <code>optional string target = 2;</code>
+       * @return Whether the target field is set.
+       */
+      public boolean hasTarget() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string target = 2;</code>
+       * @return The target.
+       */
+      public java.lang.String getTarget() {
+        java.lang.Object ref = target_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            target_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string target = 2;</code>
+       * @return The bytes for target.
+       */
+      public com.google.protobuf.ByteString
+          getTargetBytes() {
+        java.lang.Object ref = target_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          target_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string target = 2;</code>
+       * @param value The target to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTarget(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        target_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string target = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTarget() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        target_ = getDefaultInstance().getTarget();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string target = 2;</code>
+       * @param value The bytes for target to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTargetBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        target_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long epochMillis_ ;
+      /**
+       * <code>optional int64 epoch_millis = 3;</code>
+       * @return Whether the epochMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasEpochMillis() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 epoch_millis = 3;</code>
+       * @return The epochMillis.
+       */
+      @java.lang.Override
+      public long getEpochMillis() {
+        return epochMillis_;
+      }
+      /**
+       * <code>optional int64 epoch_millis = 3;</code>
+       * @param value The epochMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEpochMillis(long value) {
+        bitField0_ |= 0x00000004;
+        epochMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 epoch_millis = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEpochMillis() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        epochMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int windowSeconds_ ;
+      /**
+       * <code>optional int32 window_seconds = 4;</code>
+       * @return Whether the windowSeconds field is set.
+       */
+      @java.lang.Override
+      public boolean hasWindowSeconds() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int32 window_seconds = 4;</code>
+       * @return The windowSeconds.
+       */
+      @java.lang.Override
+      public int getWindowSeconds() {
+        return windowSeconds_;
+      }
+      /**
+       * <code>optional int32 window_seconds = 4;</code>
+       * @param value The windowSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWindowSeconds(int value) {
+        bitField0_ |= 0x00000008;
+        windowSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 window_seconds = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWindowSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        windowSeconds_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long probes_ ;
+      /**
+       * <code>optional int64 probes = 5;</code>
+       * @return Whether the probes field is set.
+       */
+      @java.lang.Override
+      public boolean hasProbes() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int64 probes = 5;</code>
+       * @return The probes.
+       */
+      @java.lang.Override
+      public long getProbes() {
+        return probes_;
+      }
+      /**
+       * <code>optional int64 probes = 5;</code>
+       * @param value The probes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProbes(long value) {
+        bitField0_ |= 0x00000010;
+        probes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 probes = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearProbes() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        probes_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private double lossPercent_ ;
+      /**
+       * <code>optional double loss_percent = 6;</code>
+       * @return Whether the lossPercent field is set.
+       */
+      @java.lang.Override
+      public boolean hasLossPercent() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional double loss_percent = 6;</code>
+       * @return The lossPercent.
+       */
+      @java.lang.Override
+      public double getLossPercent() {
+        return lossPercent_;
+      }
+      /**
+       * <code>optional double loss_percent = 6;</code>
+       * @param value The lossPercent to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLossPercent(double value) {
+        bitField0_ |= 0x00000020;
+        lossPercent_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double loss_percent = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLossPercent() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        lossPercent_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double jitterMillis_ ;
+      /**
+       * <code>optional double jitter_millis = 7;</code>
+       * @return Whether the jitterMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasJitterMillis() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional double jitter_millis = 7;</code>
+       * @return The jitterMillis.
+       */
+      @java.lang.Override
+      public double getJitterMillis() {
+        return jitterMillis_;
+      }
+      /**
+       * <code>optional double jitter_millis = 7;</code>
+       * @param value The jitterMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJitterMillis(double value) {
+        bitField0_ |= 0x00000040;
+        jitterMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double jitter_millis = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJitterMillis() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        jitterMillis_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double rttP50Millis_ ;
+      /**
+       * <code>optional double rtt_p50_millis = 8;</code>
+       * @return Whether the rttP50Millis field is set.
+       */
+      @java.lang.Override
+      public boolean hasRttP50Millis() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional double rtt_p50_millis = 8;</code>
+       * @return The rttP50Millis.
+       */
+      @java.lang.Override
+      public double getRttP50Millis() {
+        return rttP50Millis_;
+      }
+      /**
+       * <code>optional double rtt_p50_millis = 8;</code>
+       * @param value The rttP50Millis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRttP50Millis(double value) {
+        bitField0_ |= 0x00000080;
+        rttP50Millis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double rtt_p50_millis = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRttP50Millis() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        rttP50Millis_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double rttP90Millis_ ;
+      /**
+       * <code>optional double rtt_p90_millis = 9;</code>
+       * @return Whether the rttP90Millis field is set.
+       */
+      @java.lang.Override
+      public boolean hasRttP90Millis() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <code>optional double rtt_p90_millis = 9;</code>
+       * @return The rttP90Millis.
+       */
+      @java.lang.Override
+      public double getRttP90Millis() {
+        return rttP90Millis_;
+      }
+      /**
+       * <code>optional double rtt_p90_millis = 9;</code>
+       * @param value The rttP90Millis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRttP90Millis(double value) {
+        bitField0_ |= 0x00000100;
+        rttP90Millis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double rtt_p90_millis = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRttP90Millis() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        rttP90Millis_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double rttP99Millis_ ;
+      /**
+       * <code>optional double rtt_p99_millis = 10;</code>
+       * @return Whether the rttP99Millis field is set.
+       */
+      @java.lang.Override
+      public boolean hasRttP99Millis() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <code>optional double rtt_p99_millis = 10;</code>
+       * @return The rttP99Millis.
+       */
+      @java.lang.Override
+      public double getRttP99Millis() {
+        return rttP99Millis_;
+      }
+      /**
+       * <code>optional double rtt_p99_millis = 10;</code>
+       * @param value The rttP99Millis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRttP99Millis(double value) {
+        bitField0_ |= 0x00000200;
+        rttP99Millis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double rtt_p99_millis = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRttP99Millis() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        rttP99Millis_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double rttMaxMillis_ ;
+      /**
+       * <code>optional double rtt_max_millis = 11;</code>
+       * @return Whether the rttMaxMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasRttMaxMillis() {
+        return ((bitField0_ & 0x00000400) != 0);
+      }
+      /**
+       * <code>optional double rtt_max_millis = 11;</code>
+       * @return The rttMaxMillis.
+       */
+      @java.lang.Override
+      public double getRttMaxMillis() {
+        return rttMaxMillis_;
+      }
+      /**
+       * <code>optional double rtt_max_millis = 11;</code>
+       * @param value The rttMaxMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRttMaxMillis(double value) {
+        bitField0_ |= 0x00000400;
+        rttMaxMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double rtt_max_millis = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRttMaxMillis() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        rttMaxMillis_ = 0D;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.QualityReport)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.QualityReport)
+    private static final pia4java.Proto.QualityReport DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.QualityReport();
+    }
+
+    public static pia4java.Proto.QualityReport getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<QualityReport>
+        PARSER = new com.google.protobuf.AbstractParser<QualityReport>() {
+      @java.lang.Override
+      public QualityReport parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new QualityReport(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<QualityReport> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QualityReport> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.QualityReport getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PortForwardingOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.PortForwarding)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * File the forwarded port is written to, for services that accept inbound
+     * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+     * </pre>
+     *
+     * <code>optional string port_file = 1;</code>
+     * @return Whether the portFile field is set.
+     */
+    boolean hasPortFile();
+    /**
+     * <pre>
+     * File the forwarded port is written to, for services that accept inbound
+     * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+     * </pre>
+     *
+     * <code>optional string port_file = 1;</code>
+     * @return The portFile.
+     */
+    java.lang.String getPortFile();
+    /**
+     * <pre>
+     * File the forwarded port is written to, for services that accept inbound
+     * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+     * </pre>
+     *
+     * <code>optional string port_file = 1;</code>
+     * @return The bytes for portFile.
+     */
+    com.google.protobuf.ByteString
+        getPortFileBytes();
+
+    /**
+     * <pre>
+     * Port of the getSignature/bindPort API on the server's gateway.
+     * </pre>
+     *
+     * <code>optional int32 api_port = 2 [default = 19999];</code>
+     * @return Whether the apiPort field is set.
+     */
+    boolean hasApiPort();
+    /**
+     * <pre>
+     * Port of the getSignature/bindPort API on the server's gateway.
+     * </pre>
+     *
+     * <code>optional int32 api_port = 2 [default = 19999];</code>
+     * @return The apiPort.
+     */
+    int getApiPort();
+  }
+  /**
+   * Protobuf type {@code pia4java.PortForwarding}
+   */
+  public static final class PortForwarding extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.PortForwarding)
+      PortForwardingOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PortForwarding.newBuilder() to construct.
+    private PortForwarding(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PortForwarding() {
+      portFile_ = "";
+      apiPort_ = 19999;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PortForwarding();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PortForwarding(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              portFile_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              apiPort_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_PortForwarding_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_PortForwarding_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.PortForwarding.class, pia4java.Proto.PortForwarding.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int PORT_FILE_FIELD_NUMBER = 1;
+    private volatile java.lang.Object portFile_;
+    /**
+     * <pre>
+     * File the forwarded port is written to, for services that accept inbound
+     * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+     * </pre>
+     *
+     * <code>optional string port_file = 1;</code>
+     * @return Whether the portFile field is set.
+     */
+    @java.lang.Override
+    public boolean hasPortFile() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * File the forwarded port is written to, for services that accept inbound
+     * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+     * </pre>
+     *
+     * <code>optional string port_file = 1;</code>
+     * @return The portFile.
+     */
+    @java.lang.Override
+    public java.lang.String getPortFile() {
+      java.lang.Object ref = portFile_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          portFile_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * File the forwarded port is written to, for services that accept inbound
+     * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+     * </pre>
+     *
+     * <code>optional string port_file = 1;</code>
+     * @return The bytes for portFile.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPortFileBytes() {
+      java.lang.Object ref = portFile_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        portFile_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int API_PORT_FIELD_NUMBER = 2;
+    private int apiPort_;
+    /**
+     * <pre>
+     * Port of the getSignature/bindPort API on the server's gateway.
+     * </pre>
+     *
+     * <code>optional int32 api_port = 2 [default = 19999];</code>
+     * @return Whether the apiPort field is set.
+     */
+    @java.lang.Override
+    public boolean hasApiPort() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * Port of the getSignature/bindPort API on the server's gateway.
+     * </pre>
+     *
+     * <code>optional int32 api_port = 2 [default = 19999];</code>
+     * @return The apiPort.
+     */
+    @java.lang.Override
+    public int getApiPort() {
+      return apiPort_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, portFile_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, apiPort_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, portFile_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, apiPort_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.PortForwarding)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.PortForwarding other = (pia4java.Proto.PortForwarding) obj;
+
+      if (hasPortFile() != other.hasPortFile()) return false;
+      if (hasPortFile()) {
+        if (!getPortFile()
+            .equals(other.getPortFile())) return false;
+      }
+      if (hasApiPort() != other.hasApiPort()) return false;
+      if (hasApiPort()) {
+        if (getApiPort()
+            != other.getApiPort()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasPortFile()) {
+        hash = (37 * hash) + PORT_FILE_FIELD_NUMBER;
+        hash = (53 * hash) + getPortFile().hashCode();
+      }
+      if (hasApiPort()) {
+        hash = (37 * hash) + API_PORT_FIELD_NUMBER;
+        hash = (53 * hash) + getApiPort();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.PortForwarding parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.PortForwarding parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.PortForwarding parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.PortForwarding parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.PortForwarding parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.PortForwarding parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.PortForwarding parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.PortForwarding parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.PortForwarding parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.PortForwarding parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.PortForwarding parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.PortForwarding parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.PortForwarding prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pia4java.PortForwarding}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.PortForwarding)
+        pia4java.Proto.PortForwardingOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_PortForwarding_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_PortForwarding_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.PortForwarding.class, pia4java.Proto.PortForwarding.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.PortForwarding.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        portFile_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        apiPort_ = 19999;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_PortForwarding_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.PortForwarding getDefaultInstanceForType() {
+        return pia4java.Proto.PortForwarding.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.PortForwarding build() {
+        pia4java.Proto.PortForwarding result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.PortForwarding buildPartial() {
+        pia4java.Proto.PortForwarding result = new pia4java.Proto.PortForwarding(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.portFile_ = portFile_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.apiPort_ = apiPort_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.PortForwarding) {
+          return mergeFrom((pia4java.Proto.PortForwarding)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.PortForwarding other) {
+        if (other == pia4java.Proto.PortForwarding.getDefaultInstance()) return this;
+        if (other.hasPortFile()) {
+          bitField0_ |= 0x00000001;
+          portFile_ = other.portFile_;
+          onChanged();
+        }
+        if (other.hasApiPort()) {
+          setApiPort(other.getApiPort());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.PortForwarding parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.PortForwarding) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object portFile_ = "";
+      /**
+       * <pre>
+       * File the forwarded port is written to, for services that accept inbound
+       * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+       * </pre>
+       *
+       * <code>optional string port_file = 1;</code>
+       * @return Whether the portFile field is set.
+       */
+      public boolean hasPortFile() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * File the forwarded port is written to, for services that accept inbound
+       * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+       * </pre>
+       *
+       * <code>optional string port_file = 1;</code>
+       * @return The portFile.
+       */
+      public java.lang.String getPortFile() {
+        java.lang.Object ref = portFile_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            portFile_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * File the forwarded port is written to, for services that accept inbound
+       * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+       * </pre>
+       *
+       * <code>optional string port_file = 1;</code>
+       * @return The bytes for portFile.
+       */
+      public com.google.protobuf.ByteString
+          getPortFileBytes() {
+        java.lang.Object ref = portFile_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          portFile_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * File the forwarded port is written to, for services that accept inbound
+       * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+       * </pre>
+       *
+       * <code>optional string port_file = 1;</code>
+       * @param value The portFile to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPortFile(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        portFile_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * File the forwarded port is written to, for services that accept inbound
+       * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+       * </pre>
+       *
+       * <code>optional string port_file = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPortFile() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        portFile_ = getDefaultInstance().getPortFile();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * File the forwarded port is written to, for services that accept inbound
+       * connections.  Defaults to &lt;cache_dir&gt;/&lt;interface&gt;.port.
+       * </pre>
+       *
+       * <code>optional string port_file = 1;</code>
+       * @param value The bytes for portFile to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPortFileBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        portFile_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int apiPort_ = 19999;
+      /**
+       * <pre>
+       * Port of the getSignature/bindPort API on the server's gateway.
+       * </pre>
+       *
+       * <code>optional int32 api_port = 2 [default = 19999];</code>
+       * @return Whether the apiPort field is set.
+       */
+      @java.lang.Override
+      public boolean hasApiPort() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * Port of the getSignature/bindPort API on the server's gateway.
+       * </pre>
+       *
+       * <code>optional int32 api_port = 2 [default = 19999];</code>
+       * @return The apiPort.
+       */
+      @java.lang.Override
+      public int getApiPort() {
+        return apiPort_;
+      }
+      /**
+       * <pre>
+       * Port of the getSignature/bindPort API on the server's gateway.
+       * </pre>
+       *
+       * <code>optional int32 api_port = 2 [default = 19999];</code>
+       * @param value The apiPort to set.
+       * @return This builder for chaining.
+       */
+      public Builder setApiPort(int value) {
+        bitField0_ |= 0x00000002;
+        apiPort_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Port of the getSignature/bindPort API on the server's gateway.
+       * </pre>
+       *
+       * <code>optional int32 api_port = 2 [default = 19999];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearApiPort() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        apiPort_ = 19999;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.PortForwarding)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.PortForwarding)
+    private static final pia4java.Proto.PortForwarding DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.PortForwarding();
+    }
+
+    public static pia4java.Proto.PortForwarding getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<PortForwarding>
+        PARSER = new com.google.protobuf.AbstractParser<PortForwarding>() {
+      @java.lang.Override
+      public PortForwarding parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PortForwarding(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PortForwarding> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PortForwarding> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.PortForwarding getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TunnelOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.Tunnel)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Interface name; defaults to "pia" followed by the tunnel's index.
+     * </pre>
+     *
+     * <code>optional string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    boolean hasName();
+    /**
+     * <pre>
+     * Interface name; defaults to "pia" followed by the tunnel's index.
+     * </pre>
+     *
+     * <code>optional string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * Interface name; defaults to "pia" followed by the tunnel's index.
+     * </pre>
+     *
+     * <code>optional string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>optional string pia_wireguard_server = 2;</code>
+     * @return Whether the piaWireguardServer field is set.
+     */
+    boolean hasPiaWireguardServer();
+    /**
+     * <code>optional string pia_wireguard_server = 2;</code>
+     * @return The piaWireguardServer.
+     */
+    java.lang.String getPiaWireguardServer();
+    /**
+     * <code>optional string pia_wireguard_server = 2;</code>
+     * @return The bytes for piaWireguardServer.
+     */
+    com.google.protobuf.ByteString
+        getPiaWireguardServerBytes();
+
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored, as in PiaConfig.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+     * @return Whether the serverSelection field is set.
+     */
+    boolean hasServerSelection();
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored, as in PiaConfig.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+     * @return The serverSelection.
+     */
+    pia4java.Proto.ServerSelection getServerSelection();
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored, as in PiaConfig.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+     */
+    pia4java.Proto.ServerSelectionOrBuilder getServerSelectionOrBuilder();
+
+    /**
+     * <pre>
+     * Domains routed through this tunnel.
+     * </pre>
+     *
+     * <code>repeated string target_domain = 4;</code>
+     * @return A list containing the targetDomain.
+     */
+    java.util.List<java.lang.String>
+        getTargetDomainList();
+    /**
+     * <pre>
+     * Domains routed through this tunnel.
+     * </pre>
+     *
+     * <code>repeated string target_domain = 4;</code>
+     * @return The count of targetDomain.
+     */
+    int getTargetDomainCount();
+    /**
+     * <pre>
+     * Domains routed through this tunnel.
+     * </pre>
+     *
+     * <code>repeated string target_domain = 4;</code>
+     * @param index The index of the element to return.
+     * @return The targetDomain at the given index.
+     */
+    java.lang.String getTargetDomain(int index);
+    /**
+     * <pre>
+     * Domains routed through this tunnel.
+     * </pre>
+     *
+     * <code>repeated string target_domain = 4;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the targetDomain at the given index.
+     */
+    com.google.protobuf.ByteString
+        getTargetDomainBytes(int index);
+
+    /**
+     * <pre>
+     * If set, a port is forwarded through this tunnel.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+     * @return Whether the portForwarding field is set.
+     */
+    boolean hasPortForwarding();
+    /**
+     * <pre>
+     * If set, a port is forwarded through this tunnel.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+     * @return The portForwarding.
+     */
+    pia4java.Proto.PortForwarding getPortForwarding();
+    /**
+     * <pre>
+     * If set, a port is forwarded through this tunnel.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+     */
+    pia4java.Proto.PortForwardingOrBuilder getPortForwardingOrBuilder();
+
+    /**
+     * <pre>
+     * Files of more domains routed through this tunnel, as in PiaConfig.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 6;</code>
+     * @return A list containing the domainList.
+     */
+    java.util.List<java.lang.String>
+        getDomainListList();
+    /**
+     * <pre>
+     * Files of more domains routed through this tunnel, as in PiaConfig.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 6;</code>
+     * @return The count of domainList.
+     */
+    int getDomainListCount();
+    /**
+     * <pre>
+     * Files of more domains routed through this tunnel, as in PiaConfig.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 6;</code>
+     * @param index The index of the element to return.
+     * @return The domainList at the given index.
+     */
+    java.lang.String getDomainList(int index);
+    /**
+     * <pre>
+     * Files of more domains routed through this tunnel, as in PiaConfig.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 6;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the domainList at the given index.
+     */
+    com.google.protobuf.ByteString
+        getDomainListBytes(int index);
+
+    /**
+     * <pre>
+     * If set, the daemon keeps a key registered on a backup server and
+     * switches to it when this tunnel fails.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 7;</code>
+     * @return Whether the standby field is set.
+     */
+    boolean hasStandby();
+    /**
+     * <pre>
+     * If set, the daemon keeps a key registered on a backup server and
+     * switches to it when this tunnel fails.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 7;</code>
+     * @return The standby.
+     */
+    pia4java.Proto.Standby getStandby();
+    /**
+     * <pre>
+     * If set, the daemon keeps a key registered on a backup server and
+     * switches to it when this tunnel fails.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 7;</code>
+     */
+    pia4java.Proto.StandbyOrBuilder getStandbyOrBuilder();
+  }
+  /**
+   * Protobuf type {@code pia4java.Tunnel}
+   */
+  public static final class Tunnel extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.Tunnel)
+      TunnelOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Tunnel.newBuilder() to construct.
+    private Tunnel(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Tunnel() {
+      name_ = "";
+      piaWireguardServer_ = "";
+      targetDomain_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      domainList_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Tunnel();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Tunnel(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              piaWireguardServer_ = bs;
+              break;
+            }
+            case 26: {
+              pia4java.Proto.ServerSelection.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) != 0)) {
+                subBuilder = serverSelection_.toBuilder();
+              }
+              serverSelection_ = input.readMessage(pia4java.Proto.ServerSelection.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(serverSelection_);
+                serverSelection_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                targetDomain_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              targetDomain_.add(bs);
+              break;
+            }
+            case 42: {
+              pia4java.Proto.PortForwarding.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) != 0)) {
+                subBuilder = portForwarding_.toBuilder();
+              }
+              portForwarding_ = input.readMessage(pia4java.Proto.PortForwarding.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(portForwarding_);
+                portForwarding_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+            case 50: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000020) != 0)) {
+                domainList_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              domainList_.add(bs);
+              break;
+            }
+            case 58: {
+              pia4java.Proto.Standby.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000010) != 0)) {
+                subBuilder = standby_.toBuilder();
+              }
+              standby_ = input.readMessage(pia4java.Proto.Standby.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(standby_);
+                standby_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000010;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          targetDomain_ = targetDomain_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000020) != 0)) {
+          domainList_ = domainList_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_Tunnel_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_Tunnel_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.Tunnel.class, pia4java.Proto.Tunnel.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <pre>
+     * Interface name; defaults to "pia" followed by the tunnel's index.
+     * </pre>
+     *
+     * <code>optional string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    @java.lang.Override
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * Interface name; defaults to "pia" followed by the tunnel's index.
+     * </pre>
+     *
+     * <code>optional string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Interface name; defaults to "pia" followed by the tunnel's index.
+     * </pre>
+     *
+     * <code>optional string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PIA_WIREGUARD_SERVER_FIELD_NUMBER = 2;
+    private volatile java.lang.Object piaWireguardServer_;
+    /**
+     * <code>optional string pia_wireguard_server = 2;</code>
+     * @return Whether the piaWireguardServer field is set.
+     */
+    @java.lang.Override
+    public boolean hasPiaWireguardServer() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string pia_wireguard_server = 2;</code>
+     * @return The piaWireguardServer.
+     */
+    @java.lang.Override
+    public java.lang.String getPiaWireguardServer() {
+      java.lang.Object ref = piaWireguardServer_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          piaWireguardServer_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string pia_wireguard_server = 2;</code>
+     * @return The bytes for piaWireguardServer.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPiaWireguardServerBytes() {
+      java.lang.Object ref = piaWireguardServer_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        piaWireguardServer_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SERVER_SELECTION_FIELD_NUMBER = 3;
+    private pia4java.Proto.ServerSelection serverSelection_;
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored, as in PiaConfig.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+     * @return Whether the serverSelection field is set.
+     */
+    @java.lang.Override
+    public boolean hasServerSelection() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored, as in PiaConfig.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+     * @return The serverSelection.
+     */
+    @java.lang.Override
+    public pia4java.Proto.ServerSelection getServerSelection() {
+      return serverSelection_ == null ? pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+    }
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored, as in PiaConfig.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.ServerSelectionOrBuilder getServerSelectionOrBuilder() {
+      return serverSelection_ == null ? pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+    }
+
+    public static final int TARGET_DOMAIN_FIELD_NUMBER = 4;
+    private com.google.protobuf.LazyStringList targetDomain_;
+    /**
+     * <pre>
+     * Domains routed through this tunnel.
+     * </pre>
+     *
+     * <code>repeated string target_domain = 4;</code>
+     * @return A list containing the targetDomain.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getTargetDomainList() {
+      return targetDomain_;
+    }
+    /**
+     * <pre>
+     * Domains routed through this tunnel.
+     * </pre>
+     *
+     * <code>repeated string target_domain = 4;</code>
+     * @return The count of targetDomain.
+     */
+    public int getTargetDomainCount() {
+      return targetDomain_.size();
+    }
+    /**
+     * <pre>
+     * Domains routed through this tunnel.
+     * </pre>
+     *
+     * <code>repeated string target_domain = 4;</code>
+     * @param index The index of the element to return.
+     * @return The targetDomain at the given index.
+     */
+    public java.lang.String getTargetDomain(int index) {
+      return targetDomain_.get(index);
+    }
+    /**
+     * <pre>
+     * Domains routed through this tunnel.
+     * </pre>
+     *
+     * <code>repeated string target_domain = 4;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the targetDomain at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getTargetDomainBytes(int index) {
+      return targetDomain_.getByteString(index);
+    }
+
+    public static final int PORT_FORWARDING_FIELD_NUMBER = 5;
+    private pia4java.Proto.PortForwarding portForwarding_;
+    /**
+     * <pre>
+     * If set, a port is forwarded through this tunnel.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+     * @return Whether the portForwarding field is set.
+     */
+    @java.lang.Override
+    public boolean hasPortForwarding() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * If set, a port is forwarded through this tunnel.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+     * @return The portForwarding.
+     */
+    @java.lang.Override
+    public pia4java.Proto.PortForwarding getPortForwarding() {
+      return portForwarding_ == null ? pia4java.Proto.PortForwarding.getDefaultInstance() : portForwarding_;
+    }
+    /**
+     * <pre>
+     * If set, a port is forwarded through this tunnel.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.PortForwardingOrBuilder getPortForwardingOrBuilder() {
+      return portForwarding_ == null ? pia4java.Proto.PortForwarding.getDefaultInstance() : portForwarding_;
+    }
+
+    public static final int DOMAIN_LIST_FIELD_NUMBER = 6;
+    private com.google.protobuf.LazyStringList domainList_;
+    /**
+     * <pre>
+     * Files of more domains routed through this tunnel, as in PiaConfig.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 6;</code>
+     * @return A list containing the domainList.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getDomainListList() {
+      return domainList_;
+    }
+    /**
+     * <pre>
+     * Files of more domains routed through this tunnel, as in PiaConfig.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 6;</code>
+     * @return The count of domainList.
+     */
+    public int getDomainListCount() {
+      return domainList_.size();
+    }
+    /**
+     * <pre>
+     * Files of more domains routed through this tunnel, as in PiaConfig.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 6;</code>
+     * @param index The index of the element to return.
+     * @return The domainList at the given index.
+     */
+    public java.lang.String getDomainList(int index) {
+      return domainList_.get(index);
+    }
+    /**
+     * <pre>
+     * Files of more domains routed through this tunnel, as in PiaConfig.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 6;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the domainList at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getDomainListBytes(int index) {
+      return domainList_.getByteString(index);
+    }
+
+    public static final int STANDBY_FIELD_NUMBER = 7;
+    private pia4java.Proto.Standby standby_;
+    /**
+     * <pre>
+     * If set, the daemon keeps a key registered on a backup server and
+     * switches to it when this tunnel fails.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 7;</code>
+     * @return Whether the standby field is set.
+     */
+    @java.lang.Override
+    public boolean hasStandby() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <pre>
+     * If set, the daemon keeps a key registered on a backup server and
+     * switches to it when this tunnel fails.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 7;</code>
+     * @return The standby.
+     */
+    @java.lang.Override
+    public pia4java.Proto.Standby getStandby() {
+      return standby_ == null ? pia4java.Proto.Standby.getDefaultInstance() : standby_;
+    }
+    /**
+     * <pre>
+     * If set, the daemon keeps a key registered on a backup server and
+     * switches to it when this tunnel fails.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 7;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.StandbyOrBuilder getStandbyOrBuilder() {
+      return standby_ == null ? pia4java.Proto.Standby.getDefaultInstance() : standby_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, piaWireguardServer_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeMessage(3, getServerSelection());
+      }
+      for (int i = 0; i < targetDomain_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, targetDomain_.getRaw(i));
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeMessage(5, getPortForwarding());
+      }
+      for (int i = 0; i < domainList_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, domainList_.getRaw(i));
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeMessage(7, getStandby());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, piaWireguardServer_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getServerSelection());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < targetDomain_.size(); i++) {
+          dataSize += computeStringSizeNoTag(targetDomain_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getTargetDomainList().size();
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getPortForwarding());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < domainList_.size(); i++) {
+          dataSize += computeStringSizeNoTag(domainList_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getDomainListList().size();
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, getStandby());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.Tunnel)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.Tunnel other = (pia4java.Proto.Tunnel) obj;
+
+      if (hasName() != other.hasName()) return false;
+      if (hasName()) {
+        if (!getName()
+            .equals(other.getName())) return false;
+      }
+      if (hasPiaWireguardServer() != other.hasPiaWireguardServer()) return false;
+      if (hasPiaWireguardServer()) {
+        if (!getPiaWireguardServer()
+            .equals(other.getPiaWireguardServer())) return false;
+      }
+      if (hasServerSelection() != other.hasServerSelection()) return false;
+      if (hasServerSelection()) {
+        if (!getServerSelection()
+            .equals(other.getServerSelection())) return false;
+      }
+      if (!getTargetDomainList()
+          .equals(other.getTargetDomainList())) return false;
+      if (hasPortForwarding() != other.hasPortForwarding()) return false;
+      if (hasPortForwarding()) {
+        if (!getPortForwarding()
+            .equals(other.getPortForwarding())) return false;
+      }
+      if (!getDomainListList()
+          .equals(other.getDomainListList())) return false;
+      if (hasStandby() != other.hasStandby()) return false;
+      if (hasStandby()) {
+        if (!getStandby()
+            .equals(other.getStandby())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasName()) {
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+      }
+      if (hasPiaWireguardServer()) {
+        hash = (37 * hash) + PIA_WIREGUARD_SERVER_FIELD_NUMBER;
+        hash = (53 * hash) + getPiaWireguardServer().hashCode();
+      }
+      if (hasServerSelection()) {
+        hash = (37 * hash) + SERVER_SELECTION_FIELD_NUMBER;
+        hash = (53 * hash) + getServerSelection().hashCode();
+      }
+      if (getTargetDomainCount() > 0) {
+        hash = (37 * hash) + TARGET_DOMAIN_FIELD_NUMBER;
+        hash = (53 * hash) + getTargetDomainList().hashCode();
+      }
+      if (hasPortForwarding()) {
+        hash = (37 * hash) + PORT_FORWARDING_FIELD_NUMBER;
+        hash = (53 * hash) + getPortForwarding().hashCode();
+      }
+      if (getDomainListCount() > 0) {
+        hash = (37 * hash) + DOMAIN_LIST_FIELD_NUMBER;
+        hash = (53 * hash) + getDomainListList().hashCode();
+      }
+      if (hasStandby()) {
+        hash = (37 * hash) + STANDBY_FIELD_NUMBER;
+        hash = (53 * hash) + getStandby().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.Tunnel parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.Tunnel parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.Tunnel parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.Tunnel parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.Tunnel parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.Tunnel parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.Tunnel parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.Tunnel parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.Tunnel parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.Tunnel parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.Tunnel parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.Tunnel parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.Tunnel prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pia4java.Tunnel}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.Tunnel)
+        pia4java.Proto.TunnelOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_Tunnel_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_Tunnel_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.Tunnel.class, pia4java.Proto.Tunnel.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.Tunnel.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getServerSelectionFieldBuilder();
+          getPortForwardingFieldBuilder();
+          getStandbyFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        piaWireguardServer_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (serverSelectionBuilder_ == null) {
+          serverSelection_ = null;
+        } else {
+          serverSelectionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        targetDomain_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (portForwardingBuilder_ == null) {
+          portForwarding_ = null;
+        } else {
+          portForwardingBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        domainList_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (standbyBuilder_ == null) {
+          standby_ = null;
+        } else {
+          standbyBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_Tunnel_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.Tunnel getDefaultInstanceForType() {
+        return pia4java.Proto.Tunnel.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.Tunnel build() {
+        pia4java.Proto.Tunnel result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.Tunnel buildPartial() {
+        pia4java.Proto.Tunnel result = new pia4java.Proto.Tunnel(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.piaWireguardServer_ = piaWireguardServer_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          if (serverSelectionBuilder_ == null) {
+            result.serverSelection_ = serverSelection_;
+          } else {
+            result.serverSelection_ = serverSelectionBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((bitField0_ & 0x00000008) != 0)) {
+          targetDomain_ = targetDomain_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.targetDomain_ = targetDomain_;
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          if (portForwardingBuilder_ == null) {
+            result.portForwarding_ = portForwarding_;
+          } else {
+            result.portForwarding_ = portForwardingBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((bitField0_ & 0x00000020) != 0)) {
+          domainList_ = domainList_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        }
+        result.domainList_ = domainList_;
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          if (standbyBuilder_ == null) {
+            result.standby_ = standby_;
+          } else {
+            result.standby_ = standbyBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000010;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.Tunnel) {
+          return mergeFrom((pia4java.Proto.Tunnel)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.Tunnel other) {
+        if (other == pia4java.Proto.Tunnel.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasPiaWireguardServer()) {
+          bitField0_ |= 0x00000002;
+          piaWireguardServer_ = other.piaWireguardServer_;
+          onChanged();
+        }
+        if (other.hasServerSelection()) {
+          mergeServerSelection(other.getServerSelection());
+        }
+        if (!other.targetDomain_.isEmpty()) {
+          if (targetDomain_.isEmpty()) {
+            targetDomain_ = other.targetDomain_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureTargetDomainIsMutable();
+            targetDomain_.addAll(other.targetDomain_);
+          }
+          onChanged();
+        }
+        if (other.hasPortForwarding()) {
+          mergePortForwarding(other.getPortForwarding());
+        }
+        if (!other.domainList_.isEmpty()) {
+          if (domainList_.isEmpty()) {
+            domainList_ = other.domainList_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureDomainListIsMutable();
+            domainList_.addAll(other.domainList_);
+          }
+          onChanged();
+        }
+        if (other.hasStandby()) {
+          mergeStandby(other.getStandby());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.Tunnel parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.Tunnel) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * Interface name; defaults to "pia" followed by the tunnel's index.
+       * </pre>
+       *
+       * <code>optional string name = 1;</code>
+       * @return Whether the name field is set.
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * Interface name; defaults to "pia" followed by the tunnel's index.
+       * </pre>
+       *
+       * <code>optional string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Interface name; defaults to "pia" followed by the tunnel's index.
+       * </pre>
+       *
+       * <code>optional string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Interface name; defaults to "pia" followed by the tunnel's index.
+       * </pre>
+       *
+       * <code>optional string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Interface name; defaults to "pia" followed by the tunnel's index.
+       * </pre>
+       *
+       * <code>optional string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Interface name; defaults to "pia" followed by the tunnel's index.
+       * </pre>
+       *
+       * <code>optional string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object piaWireguardServer_ = "";
+      /**
+       * <code>optional string pia_wireguard_server = 2;</code>
+       * @return Whether the piaWireguardServer field is set.
+       */
+      public boolean hasPiaWireguardServer() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string pia_wireguard_server = 2;</code>
+       * @return The piaWireguardServer.
+       */
+      public java.lang.String getPiaWireguardServer() {
+        java.lang.Object ref = piaWireguardServer_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            piaWireguardServer_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string pia_wireguard_server = 2;</code>
+       * @return The bytes for piaWireguardServer.
+       */
+      public com.google.protobuf.ByteString
+          getPiaWireguardServerBytes() {
+        java.lang.Object ref = piaWireguardServer_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          piaWireguardServer_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string pia_wireguard_server = 2;</code>
+       * @param value The piaWireguardServer to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiaWireguardServer(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        piaWireguardServer_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pia_wireguard_server = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPiaWireguardServer() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        piaWireguardServer_ = getDefaultInstance().getPiaWireguardServer();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pia_wireguard_server = 2;</code>
+       * @param value The bytes for piaWireguardServer to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiaWireguardServerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        piaWireguardServer_ = value;
+        onChanged();
+        return this;
+      }
+
+      private pia4java.Proto.ServerSelection serverSelection_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.ServerSelection, pia4java.Proto.ServerSelection.Builder, pia4java.Proto.ServerSelectionOrBuilder> serverSelectionBuilder_;
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored, as in PiaConfig.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+       * @return Whether the serverSelection field is set.
+       */
+      public boolean hasServerSelection() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored, as in PiaConfig.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+       * @return The serverSelection.
+       */
+      public pia4java.Proto.ServerSelection getServerSelection() {
+        if (serverSelectionBuilder_ == null) {
+          return serverSelection_ == null ? pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+        } else {
+          return serverSelectionBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored, as in PiaConfig.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+       */
+      public Builder setServerSelection(pia4java.Proto.ServerSelection value) {
+        if (serverSelectionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          serverSelection_ = value;
+          onChanged();
+        } else {
+          serverSelectionBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored, as in PiaConfig.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+       */
+      public Builder setServerSelection(
+          pia4java.Proto.ServerSelection.Builder builderForValue) {
+        if (serverSelectionBuilder_ == null) {
+          serverSelection_ = builderForValue.build();
+          onChanged();
+        } else {
+          serverSelectionBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored, as in PiaConfig.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+       */
+      public Builder mergeServerSelection(pia4java.Proto.ServerSelection value) {
+        if (serverSelectionBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+              serverSelection_ != null &&
+              serverSelection_ != pia4java.Proto.ServerSelection.getDefaultInstance()) {
+            serverSelection_ =
+              pia4java.Proto.ServerSelection.newBuilder(serverSelection_).mergeFrom(value).buildPartial();
+          } else {
+            serverSelection_ = value;
+          }
+          onChanged();
+        } else {
+          serverSelectionBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored, as in PiaConfig.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+       */
+      public Builder clearServerSelection() {
+        if (serverSelectionBuilder_ == null) {
+          serverSelection_ = null;
+          onChanged();
+        } else {
+          serverSelectionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored, as in PiaConfig.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+       */
+      public pia4java.Proto.ServerSelection.Builder getServerSelectionBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getServerSelectionFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored, as in PiaConfig.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+       */
+      public pia4java.Proto.ServerSelectionOrBuilder getServerSelectionOrBuilder() {
+        if (serverSelectionBuilder_ != null) {
+          return serverSelectionBuilder_.getMessageOrBuilder();
+        } else {
+          return serverSelection_ == null ?
+              pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+        }
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored, as in PiaConfig.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.ServerSelection, pia4java.Proto.ServerSelection.Builder, pia4java.Proto.ServerSelectionOrBuilder> 
+          getServerSelectionFieldBuilder() {
+        if (serverSelectionBuilder_ == null) {
+          serverSelectionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              pia4java.Proto.ServerSelection, pia4java.Proto.ServerSelection.Builder, pia4java.Proto.ServerSelectionOrBuilder>(
+                  getServerSelection(),
+                  getParentForChildren(),
+                  isClean());
+          serverSelection_ = null;
+        }
+        return serverSelectionBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringList targetDomain_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureTargetDomainIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          targetDomain_ = new com.google.protobuf.LazyStringArrayList(targetDomain_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <pre>
+       * Domains routed through this tunnel.
+       * </pre>
+       *
+       * <code>repeated string target_domain = 4;</code>
+       * @return A list containing the targetDomain.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getTargetDomainList() {
+        return targetDomain_.getUnmodifiableView();
+      }
+      /**
+       * <pre>
+       * Domains routed through this tunnel.
+       * </pre>
+       *
+       * <code>repeated string target_domain = 4;</code>
+       * @return The count of targetDomain.
+       */
+      public int getTargetDomainCount() {
+        return targetDomain_.size();
+      }
+      /**
+       * <pre>
+       * Domains routed through this tunnel.
+       * </pre>
+       *
+       * <code>repeated string target_domain = 4;</code>
+       * @param index The index of the element to return.
+       * @return The targetDomain at the given index.
+       */
+      public java.lang.String getTargetDomain(int index) {
+        return targetDomain_.get(index);
+      }
+      /**
+       * <pre>
+       * Domains routed through this tunnel.
+       * </pre>
+       *
+       * <code>repeated string target_domain = 4;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the targetDomain at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getTargetDomainBytes(int index) {
+        return targetDomain_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Domains routed through this tunnel.
+       * </pre>
+       *
+       * <code>repeated string target_domain = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The targetDomain to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTargetDomain(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTargetDomainIsMutable();
+        targetDomain_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Domains routed through this tunnel.
+       * </pre>
+       *
+       * <code>repeated string target_domain = 4;</code>
+       * @param value The targetDomain to add.
+       * @return This builder for chaining.
+       */
+      public Builder addTargetDomain(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTargetDomainIsMutable();
+        targetDomain_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Domains routed through this tunnel.
+       * </pre>
+       *
+       * <code>repeated string target_domain = 4;</code>
+       * @param values The targetDomain to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllTargetDomain(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureTargetDomainIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, targetDomain_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Domains routed through this tunnel.
+       * </pre>
+       *
+       * <code>repeated string target_domain = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTargetDomain() {
+        targetDomain_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Domains routed through this tunnel.
+       * </pre>
+       *
+       * <code>repeated string target_domain = 4;</code>
+       * @param value The bytes of the targetDomain to add.
+       * @return This builder for chaining.
+       */
+      public Builder addTargetDomainBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTargetDomainIsMutable();
+        targetDomain_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private pia4java.Proto.PortForwarding portForwarding_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.PortForwarding, pia4java.Proto.PortForwarding.Builder, pia4java.Proto.PortForwardingOrBuilder> portForwardingBuilder_;
+      /**
+       * <pre>
+       * If set, a port is forwarded through this tunnel.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+       * @return Whether the portForwarding field is set.
+       */
+      public boolean hasPortForwarding() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through this tunnel.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+       * @return The portForwarding.
+       */
+      public pia4java.Proto.PortForwarding getPortForwarding() {
+        if (portForwardingBuilder_ == null) {
+          return portForwarding_ == null ? pia4java.Proto.PortForwarding.getDefaultInstance() : portForwarding_;
+        } else {
+          return portForwardingBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through this tunnel.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+       */
+      public Builder setPortForwarding(pia4java.Proto.PortForwarding value) {
+        if (portForwardingBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          portForwarding_ = value;
+          onChanged();
+        } else {
+          portForwardingBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through this tunnel.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+       */
+      public Builder setPortForwarding(
+          pia4java.Proto.PortForwarding.Builder builderForValue) {
+        if (portForwardingBuilder_ == null) {
+          portForwarding_ = builderForValue.build();
+          onChanged();
+        } else {
+          portForwardingBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through this tunnel.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+       */
+      public Builder mergePortForwarding(pia4java.Proto.PortForwarding value) {
+        if (portForwardingBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0) &&
+              portForwarding_ != null &&
+              portForwarding_ != pia4java.Proto.PortForwarding.getDefaultInstance()) {
+            portForwarding_ =
+              pia4java.Proto.PortForwarding.newBuilder(portForwarding_).mergeFrom(value).buildPartial();
+          } else {
+            portForwarding_ = value;
+          }
+          onChanged();
+        } else {
+          portForwardingBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through this tunnel.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+       */
+      public Builder clearPortForwarding() {
+        if (portForwardingBuilder_ == null) {
+          portForwarding_ = null;
+          onChanged();
+        } else {
+          portForwardingBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through this tunnel.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+       */
+      public pia4java.Proto.PortForwarding.Builder getPortForwardingBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getPortForwardingFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through this tunnel.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+       */
+      public pia4java.Proto.PortForwardingOrBuilder getPortForwardingOrBuilder() {
+        if (portForwardingBuilder_ != null) {
+          return portForwardingBuilder_.getMessageOrBuilder();
+        } else {
+          return portForwarding_ == null ?
+              pia4java.Proto.PortForwarding.getDefaultInstance() : portForwarding_;
+        }
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through this tunnel.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.PortForwarding, pia4java.Proto.PortForwarding.Builder, pia4java.Proto.PortForwardingOrBuilder> 
+          getPortForwardingFieldBuilder() {
+        if (portForwardingBuilder_ == null) {
+          portForwardingBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              pia4java.Proto.PortForwarding, pia4java.Proto.PortForwarding.Builder, pia4java.Proto.PortForwardingOrBuilder>(
+                  getPortForwarding(),
+                  getParentForChildren(),
+                  isClean());
+          portForwarding_ = null;
+        }
+        return portForwardingBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringList domainList_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureDomainListIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          domainList_ = new com.google.protobuf.LazyStringArrayList(domainList_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+      /**
+       * <pre>
+       * Files of more domains routed through this tunnel, as in PiaConfig.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 6;</code>
+       * @return A list containing the domainList.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getDomainListList() {
+        return domainList_.getUnmodifiableView();
+      }
+      /**
+       * <pre>
+       * Files of more domains routed through this tunnel, as in PiaConfig.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 6;</code>
+       * @return The count of domainList.
+       */
+      public int getDomainListCount() {
+        return domainList_.size();
+      }
+      /**
+       * <pre>
+       * Files of more domains routed through this tunnel, as in PiaConfig.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 6;</code>
+       * @param index The index of the element to return.
+       * @return The domainList at the given index.
+       */
+      public java.lang.String getDomainList(int index) {
+        return domainList_.get(index);
+      }
+      /**
+       * <pre>
+       * Files of more domains routed through this tunnel, as in PiaConfig.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 6;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the domainList at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getDomainListBytes(int index) {
+        return domainList_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Files of more domains routed through this tunnel, as in PiaConfig.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The domainList to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainList(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDomainListIsMutable();
+        domainList_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Files of more domains routed through this tunnel, as in PiaConfig.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 6;</code>
+       * @param value The domainList to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDomainList(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDomainListIsMutable();
+        domainList_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Files of more domains routed through this tunnel, as in PiaConfig.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 6;</code>
+       * @param values The domainList to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllDomainList(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureDomainListIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, domainList_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Files of more domains routed through this tunnel, as in PiaConfig.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainList() {
+        domainList_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Files of more domains routed through this tunnel, as in PiaConfig.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 6;</code>
+       * @param value The bytes of the domainList to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDomainListBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDomainListIsMutable();
+        domainList_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private pia4java.Proto.Standby standby_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.Standby, pia4java.Proto.Standby.Builder, pia4java.Proto.StandbyOrBuilder> standbyBuilder_;
+      /**
+       * <pre>
+       * If set, the daemon keeps a key registered on a backup server and
+       * switches to it when this tunnel fails.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 7;</code>
+       * @return Whether the standby field is set.
+       */
+      public boolean hasStandby() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a key registered on a backup server and
+       * switches to it when this tunnel fails.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 7;</code>
+       * @return The standby.
+       */
+      public pia4java.Proto.Standby getStandby() {
+        if (standbyBuilder_ == null) {
+          return standby_ == null ? pia4java.Proto.Standby.getDefaultInstance() : standby_;
+        } else {
+          return standbyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a key registered on a backup server and
+       * switches to it when this tunnel fails.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 7;</code>
+       */
+      public Builder setStandby(pia4java.Proto.Standby value) {
+        if (standbyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          standby_ = value;
+          onChanged();
+        } else {
+          standbyBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a key registered on a backup server and
+       * switches to it when this tunnel fails.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 7;</code>
+       */
+      public Builder setStandby(
+          pia4java.Proto.Standby.Builder builderForValue) {
+        if (standbyBuilder_ == null) {
+          standby_ = builderForValue.build();
+          onChanged();
+        } else {
+          standbyBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a key registered on a backup server and
+       * switches to it when this tunnel fails.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 7;</code>
+       */
+      public Builder mergeStandby(pia4java.Proto.Standby value) {
+        if (standbyBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0) &&
+              standby_ != null &&
+              standby_ != pia4java.Proto.Standby.getDefaultInstance()) {
+            standby_ =
+              pia4java.Proto.Standby.newBuilder(standby_).mergeFrom(value).buildPartial();
+          } else {
+            standby_ = value;
+          }
+          onChanged();
+        } else {
+          standbyBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a key registered on a backup server and
+       * switches to it when this tunnel fails.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 7;</code>
+       */
+      public Builder clearStandby() {
+        if (standbyBuilder_ == null) {
+          standby_ = null;
+          onChanged();
+        } else {
+          standbyBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a key registered on a backup server and
+       * switches to it when this tunnel fails.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 7;</code>
+       */
+      public pia4java.Proto.Standby.Builder getStandbyBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getStandbyFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a key registered on a backup server and
+       * switches to it when this tunnel fails.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 7;</code>
+       */
+      public pia4java.Proto.StandbyOrBuilder getStandbyOrBuilder() {
+        if (standbyBuilder_ != null) {
+          return standbyBuilder_.getMessageOrBuilder();
+        } else {
+          return standby_ == null ?
+              pia4java.Proto.Standby.getDefaultInstance() : standby_;
+        }
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a key registered on a backup server and
+       * switches to it when this tunnel fails.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.Standby, pia4java.Proto.Standby.Builder, pia4java.Proto.StandbyOrBuilder> 
+          getStandbyFieldBuilder() {
+        if (standbyBuilder_ == null) {
+          standbyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              pia4java.Proto.Standby, pia4java.Proto.Standby.Builder, pia4java.Proto.StandbyOrBuilder>(
+                  getStandby(),
+                  getParentForChildren(),
+                  isClean());
+          standby_ = null;
+        }
+        return standbyBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.Tunnel)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.Tunnel)
+    private static final pia4java.Proto.Tunnel DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.Tunnel();
+    }
+
+    public static pia4java.Proto.Tunnel getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<Tunnel>
+        PARSER = new com.google.protobuf.AbstractParser<Tunnel>() {
+      @java.lang.Override
+      public Tunnel parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Tunnel(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Tunnel> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Tunnel> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.Tunnel getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PiaConfigOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.PiaConfig)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string pia_wireguard_server = 1;</code>
+     * @return Whether the piaWireguardServer field is set.
+     */
+    boolean hasPiaWireguardServer();
+    /**
+     * <code>optional string pia_wireguard_server = 1;</code>
+     * @return The piaWireguardServer.
+     */
+    java.lang.String getPiaWireguardServer();
+    /**
+     * <code>optional string pia_wireguard_server = 1;</code>
+     * @return The bytes for piaWireguardServer.
+     */
+    com.google.protobuf.ByteString
+        getPiaWireguardServerBytes();
+
+    /**
+     * <code>optional int32 pia_wireguard_port = 2;</code>
+     * @return Whether the piaWireguardPort field is set.
+     */
+    boolean hasPiaWireguardPort();
+    /**
+     * <code>optional int32 pia_wireguard_port = 2;</code>
+     * @return The piaWireguardPort.
+     */
+    int getPiaWireguardPort();
+
+    /**
+     * <code>optional string pia_username = 3;</code>
+     * @return Whether the piaUsername field is set.
+     */
+    boolean hasPiaUsername();
+    /**
+     * <code>optional string pia_username = 3;</code>
+     * @return The piaUsername.
+     */
+    java.lang.String getPiaUsername();
+    /**
+     * <code>optional string pia_username = 3;</code>
+     * @return The bytes for piaUsername.
+     */
+    com.google.protobuf.ByteString
+        getPiaUsernameBytes();
+
+    /**
+     * <code>optional string pia_password = 4;</code>
+     * @return Whether the piaPassword field is set.
+     */
+    boolean hasPiaPassword();
+    /**
+     * <code>optional string pia_password = 4;</code>
+     * @return The piaPassword.
+     */
+    java.lang.String getPiaPassword();
+    /**
+     * <code>optional string pia_password = 4;</code>
+     * @return The bytes for piaPassword.
+     */
+    com.google.protobuf.ByteString
+        getPiaPasswordBytes();
+
+    /**
+     * <code>optional string target_domain = 5;</code>
+     * @return Whether the targetDomain field is set.
+     */
+    boolean hasTargetDomain();
+    /**
+     * <code>optional string target_domain = 5;</code>
+     * @return The targetDomain.
+     */
+    java.lang.String getTargetDomain();
+    /**
+     * <code>optional string target_domain = 5;</code>
+     * @return The bytes for targetDomain.
+     */
+    com.google.protobuf.ByteString
+        getTargetDomainBytes();
+
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored and the lowest latency
+     * server from the PIA serverlist is used instead.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+     * @return Whether the serverSelection field is set.
+     */
+    boolean hasServerSelection();
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored and the lowest latency
+     * server from the PIA serverlist is used instead.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+     * @return The serverSelection.
+     */
+    pia4java.Proto.ServerSelection getServerSelection();
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored and the lowest latency
+     * server from the PIA serverlist is used instead.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+     */
+    pia4java.Proto.ServerSelectionOrBuilder getServerSelectionOrBuilder();
+
+    /**
+     * <pre>
+     * Directory for state kept between runs, such as the auth token.
+     * </pre>
+     *
+     * <code>optional string cache_dir = 7 [default = "cache"];</code>
+     * @return Whether the cacheDir field is set.
+     */
+    boolean hasCacheDir();
+    /**
+     * <pre>
+     * Directory for state kept between runs, such as the auth token.
+     * </pre>
+     *
+     * <code>optional string cache_dir = 7 [default = "cache"];</code>
+     * @return The cacheDir.
+     */
+    java.lang.String getCacheDir();
+    /**
+     * <pre>
+     * Directory for state kept between runs, such as the auth token.
+     * </pre>
+     *
+     * <code>optional string cache_dir = 7 [default = "cache"];</code>
+     * @return The bytes for cacheDir.
+     */
+    com.google.protobuf.ByteString
+        getCacheDirBytes();
+
+    /**
+     * <pre>
+     * Number of WireGuard keypairs to generate ahead of time.
+     * </pre>
+     *
+     * <code>optional int32 key_pool_size = 8 [default = 0];</code>
+     * @return Whether the keyPoolSize field is set.
+     */
+    boolean hasKeyPoolSize();
+    /**
+     * <pre>
+     * Number of WireGuard keypairs to generate ahead of time.
+     * </pre>
+     *
+     * <code>optional int32 key_pool_size = 8 [default = 0];</code>
+     * @return The keyPoolSize.
+     */
+    int getKeyPoolSize();
+
+    /**
+     * <pre>
+     * DNS server used to resolve target_domain, as "host" or "host:port".
+     * Defaults to the first nameserver in /etc/resolv.conf.
+     * </pre>
+     *
+     * <code>optional string dns_server = 9;</code>
+     * @return Whether the dnsServer field is set.
+     */
+    boolean hasDnsServer();
+    /**
+     * <pre>
+     * DNS server used to resolve target_domain, as "host" or "host:port".
+     * Defaults to the first nameserver in /etc/resolv.conf.
+     * </pre>
+     *
+     * <code>optional string dns_server = 9;</code>
+     * @return The dnsServer.
+     */
+    java.lang.String getDnsServer();
+    /**
+     * <pre>
+     * DNS server used to resolve target_domain, as "host" or "host:port".
+     * Defaults to the first nameserver in /etc/resolv.conf.
+     * </pre>
+     *
+     * <code>optional string dns_server = 9;</code>
+     * @return The bytes for dnsServer.
+     */
+    com.google.protobuf.ByteString
+        getDnsServerBytes();
+
+    /**
+     * <pre>
+     * Settings for the daemon command.
+     * </pre>
+     *
+     * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+     * @return Whether the supervisor field is set.
+     */
+    boolean hasSupervisor();
+    /**
+     * <pre>
+     * Settings for the daemon command.
+     * </pre>
+     *
+     * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+     * @return The supervisor.
+     */
+    pia4java.Proto.Supervisor getSupervisor();
+    /**
+     * <pre>
+     * Settings for the daemon command.
+     * </pre>
+     *
+     * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+     */
+    pia4java.Proto.SupervisorOrBuilder getSupervisorOrBuilder();
+
+    /**
+     * <pre>
+     * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+     * serverlist.  Without it the serverlist signature is not checked.
+     * </pre>
+     *
+     * <code>optional string serverlist_public_key = 11;</code>
+     * @return Whether the serverlistPublicKey field is set.
+     */
+    boolean hasServerlistPublicKey();
+    /**
+     * <pre>
+     * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+     * serverlist.  Without it the serverlist signature is not checked.
+     * </pre>
+     *
+     * <code>optional string serverlist_public_key = 11;</code>
+     * @return The serverlistPublicKey.
+     */
+    java.lang.String getServerlistPublicKey();
+    /**
+     * <pre>
+     * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+     * serverlist.  Without it the serverlist signature is not checked.
+     * </pre>
+     *
+     * <code>optional string serverlist_public_key = 11;</code>
+     * @return The bytes for serverlistPublicKey.
+     */
+    com.google.protobuf.ByteString
+        getServerlistPublicKeyBytes();
+
+    /**
+     * <pre>
+     * The cached serverlist is used without revalidating it for this long.
+     * </pre>
+     *
+     * <code>optional int32 serverlist_max_age_seconds = 12 [default = 3600];</code>
+     * @return Whether the serverlistMaxAgeSeconds field is set.
+     */
+    boolean hasServerlistMaxAgeSeconds();
+    /**
+     * <pre>
+     * The cached serverlist is used without revalidating it for this long.
+     * </pre>
+     *
+     * <code>optional int32 serverlist_max_age_seconds = 12 [default = 3600];</code>
+     * @return The serverlistMaxAgeSeconds.
+     */
+    int getServerlistMaxAgeSeconds();
+
+    /**
+     * <pre>
+     * Tunnels brought up side by side.  If any are given, the top level
+     * pia_wireguard_server, server_selection and target_domain are ignored.
+     * </pre>
+     *
+     * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+     */
+    java.util.List<pia4java.Proto.Tunnel> 
+        getTunnelList();
+    /**
+     * <pre>
+     * Tunnels brought up side by side.  If any are given, the top level
+     * pia_wireguard_server, server_selection and target_domain are ignored.
+     * </pre>
+     *
+     * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+     */
+    pia4java.Proto.Tunnel getTunnel(int index);
+    /**
+     * <pre>
+     * Tunnels brought up side by side.  If any are given, the top level
+     * pia_wireguard_server, server_selection and target_domain are ignored.
+     * </pre>
+     *
+     * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+     */
+    int getTunnelCount();
+    /**
+     * <pre>
+     * Tunnels brought up side by side.  If any are given, the top level
+     * pia_wireguard_server, server_selection and target_domain are ignored.
+     * </pre>
+     *
+     * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+     */
+    java.util.List<? extends pia4java.Proto.TunnelOrBuilder> 
+        getTunnelOrBuilderList();
+    /**
+     * <pre>
+     * Tunnels brought up side by side.  If any are given, the top level
+     * pia_wireguard_server, server_selection and target_domain are ignored.
+     * </pre>
+     *
+     * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+     */
+    pia4java.Proto.TunnelOrBuilder getTunnelOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Domains spread across the tunnels by consistent hashing, on top of each
+     * tunnel's own target_domain.
+     * </pre>
+     *
+     * <code>repeated string sharded_domain = 14;</code>
+     * @return A list containing the shardedDomain.
+     */
+    java.util.List<java.lang.String>
+        getShardedDomainList();
+    /**
+     * <pre>
+     * Domains spread across the tunnels by consistent hashing, on top of each
+     * tunnel's own target_domain.
+     * </pre>
+     *
+     * <code>repeated string sharded_domain = 14;</code>
+     * @return The count of shardedDomain.
+     */
+    int getShardedDomainCount();
+    /**
+     * <pre>
+     * Domains spread across the tunnels by consistent hashing, on top of each
+     * tunnel's own target_domain.
+     * </pre>
+     *
+     * <code>repeated string sharded_domain = 14;</code>
+     * @param index The index of the element to return.
+     * @return The shardedDomain at the given index.
+     */
+    java.lang.String getShardedDomain(int index);
+    /**
+     * <pre>
+     * Domains spread across the tunnels by consistent hashing, on top of each
+     * tunnel's own target_domain.
+     * </pre>
+     *
+     * <code>repeated string sharded_domain = 14;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the shardedDomain at the given index.
+     */
+    com.google.protobuf.ByteString
+        getShardedDomainBytes(int index);
+
+    /**
+     * <pre>
+     * If set, a port is forwarded through the tunnel described by the top level
+     * fields.  Tunnels set their own port_forwarding.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+     * @return Whether the portForwarding field is set.
+     */
+    boolean hasPortForwarding();
+    /**
+     * <pre>
+     * If set, a port is forwarded through the tunnel described by the top level
+     * fields.  Tunnels set their own port_forwarding.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+     * @return The portForwarding.
+     */
+    pia4java.Proto.PortForwarding getPortForwarding();
+    /**
+     * <pre>
+     * If set, a port is forwarded through the tunnel described by the top level
+     * fields.  Tunnels set their own port_forwarding.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+     */
+    pia4java.Proto.PortForwardingOrBuilder getPortForwardingOrBuilder();
+
+    /**
+     * <pre>
+     * How interfaces are brought up and down.
+     * </pre>
+     *
+     * <code>optional .pia4java.InterfaceBackend interface_backend = 16 [default = WG_QUICK];</code>
+     * @return Whether the interfaceBackend field is set.
+     */
+    boolean hasInterfaceBackend();
+    /**
+     * <pre>
+     * How interfaces are brought up and down.
+     * </pre>
+     *
+     * <code>optional .pia4java.InterfaceBackend interface_backend = 16 [default = WG_QUICK];</code>
+     * @return The interfaceBackend.
+     */
+    pia4java.Proto.InterfaceBackend getInterfaceBackend();
+
+    /**
+     * <pre>
+     * If positive, the routed addresses of each tunnel are collapsed into at
+     * most this many prefixes, which may then cover other addresses too.
+     * </pre>
+     *
+     * <code>optional int32 max_allowed_ips = 17 [default = 0];</code>
+     * @return Whether the maxAllowedIps field is set.
+     */
+    boolean hasMaxAllowedIps();
+    /**
+     * <pre>
+     * If positive, the routed addresses of each tunnel are collapsed into at
+     * most this many prefixes, which may then cover other addresses too.
+     * </pre>
+     *
+     * <code>optional int32 max_allowed_ips = 17 [default = 0];</code>
+     * @return The maxAllowedIps.
+     */
+    int getMaxAllowedIps();
+
+    /**
+     * <pre>
+     * Files of domains, one per line, with "#" comments.  They are routed like
+     * target_domain, or spread across the tunnels like sharded_domain.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 18;</code>
+     * @return A list containing the domainList.
+     */
+    java.util.List<java.lang.String>
+        getDomainListList();
+    /**
+     * <pre>
+     * Files of domains, one per line, with "#" comments.  They are routed like
+     * target_domain, or spread across the tunnels like sharded_domain.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 18;</code>
+     * @return The count of domainList.
+     */
+    int getDomainListCount();
+    /**
+     * <pre>
+     * Files of domains, one per line, with "#" comments.  They are routed like
+     * target_domain, or spread across the tunnels like sharded_domain.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 18;</code>
+     * @param index The index of the element to return.
+     * @return The domainList at the given index.
+     */
+    java.lang.String getDomainList(int index);
+    /**
+     * <pre>
+     * Files of domains, one per line, with "#" comments.  They are routed like
+     * target_domain, or spread across the tunnels like sharded_domain.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 18;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the domainList at the given index.
+     */
+    com.google.protobuf.ByteString
+        getDomainListBytes(int index);
+
+    /**
+     * <pre>
+     * Limits for resolving the domains.
+     * </pre>
+     *
+     * <code>optional .pia4java.DnsSettings dns = 19;</code>
+     * @return Whether the dns field is set.
+     */
+    boolean hasDns();
+    /**
+     * <pre>
+     * Limits for resolving the domains.
+     * </pre>
+     *
+     * <code>optional .pia4java.DnsSettings dns = 19;</code>
+     * @return The dns.
+     */
+    pia4java.Proto.DnsSettings getDns();
+    /**
+     * <pre>
+     * Limits for resolving the domains.
+     * </pre>
+     *
+     * <code>optional .pia4java.DnsSettings dns = 19;</code>
+     */
+    pia4java.Proto.DnsSettingsOrBuilder getDnsOrBuilder();
+
+    /**
+     * <pre>
+     * If set, the daemon keeps a standby for the tunnel described by the top
+     * level fields.  Tunnels set their own standby.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 20;</code>
+     * @return Whether the standby field is set.
+     */
+    boolean hasStandby();
+    /**
+     * <pre>
+     * If set, the daemon keeps a standby for the tunnel described by the top
+     * level fields.  Tunnels set their own standby.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 20;</code>
+     * @return The standby.
+     */
+    pia4java.Proto.Standby getStandby();
+    /**
+     * <pre>
+     * If set, the daemon keeps a standby for the tunnel described by the top
+     * level fields.  Tunnels set their own standby.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 20;</code>
+     */
+    pia4java.Proto.StandbyOrBuilder getStandbyOrBuilder();
+
+    /**
+     * <pre>
+     * Tunnel MTU.  If unset, it is the path MTU to the server, found by
+     * probing, less WireGuard's overhead.
+     * </pre>
+     *
+     * <code>optional int32 mtu = 21;</code>
+     * @return Whether the mtu field is set.
+     */
+    boolean hasMtu();
+    /**
+     * <pre>
+     * Tunnel MTU.  If unset, it is the path MTU to the server, found by
+     * probing, less WireGuard's overhead.
+     * </pre>
+     *
+     * <code>optional int32 mtu = 21;</code>
+     * @return The mtu.
+     */
+    int getMtu();
+
+    /**
+     * <pre>
+     * If present, the daemon measures each tunnel's round trip time, jitter and
+     * loss.
+     * </pre>
+     *
+     * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+     * @return Whether the qualityMonitor field is set.
+     */
+    boolean hasQualityMonitor();
+    /**
+     * <pre>
+     * If present, the daemon measures each tunnel's round trip time, jitter and
+     * loss.
+     * </pre>
+     *
+     * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+     * @return The qualityMonitor.
+     */
+    pia4java.Proto.QualityMonitor getQualityMonitor();
+    /**
+     * <pre>
+     * If present, the daemon measures each tunnel's round trip time, jitter and
+     * loss.
+     * </pre>
+     *
+     * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+     */
+    pia4java.Proto.QualityMonitorOrBuilder getQualityMonitorOrBuilder();
+
+    /**
+     * <pre>
+     * Interface name of the single tunnel of a configuration without tunnels.
+     * </pre>
+     *
+     * <code>optional string interface_name = 23 [default = "pia"];</code>
+     * @return Whether the interfaceName field is set.
+     */
+    boolean hasInterfaceName();
+    /**
+     * <pre>
+     * Interface name of the single tunnel of a configuration without tunnels.
+     * </pre>
+     *
+     * <code>optional string interface_name = 23 [default = "pia"];</code>
+     * @return The interfaceName.
+     */
+    java.lang.String getInterfaceName();
+    /**
+     * <pre>
+     * Interface name of the single tunnel of a configuration without tunnels.
+     * </pre>
+     *
+     * <code>optional string interface_name = 23 [default = "pia"];</code>
+     * @return The bytes for interfaceName.
+     */
+    com.google.protobuf.ByteString
+        getInterfaceNameBytes();
+
+    /**
+     * <pre>
+     * Keepalives are off unless set; 25 keeps a NAT mapping open while idle.
+     * </pre>
+     *
+     * <code>optional int32 persistent_keepalive_seconds = 24 [default = 0];</code>
+     * @return Whether the persistentKeepaliveSeconds field is set.
+     */
+    boolean hasPersistentKeepaliveSeconds();
+    /**
+     * <pre>
+     * Keepalives are off unless set; 25 keeps a NAT mapping open while idle.
+     * </pre>
+     *
+     * <code>optional int32 persistent_keepalive_seconds = 24 [default = 0];</code>
+     * @return The persistentKeepaliveSeconds.
+     */
+    int getPersistentKeepaliveSeconds();
+
+    /**
+     * <pre>
+     * Whether wg-quick sets the server's DNS servers as the system's resolvers.
+     * Only the WG_QUICK backend does this.
+     * </pre>
+     *
+     * <code>optional bool use_pia_dns = 25 [default = false];</code>
+     * @return Whether the usePiaDns field is set.
+     */
+    boolean hasUsePiaDns();
+    /**
+     * <pre>
+     * Whether wg-quick sets the server's DNS servers as the system's resolvers.
+     * Only the WG_QUICK backend does this.
+     * </pre>
+     *
+     * <code>optional bool use_pia_dns = 25 [default = false];</code>
+     * @return The usePiaDns.
+     */
+    boolean getUsePiaDns();
+
+    /**
+     * <pre>
+     * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+     * table, with the default route in its own table), "off" for no routes, or
+     * a table number.
+     * </pre>
+     *
+     * <code>optional string table = 26 [default = "auto"];</code>
+     * @return Whether the table field is set.
+     */
+    boolean hasTable();
+    /**
+     * <pre>
+     * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+     * table, with the default route in its own table), "off" for no routes, or
+     * a table number.
+     * </pre>
+     *
+     * <code>optional string table = 26 [default = "auto"];</code>
+     * @return The table.
+     */
+    java.lang.String getTable();
+    /**
+     * <pre>
+     * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+     * table, with the default route in its own table), "off" for no routes, or
+     * a table number.
+     * </pre>
+     *
+     * <code>optional string table = 26 [default = "auto"];</code>
+     * @return The bytes for table.
+     */
+    com.google.protobuf.ByteString
+        getTableBytes();
+
+    /**
+     * <pre>
+     * PEM file of the CA that signs the WireGuard servers' certificates.  If
+     * set, the hosts of token_url and serverlist_url are checked against it
+     * too, as for a local stand-in of the API.
+     * </pre>
+     *
+     * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+     * @return Whether the piaCaCertificate field is set.
+     */
+    boolean hasPiaCaCertificate();
+    /**
+     * <pre>
+     * PEM file of the CA that signs the WireGuard servers' certificates.  If
+     * set, the hosts of token_url and serverlist_url are checked against it
+     * too, as for a local stand-in of the API.
+     * </pre>
+     *
+     * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+     * @return The piaCaCertificate.
+     */
+    java.lang.String getPiaCaCertificate();
+    /**
+     * <pre>
+     * PEM file of the CA that signs the WireGuard servers' certificates.  If
+     * set, the hosts of token_url and serverlist_url are checked against it
+     * too, as for a local stand-in of the API.
+     * </pre>
+     *
+     * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+     * @return The bytes for piaCaCertificate.
+     */
+    com.google.protobuf.ByteString
+        getPiaCaCertificateBytes();
+
+    /**
+     * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+     * @return Whether the tokenUrl field is set.
+     */
+    boolean hasTokenUrl();
+    /**
+     * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+     * @return The tokenUrl.
+     */
+    java.lang.String getTokenUrl();
+    /**
+     * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+     * @return The bytes for tokenUrl.
+     */
+    com.google.protobuf.ByteString
+        getTokenUrlBytes();
+
+    /**
+     * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+     * @return Whether the serverlistUrl field is set.
+     */
+    boolean hasServerlistUrl();
+    /**
+     * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+     * @return The serverlistUrl.
+     */
+    java.lang.String getServerlistUrl();
+    /**
+     * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+     * @return The bytes for serverlistUrl.
+     */
+    com.google.protobuf.ByteString
+        getServerlistUrlBytes();
+  }
+  /**
+   * Protobuf type {@code pia4java.PiaConfig}
+   */
+  public static final class PiaConfig extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.PiaConfig)
+      PiaConfigOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PiaConfig.newBuilder() to construct.
+    private PiaConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PiaConfig() {
+      piaWireguardServer_ = "";
+      piaUsername_ = "";
+      piaPassword_ = "";
+      targetDomain_ = "";
+      cacheDir_ = "cache";
+      dnsServer_ = "";
+      serverlistPublicKey_ = "";
+      serverlistMaxAgeSeconds_ = 3600;
+      tunnel_ = java.util.Collections.emptyList();
+      shardedDomain_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      interfaceBackend_ = 1;
+      domainList_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      interfaceName_ = "pia";
+      table_ = "auto";
+      piaCaCertificate_ = "props/ca.rsa.4096.crt";
+      tokenUrl_ = "https://www.privateinternetaccess.com/api/client/v2/token";
+      serverlistUrl_ = "https://serverlist.piaservers.net/vpninfo/servers/v6";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PiaConfig();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PiaConfig(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              piaWireguardServer_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              piaWireguardPort_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              piaUsername_ = bs;
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              piaPassword_ = bs;
+              break;
+            }
+            case 42: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              targetDomain_ = bs;
+              break;
+            }
+            case 50: {
+              pia4java.Proto.ServerSelection.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000020) != 0)) {
+                subBuilder = serverSelection_.toBuilder();
+              }
+              serverSelection_ = input.readMessage(pia4java.Proto.ServerSelection.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(serverSelection_);
+                serverSelection_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000020;
+              break;
+            }
+            case 58: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000040;
+              cacheDir_ = bs;
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000080;
+              keyPoolSize_ = input.readInt32();
+              break;
+            }
+            case 74: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000100;
+              dnsServer_ = bs;
+              break;
+            }
+            case 82: {
+              pia4java.Proto.Supervisor.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000200) != 0)) {
+                subBuilder = supervisor_.toBuilder();
+              }
+              supervisor_ = input.readMessage(pia4java.Proto.Supervisor.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(supervisor_);
+                supervisor_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000200;
+              break;
+            }
+            case 90: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000400;
+              serverlistPublicKey_ = bs;
+              break;
+            }
+            case 96: {
+              bitField0_ |= 0x00000800;
+              serverlistMaxAgeSeconds_ = input.readInt32();
+              break;
+            }
+            case 106: {
+              if (!((mutable_bitField0_ & 0x00001000) != 0)) {
+                tunnel_ = new java.util.ArrayList<pia4java.Proto.Tunnel>();
+                mutable_bitField0_ |= 0x00001000;
+              }
+              tunnel_.add(
+                  input.readMessage(pia4java.Proto.Tunnel.PARSER, extensionRegistry));
+              break;
+            }
+            case 114: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00002000) != 0)) {
+                shardedDomain_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00002000;
+              }
+              shardedDomain_.add(bs);
+              break;
+            }
+            case 122: {
+              pia4java.Proto.PortForwarding.Builder subBuilder = null;
+              if (((bitField0_ & 0x00001000) != 0)) {
+                subBuilder = portForwarding_.toBuilder();
+              }
+              portForwarding_ = input.readMessage(pia4java.Proto.PortForwarding.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(portForwarding_);
+                portForwarding_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00001000;
+              break;
+            }
+            case 128: {
+              int rawValue = input.readEnum();
+                @SuppressWarnings("deprecation")
+              pia4java.Proto.InterfaceBackend value = pia4java.Proto.InterfaceBackend.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(16, rawValue);
+              } else {
+                bitField0_ |= 0x00002000;
+                interfaceBackend_ = rawValue;
+              }
+              break;
+            }
+            case 136: {
+              bitField0_ |= 0x00004000;
+              maxAllowedIps_ = input.readInt32();
+              break;
+            }
+            case 146: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00020000) != 0)) {
+                domainList_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00020000;
+              }
+              domainList_.add(bs);
+              break;
+            }
+            case 154: {
+              pia4java.Proto.DnsSettings.Builder subBuilder = null;
+              if (((bitField0_ & 0x00008000) != 0)) {
+                subBuilder = dns_.toBuilder();
+              }
+              dns_ = input.readMessage(pia4java.Proto.DnsSettings.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(dns_);
+                dns_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00008000;
+              break;
+            }
+            case 162: {
+              pia4java.Proto.Standby.Builder subBuilder = null;
+              if (((bitField0_ & 0x00010000) != 0)) {
+                subBuilder = standby_.toBuilder();
+              }
+              standby_ = input.readMessage(pia4java.Proto.Standby.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(standby_);
+                standby_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00010000;
+              break;
+            }
+            case 168: {
+              bitField0_ |= 0x00020000;
+              mtu_ = input.readInt32();
+              break;
+            }
+            case 178: {
+              pia4java.Proto.QualityMonitor.Builder subBuilder = null;
+              if (((bitField0_ & 0x00040000) != 0)) {
+                subBuilder = qualityMonitor_.toBuilder();
+              }
+              qualityMonitor_ = input.readMessage(pia4java.Proto.QualityMonitor.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(qualityMonitor_);
+                qualityMonitor_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00040000;
+              break;
+            }
+            case 186: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00080000;
+              interfaceName_ = bs;
+              break;
+            }
+            case 192: {
+              bitField0_ |= 0x00100000;
+              persistentKeepaliveSeconds_ = input.readInt32();
+              break;
+            }
+            case 200: {
+              bitField0_ |= 0x00200000;
+              usePiaDns_ = input.readBool();
+              break;
+            }
+            case 210: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00400000;
+              table_ = bs;
+              break;
+            }
+            case 218: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00800000;
+              piaCaCertificate_ = bs;
+              break;
+            }
+            case 226: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x01000000;
+              tokenUrl_ = bs;
+              break;
+            }
+            case 234: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x02000000;
+              serverlistUrl_ = bs;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00001000) != 0)) {
+          tunnel_ = java.util.Collections.unmodifiableList(tunnel_);
+        }
+        if (((mutable_bitField0_ & 0x00002000) != 0)) {
+          shardedDomain_ = shardedDomain_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00020000) != 0)) {
+          domainList_ = domainList_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_PiaConfig_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_PiaConfig_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.PiaConfig.class, pia4java.Proto.PiaConfig.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int PIA_WIREGUARD_SERVER_FIELD_NUMBER = 1;
+    private volatile java.lang.Object piaWireguardServer_;
+    /**
+     * <code>optional string pia_wireguard_server = 1;</code>
+     * @return Whether the piaWireguardServer field is set.
+     */
+    @java.lang.Override
+    public boolean hasPiaWireguardServer() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string pia_wireguard_server = 1;</code>
+     * @return The piaWireguardServer.
+     */
+    @java.lang.Override
+    public java.lang.String getPiaWireguardServer() {
+      java.lang.Object ref = piaWireguardServer_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          piaWireguardServer_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string pia_wireguard_server = 1;</code>
+     * @return The bytes for piaWireguardServer.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPiaWireguardServerBytes() {
+      java.lang.Object ref = piaWireguardServer_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        piaWireguardServer_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PIA_WIREGUARD_PORT_FIELD_NUMBER = 2;
+    private int piaWireguardPort_;
+    /**
+     * <code>optional int32 pia_wireguard_port = 2;</code>
+     * @return Whether the piaWireguardPort field is set.
+     */
+    @java.lang.Override
+    public boolean hasPiaWireguardPort() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int32 pia_wireguard_port = 2;</code>
+     * @return The piaWireguardPort.
+     */
+    @java.lang.Override
+    public int getPiaWireguardPort() {
+      return piaWireguardPort_;
+    }
+
+    public static final int PIA_USERNAME_FIELD_NUMBER = 3;
+    private volatile java.lang.Object piaUsername_;
+    /**
+     * <code>optional string pia_username = 3;</code>
+     * @return Whether the piaUsername field is set.
+     */
+    @java.lang.Override
+    public boolean hasPiaUsername() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string pia_username = 3;</code>
+     * @return The piaUsername.
+     */
+    @java.lang.Override
+    public java.lang.String getPiaUsername() {
+      java.lang.Object ref = piaUsername_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          piaUsername_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string pia_username = 3;</code>
+     * @return The bytes for piaUsername.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPiaUsernameBytes() {
+      java.lang.Object ref = piaUsername_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        piaUsername_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PIA_PASSWORD_FIELD_NUMBER = 4;
+    private volatile java.lang.Object piaPassword_;
+    /**
+     * <code>optional string pia_password = 4;</code>
+     * @return Whether the piaPassword field is set.
+     */
+    @java.lang.Override
+    public boolean hasPiaPassword() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional string pia_password = 4;</code>
+     * @return The piaPassword.
+     */
+    @java.lang.Override
+    public java.lang.String getPiaPassword() {
+      java.lang.Object ref = piaPassword_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          piaPassword_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string pia_password = 4;</code>
+     * @return The bytes for piaPassword.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPiaPasswordBytes() {
+      java.lang.Object ref = piaPassword_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        piaPassword_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TARGET_DOMAIN_FIELD_NUMBER = 5;
+    private volatile java.lang.Object targetDomain_;
+    /**
+     * <code>optional string target_domain = 5;</code>
+     * @return Whether the targetDomain field is set.
+     */
+    @java.lang.Override
+    public boolean hasTargetDomain() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional string target_domain = 5;</code>
+     * @return The targetDomain.
+     */
+    @java.lang.Override
+    public java.lang.String getTargetDomain() {
+      java.lang.Object ref = targetDomain_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          targetDomain_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string target_domain = 5;</code>
+     * @return The bytes for targetDomain.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTargetDomainBytes() {
+      java.lang.Object ref = targetDomain_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        targetDomain_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SERVER_SELECTION_FIELD_NUMBER = 6;
+    private pia4java.Proto.ServerSelection serverSelection_;
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored and the lowest latency
+     * server from the PIA serverlist is used instead.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+     * @return Whether the serverSelection field is set.
+     */
+    @java.lang.Override
+    public boolean hasServerSelection() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored and the lowest latency
+     * server from the PIA serverlist is used instead.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+     * @return The serverSelection.
+     */
+    @java.lang.Override
+    public pia4java.Proto.ServerSelection getServerSelection() {
+      return serverSelection_ == null ? pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+    }
+    /**
+     * <pre>
+     * If set, pia_wireguard_server is ignored and the lowest latency
+     * server from the PIA serverlist is used instead.
+     * </pre>
+     *
+     * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.ServerSelectionOrBuilder getServerSelectionOrBuilder() {
+      return serverSelection_ == null ? pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+    }
+
+    public static final int CACHE_DIR_FIELD_NUMBER = 7;
+    private volatile java.lang.Object cacheDir_;
+    /**
+     * <pre>
+     * Directory for state kept between runs, such as the auth token.
+     * </pre>
+     *
+     * <code>optional string cache_dir = 7 [default = "cache"];</code>
+     * @return Whether the cacheDir field is set.
+     */
+    @java.lang.Override
+    public boolean hasCacheDir() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <pre>
+     * Directory for state kept between runs, such as the auth token.
+     * </pre>
+     *
+     * <code>optional string cache_dir = 7 [default = "cache"];</code>
+     * @return The cacheDir.
+     */
+    @java.lang.Override
+    public java.lang.String getCacheDir() {
+      java.lang.Object ref = cacheDir_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          cacheDir_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Directory for state kept between runs, such as the auth token.
+     * </pre>
+     *
+     * <code>optional string cache_dir = 7 [default = "cache"];</code>
+     * @return The bytes for cacheDir.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCacheDirBytes() {
+      java.lang.Object ref = cacheDir_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cacheDir_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int KEY_POOL_SIZE_FIELD_NUMBER = 8;
+    private int keyPoolSize_;
+    /**
+     * <pre>
+     * Number of WireGuard keypairs to generate ahead of time.
+     * </pre>
+     *
+     * <code>optional int32 key_pool_size = 8 [default = 0];</code>
+     * @return Whether the keyPoolSize field is set.
+     */
+    @java.lang.Override
+    public boolean hasKeyPoolSize() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <pre>
+     * Number of WireGuard keypairs to generate ahead of time.
+     * </pre>
+     *
+     * <code>optional int32 key_pool_size = 8 [default = 0];</code>
+     * @return The keyPoolSize.
+     */
+    @java.lang.Override
+    public int getKeyPoolSize() {
+      return keyPoolSize_;
+    }
+
+    public static final int DNS_SERVER_FIELD_NUMBER = 9;
+    private volatile java.lang.Object dnsServer_;
+    /**
+     * <pre>
+     * DNS server used to resolve target_domain, as "host" or "host:port".
+     * Defaults to the first nameserver in /etc/resolv.conf.
+     * </pre>
+     *
+     * <code>optional string dns_server = 9;</code>
+     * @return Whether the dnsServer field is set.
+     */
+    @java.lang.Override
+    public boolean hasDnsServer() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <pre>
+     * DNS server used to resolve target_domain, as "host" or "host:port".
+     * Defaults to the first nameserver in /etc/resolv.conf.
+     * </pre>
+     *
+     * <code>optional string dns_server = 9;</code>
+     * @return The dnsServer.
+     */
+    @java.lang.Override
+    public java.lang.String getDnsServer() {
+      java.lang.Object ref = dnsServer_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          dnsServer_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * DNS server used to resolve target_domain, as "host" or "host:port".
+     * Defaults to the first nameserver in /etc/resolv.conf.
+     * </pre>
+     *
+     * <code>optional string dns_server = 9;</code>
+     * @return The bytes for dnsServer.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDnsServerBytes() {
+      java.lang.Object ref = dnsServer_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dnsServer_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SUPERVISOR_FIELD_NUMBER = 10;
+    private pia4java.Proto.Supervisor supervisor_;
+    /**
+     * <pre>
+     * Settings for the daemon command.
+     * </pre>
+     *
+     * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+     * @return Whether the supervisor field is set.
+     */
+    @java.lang.Override
+    public boolean hasSupervisor() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <pre>
+     * Settings for the daemon command.
+     * </pre>
+     *
+     * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+     * @return The supervisor.
+     */
+    @java.lang.Override
+    public pia4java.Proto.Supervisor getSupervisor() {
+      return supervisor_ == null ? pia4java.Proto.Supervisor.getDefaultInstance() : supervisor_;
+    }
+    /**
+     * <pre>
+     * Settings for the daemon command.
+     * </pre>
+     *
+     * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.SupervisorOrBuilder getSupervisorOrBuilder() {
+      return supervisor_ == null ? pia4java.Proto.Supervisor.getDefaultInstance() : supervisor_;
+    }
+
+    public static final int SERVERLIST_PUBLIC_KEY_FIELD_NUMBER = 11;
+    private volatile java.lang.Object serverlistPublicKey_;
+    /**
+     * <pre>
+     * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+     * serverlist.  Without it the serverlist signature is not checked.
+     * </pre>
+     *
+     * <code>optional string serverlist_public_key = 11;</code>
+     * @return Whether the serverlistPublicKey field is set.
+     */
+    @java.lang.Override
+    public boolean hasServerlistPublicKey() {
+      return ((bitField0_ & 0x00000400) != 0);
+    }
+    /**
+     * <pre>
+     * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+     * serverlist.  Without it the serverlist signature is not checked.
+     * </pre>
+     *
+     * <code>optional string serverlist_public_key = 11;</code>
+     * @return The serverlistPublicKey.
+     */
+    @java.lang.Override
+    public java.lang.String getServerlistPublicKey() {
+      java.lang.Object ref = serverlistPublicKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          serverlistPublicKey_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+     * serverlist.  Without it the serverlist signature is not checked.
+     * </pre>
+     *
+     * <code>optional string serverlist_public_key = 11;</code>
+     * @return The bytes for serverlistPublicKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getServerlistPublicKeyBytes() {
+      java.lang.Object ref = serverlistPublicKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        serverlistPublicKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SERVERLIST_MAX_AGE_SECONDS_FIELD_NUMBER = 12;
+    private int serverlistMaxAgeSeconds_;
+    /**
+     * <pre>
+     * The cached serverlist is used without revalidating it for this long.
+     * </pre>
+     *
+     * <code>optional int32 serverlist_max_age_seconds = 12 [default = 3600];</code>
+     * @return Whether the serverlistMaxAgeSeconds field is set.
+     */
+    @java.lang.Override
+    public boolean hasServerlistMaxAgeSeconds() {
+      return ((bitField0_ & 0x00000800) != 0);
+    }
+    /**
+     * <pre>
+     * The cached serverlist is used without revalidating it for this long.
+     * </pre>
+     *
+     * <code>optional int32 serverlist_max_age_seconds = 12 [default = 3600];</code>
+     * @return The serverlistMaxAgeSeconds.
+     */
+    @java.lang.Override
+    public int getServerlistMaxAgeSeconds() {
+      return serverlistMaxAgeSeconds_;
+    }
+
+    public static final int TUNNEL_FIELD_NUMBER = 13;
+    private java.util.List<pia4java.Proto.Tunnel> tunnel_;
+    /**
+     * <pre>
+     * Tunnels brought up side by side.  If any are given, the top level
+     * pia_wireguard_server, server_selection and target_domain are ignored.
+     * </pre>
+     *
+     * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+     */
+    @java.lang.Override
+    public java.util.List<pia4java.Proto.Tunnel> getTunnelList() {
+      return tunnel_;
+    }
+    /**
+     * <pre>
+     * Tunnels brought up side by side.  If any are given, the top level
+     * pia_wireguard_server, server_selection and target_domain are ignored.
+     * </pre>
+     *
+     * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends pia4java.Proto.TunnelOrBuilder> 
+        getTunnelOrBuilderList() {
+      return tunnel_;
+    }
+    /**
+     * <pre>
+     * Tunnels brought up side by side.  If any are given, the top level
+     * pia_wireguard_server, server_selection and target_domain are ignored.
+     * </pre>
+     *
+     * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+     */
+    @java.lang.Override
+    public int getTunnelCount() {
+      return tunnel_.size();
+    }
+    /**
+     * <pre>
+     * Tunnels brought up side by side.  If any are given, the top level
+     * pia_wireguard_server, server_selection and target_domain are ignored.
+     * </pre>
+     *
+     * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.Tunnel getTunnel(int index) {
+      return tunnel_.get(index);
+    }
+    /**
+     * <pre>
+     * Tunnels brought up side by side.  If any are given, the top level
+     * pia_wireguard_server, server_selection and target_domain are ignored.
+     * </pre>
+     *
+     * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.TunnelOrBuilder getTunnelOrBuilder(
+        int index) {
+      return tunnel_.get(index);
+    }
+
+    public static final int SHARDED_DOMAIN_FIELD_NUMBER = 14;
+    private com.google.protobuf.LazyStringList shardedDomain_;
+    /**
+     * <pre>
+     * Domains spread across the tunnels by consistent hashing, on top of each
+     * tunnel's own target_domain.
+     * </pre>
+     *
+     * <code>repeated string sharded_domain = 14;</code>
+     * @return A list containing the shardedDomain.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getShardedDomainList() {
+      return shardedDomain_;
+    }
+    /**
+     * <pre>
+     * Domains spread across the tunnels by consistent hashing, on top of each
+     * tunnel's own target_domain.
+     * </pre>
+     *
+     * <code>repeated string sharded_domain = 14;</code>
+     * @return The count of shardedDomain.
+     */
+    public int getShardedDomainCount() {
+      return shardedDomain_.size();
+    }
+    /**
+     * <pre>
+     * Domains spread across the tunnels by consistent hashing, on top of each
+     * tunnel's own target_domain.
+     * </pre>
+     *
+     * <code>repeated string sharded_domain = 14;</code>
+     * @param index The index of the element to return.
+     * @return The shardedDomain at the given index.
+     */
+    public java.lang.String getShardedDomain(int index) {
+      return shardedDomain_.get(index);
+    }
+    /**
+     * <pre>
+     * Domains spread across the tunnels by consistent hashing, on top of each
+     * tunnel's own target_domain.
+     * </pre>
+     *
+     * <code>repeated string sharded_domain = 14;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the shardedDomain at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getShardedDomainBytes(int index) {
+      return shardedDomain_.getByteString(index);
+    }
+
+    public static final int PORT_FORWARDING_FIELD_NUMBER = 15;
+    private pia4java.Proto.PortForwarding portForwarding_;
+    /**
+     * <pre>
+     * If set, a port is forwarded through the tunnel described by the top level
+     * fields.  Tunnels set their own port_forwarding.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+     * @return Whether the portForwarding field is set.
+     */
+    @java.lang.Override
+    public boolean hasPortForwarding() {
+      return ((bitField0_ & 0x00001000) != 0);
+    }
+    /**
+     * <pre>
+     * If set, a port is forwarded through the tunnel described by the top level
+     * fields.  Tunnels set their own port_forwarding.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+     * @return The portForwarding.
+     */
+    @java.lang.Override
+    public pia4java.Proto.PortForwarding getPortForwarding() {
+      return portForwarding_ == null ? pia4java.Proto.PortForwarding.getDefaultInstance() : portForwarding_;
+    }
+    /**
+     * <pre>
+     * If set, a port is forwarded through the tunnel described by the top level
+     * fields.  Tunnels set their own port_forwarding.
+     * </pre>
+     *
+     * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.PortForwardingOrBuilder getPortForwardingOrBuilder() {
+      return portForwarding_ == null ? pia4java.Proto.PortForwarding.getDefaultInstance() : portForwarding_;
+    }
+
+    public static final int INTERFACE_BACKEND_FIELD_NUMBER = 16;
+    private int interfaceBackend_;
+    /**
+     * <pre>
+     * How interfaces are brought up and down.
+     * </pre>
+     *
+     * <code>optional .pia4java.InterfaceBackend interface_backend = 16 [default = WG_QUICK];</code>
+     * @return Whether the interfaceBackend field is set.
+     */
+    @java.lang.Override public boolean hasInterfaceBackend() {
+      return ((bitField0_ & 0x00002000) != 0);
+    }
+    /**
+     * <pre>
+     * How interfaces are brought up and down.
+     * </pre>
+     *
+     * <code>optional .pia4java.InterfaceBackend interface_backend = 16 [default = WG_QUICK];</code>
+     * @return The interfaceBackend.
+     */
+    @java.lang.Override public pia4java.Proto.InterfaceBackend getInterfaceBackend() {
+      @SuppressWarnings("deprecation")
+      pia4java.Proto.InterfaceBackend result = pia4java.Proto.InterfaceBackend.valueOf(interfaceBackend_);
+      return result == null ? pia4java.Proto.InterfaceBackend.WG_QUICK : result;
+    }
+
+    public static final int MAX_ALLOWED_IPS_FIELD_NUMBER = 17;
+    private int maxAllowedIps_;
+    /**
+     * <pre>
+     * If positive, the routed addresses of each tunnel are collapsed into at
+     * most this many prefixes, which may then cover other addresses too.
+     * </pre>
+     *
+     * <code>optional int32 max_allowed_ips = 17 [default = 0];</code>
+     * @return Whether the maxAllowedIps field is set.
+     */
+    @java.lang.Override
+    public boolean hasMaxAllowedIps() {
+      return ((bitField0_ & 0x00004000) != 0);
+    }
+    /**
+     * <pre>
+     * If positive, the routed addresses of each tunnel are collapsed into at
+     * most this many prefixes, which may then cover other addresses too.
+     * </pre>
+     *
+     * <code>optional int32 max_allowed_ips = 17 [default = 0];</code>
+     * @return The maxAllowedIps.
+     */
+    @java.lang.Override
+    public int getMaxAllowedIps() {
+      return maxAllowedIps_;
+    }
+
+    public static final int DOMAIN_LIST_FIELD_NUMBER = 18;
+    private com.google.protobuf.LazyStringList domainList_;
+    /**
+     * <pre>
+     * Files of domains, one per line, with "#" comments.  They are routed like
+     * target_domain, or spread across the tunnels like sharded_domain.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 18;</code>
+     * @return A list containing the domainList.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getDomainListList() {
+      return domainList_;
+    }
+    /**
+     * <pre>
+     * Files of domains, one per line, with "#" comments.  They are routed like
+     * target_domain, or spread across the tunnels like sharded_domain.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 18;</code>
+     * @return The count of domainList.
+     */
+    public int getDomainListCount() {
+      return domainList_.size();
+    }
+    /**
+     * <pre>
+     * Files of domains, one per line, with "#" comments.  They are routed like
+     * target_domain, or spread across the tunnels like sharded_domain.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 18;</code>
+     * @param index The index of the element to return.
+     * @return The domainList at the given index.
+     */
+    public java.lang.String getDomainList(int index) {
+      return domainList_.get(index);
+    }
+    /**
+     * <pre>
+     * Files of domains, one per line, with "#" comments.  They are routed like
+     * target_domain, or spread across the tunnels like sharded_domain.
+     * </pre>
+     *
+     * <code>repeated string domain_list = 18;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the domainList at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getDomainListBytes(int index) {
+      return domainList_.getByteString(index);
+    }
+
+    public static final int DNS_FIELD_NUMBER = 19;
+    private pia4java.Proto.DnsSettings dns_;
+    /**
+     * <pre>
+     * Limits for resolving the domains.
+     * </pre>
+     *
+     * <code>optional .pia4java.DnsSettings dns = 19;</code>
+     * @return Whether the dns field is set.
+     */
+    @java.lang.Override
+    public boolean hasDns() {
+      return ((bitField0_ & 0x00008000) != 0);
+    }
+    /**
+     * <pre>
+     * Limits for resolving the domains.
+     * </pre>
+     *
+     * <code>optional .pia4java.DnsSettings dns = 19;</code>
+     * @return The dns.
+     */
+    @java.lang.Override
+    public pia4java.Proto.DnsSettings getDns() {
+      return dns_ == null ? pia4java.Proto.DnsSettings.getDefaultInstance() : dns_;
+    }
+    /**
+     * <pre>
+     * Limits for resolving the domains.
+     * </pre>
+     *
+     * <code>optional .pia4java.DnsSettings dns = 19;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.DnsSettingsOrBuilder getDnsOrBuilder() {
+      return dns_ == null ? pia4java.Proto.DnsSettings.getDefaultInstance() : dns_;
+    }
+
+    public static final int STANDBY_FIELD_NUMBER = 20;
+    private pia4java.Proto.Standby standby_;
+    /**
+     * <pre>
+     * If set, the daemon keeps a standby for the tunnel described by the top
+     * level fields.  Tunnels set their own standby.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 20;</code>
+     * @return Whether the standby field is set.
+     */
+    @java.lang.Override
+    public boolean hasStandby() {
+      return ((bitField0_ & 0x00010000) != 0);
+    }
+    /**
+     * <pre>
+     * If set, the daemon keeps a standby for the tunnel described by the top
+     * level fields.  Tunnels set their own standby.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 20;</code>
+     * @return The standby.
+     */
+    @java.lang.Override
+    public pia4java.Proto.Standby getStandby() {
+      return standby_ == null ? pia4java.Proto.Standby.getDefaultInstance() : standby_;
+    }
+    /**
+     * <pre>
+     * If set, the daemon keeps a standby for the tunnel described by the top
+     * level fields.  Tunnels set their own standby.
+     * </pre>
+     *
+     * <code>optional .pia4java.Standby standby = 20;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.StandbyOrBuilder getStandbyOrBuilder() {
+      return standby_ == null ? pia4java.Proto.Standby.getDefaultInstance() : standby_;
+    }
+
+    public static final int MTU_FIELD_NUMBER = 21;
+    private int mtu_;
+    /**
+     * <pre>
+     * Tunnel MTU.  If unset, it is the path MTU to the server, found by
+     * probing, less WireGuard's overhead.
+     * </pre>
+     *
+     * <code>optional int32 mtu = 21;</code>
+     * @return Whether the mtu field is set.
+     */
+    @java.lang.Override
+    public boolean hasMtu() {
+      return ((bitField0_ & 0x00020000) != 0);
+    }
+    /**
+     * <pre>
+     * Tunnel MTU.  If unset, it is the path MTU to the server, found by
+     * probing, less WireGuard's overhead.
+     * </pre>
+     *
+     * <code>optional int32 mtu = 21;</code>
+     * @return The mtu.
+     */
+    @java.lang.Override
+    public int getMtu() {
+      return mtu_;
+    }
+
+    public static final int QUALITY_MONITOR_FIELD_NUMBER = 22;
+    private pia4java.Proto.QualityMonitor qualityMonitor_;
+    /**
+     * <pre>
+     * If present, the daemon measures each tunnel's round trip time, jitter and
+     * loss.
+     * </pre>
+     *
+     * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+     * @return Whether the qualityMonitor field is set.
+     */
+    @java.lang.Override
+    public boolean hasQualityMonitor() {
+      return ((bitField0_ & 0x00040000) != 0);
+    }
+    /**
+     * <pre>
+     * If present, the daemon measures each tunnel's round trip time, jitter and
+     * loss.
+     * </pre>
+     *
+     * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+     * @return The qualityMonitor.
+     */
+    @java.lang.Override
+    public pia4java.Proto.QualityMonitor getQualityMonitor() {
+      return qualityMonitor_ == null ? pia4java.Proto.QualityMonitor.getDefaultInstance() : qualityMonitor_;
+    }
+    /**
+     * <pre>
+     * If present, the daemon measures each tunnel's round trip time, jitter and
+     * loss.
+     * </pre>
+     *
+     * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.QualityMonitorOrBuilder getQualityMonitorOrBuilder() {
+      return qualityMonitor_ == null ? pia4java.Proto.QualityMonitor.getDefaultInstance() : qualityMonitor_;
+    }
+
+    public static final int INTERFACE_NAME_FIELD_NUMBER = 23;
+    private volatile java.lang.Object interfaceName_;
+    /**
+     * <pre>
+     * Interface name of the single tunnel of a configuration without tunnels.
+     * </pre>
+     *
+     * <code>optional string interface_name = 23 [default = "pia"];</code>
+     * @return Whether the interfaceName field is set.
+     */
+    @java.lang.Override
+    public boolean hasInterfaceName() {
+      return ((bitField0_ & 0x00080000) != 0);
+    }
+    /**
+     * <pre>
+     * Interface name of the single tunnel of a configuration without tunnels.
+     * </pre>
+     *
+     * <code>optional string interface_name = 23 [default = "pia"];</code>
+     * @return The interfaceName.
+     */
+    @java.lang.Override
+    public java.lang.String getInterfaceName() {
+      java.lang.Object ref = interfaceName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          interfaceName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Interface name of the single tunnel of a configuration without tunnels.
+     * </pre>
+     *
+     * <code>optional string interface_name = 23 [default = "pia"];</code>
+     * @return The bytes for interfaceName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInterfaceNameBytes() {
+      java.lang.Object ref = interfaceName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        interfaceName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PERSISTENT_KEEPALIVE_SECONDS_FIELD_NUMBER = 24;
+    private int persistentKeepaliveSeconds_;
+    /**
+     * <pre>
+     * Keepalives are off unless set; 25 keeps a NAT mapping open while idle.
+     * </pre>
+     *
+     * <code>optional int32 persistent_keepalive_seconds = 24 [default = 0];</code>
+     * @return Whether the persistentKeepaliveSeconds field is set.
+     */
+    @java.lang.Override
+    public boolean hasPersistentKeepaliveSeconds() {
+      return ((bitField0_ & 0x00100000) != 0);
+    }
+    /**
+     * <pre>
+     * Keepalives are off unless set; 25 keeps a NAT mapping open while idle.
+     * </pre>
+     *
+     * <code>optional int32 persistent_keepalive_seconds = 24 [default = 0];</code>
+     * @return The persistentKeepaliveSeconds.
+     */
+    @java.lang.Override
+    public int getPersistentKeepaliveSeconds() {
+      return persistentKeepaliveSeconds_;
+    }
+
+    public static final int USE_PIA_DNS_FIELD_NUMBER = 25;
+    private boolean usePiaDns_;
+    /**
+     * <pre>
+     * Whether wg-quick sets the server's DNS servers as the system's resolvers.
+     * Only the WG_QUICK backend does this.
+     * </pre>
+     *
+     * <code>optional bool use_pia_dns = 25 [default = false];</code>
+     * @return Whether the usePiaDns field is set.
+     */
+    @java.lang.Override
+    public boolean hasUsePiaDns() {
+      return ((bitField0_ & 0x00200000) != 0);
+    }
+    /**
+     * <pre>
+     * Whether wg-quick sets the server's DNS servers as the system's resolvers.
+     * Only the WG_QUICK backend does this.
+     * </pre>
+     *
+     * <code>optional bool use_pia_dns = 25 [default = false];</code>
+     * @return The usePiaDns.
+     */
+    @java.lang.Override
+    public boolean getUsePiaDns() {
+      return usePiaDns_;
+    }
+
+    public static final int TABLE_FIELD_NUMBER = 26;
+    private volatile java.lang.Object table_;
+    /**
+     * <pre>
+     * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+     * table, with the default route in its own table), "off" for no routes, or
+     * a table number.
+     * </pre>
+     *
+     * <code>optional string table = 26 [default = "auto"];</code>
+     * @return Whether the table field is set.
+     */
+    @java.lang.Override
+    public boolean hasTable() {
+      return ((bitField0_ & 0x00400000) != 0);
+    }
+    /**
+     * <pre>
+     * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+     * table, with the default route in its own table), "off" for no routes, or
+     * a table number.
+     * </pre>
+     *
+     * <code>optional string table = 26 [default = "auto"];</code>
+     * @return The table.
+     */
+    @java.lang.Override
+    public java.lang.String getTable() {
+      java.lang.Object ref = table_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          table_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+     * table, with the default route in its own table), "off" for no routes, or
+     * a table number.
+     * </pre>
+     *
+     * <code>optional string table = 26 [default = "auto"];</code>
+     * @return The bytes for table.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTableBytes() {
+      java.lang.Object ref = table_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        table_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PIA_CA_CERTIFICATE_FIELD_NUMBER = 27;
+    private volatile java.lang.Object piaCaCertificate_;
+    /**
+     * <pre>
+     * PEM file of the CA that signs the WireGuard servers' certificates.  If
+     * set, the hosts of token_url and serverlist_url are checked against it
+     * too, as for a local stand-in of the API.
+     * </pre>
+     *
+     * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+     * @return Whether the piaCaCertificate field is set.
+     */
+    @java.lang.Override
+    public boolean hasPiaCaCertificate() {
+      return ((bitField0_ & 0x00800000) != 0);
+    }
+    /**
+     * <pre>
+     * PEM file of the CA that signs the WireGuard servers' certificates.  If
+     * set, the hosts of token_url and serverlist_url are checked against it
+     * too, as for a local stand-in of the API.
+     * </pre>
+     *
+     * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+     * @return The piaCaCertificate.
+     */
+    @java.lang.Override
+    public java.lang.String getPiaCaCertificate() {
+      java.lang.Object ref = piaCaCertificate_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          piaCaCertificate_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * PEM file of the CA that signs the WireGuard servers' certificates.  If
+     * set, the hosts of token_url and serverlist_url are checked against it
+     * too, as for a local stand-in of the API.
+     * </pre>
+     *
+     * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+     * @return The bytes for piaCaCertificate.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPiaCaCertificateBytes() {
+      java.lang.Object ref = piaCaCertificate_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        piaCaCertificate_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TOKEN_URL_FIELD_NUMBER = 28;
+    private volatile java.lang.Object tokenUrl_;
+    /**
+     * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+     * @return Whether the tokenUrl field is set.
+     */
+    @java.lang.Override
+    public boolean hasTokenUrl() {
+      return ((bitField0_ & 0x01000000) != 0);
+    }
+    /**
+     * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+     * @return The tokenUrl.
+     */
+    @java.lang.Override
+    public java.lang.String getTokenUrl() {
+      java.lang.Object ref = tokenUrl_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tokenUrl_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+     * @return The bytes for tokenUrl.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTokenUrlBytes() {
+      java.lang.Object ref = tokenUrl_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tokenUrl_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SERVERLIST_URL_FIELD_NUMBER = 29;
+    private volatile java.lang.Object serverlistUrl_;
+    /**
+     * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+     * @return Whether the serverlistUrl field is set.
+     */
+    @java.lang.Override
+    public boolean hasServerlistUrl() {
+      return ((bitField0_ & 0x02000000) != 0);
+    }
+    /**
+     * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+     * @return The serverlistUrl.
+     */
+    @java.lang.Override
+    public java.lang.String getServerlistUrl() {
+      java.lang.Object ref = serverlistUrl_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          serverlistUrl_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+     * @return The bytes for serverlistUrl.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getServerlistUrlBytes() {
+      java.lang.Object ref = serverlistUrl_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        serverlistUrl_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, piaWireguardServer_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, piaWireguardPort_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, piaUsername_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, piaPassword_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, targetDomain_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeMessage(6, getServerSelection());
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, cacheDir_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeInt32(8, keyPoolSize_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 9, dnsServer_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        output.writeMessage(10, getSupervisor());
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 11, serverlistPublicKey_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        output.writeInt32(12, serverlistMaxAgeSeconds_);
+      }
+      for (int i = 0; i < tunnel_.size(); i++) {
+        output.writeMessage(13, tunnel_.get(i));
+      }
+      for (int i = 0; i < shardedDomain_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 14, shardedDomain_.getRaw(i));
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        output.writeMessage(15, getPortForwarding());
+      }
+      if (((bitField0_ & 0x00002000) != 0)) {
+        output.writeEnum(16, interfaceBackend_);
+      }
+      if (((bitField0_ & 0x00004000) != 0)) {
+        output.writeInt32(17, maxAllowedIps_);
+      }
+      for (int i = 0; i < domainList_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 18, domainList_.getRaw(i));
+      }
+      if (((bitField0_ & 0x00008000) != 0)) {
+        output.writeMessage(19, getDns());
+      }
+      if (((bitField0_ & 0x00010000) != 0)) {
+        output.writeMessage(20, getStandby());
+      }
+      if (((bitField0_ & 0x00020000) != 0)) {
+        output.writeInt32(21, mtu_);
+      }
+      if (((bitField0_ & 0x00040000) != 0)) {
+        output.writeMessage(22, getQualityMonitor());
+      }
+      if (((bitField0_ & 0x00080000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 23, interfaceName_);
+      }
+      if (((bitField0_ & 0x00100000) != 0)) {
+        output.writeInt32(24, persistentKeepaliveSeconds_);
+      }
+      if (((bitField0_ & 0x00200000) != 0)) {
+        output.writeBool(25, usePiaDns_);
+      }
+      if (((bitField0_ & 0x00400000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 26, table_);
+      }
+      if (((bitField0_ & 0x00800000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 27, piaCaCertificate_);
+      }
+      if (((bitField0_ & 0x01000000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 28, tokenUrl_);
+      }
+      if (((bitField0_ & 0x02000000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 29, serverlistUrl_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, piaWireguardServer_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, piaWireguardPort_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, piaUsername_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, piaPassword_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, targetDomain_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getServerSelection());
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, cacheDir_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(8, keyPoolSize_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(9, dnsServer_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, getSupervisor());
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(11, serverlistPublicKey_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(12, serverlistMaxAgeSeconds_);
+      }
+      for (int i = 0; i < tunnel_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(13, tunnel_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < shardedDomain_.size(); i++) {
+          dataSize += computeStringSizeNoTag(shardedDomain_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getShardedDomainList().size();
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(15, getPortForwarding());
+      }
+      if (((bitField0_ & 0x00002000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(16, interfaceBackend_);
+      }
+      if (((bitField0_ & 0x00004000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(17, maxAllowedIps_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < domainList_.size(); i++) {
+          dataSize += computeStringSizeNoTag(domainList_.getRaw(i));
+        }
+        size += dataSize;
+        size += 2 * getDomainListList().size();
+      }
+      if (((bitField0_ & 0x00008000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(19, getDns());
+      }
+      if (((bitField0_ & 0x00010000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(20, getStandby());
+      }
+      if (((bitField0_ & 0x00020000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(21, mtu_);
+      }
+      if (((bitField0_ & 0x00040000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(22, getQualityMonitor());
+      }
+      if (((bitField0_ & 0x00080000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(23, interfaceName_);
+      }
+      if (((bitField0_ & 0x00100000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(24, persistentKeepaliveSeconds_);
+      }
+      if (((bitField0_ & 0x00200000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(25, usePiaDns_);
+      }
+      if (((bitField0_ & 0x00400000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(26, table_);
+      }
+      if (((bitField0_ & 0x00800000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(27, piaCaCertificate_);
+      }
+      if (((bitField0_ & 0x01000000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(28, tokenUrl_);
+      }
+      if (((bitField0_ & 0x02000000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(29, serverlistUrl_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.PiaConfig)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.PiaConfig other = (pia4java.Proto.PiaConfig) obj;
+
+      if (hasPiaWireguardServer() != other.hasPiaWireguardServer()) return false;
+      if (hasPiaWireguardServer()) {
+        if (!getPiaWireguardServer()
+            .equals(other.getPiaWireguardServer())) return false;
+      }
+      if (hasPiaWireguardPort() != other.hasPiaWireguardPort()) return false;
+      if (hasPiaWireguardPort()) {
+        if (getPiaWireguardPort()
+            != other.getPiaWireguardPort()) return false;
+      }
+      if (hasPiaUsername() != other.hasPiaUsername()) return false;
+      if (hasPiaUsername()) {
+        if (!getPiaUsername()
+            .equals(other.getPiaUsername())) return false;
+      }
+      if (hasPiaPassword() != other.hasPiaPassword()) return false;
+      if (hasPiaPassword()) {
+        if (!getPiaPassword()
+            .equals(other.getPiaPassword())) return false;
+      }
+      if (hasTargetDomain() != other.hasTargetDomain()) return false;
+      if (hasTargetDomain()) {
+        if (!getTargetDomain()
+            .equals(other.getTargetDomain())) return false;
+      }
+      if (hasServerSelection() != other.hasServerSelection()) return false;
+      if (hasServerSelection()) {
+        if (!getServerSelection()
+            .equals(other.getServerSelection())) return false;
+      }
+      if (hasCacheDir() != other.hasCacheDir()) return false;
+      if (hasCacheDir()) {
+        if (!getCacheDir()
+            .equals(other.getCacheDir())) return false;
+      }
+      if (hasKeyPoolSize() != other.hasKeyPoolSize()) return false;
+      if (hasKeyPoolSize()) {
+        if (getKeyPoolSize()
+            != other.getKeyPoolSize()) return false;
+      }
+      if (hasDnsServer() != other.hasDnsServer()) return false;
+      if (hasDnsServer()) {
+        if (!getDnsServer()
+            .equals(other.getDnsServer())) return false;
+      }
+      if (hasSupervisor() != other.hasSupervisor()) return false;
+      if (hasSupervisor()) {
+        if (!getSupervisor()
+            .equals(other.getSupervisor())) return false;
+      }
+      if (hasServerlistPublicKey() != other.hasServerlistPublicKey()) return false;
+      if (hasServerlistPublicKey()) {
+        if (!getServerlistPublicKey()
+            .equals(other.getServerlistPublicKey())) return false;
+      }
+      if (hasServerlistMaxAgeSeconds() != other.hasServerlistMaxAgeSeconds()) return false;
+      if (hasServerlistMaxAgeSeconds()) {
+        if (getServerlistMaxAgeSeconds()
+            != other.getServerlistMaxAgeSeconds()) return false;
+      }
+      if (!getTunnelList()
+          .equals(other.getTunnelList())) return false;
+      if (!getShardedDomainList()
+          .equals(other.getShardedDomainList())) return false;
+      if (hasPortForwarding() != other.hasPortForwarding()) return false;
+      if (hasPortForwarding()) {
+        if (!getPortForwarding()
+            .equals(other.getPortForwarding())) return false;
+      }
+      if (hasInterfaceBackend() != other.hasInterfaceBackend()) return false;
+      if (hasInterfaceBackend()) {
+        if (interfaceBackend_ != other.interfaceBackend_) return false;
+      }
+      if (hasMaxAllowedIps() != other.hasMaxAllowedIps()) return false;
+      if (hasMaxAllowedIps()) {
+        if (getMaxAllowedIps()
+            != other.getMaxAllowedIps()) return false;
+      }
+      if (!getDomainListList()
+          .equals(other.getDomainListList())) return false;
+      if (hasDns() != other.hasDns()) return false;
+      if (hasDns()) {
+        if (!getDns()
+            .equals(other.getDns())) return false;
+      }
+      if (hasStandby() != other.hasStandby()) return false;
+      if (hasStandby()) {
+        if (!getStandby()
+            .equals(other.getStandby())) return false;
+      }
+      if (hasMtu() != other.hasMtu()) return false;
+      if (hasMtu()) {
+        if (getMtu()
+            != other.getMtu()) return false;
+      }
+      if (hasQualityMonitor() != other.hasQualityMonitor()) return false;
+      if (hasQualityMonitor()) {
+        if (!getQualityMonitor()
+            .equals(other.getQualityMonitor())) return false;
+      }
+      if (hasInterfaceName() != other.hasInterfaceName()) return false;
+      if (hasInterfaceName()) {
+        if (!getInterfaceName()
+            .equals(other.getInterfaceName())) return false;
+      }
+      if (hasPersistentKeepaliveSeconds() != other.hasPersistentKeepaliveSeconds()) return false;
+      if (hasPersistentKeepaliveSeconds()) {
+        if (getPersistentKeepaliveSeconds()
+            != other.getPersistentKeepaliveSeconds()) return false;
+      }
+      if (hasUsePiaDns() != other.hasUsePiaDns()) return false;
+      if (hasUsePiaDns()) {
+        if (getUsePiaDns()
+            != other.getUsePiaDns()) return false;
+      }
+      if (hasTable() != other.hasTable()) return false;
+      if (hasTable()) {
+        if (!getTable()
+            .equals(other.getTable())) return false;
+      }
+      if (hasPiaCaCertificate() != other.hasPiaCaCertificate()) return false;
+      if (hasPiaCaCertificate()) {
+        if (!getPiaCaCertificate()
+            .equals(other.getPiaCaCertificate())) return false;
+      }
+      if (hasTokenUrl() != other.hasTokenUrl()) return false;
+      if (hasTokenUrl()) {
+        if (!getTokenUrl()
+            .equals(other.getTokenUrl())) return false;
+      }
+      if (hasServerlistUrl() != other.hasServerlistUrl()) return false;
+      if (hasServerlistUrl()) {
+        if (!getServerlistUrl()
+            .equals(other.getServerlistUrl())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasPiaWireguardServer()) {
+        hash = (37 * hash) + PIA_WIREGUARD_SERVER_FIELD_NUMBER;
+        hash = (53 * hash) + getPiaWireguardServer().hashCode();
+      }
+      if (hasPiaWireguardPort()) {
+        hash = (37 * hash) + PIA_WIREGUARD_PORT_FIELD_NUMBER;
+        hash = (53 * hash) + getPiaWireguardPort();
+      }
+      if (hasPiaUsername()) {
+        hash = (37 * hash) + PIA_USERNAME_FIELD_NUMBER;
+        hash = (53 * hash) + getPiaUsername().hashCode();
+      }
+      if (hasPiaPassword()) {
+        hash = (37 * hash) + PIA_PASSWORD_FIELD_NUMBER;
+        hash = (53 * hash) + getPiaPassword().hashCode();
+      }
+      if (hasTargetDomain()) {
+        hash = (37 * hash) + TARGET_DOMAIN_FIELD_NUMBER;
+        hash = (53 * hash) + getTargetDomain().hashCode();
+      }
+      if (hasServerSelection()) {
+        hash = (37 * hash) + SERVER_SELECTION_FIELD_NUMBER;
+        hash = (53 * hash) + getServerSelection().hashCode();
+      }
+      if (hasCacheDir()) {
+        hash = (37 * hash) + CACHE_DIR_FIELD_NUMBER;
+        hash = (53 * hash) + getCacheDir().hashCode();
+      }
+      if (hasKeyPoolSize()) {
+        hash = (37 * hash) + KEY_POOL_SIZE_FIELD_NUMBER;
+        hash = (53 * hash) + getKeyPoolSize();
+      }
+      if (hasDnsServer()) {
+        hash = (37 * hash) + DNS_SERVER_FIELD_NUMBER;
+        hash = (53 * hash) + getDnsServer().hashCode();
+      }
+      if (hasSupervisor()) {
+        hash = (37 * hash) + SUPERVISOR_FIELD_NUMBER;
+        hash = (53 * hash) + getSupervisor().hashCode();
+      }
+      if (hasServerlistPublicKey()) {
+        hash = (37 * hash) + SERVERLIST_PUBLIC_KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getServerlistPublicKey().hashCode();
+      }
+      if (hasServerlistMaxAgeSeconds()) {
+        hash = (37 * hash) + SERVERLIST_MAX_AGE_SECONDS_FIELD_NUMBER;
+        hash = (53 * hash) + getServerlistMaxAgeSeconds();
+      }
+      if (getTunnelCount() > 0) {
+        hash = (37 * hash) + TUNNEL_FIELD_NUMBER;
+        hash = (53 * hash) + getTunnelList().hashCode();
+      }
+      if (getShardedDomainCount() > 0) {
+        hash = (37 * hash) + SHARDED_DOMAIN_FIELD_NUMBER;
+        hash = (53 * hash) + getShardedDomainList().hashCode();
+      }
+      if (hasPortForwarding()) {
+        hash = (37 * hash) + PORT_FORWARDING_FIELD_NUMBER;
+        hash = (53 * hash) + getPortForwarding().hashCode();
+      }
+      if (hasInterfaceBackend()) {
+        hash = (37 * hash) + INTERFACE_BACKEND_FIELD_NUMBER;
+        hash = (53 * hash) + interfaceBackend_;
+      }
+      if (hasMaxAllowedIps()) {
+        hash = (37 * hash) + MAX_ALLOWED_IPS_FIELD_NUMBER;
+        hash = (53 * hash) + getMaxAllowedIps();
+      }
+      if (getDomainListCount() > 0) {
+        hash = (37 * hash) + DOMAIN_LIST_FIELD_NUMBER;
+        hash = (53 * hash) + getDomainListList().hashCode();
+      }
+      if (hasDns()) {
+        hash = (37 * hash) + DNS_FIELD_NUMBER;
+        hash = (53 * hash) + getDns().hashCode();
+      }
+      if (hasStandby()) {
+        hash = (37 * hash) + STANDBY_FIELD_NUMBER;
+        hash = (53 * hash) + getStandby().hashCode();
+      }
+      if (hasMtu()) {
+        hash = (37 * hash) + MTU_FIELD_NUMBER;
+        hash = (53 * hash) + getMtu();
+      }
+      if (hasQualityMonitor()) {
+        hash = (37 * hash) + QUALITY_MONITOR_FIELD_NUMBER;
+        hash = (53 * hash) + getQualityMonitor().hashCode();
+      }
+      if (hasInterfaceName()) {
+        hash = (37 * hash) + INTERFACE_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getInterfaceName().hashCode();
+      }
+      if (hasPersistentKeepaliveSeconds()) {
+        hash = (37 * hash) + PERSISTENT_KEEPALIVE_SECONDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPersistentKeepaliveSeconds();
+      }
+      if (hasUsePiaDns()) {
+        hash = (37 * hash) + USE_PIA_DNS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getUsePiaDns());
+      }
+      if (hasTable()) {
+        hash = (37 * hash) + TABLE_FIELD_NUMBER;
+        hash = (53 * hash) + getTable().hashCode();
+      }
+      if (hasPiaCaCertificate()) {
+        hash = (37 * hash) + PIA_CA_CERTIFICATE_FIELD_NUMBER;
+        hash = (53 * hash) + getPiaCaCertificate().hashCode();
+      }
+      if (hasTokenUrl()) {
+        hash = (37 * hash) + TOKEN_URL_FIELD_NUMBER;
+        hash = (53 * hash) + getTokenUrl().hashCode();
+      }
+      if (hasServerlistUrl()) {
+        hash = (37 * hash) + SERVERLIST_URL_FIELD_NUMBER;
+        hash = (53 * hash) + getServerlistUrl().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.PiaConfig parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.PiaConfig parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.PiaConfig parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.PiaConfig parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.PiaConfig parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.PiaConfig parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.PiaConfig parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.PiaConfig parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.PiaConfig parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.PiaConfig parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.PiaConfig parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.PiaConfig parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.PiaConfig prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pia4java.PiaConfig}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.PiaConfig)
+        pia4java.Proto.PiaConfigOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_PiaConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_PiaConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.PiaConfig.class, pia4java.Proto.PiaConfig.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.PiaConfig.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getServerSelectionFieldBuilder();
+          getSupervisorFieldBuilder();
+          getTunnelFieldBuilder();
+          getPortForwardingFieldBuilder();
+          getDnsFieldBuilder();
+          getStandbyFieldBuilder();
+          getQualityMonitorFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        piaWireguardServer_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        piaWireguardPort_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        piaUsername_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        piaPassword_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        targetDomain_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (serverSelectionBuilder_ == null) {
+          serverSelection_ = null;
+        } else {
+          serverSelectionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        cacheDir_ = "cache";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        keyPoolSize_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        dnsServer_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        if (supervisorBuilder_ == null) {
+          supervisor_ = null;
+        } else {
+          supervisorBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000200);
+        serverlistPublicKey_ = "";
+        bitField0_ = (bitField0_ & ~0x00000400);
+        serverlistMaxAgeSeconds_ = 3600;
+        bitField0_ = (bitField0_ & ~0x00000800);
+        if (tunnelBuilder_ == null) {
+          tunnel_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00001000);
+        } else {
+          tunnelBuilder_.clear();
+        }
+        shardedDomain_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00002000);
+        if (portForwardingBuilder_ == null) {
+          portForwarding_ = null;
+        } else {
+          portForwardingBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00004000);
+        interfaceBackend_ = 1;
+        bitField0_ = (bitField0_ & ~0x00008000);
+        maxAllowedIps_ = 0;
+        bitField0_ = (bitField0_ & ~0x00010000);
+        domainList_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00020000);
+        if (dnsBuilder_ == null) {
+          dns_ = null;
+        } else {
+          dnsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00040000);
+        if (standbyBuilder_ == null) {
+          standby_ = null;
+        } else {
+          standbyBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00080000);
+        mtu_ = 0;
+        bitField0_ = (bitField0_ & ~0x00100000);
+        if (qualityMonitorBuilder_ == null) {
+          qualityMonitor_ = null;
+        } else {
+          qualityMonitorBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00200000);
+        interfaceName_ = "pia";
+        bitField0_ = (bitField0_ & ~0x00400000);
+        persistentKeepaliveSeconds_ = 0;
+        bitField0_ = (bitField0_ & ~0x00800000);
+        usePiaDns_ = false;
+        bitField0_ = (bitField0_ & ~0x01000000);
+        table_ = "auto";
+        bitField0_ = (bitField0_ & ~0x02000000);
+        piaCaCertificate_ = "props/ca.rsa.4096.crt";
+        bitField0_ = (bitField0_ & ~0x04000000);
+        tokenUrl_ = "https://www.privateinternetaccess.com/api/client/v2/token";
+        bitField0_ = (bitField0_ & ~0x08000000);
+        serverlistUrl_ = "https://serverlist.piaservers.net/vpninfo/servers/v6";
+        bitField0_ = (bitField0_ & ~0x10000000);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_PiaConfig_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.PiaConfig getDefaultInstanceForType() {
+        return pia4java.Proto.PiaConfig.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.PiaConfig build() {
+        pia4java.Proto.PiaConfig result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.PiaConfig buildPartial() {
+        pia4java.Proto.PiaConfig result = new pia4java.Proto.PiaConfig(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.piaWireguardServer_ = piaWireguardServer_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.piaWireguardPort_ = piaWireguardPort_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.piaUsername_ = piaUsername_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.piaPassword_ = piaPassword_;
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.targetDomain_ = targetDomain_;
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          if (serverSelectionBuilder_ == null) {
+            result.serverSelection_ = serverSelection_;
+          } else {
+            result.serverSelection_ = serverSelectionBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.cacheDir_ = cacheDir_;
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.keyPoolSize_ = keyPoolSize_;
+          to_bitField0_ |= 0x00000080;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.dnsServer_ = dnsServer_;
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          if (supervisorBuilder_ == null) {
+            result.supervisor_ = supervisor_;
+          } else {
+            result.supervisor_ = supervisorBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000200;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.serverlistPublicKey_ = serverlistPublicKey_;
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.serverlistMaxAgeSeconds_ = serverlistMaxAgeSeconds_;
+        if (tunnelBuilder_ == null) {
+          if (((bitField0_ & 0x00001000) != 0)) {
+            tunnel_ = java.util.Collections.unmodifiableList(tunnel_);
+            bitField0_ = (bitField0_ & ~0x00001000);
+          }
+          result.tunnel_ = tunnel_;
+        } else {
+          result.tunnel_ = tunnelBuilder_.build();
+        }
+        if (((bitField0_ & 0x00002000) != 0)) {
+          shardedDomain_ = shardedDomain_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00002000);
+        }
+        result.shardedDomain_ = shardedDomain_;
+        if (((from_bitField0_ & 0x00004000) != 0)) {
+          if (portForwardingBuilder_ == null) {
+            result.portForwarding_ = portForwarding_;
+          } else {
+            result.portForwarding_ = portForwardingBuilder_.build();
+          }
+          to_bitField0_ |= 0x00001000;
+        }
+        if (((from_bitField0_ & 0x00008000) != 0)) {
+          to_bitField0_ |= 0x00002000;
+        }
+        result.interfaceBackend_ = interfaceBackend_;
+        if (((from_bitField0_ & 0x00010000) != 0)) {
+          result.maxAllowedIps_ = maxAllowedIps_;
+          to_bitField0_ |= 0x00004000;
+        }
+        if (((bitField0_ & 0x00020000) != 0)) {
+          domainList_ = domainList_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00020000);
+        }
+        result.domainList_ = domainList_;
+        if (((from_bitField0_ & 0x00040000) != 0)) {
+          if (dnsBuilder_ == null) {
+            result.dns_ = dns_;
+          } else {
+            result.dns_ = dnsBuilder_.build();
+          }
+          to_bitField0_ |= 0x00008000;
+        }
+        if (((from_bitField0_ & 0x00080000) != 0)) {
+          if (standbyBuilder_ == null) {
+            result.standby_ = standby_;
+          } else {
+            result.standby_ = standbyBuilder_.build();
+          }
+          to_bitField0_ |= 0x00010000;
+        }
+        if (((from_bitField0_ & 0x00100000) != 0)) {
+          result.mtu_ = mtu_;
+          to_bitField0_ |= 0x00020000;
+        }
+        if (((from_bitField0_ & 0x00200000) != 0)) {
+          if (qualityMonitorBuilder_ == null) {
+            result.qualityMonitor_ = qualityMonitor_;
+          } else {
+            result.qualityMonitor_ = qualityMonitorBuilder_.build();
+          }
+          to_bitField0_ |= 0x00040000;
+        }
+        if (((from_bitField0_ & 0x00400000) != 0)) {
+          to_bitField0_ |= 0x00080000;
+        }
+        result.interfaceName_ = interfaceName_;
+        if (((from_bitField0_ & 0x00800000) != 0)) {
+          result.persistentKeepaliveSeconds_ = persistentKeepaliveSeconds_;
+          to_bitField0_ |= 0x00100000;
+        }
+        if (((from_bitField0_ & 0x01000000) != 0)) {
+          result.usePiaDns_ = usePiaDns_;
+          to_bitField0_ |= 0x00200000;
+        }
+        if (((from_bitField0_ & 0x02000000) != 0)) {
+          to_bitField0_ |= 0x00400000;
+        }
+        result.table_ = table_;
+        if (((from_bitField0_ & 0x04000000) != 0)) {
+          to_bitField0_ |= 0x00800000;
+        }
+        result.piaCaCertificate_ = piaCaCertificate_;
+        if (((from_bitField0_ & 0x08000000) != 0)) {
+          to_bitField0_ |= 0x01000000;
+        }
+        result.tokenUrl_ = tokenUrl_;
+        if (((from_bitField0_ & 0x10000000) != 0)) {
+          to_bitField0_ |= 0x02000000;
+        }
+        result.serverlistUrl_ = serverlistUrl_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.PiaConfig) {
+          return mergeFrom((pia4java.Proto.PiaConfig)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.PiaConfig other) {
+        if (other == pia4java.Proto.PiaConfig.getDefaultInstance()) return this;
+        if (other.hasPiaWireguardServer()) {
+          bitField0_ |= 0x00000001;
+          piaWireguardServer_ = other.piaWireguardServer_;
+          onChanged();
+        }
+        if (other.hasPiaWireguardPort()) {
+          setPiaWireguardPort(other.getPiaWireguardPort());
+        }
+        if (other.hasPiaUsername()) {
+          bitField0_ |= 0x00000004;
+          piaUsername_ = other.piaUsername_;
+          onChanged();
+        }
+        if (other.hasPiaPassword()) {
+          bitField0_ |= 0x00000008;
+          piaPassword_ = other.piaPassword_;
+          onChanged();
+        }
+        if (other.hasTargetDomain()) {
+          bitField0_ |= 0x00000010;
+          targetDomain_ = other.targetDomain_;
+          onChanged();
+        }
+        if (other.hasServerSelection()) {
+          mergeServerSelection(other.getServerSelection());
+        }
+        if (other.hasCacheDir()) {
+          bitField0_ |= 0x00000040;
+          cacheDir_ = other.cacheDir_;
+          onChanged();
+        }
+        if (other.hasKeyPoolSize()) {
+          setKeyPoolSize(other.getKeyPoolSize());
+        }
+        if (other.hasDnsServer()) {
+          bitField0_ |= 0x00000100;
+          dnsServer_ = other.dnsServer_;
+          onChanged();
+        }
+        if (other.hasSupervisor()) {
+          mergeSupervisor(other.getSupervisor());
+        }
+        if (other.hasServerlistPublicKey()) {
+          bitField0_ |= 0x00000400;
+          serverlistPublicKey_ = other.serverlistPublicKey_;
+          onChanged();
+        }
+        if (other.hasServerlistMaxAgeSeconds()) {
+          setServerlistMaxAgeSeconds(other.getServerlistMaxAgeSeconds());
+        }
+        if (tunnelBuilder_ == null) {
+          if (!other.tunnel_.isEmpty()) {
+            if (tunnel_.isEmpty()) {
+              tunnel_ = other.tunnel_;
+              bitField0_ = (bitField0_ & ~0x00001000);
+            } else {
+              ensureTunnelIsMutable();
+              tunnel_.addAll(other.tunnel_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tunnel_.isEmpty()) {
+            if (tunnelBuilder_.isEmpty()) {
+              tunnelBuilder_.dispose();
+              tunnelBuilder_ = null;
+              tunnel_ = other.tunnel_;
+              bitField0_ = (bitField0_ & ~0x00001000);
+              tunnelBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTunnelFieldBuilder() : null;
+            } else {
+              tunnelBuilder_.addAllMessages(other.tunnel_);
+            }
+          }
+        }
+        if (!other.shardedDomain_.isEmpty()) {
+          if (shardedDomain_.isEmpty()) {
+            shardedDomain_ = other.shardedDomain_;
+            bitField0_ = (bitField0_ & ~0x00002000);
+          } else {
+            ensureShardedDomainIsMutable();
+            shardedDomain_.addAll(other.shardedDomain_);
+          }
+          onChanged();
+        }
+        if (other.hasPortForwarding()) {
+          mergePortForwarding(other.getPortForwarding());
+        }
+        if (other.hasInterfaceBackend()) {
+          setInterfaceBackend(other.getInterfaceBackend());
+        }
+        if (other.hasMaxAllowedIps()) {
+          setMaxAllowedIps(other.getMaxAllowedIps());
+        }
+        if (!other.domainList_.isEmpty()) {
+          if (domainList_.isEmpty()) {
+            domainList_ = other.domainList_;
+            bitField0_ = (bitField0_ & ~0x00020000);
+          } else {
+            ensureDomainListIsMutable();
+            domainList_.addAll(other.domainList_);
+          }
+          onChanged();
+        }
+        if (other.hasDns()) {
+          mergeDns(other.getDns());
+        }
+        if (other.hasStandby()) {
+          mergeStandby(other.getStandby());
+        }
+        if (other.hasMtu()) {
+          setMtu(other.getMtu());
+        }
+        if (other.hasQualityMonitor()) {
+          mergeQualityMonitor(other.getQualityMonitor());
+        }
+        if (other.hasInterfaceName()) {
+          bitField0_ |= 0x00400000;
+          interfaceName_ = other.interfaceName_;
+          onChanged();
+        }
+        if (other.hasPersistentKeepaliveSeconds()) {
+          setPersistentKeepaliveSeconds(other.getPersistentKeepaliveSeconds());
+        }
+        if (other.hasUsePiaDns()) {
+          setUsePiaDns(other.getUsePiaDns());
+        }
+        if (other.hasTable()) {
+          bitField0_ |= 0x02000000;
+          table_ = other.table_;
+          onChanged();
+        }
+        if (other.hasPiaCaCertificate()) {
+          bitField0_ |= 0x04000000;
+          piaCaCertificate_ = other.piaCaCertificate_;
+          onChanged();
+        }
+        if (other.hasTokenUrl()) {
+          bitField0_ |= 0x08000000;
+          tokenUrl_ = other.tokenUrl_;
+          onChanged();
+        }
+        if (other.hasServerlistUrl()) {
+          bitField0_ |= 0x10000000;
+          serverlistUrl_ = other.serverlistUrl_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.PiaConfig parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.PiaConfig) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object piaWireguardServer_ = "";
+      /**
+       * <code>optional string pia_wireguard_server = 1;</code>
+       * @return Whether the piaWireguardServer field is set.
+       */
+      public boolean hasPiaWireguardServer() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string pia_wireguard_server = 1;</code>
+       * @return The piaWireguardServer.
+       */
+      public java.lang.String getPiaWireguardServer() {
+        java.lang.Object ref = piaWireguardServer_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            piaWireguardServer_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string pia_wireguard_server = 1;</code>
+       * @return The bytes for piaWireguardServer.
+       */
+      public com.google.protobuf.ByteString
+          getPiaWireguardServerBytes() {
+        java.lang.Object ref = piaWireguardServer_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          piaWireguardServer_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string pia_wireguard_server = 1;</code>
+       * @param value The piaWireguardServer to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiaWireguardServer(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        piaWireguardServer_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pia_wireguard_server = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPiaWireguardServer() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        piaWireguardServer_ = getDefaultInstance().getPiaWireguardServer();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pia_wireguard_server = 1;</code>
+       * @param value The bytes for piaWireguardServer to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiaWireguardServerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        piaWireguardServer_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int piaWireguardPort_ ;
+      /**
+       * <code>optional int32 pia_wireguard_port = 2;</code>
+       * @return Whether the piaWireguardPort field is set.
+       */
+      @java.lang.Override
+      public boolean hasPiaWireguardPort() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional int32 pia_wireguard_port = 2;</code>
+       * @return The piaWireguardPort.
+       */
+      @java.lang.Override
+      public int getPiaWireguardPort() {
+        return piaWireguardPort_;
+      }
+      /**
+       * <code>optional int32 pia_wireguard_port = 2;</code>
+       * @param value The piaWireguardPort to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiaWireguardPort(int value) {
+        bitField0_ |= 0x00000002;
+        piaWireguardPort_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 pia_wireguard_port = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPiaWireguardPort() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        piaWireguardPort_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object piaUsername_ = "";
+      /**
+       * <code>optional string pia_username = 3;</code>
+       * @return Whether the piaUsername field is set.
+       */
+      public boolean hasPiaUsername() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string pia_username = 3;</code>
+       * @return The piaUsername.
+       */
+      public java.lang.String getPiaUsername() {
+        java.lang.Object ref = piaUsername_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            piaUsername_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string pia_username = 3;</code>
+       * @return The bytes for piaUsername.
+       */
+      public com.google.protobuf.ByteString
+          getPiaUsernameBytes() {
+        java.lang.Object ref = piaUsername_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          piaUsername_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string pia_username = 3;</code>
+       * @param value The piaUsername to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiaUsername(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        piaUsername_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pia_username = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPiaUsername() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        piaUsername_ = getDefaultInstance().getPiaUsername();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pia_username = 3;</code>
+       * @param value The bytes for piaUsername to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiaUsernameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        piaUsername_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object piaPassword_ = "";
+      /**
+       * <code>optional string pia_password = 4;</code>
+       * @return Whether the piaPassword field is set.
+       */
+      public boolean hasPiaPassword() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string pia_password = 4;</code>
+       * @return The piaPassword.
+       */
+      public java.lang.String getPiaPassword() {
+        java.lang.Object ref = piaPassword_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            piaPassword_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string pia_password = 4;</code>
+       * @return The bytes for piaPassword.
+       */
+      public com.google.protobuf.ByteString
+          getPiaPasswordBytes() {
+        java.lang.Object ref = piaPassword_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          piaPassword_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string pia_password = 4;</code>
+       * @param value The piaPassword to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiaPassword(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        piaPassword_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pia_password = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPiaPassword() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        piaPassword_ = getDefaultInstance().getPiaPassword();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pia_password = 4;</code>
+       * @param value The bytes for piaPassword to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiaPasswordBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        piaPassword_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object targetDomain_ = "";
+      /**
+       * <code>optional string target_domain = 5;</code>
+       * @return Whether the targetDomain field is set.
+       */
+      public boolean hasTargetDomain() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional string target_domain = 5;</code>
+       * @return The targetDomain.
+       */
+      public java.lang.String getTargetDomain() {
+        java.lang.Object ref = targetDomain_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            targetDomain_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string target_domain = 5;</code>
+       * @return The bytes for targetDomain.
+       */
+      public com.google.protobuf.ByteString
+          getTargetDomainBytes() {
+        java.lang.Object ref = targetDomain_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          targetDomain_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string target_domain = 5;</code>
+       * @param value The targetDomain to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTargetDomain(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        targetDomain_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string target_domain = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTargetDomain() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        targetDomain_ = getDefaultInstance().getTargetDomain();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string target_domain = 5;</code>
+       * @param value The bytes for targetDomain to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTargetDomainBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        targetDomain_ = value;
+        onChanged();
+        return this;
+      }
+
+      private pia4java.Proto.ServerSelection serverSelection_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.ServerSelection, pia4java.Proto.ServerSelection.Builder, pia4java.Proto.ServerSelectionOrBuilder> serverSelectionBuilder_;
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored and the lowest latency
+       * server from the PIA serverlist is used instead.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+       * @return Whether the serverSelection field is set.
+       */
+      public boolean hasServerSelection() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored and the lowest latency
+       * server from the PIA serverlist is used instead.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+       * @return The serverSelection.
+       */
+      public pia4java.Proto.ServerSelection getServerSelection() {
+        if (serverSelectionBuilder_ == null) {
+          return serverSelection_ == null ? pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+        } else {
+          return serverSelectionBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored and the lowest latency
+       * server from the PIA serverlist is used instead.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+       */
+      public Builder setServerSelection(pia4java.Proto.ServerSelection value) {
+        if (serverSelectionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          serverSelection_ = value;
+          onChanged();
+        } else {
+          serverSelectionBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored and the lowest latency
+       * server from the PIA serverlist is used instead.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+       */
+      public Builder setServerSelection(
+          pia4java.Proto.ServerSelection.Builder builderForValue) {
+        if (serverSelectionBuilder_ == null) {
+          serverSelection_ = builderForValue.build();
+          onChanged();
+        } else {
+          serverSelectionBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored and the lowest latency
+       * server from the PIA serverlist is used instead.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+       */
+      public Builder mergeServerSelection(pia4java.Proto.ServerSelection value) {
+        if (serverSelectionBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0) &&
+              serverSelection_ != null &&
+              serverSelection_ != pia4java.Proto.ServerSelection.getDefaultInstance()) {
+            serverSelection_ =
+              pia4java.Proto.ServerSelection.newBuilder(serverSelection_).mergeFrom(value).buildPartial();
+          } else {
+            serverSelection_ = value;
+          }
+          onChanged();
+        } else {
+          serverSelectionBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored and the lowest latency
+       * server from the PIA serverlist is used instead.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+       */
+      public Builder clearServerSelection() {
+        if (serverSelectionBuilder_ == null) {
+          serverSelection_ = null;
+          onChanged();
+        } else {
+          serverSelectionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored and the lowest latency
+       * server from the PIA serverlist is used instead.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+       */
+      public pia4java.Proto.ServerSelection.Builder getServerSelectionBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getServerSelectionFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored and the lowest latency
+       * server from the PIA serverlist is used instead.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+       */
+      public pia4java.Proto.ServerSelectionOrBuilder getServerSelectionOrBuilder() {
+        if (serverSelectionBuilder_ != null) {
+          return serverSelectionBuilder_.getMessageOrBuilder();
+        } else {
+          return serverSelection_ == null ?
+              pia4java.Proto.ServerSelection.getDefaultInstance() : serverSelection_;
+        }
+      }
+      /**
+       * <pre>
+       * If set, pia_wireguard_server is ignored and the lowest latency
+       * server from the PIA serverlist is used instead.
+       * </pre>
+       *
+       * <code>optional .pia4java.ServerSelection server_selection = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.ServerSelection, pia4java.Proto.ServerSelection.Builder, pia4java.Proto.ServerSelectionOrBuilder> 
+          getServerSelectionFieldBuilder() {
+        if (serverSelectionBuilder_ == null) {
+          serverSelectionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              pia4java.Proto.ServerSelection, pia4java.Proto.ServerSelection.Builder, pia4java.Proto.ServerSelectionOrBuilder>(
+                  getServerSelection(),
+                  getParentForChildren(),
+                  isClean());
+          serverSelection_ = null;
+        }
+        return serverSelectionBuilder_;
+      }
+
+      private java.lang.Object cacheDir_ = "cache";
+      /**
+       * <pre>
+       * Directory for state kept between runs, such as the auth token.
+       * </pre>
+       *
+       * <code>optional string cache_dir = 7 [default = "cache"];</code>
+       * @return Whether the cacheDir field is set.
+       */
+      public boolean hasCacheDir() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <pre>
+       * Directory for state kept between runs, such as the auth token.
+       * </pre>
+       *
+       * <code>optional string cache_dir = 7 [default = "cache"];</code>
+       * @return The cacheDir.
+       */
+      public java.lang.String getCacheDir() {
+        java.lang.Object ref = cacheDir_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            cacheDir_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Directory for state kept between runs, such as the auth token.
+       * </pre>
+       *
+       * <code>optional string cache_dir = 7 [default = "cache"];</code>
+       * @return The bytes for cacheDir.
+       */
+      public com.google.protobuf.ByteString
+          getCacheDirBytes() {
+        java.lang.Object ref = cacheDir_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cacheDir_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Directory for state kept between runs, such as the auth token.
+       * </pre>
+       *
+       * <code>optional string cache_dir = 7 [default = "cache"];</code>
+       * @param value The cacheDir to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCacheDir(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        cacheDir_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Directory for state kept between runs, such as the auth token.
+       * </pre>
+       *
+       * <code>optional string cache_dir = 7 [default = "cache"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCacheDir() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        cacheDir_ = getDefaultInstance().getCacheDir();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Directory for state kept between runs, such as the auth token.
+       * </pre>
+       *
+       * <code>optional string cache_dir = 7 [default = "cache"];</code>
+       * @param value The bytes for cacheDir to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCacheDirBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        cacheDir_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int keyPoolSize_ ;
+      /**
+       * <pre>
+       * Number of WireGuard keypairs to generate ahead of time.
+       * </pre>
+       *
+       * <code>optional int32 key_pool_size = 8 [default = 0];</code>
+       * @return Whether the keyPoolSize field is set.
+       */
+      @java.lang.Override
+      public boolean hasKeyPoolSize() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <pre>
+       * Number of WireGuard keypairs to generate ahead of time.
+       * </pre>
+       *
+       * <code>optional int32 key_pool_size = 8 [default = 0];</code>
+       * @return The keyPoolSize.
+       */
+      @java.lang.Override
+      public int getKeyPoolSize() {
+        return keyPoolSize_;
+      }
+      /**
+       * <pre>
+       * Number of WireGuard keypairs to generate ahead of time.
+       * </pre>
+       *
+       * <code>optional int32 key_pool_size = 8 [default = 0];</code>
+       * @param value The keyPoolSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKeyPoolSize(int value) {
+        bitField0_ |= 0x00000080;
+        keyPoolSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Number of WireGuard keypairs to generate ahead of time.
+       * </pre>
+       *
+       * <code>optional int32 key_pool_size = 8 [default = 0];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKeyPoolSize() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        keyPoolSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dnsServer_ = "";
+      /**
+       * <pre>
+       * DNS server used to resolve target_domain, as "host" or "host:port".
+       * Defaults to the first nameserver in /etc/resolv.conf.
+       * </pre>
+       *
+       * <code>optional string dns_server = 9;</code>
+       * @return Whether the dnsServer field is set.
+       */
+      public boolean hasDnsServer() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <pre>
+       * DNS server used to resolve target_domain, as "host" or "host:port".
+       * Defaults to the first nameserver in /etc/resolv.conf.
+       * </pre>
+       *
+       * <code>optional string dns_server = 9;</code>
+       * @return The dnsServer.
+       */
+      public java.lang.String getDnsServer() {
+        java.lang.Object ref = dnsServer_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            dnsServer_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * DNS server used to resolve target_domain, as "host" or "host:port".
+       * Defaults to the first nameserver in /etc/resolv.conf.
+       * </pre>
+       *
+       * <code>optional string dns_server = 9;</code>
+       * @return The bytes for dnsServer.
+       */
+      public com.google.protobuf.ByteString
+          getDnsServerBytes() {
+        java.lang.Object ref = dnsServer_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dnsServer_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * DNS server used to resolve target_domain, as "host" or "host:port".
+       * Defaults to the first nameserver in /etc/resolv.conf.
+       * </pre>
+       *
+       * <code>optional string dns_server = 9;</code>
+       * @param value The dnsServer to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDnsServer(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        dnsServer_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * DNS server used to resolve target_domain, as "host" or "host:port".
+       * Defaults to the first nameserver in /etc/resolv.conf.
+       * </pre>
+       *
+       * <code>optional string dns_server = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDnsServer() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        dnsServer_ = getDefaultInstance().getDnsServer();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * DNS server used to resolve target_domain, as "host" or "host:port".
+       * Defaults to the first nameserver in /etc/resolv.conf.
+       * </pre>
+       *
+       * <code>optional string dns_server = 9;</code>
+       * @param value The bytes for dnsServer to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDnsServerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        dnsServer_ = value;
+        onChanged();
+        return this;
+      }
+
+      private pia4java.Proto.Supervisor supervisor_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.Supervisor, pia4java.Proto.Supervisor.Builder, pia4java.Proto.SupervisorOrBuilder> supervisorBuilder_;
+      /**
+       * <pre>
+       * Settings for the daemon command.
+       * </pre>
+       *
+       * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+       * @return Whether the supervisor field is set.
+       */
+      public boolean hasSupervisor() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <pre>
+       * Settings for the daemon command.
+       * </pre>
+       *
+       * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+       * @return The supervisor.
+       */
+      public pia4java.Proto.Supervisor getSupervisor() {
+        if (supervisorBuilder_ == null) {
+          return supervisor_ == null ? pia4java.Proto.Supervisor.getDefaultInstance() : supervisor_;
+        } else {
+          return supervisorBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Settings for the daemon command.
+       * </pre>
+       *
+       * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+       */
+      public Builder setSupervisor(pia4java.Proto.Supervisor value) {
+        if (supervisorBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          supervisor_ = value;
+          onChanged();
+        } else {
+          supervisorBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <pre>
+       * Settings for the daemon command.
+       * </pre>
+       *
+       * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+       */
+      public Builder setSupervisor(
+          pia4java.Proto.Supervisor.Builder builderForValue) {
+        if (supervisorBuilder_ == null) {
+          supervisor_ = builderForValue.build();
+          onChanged();
+        } else {
+          supervisorBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <pre>
+       * Settings for the daemon command.
+       * </pre>
+       *
+       * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+       */
+      public Builder mergeSupervisor(pia4java.Proto.Supervisor value) {
+        if (supervisorBuilder_ == null) {
+          if (((bitField0_ & 0x00000200) != 0) &&
+              supervisor_ != null &&
+              supervisor_ != pia4java.Proto.Supervisor.getDefaultInstance()) {
+            supervisor_ =
+              pia4java.Proto.Supervisor.newBuilder(supervisor_).mergeFrom(value).buildPartial();
+          } else {
+            supervisor_ = value;
+          }
+          onChanged();
+        } else {
+          supervisorBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <pre>
+       * Settings for the daemon command.
+       * </pre>
+       *
+       * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+       */
+      public Builder clearSupervisor() {
+        if (supervisorBuilder_ == null) {
+          supervisor_ = null;
+          onChanged();
+        } else {
+          supervisorBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000200);
+        return this;
+      }
+      /**
+       * <pre>
+       * Settings for the daemon command.
+       * </pre>
+       *
+       * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+       */
+      public pia4java.Proto.Supervisor.Builder getSupervisorBuilder() {
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return getSupervisorFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Settings for the daemon command.
+       * </pre>
+       *
+       * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+       */
+      public pia4java.Proto.SupervisorOrBuilder getSupervisorOrBuilder() {
+        if (supervisorBuilder_ != null) {
+          return supervisorBuilder_.getMessageOrBuilder();
+        } else {
+          return supervisor_ == null ?
+              pia4java.Proto.Supervisor.getDefaultInstance() : supervisor_;
+        }
+      }
+      /**
+       * <pre>
+       * Settings for the daemon command.
+       * </pre>
+       *
+       * <code>optional .pia4java.Supervisor supervisor = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.Supervisor, pia4java.Proto.Supervisor.Builder, pia4java.Proto.SupervisorOrBuilder> 
+          getSupervisorFieldBuilder() {
+        if (supervisorBuilder_ == null) {
+          supervisorBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              pia4java.Proto.Supervisor, pia4java.Proto.Supervisor.Builder, pia4java.Proto.SupervisorOrBuilder>(
+                  getSupervisor(),
+                  getParentForChildren(),
+                  isClean());
+          supervisor_ = null;
+        }
+        return supervisorBuilder_;
+      }
+
+      private java.lang.Object serverlistPublicKey_ = "";
+      /**
+       * <pre>
+       * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+       * serverlist.  Without it the serverlist signature is not checked.
+       * </pre>
+       *
+       * <code>optional string serverlist_public_key = 11;</code>
+       * @return Whether the serverlistPublicKey field is set.
+       */
+      public boolean hasServerlistPublicKey() {
+        return ((bitField0_ & 0x00000400) != 0);
+      }
+      /**
+       * <pre>
+       * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+       * serverlist.  Without it the serverlist signature is not checked.
+       * </pre>
+       *
+       * <code>optional string serverlist_public_key = 11;</code>
+       * @return The serverlistPublicKey.
+       */
+      public java.lang.String getServerlistPublicKey() {
+        java.lang.Object ref = serverlistPublicKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            serverlistPublicKey_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+       * serverlist.  Without it the serverlist signature is not checked.
+       * </pre>
+       *
+       * <code>optional string serverlist_public_key = 11;</code>
+       * @return The bytes for serverlistPublicKey.
+       */
+      public com.google.protobuf.ByteString
+          getServerlistPublicKeyBytes() {
+        java.lang.Object ref = serverlistPublicKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          serverlistPublicKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+       * serverlist.  Without it the serverlist signature is not checked.
+       * </pre>
+       *
+       * <code>optional string serverlist_public_key = 11;</code>
+       * @param value The serverlistPublicKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServerlistPublicKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+        serverlistPublicKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+       * serverlist.  Without it the serverlist signature is not checked.
+       * </pre>
+       *
+       * <code>optional string serverlist_public_key = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearServerlistPublicKey() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        serverlistPublicKey_ = getDefaultInstance().getServerlistPublicKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * PEM file with the RSA public key ("BEGIN PUBLIC KEY") that signs the
+       * serverlist.  Without it the serverlist signature is not checked.
+       * </pre>
+       *
+       * <code>optional string serverlist_public_key = 11;</code>
+       * @param value The bytes for serverlistPublicKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServerlistPublicKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+        serverlistPublicKey_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int serverlistMaxAgeSeconds_ = 3600;
+      /**
+       * <pre>
+       * The cached serverlist is used without revalidating it for this long.
+       * </pre>
+       *
+       * <code>optional int32 serverlist_max_age_seconds = 12 [default = 3600];</code>
+       * @return Whether the serverlistMaxAgeSeconds field is set.
+       */
+      @java.lang.Override
+      public boolean hasServerlistMaxAgeSeconds() {
+        return ((bitField0_ & 0x00000800) != 0);
+      }
+      /**
+       * <pre>
+       * The cached serverlist is used without revalidating it for this long.
+       * </pre>
+       *
+       * <code>optional int32 serverlist_max_age_seconds = 12 [default = 3600];</code>
+       * @return The serverlistMaxAgeSeconds.
+       */
+      @java.lang.Override
+      public int getServerlistMaxAgeSeconds() {
+        return serverlistMaxAgeSeconds_;
+      }
+      /**
+       * <pre>
+       * The cached serverlist is used without revalidating it for this long.
+       * </pre>
+       *
+       * <code>optional int32 serverlist_max_age_seconds = 12 [default = 3600];</code>
+       * @param value The serverlistMaxAgeSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServerlistMaxAgeSeconds(int value) {
+        bitField0_ |= 0x00000800;
+        serverlistMaxAgeSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The cached serverlist is used without revalidating it for this long.
+       * </pre>
+       *
+       * <code>optional int32 serverlist_max_age_seconds = 12 [default = 3600];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearServerlistMaxAgeSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        serverlistMaxAgeSeconds_ = 3600;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<pia4java.Proto.Tunnel> tunnel_ =
+        java.util.Collections.emptyList();
+      private void ensureTunnelIsMutable() {
+        if (!((bitField0_ & 0x00001000) != 0)) {
+          tunnel_ = new java.util.ArrayList<pia4java.Proto.Tunnel>(tunnel_);
+          bitField0_ |= 0x00001000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          pia4java.Proto.Tunnel, pia4java.Proto.Tunnel.Builder, pia4java.Proto.TunnelOrBuilder> tunnelBuilder_;
+
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public java.util.List<pia4java.Proto.Tunnel> getTunnelList() {
+        if (tunnelBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tunnel_);
+        } else {
+          return tunnelBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public int getTunnelCount() {
+        if (tunnelBuilder_ == null) {
+          return tunnel_.size();
+        } else {
+          return tunnelBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public pia4java.Proto.Tunnel getTunnel(int index) {
+        if (tunnelBuilder_ == null) {
+          return tunnel_.get(index);
+        } else {
+          return tunnelBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public Builder setTunnel(
+          int index, pia4java.Proto.Tunnel value) {
+        if (tunnelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTunnelIsMutable();
+          tunnel_.set(index, value);
+          onChanged();
+        } else {
+          tunnelBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public Builder setTunnel(
+          int index, pia4java.Proto.Tunnel.Builder builderForValue) {
+        if (tunnelBuilder_ == null) {
+          ensureTunnelIsMutable();
+          tunnel_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tunnelBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public Builder addTunnel(pia4java.Proto.Tunnel value) {
+        if (tunnelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTunnelIsMutable();
+          tunnel_.add(value);
+          onChanged();
+        } else {
+          tunnelBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public Builder addTunnel(
+          int index, pia4java.Proto.Tunnel value) {
+        if (tunnelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTunnelIsMutable();
+          tunnel_.add(index, value);
+          onChanged();
+        } else {
+          tunnelBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public Builder addTunnel(
+          pia4java.Proto.Tunnel.Builder builderForValue) {
+        if (tunnelBuilder_ == null) {
+          ensureTunnelIsMutable();
+          tunnel_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tunnelBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public Builder addTunnel(
+          int index, pia4java.Proto.Tunnel.Builder builderForValue) {
+        if (tunnelBuilder_ == null) {
+          ensureTunnelIsMutable();
+          tunnel_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tunnelBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public Builder addAllTunnel(
+          java.lang.Iterable<? extends pia4java.Proto.Tunnel> values) {
+        if (tunnelBuilder_ == null) {
+          ensureTunnelIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, tunnel_);
+          onChanged();
+        } else {
+          tunnelBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public Builder clearTunnel() {
+        if (tunnelBuilder_ == null) {
+          tunnel_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00001000);
+          onChanged();
+        } else {
+          tunnelBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public Builder removeTunnel(int index) {
+        if (tunnelBuilder_ == null) {
+          ensureTunnelIsMutable();
+          tunnel_.remove(index);
+          onChanged();
+        } else {
+          tunnelBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public pia4java.Proto.Tunnel.Builder getTunnelBuilder(
+          int index) {
+        return getTunnelFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public pia4java.Proto.TunnelOrBuilder getTunnelOrBuilder(
+          int index) {
+        if (tunnelBuilder_ == null) {
+          return tunnel_.get(index);  } else {
+          return tunnelBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public java.util.List<? extends pia4java.Proto.TunnelOrBuilder> 
+           getTunnelOrBuilderList() {
+        if (tunnelBuilder_ != null) {
+          return tunnelBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tunnel_);
+        }
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public pia4java.Proto.Tunnel.Builder addTunnelBuilder() {
+        return getTunnelFieldBuilder().addBuilder(
+            pia4java.Proto.Tunnel.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public pia4java.Proto.Tunnel.Builder addTunnelBuilder(
+          int index) {
+        return getTunnelFieldBuilder().addBuilder(
+            index, pia4java.Proto.Tunnel.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Tunnels brought up side by side.  If any are given, the top level
+       * pia_wireguard_server, server_selection and target_domain are ignored.
+       * </pre>
+       *
+       * <code>repeated .pia4java.Tunnel tunnel = 13;</code>
+       */
+      public java.util.List<pia4java.Proto.Tunnel.Builder> 
+           getTunnelBuilderList() {
+        return getTunnelFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          pia4java.Proto.Tunnel, pia4java.Proto.Tunnel.Builder, pia4java.Proto.TunnelOrBuilder> 
+          getTunnelFieldBuilder() {
+        if (tunnelBuilder_ == null) {
+          tunnelBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              pia4java.Proto.Tunnel, pia4java.Proto.Tunnel.Builder, pia4java.Proto.TunnelOrBuilder>(
+                  tunnel_,
+                  ((bitField0_ & 0x00001000) != 0),
+                  getParentForChildren(),
+                  isClean());
+          tunnel_ = null;
+        }
+        return tunnelBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringList shardedDomain_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureShardedDomainIsMutable() {
+        if (!((bitField0_ & 0x00002000) != 0)) {
+          shardedDomain_ = new com.google.protobuf.LazyStringArrayList(shardedDomain_);
+          bitField0_ |= 0x00002000;
+         }
+      }
+      /**
+       * <pre>
+       * Domains spread across the tunnels by consistent hashing, on top of each
+       * tunnel's own target_domain.
+       * </pre>
+       *
+       * <code>repeated string sharded_domain = 14;</code>
+       * @return A list containing the shardedDomain.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getShardedDomainList() {
+        return shardedDomain_.getUnmodifiableView();
+      }
+      /**
+       * <pre>
+       * Domains spread across the tunnels by consistent hashing, on top of each
+       * tunnel's own target_domain.
+       * </pre>
+       *
+       * <code>repeated string sharded_domain = 14;</code>
+       * @return The count of shardedDomain.
+       */
+      public int getShardedDomainCount() {
+        return shardedDomain_.size();
+      }
+      /**
+       * <pre>
+       * Domains spread across the tunnels by consistent hashing, on top of each
+       * tunnel's own target_domain.
+       * </pre>
+       *
+       * <code>repeated string sharded_domain = 14;</code>
+       * @param index The index of the element to return.
+       * @return The shardedDomain at the given index.
+       */
+      public java.lang.String getShardedDomain(int index) {
+        return shardedDomain_.get(index);
+      }
+      /**
+       * <pre>
+       * Domains spread across the tunnels by consistent hashing, on top of each
+       * tunnel's own target_domain.
+       * </pre>
+       *
+       * <code>repeated string sharded_domain = 14;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the shardedDomain at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getShardedDomainBytes(int index) {
+        return shardedDomain_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Domains spread across the tunnels by consistent hashing, on top of each
+       * tunnel's own target_domain.
+       * </pre>
+       *
+       * <code>repeated string sharded_domain = 14;</code>
+       * @param index The index to set the value at.
+       * @param value The shardedDomain to set.
+       * @return This builder for chaining.
+       */
+      public Builder setShardedDomain(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureShardedDomainIsMutable();
+        shardedDomain_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Domains spread across the tunnels by consistent hashing, on top of each
+       * tunnel's own target_domain.
+       * </pre>
+       *
+       * <code>repeated string sharded_domain = 14;</code>
+       * @param value The shardedDomain to add.
+       * @return This builder for chaining.
+       */
+      public Builder addShardedDomain(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureShardedDomainIsMutable();
+        shardedDomain_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Domains spread across the tunnels by consistent hashing, on top of each
+       * tunnel's own target_domain.
+       * </pre>
+       *
+       * <code>repeated string sharded_domain = 14;</code>
+       * @param values The shardedDomain to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllShardedDomain(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureShardedDomainIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, shardedDomain_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Domains spread across the tunnels by consistent hashing, on top of each
+       * tunnel's own target_domain.
+       * </pre>
+       *
+       * <code>repeated string sharded_domain = 14;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearShardedDomain() {
+        shardedDomain_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00002000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Domains spread across the tunnels by consistent hashing, on top of each
+       * tunnel's own target_domain.
+       * </pre>
+       *
+       * <code>repeated string sharded_domain = 14;</code>
+       * @param value The bytes of the shardedDomain to add.
+       * @return This builder for chaining.
+       */
+      public Builder addShardedDomainBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureShardedDomainIsMutable();
+        shardedDomain_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private pia4java.Proto.PortForwarding portForwarding_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.PortForwarding, pia4java.Proto.PortForwarding.Builder, pia4java.Proto.PortForwardingOrBuilder> portForwardingBuilder_;
+      /**
+       * <pre>
+       * If set, a port is forwarded through the tunnel described by the top level
+       * fields.  Tunnels set their own port_forwarding.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+       * @return Whether the portForwarding field is set.
+       */
+      public boolean hasPortForwarding() {
+        return ((bitField0_ & 0x00004000) != 0);
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through the tunnel described by the top level
+       * fields.  Tunnels set their own port_forwarding.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+       * @return The portForwarding.
+       */
+      public pia4java.Proto.PortForwarding getPortForwarding() {
+        if (portForwardingBuilder_ == null) {
+          return portForwarding_ == null ? pia4java.Proto.PortForwarding.getDefaultInstance() : portForwarding_;
+        } else {
+          return portForwardingBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through the tunnel described by the top level
+       * fields.  Tunnels set their own port_forwarding.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+       */
+      public Builder setPortForwarding(pia4java.Proto.PortForwarding value) {
+        if (portForwardingBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          portForwarding_ = value;
+          onChanged();
+        } else {
+          portForwardingBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00004000;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through the tunnel described by the top level
+       * fields.  Tunnels set their own port_forwarding.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+       */
+      public Builder setPortForwarding(
+          pia4java.Proto.PortForwarding.Builder builderForValue) {
+        if (portForwardingBuilder_ == null) {
+          portForwarding_ = builderForValue.build();
+          onChanged();
+        } else {
+          portForwardingBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00004000;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through the tunnel described by the top level
+       * fields.  Tunnels set their own port_forwarding.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+       */
+      public Builder mergePortForwarding(pia4java.Proto.PortForwarding value) {
+        if (portForwardingBuilder_ == null) {
+          if (((bitField0_ & 0x00004000) != 0) &&
+              portForwarding_ != null &&
+              portForwarding_ != pia4java.Proto.PortForwarding.getDefaultInstance()) {
+            portForwarding_ =
+              pia4java.Proto.PortForwarding.newBuilder(portForwarding_).mergeFrom(value).buildPartial();
+          } else {
+            portForwarding_ = value;
+          }
+          onChanged();
+        } else {
+          portForwardingBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00004000;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through the tunnel described by the top level
+       * fields.  Tunnels set their own port_forwarding.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+       */
+      public Builder clearPortForwarding() {
+        if (portForwardingBuilder_ == null) {
+          portForwarding_ = null;
+          onChanged();
+        } else {
+          portForwardingBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00004000);
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through the tunnel described by the top level
+       * fields.  Tunnels set their own port_forwarding.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+       */
+      public pia4java.Proto.PortForwarding.Builder getPortForwardingBuilder() {
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return getPortForwardingFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through the tunnel described by the top level
+       * fields.  Tunnels set their own port_forwarding.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+       */
+      public pia4java.Proto.PortForwardingOrBuilder getPortForwardingOrBuilder() {
+        if (portForwardingBuilder_ != null) {
+          return portForwardingBuilder_.getMessageOrBuilder();
+        } else {
+          return portForwarding_ == null ?
+              pia4java.Proto.PortForwarding.getDefaultInstance() : portForwarding_;
+        }
+      }
+      /**
+       * <pre>
+       * If set, a port is forwarded through the tunnel described by the top level
+       * fields.  Tunnels set their own port_forwarding.
+       * </pre>
+       *
+       * <code>optional .pia4java.PortForwarding port_forwarding = 15;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.PortForwarding, pia4java.Proto.PortForwarding.Builder, pia4java.Proto.PortForwardingOrBuilder> 
+          getPortForwardingFieldBuilder() {
+        if (portForwardingBuilder_ == null) {
+          portForwardingBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              pia4java.Proto.PortForwarding, pia4java.Proto.PortForwarding.Builder, pia4java.Proto.PortForwardingOrBuilder>(
+                  getPortForwarding(),
+                  getParentForChildren(),
+                  isClean());
+          portForwarding_ = null;
+        }
+        return portForwardingBuilder_;
+      }
+
+      private int interfaceBackend_ = 1;
+      /**
+       * <pre>
+       * How interfaces are brought up and down.
+       * </pre>
+       *
+       * <code>optional .pia4java.InterfaceBackend interface_backend = 16 [default = WG_QUICK];</code>
+       * @return Whether the interfaceBackend field is set.
+       */
+      @java.lang.Override public boolean hasInterfaceBackend() {
+        return ((bitField0_ & 0x00008000) != 0);
+      }
+      /**
+       * <pre>
+       * How interfaces are brought up and down.
+       * </pre>
+       *
+       * <code>optional .pia4java.InterfaceBackend interface_backend = 16 [default = WG_QUICK];</code>
+       * @return The interfaceBackend.
+       */
+      @java.lang.Override
+      public pia4java.Proto.InterfaceBackend getInterfaceBackend() {
+        @SuppressWarnings("deprecation")
+        pia4java.Proto.InterfaceBackend result = pia4java.Proto.InterfaceBackend.valueOf(interfaceBackend_);
+        return result == null ? pia4java.Proto.InterfaceBackend.WG_QUICK : result;
+      }
+      /**
+       * <pre>
+       * How interfaces are brought up and down.
+       * </pre>
+       *
+       * <code>optional .pia4java.InterfaceBackend interface_backend = 16 [default = WG_QUICK];</code>
+       * @param value The interfaceBackend to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceBackend(pia4java.Proto.InterfaceBackend value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00008000;
+        interfaceBackend_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * How interfaces are brought up and down.
+       * </pre>
+       *
+       * <code>optional .pia4java.InterfaceBackend interface_backend = 16 [default = WG_QUICK];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInterfaceBackend() {
+        bitField0_ = (bitField0_ & ~0x00008000);
+        interfaceBackend_ = 1;
+        onChanged();
+        return this;
+      }
+
+      private int maxAllowedIps_ ;
+      /**
+       * <pre>
+       * If positive, the routed addresses of each tunnel are collapsed into at
+       * most this many prefixes, which may then cover other addresses too.
+       * </pre>
+       *
+       * <code>optional int32 max_allowed_ips = 17 [default = 0];</code>
+       * @return Whether the maxAllowedIps field is set.
+       */
+      @java.lang.Override
+      public boolean hasMaxAllowedIps() {
+        return ((bitField0_ & 0x00010000) != 0);
+      }
+      /**
+       * <pre>
+       * If positive, the routed addresses of each tunnel are collapsed into at
+       * most this many prefixes, which may then cover other addresses too.
+       * </pre>
+       *
+       * <code>optional int32 max_allowed_ips = 17 [default = 0];</code>
+       * @return The maxAllowedIps.
+       */
+      @java.lang.Override
+      public int getMaxAllowedIps() {
+        return maxAllowedIps_;
+      }
+      /**
+       * <pre>
+       * If positive, the routed addresses of each tunnel are collapsed into at
+       * most this many prefixes, which may then cover other addresses too.
+       * </pre>
+       *
+       * <code>optional int32 max_allowed_ips = 17 [default = 0];</code>
+       * @param value The maxAllowedIps to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxAllowedIps(int value) {
+        bitField0_ |= 0x00010000;
+        maxAllowedIps_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * If positive, the routed addresses of each tunnel are collapsed into at
+       * most this many prefixes, which may then cover other addresses too.
+       * </pre>
+       *
+       * <code>optional int32 max_allowed_ips = 17 [default = 0];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxAllowedIps() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        maxAllowedIps_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList domainList_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureDomainListIsMutable() {
+        if (!((bitField0_ & 0x00020000) != 0)) {
+          domainList_ = new com.google.protobuf.LazyStringArrayList(domainList_);
+          bitField0_ |= 0x00020000;
+         }
+      }
+      /**
+       * <pre>
+       * Files of domains, one per line, with "#" comments.  They are routed like
+       * target_domain, or spread across the tunnels like sharded_domain.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 18;</code>
+       * @return A list containing the domainList.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getDomainListList() {
+        return domainList_.getUnmodifiableView();
+      }
+      /**
+       * <pre>
+       * Files of domains, one per line, with "#" comments.  They are routed like
+       * target_domain, or spread across the tunnels like sharded_domain.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 18;</code>
+       * @return The count of domainList.
+       */
+      public int getDomainListCount() {
+        return domainList_.size();
+      }
+      /**
+       * <pre>
+       * Files of domains, one per line, with "#" comments.  They are routed like
+       * target_domain, or spread across the tunnels like sharded_domain.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 18;</code>
+       * @param index The index of the element to return.
+       * @return The domainList at the given index.
+       */
+      public java.lang.String getDomainList(int index) {
+        return domainList_.get(index);
+      }
+      /**
+       * <pre>
+       * Files of domains, one per line, with "#" comments.  They are routed like
+       * target_domain, or spread across the tunnels like sharded_domain.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 18;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the domainList at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getDomainListBytes(int index) {
+        return domainList_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Files of domains, one per line, with "#" comments.  They are routed like
+       * target_domain, or spread across the tunnels like sharded_domain.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 18;</code>
+       * @param index The index to set the value at.
+       * @param value The domainList to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainList(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDomainListIsMutable();
+        domainList_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Files of domains, one per line, with "#" comments.  They are routed like
+       * target_domain, or spread across the tunnels like sharded_domain.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 18;</code>
+       * @param value The domainList to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDomainList(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDomainListIsMutable();
+        domainList_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Files of domains, one per line, with "#" comments.  They are routed like
+       * target_domain, or spread across the tunnels like sharded_domain.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 18;</code>
+       * @param values The domainList to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllDomainList(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureDomainListIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, domainList_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Files of domains, one per line, with "#" comments.  They are routed like
+       * target_domain, or spread across the tunnels like sharded_domain.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 18;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainList() {
+        domainList_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00020000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Files of domains, one per line, with "#" comments.  They are routed like
+       * target_domain, or spread across the tunnels like sharded_domain.
+       * </pre>
+       *
+       * <code>repeated string domain_list = 18;</code>
+       * @param value The bytes of the domainList to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDomainListBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDomainListIsMutable();
+        domainList_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private pia4java.Proto.DnsSettings dns_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.DnsSettings, pia4java.Proto.DnsSettings.Builder, pia4java.Proto.DnsSettingsOrBuilder> dnsBuilder_;
+      /**
+       * <pre>
+       * Limits for resolving the domains.
+       * </pre>
+       *
+       * <code>optional .pia4java.DnsSettings dns = 19;</code>
+       * @return Whether the dns field is set.
+       */
+      public boolean hasDns() {
+        return ((bitField0_ & 0x00040000) != 0);
+      }
+      /**
+       * <pre>
+       * Limits for resolving the domains.
+       * </pre>
+       *
+       * <code>optional .pia4java.DnsSettings dns = 19;</code>
+       * @return The dns.
+       */
+      public pia4java.Proto.DnsSettings getDns() {
+        if (dnsBuilder_ == null) {
+          return dns_ == null ? pia4java.Proto.DnsSettings.getDefaultInstance() : dns_;
+        } else {
+          return dnsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Limits for resolving the domains.
+       * </pre>
+       *
+       * <code>optional .pia4java.DnsSettings dns = 19;</code>
+       */
+      public Builder setDns(pia4java.Proto.DnsSettings value) {
+        if (dnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dns_ = value;
+          onChanged();
+        } else {
+          dnsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00040000;
+        return this;
+      }
+      /**
+       * <pre>
+       * Limits for resolving the domains.
+       * </pre>
+       *
+       * <code>optional .pia4java.DnsSettings dns = 19;</code>
+       */
+      public Builder setDns(
+          pia4java.Proto.DnsSettings.Builder builderForValue) {
+        if (dnsBuilder_ == null) {
+          dns_ = builderForValue.build();
+          onChanged();
+        } else {
+          dnsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00040000;
+        return this;
+      }
+      /**
+       * <pre>
+       * Limits for resolving the domains.
+       * </pre>
+       *
+       * <code>optional .pia4java.DnsSettings dns = 19;</code>
+       */
+      public Builder mergeDns(pia4java.Proto.DnsSettings value) {
+        if (dnsBuilder_ == null) {
+          if (((bitField0_ & 0x00040000) != 0) &&
+              dns_ != null &&
+              dns_ != pia4java.Proto.DnsSettings.getDefaultInstance()) {
+            dns_ =
+              pia4java.Proto.DnsSettings.newBuilder(dns_).mergeFrom(value).buildPartial();
+          } else {
+            dns_ = value;
+          }
+          onChanged();
+        } else {
+          dnsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00040000;
+        return this;
+      }
+      /**
+       * <pre>
+       * Limits for resolving the domains.
+       * </pre>
+       *
+       * <code>optional .pia4java.DnsSettings dns = 19;</code>
+       */
+      public Builder clearDns() {
+        if (dnsBuilder_ == null) {
+          dns_ = null;
+          onChanged();
+        } else {
+          dnsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00040000);
+        return this;
+      }
+      /**
+       * <pre>
+       * Limits for resolving the domains.
+       * </pre>
+       *
+       * <code>optional .pia4java.DnsSettings dns = 19;</code>
+       */
+      public pia4java.Proto.DnsSettings.Builder getDnsBuilder() {
+        bitField0_ |= 0x00040000;
+        onChanged();
+        return getDnsFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Limits for resolving the domains.
+       * </pre>
+       *
+       * <code>optional .pia4java.DnsSettings dns = 19;</code>
+       */
+      public pia4java.Proto.DnsSettingsOrBuilder getDnsOrBuilder() {
+        if (dnsBuilder_ != null) {
+          return dnsBuilder_.getMessageOrBuilder();
+        } else {
+          return dns_ == null ?
+              pia4java.Proto.DnsSettings.getDefaultInstance() : dns_;
+        }
+      }
+      /**
+       * <pre>
+       * Limits for resolving the domains.
+       * </pre>
+       *
+       * <code>optional .pia4java.DnsSettings dns = 19;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.DnsSettings, pia4java.Proto.DnsSettings.Builder, pia4java.Proto.DnsSettingsOrBuilder> 
+          getDnsFieldBuilder() {
+        if (dnsBuilder_ == null) {
+          dnsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              pia4java.Proto.DnsSettings, pia4java.Proto.DnsSettings.Builder, pia4java.Proto.DnsSettingsOrBuilder>(
+                  getDns(),
+                  getParentForChildren(),
+                  isClean());
+          dns_ = null;
+        }
+        return dnsBuilder_;
+      }
+
+      private pia4java.Proto.Standby standby_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.Standby, pia4java.Proto.Standby.Builder, pia4java.Proto.StandbyOrBuilder> standbyBuilder_;
+      /**
+       * <pre>
+       * If set, the daemon keeps a standby for the tunnel described by the top
+       * level fields.  Tunnels set their own standby.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 20;</code>
+       * @return Whether the standby field is set.
+       */
+      public boolean hasStandby() {
+        return ((bitField0_ & 0x00080000) != 0);
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a standby for the tunnel described by the top
+       * level fields.  Tunnels set their own standby.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 20;</code>
+       * @return The standby.
+       */
+      public pia4java.Proto.Standby getStandby() {
+        if (standbyBuilder_ == null) {
+          return standby_ == null ? pia4java.Proto.Standby.getDefaultInstance() : standby_;
+        } else {
+          return standbyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a standby for the tunnel described by the top
+       * level fields.  Tunnels set their own standby.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 20;</code>
+       */
+      public Builder setStandby(pia4java.Proto.Standby value) {
+        if (standbyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          standby_ = value;
+          onChanged();
+        } else {
+          standbyBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00080000;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a standby for the tunnel described by the top
+       * level fields.  Tunnels set their own standby.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 20;</code>
+       */
+      public Builder setStandby(
+          pia4java.Proto.Standby.Builder builderForValue) {
+        if (standbyBuilder_ == null) {
+          standby_ = builderForValue.build();
+          onChanged();
+        } else {
+          standbyBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00080000;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a standby for the tunnel described by the top
+       * level fields.  Tunnels set their own standby.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 20;</code>
+       */
+      public Builder mergeStandby(pia4java.Proto.Standby value) {
+        if (standbyBuilder_ == null) {
+          if (((bitField0_ & 0x00080000) != 0) &&
+              standby_ != null &&
+              standby_ != pia4java.Proto.Standby.getDefaultInstance()) {
+            standby_ =
+              pia4java.Proto.Standby.newBuilder(standby_).mergeFrom(value).buildPartial();
+          } else {
+            standby_ = value;
+          }
+          onChanged();
+        } else {
+          standbyBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00080000;
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a standby for the tunnel described by the top
+       * level fields.  Tunnels set their own standby.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 20;</code>
+       */
+      public Builder clearStandby() {
+        if (standbyBuilder_ == null) {
+          standby_ = null;
+          onChanged();
+        } else {
+          standbyBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00080000);
+        return this;
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a standby for the tunnel described by the top
+       * level fields.  Tunnels set their own standby.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 20;</code>
+       */
+      public pia4java.Proto.Standby.Builder getStandbyBuilder() {
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return getStandbyFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a standby for the tunnel described by the top
+       * level fields.  Tunnels set their own standby.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 20;</code>
+       */
+      public pia4java.Proto.StandbyOrBuilder getStandbyOrBuilder() {
+        if (standbyBuilder_ != null) {
+          return standbyBuilder_.getMessageOrBuilder();
+        } else {
+          return standby_ == null ?
+              pia4java.Proto.Standby.getDefaultInstance() : standby_;
+        }
+      }
+      /**
+       * <pre>
+       * If set, the daemon keeps a standby for the tunnel described by the top
+       * level fields.  Tunnels set their own standby.
+       * </pre>
+       *
+       * <code>optional .pia4java.Standby standby = 20;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.Standby, pia4java.Proto.Standby.Builder, pia4java.Proto.StandbyOrBuilder> 
+          getStandbyFieldBuilder() {
+        if (standbyBuilder_ == null) {
+          standbyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              pia4java.Proto.Standby, pia4java.Proto.Standby.Builder, pia4java.Proto.StandbyOrBuilder>(
+                  getStandby(),
+                  getParentForChildren(),
+                  isClean());
+          standby_ = null;
+        }
+        return standbyBuilder_;
+      }
+
+      private int mtu_ ;
+      /**
+       * <pre>
+       * Tunnel MTU.  If unset, it is the path MTU to the server, found by
+       * probing, less WireGuard's overhead.
+       * </pre>
+       *
+       * <code>optional int32 mtu = 21;</code>
+       * @return Whether the mtu field is set.
+       */
+      @java.lang.Override
+      public boolean hasMtu() {
+        return ((bitField0_ & 0x00100000) != 0);
+      }
+      /**
+       * <pre>
+       * Tunnel MTU.  If unset, it is the path MTU to the server, found by
+       * probing, less WireGuard's overhead.
+       * </pre>
+       *
+       * <code>optional int32 mtu = 21;</code>
+       * @return The mtu.
+       */
+      @java.lang.Override
+      public int getMtu() {
+        return mtu_;
+      }
+      /**
+       * <pre>
+       * Tunnel MTU.  If unset, it is the path MTU to the server, found by
+       * probing, less WireGuard's overhead.
+       * </pre>
+       *
+       * <code>optional int32 mtu = 21;</code>
+       * @param value The mtu to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMtu(int value) {
+        bitField0_ |= 0x00100000;
+        mtu_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Tunnel MTU.  If unset, it is the path MTU to the server, found by
+       * probing, less WireGuard's overhead.
+       * </pre>
+       *
+       * <code>optional int32 mtu = 21;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMtu() {
+        bitField0_ = (bitField0_ & ~0x00100000);
+        mtu_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private pia4java.Proto.QualityMonitor qualityMonitor_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.QualityMonitor, pia4java.Proto.QualityMonitor.Builder, pia4java.Proto.QualityMonitorOrBuilder> qualityMonitorBuilder_;
+      /**
+       * <pre>
+       * If present, the daemon measures each tunnel's round trip time, jitter and
+       * loss.
+       * </pre>
+       *
+       * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+       * @return Whether the qualityMonitor field is set.
+       */
+      public boolean hasQualityMonitor() {
+        return ((bitField0_ & 0x00200000) != 0);
+      }
+      /**
+       * <pre>
+       * If present, the daemon measures each tunnel's round trip time, jitter and
+       * loss.
+       * </pre>
+       *
+       * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+       * @return The qualityMonitor.
+       */
+      public pia4java.Proto.QualityMonitor getQualityMonitor() {
+        if (qualityMonitorBuilder_ == null) {
+          return qualityMonitor_ == null ? pia4java.Proto.QualityMonitor.getDefaultInstance() : qualityMonitor_;
+        } else {
+          return qualityMonitorBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * If present, the daemon measures each tunnel's round trip time, jitter and
+       * loss.
+       * </pre>
+       *
+       * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+       */
+      public Builder setQualityMonitor(pia4java.Proto.QualityMonitor value) {
+        if (qualityMonitorBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          qualityMonitor_ = value;
+          onChanged();
+        } else {
+          qualityMonitorBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00200000;
+        return this;
+      }
+      /**
+       * <pre>
+       * If present, the daemon measures each tunnel's round trip time, jitter and
+       * loss.
+       * </pre>
+       *
+       * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+       */
+      public Builder setQualityMonitor(
+          pia4java.Proto.QualityMonitor.Builder builderForValue) {
+        if (qualityMonitorBuilder_ == null) {
+          qualityMonitor_ = builderForValue.build();
+          onChanged();
+        } else {
+          qualityMonitorBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00200000;
+        return this;
+      }
+      /**
+       * <pre>
+       * If present, the daemon measures each tunnel's round trip time, jitter and
+       * loss.
+       * </pre>
+       *
+       * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+       */
+      public Builder mergeQualityMonitor(pia4java.Proto.QualityMonitor value) {
+        if (qualityMonitorBuilder_ == null) {
+          if (((bitField0_ & 0x00200000) != 0) &&
+              qualityMonitor_ != null &&
+              qualityMonitor_ != pia4java.Proto.QualityMonitor.getDefaultInstance()) {
+            qualityMonitor_ =
+              pia4java.Proto.QualityMonitor.newBuilder(qualityMonitor_).mergeFrom(value).buildPartial();
+          } else {
+            qualityMonitor_ = value;
+          }
+          onChanged();
+        } else {
+          qualityMonitorBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00200000;
+        return this;
+      }
+      /**
+       * <pre>
+       * If present, the daemon measures each tunnel's round trip time, jitter and
+       * loss.
+       * </pre>
+       *
+       * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+       */
+      public Builder clearQualityMonitor() {
+        if (qualityMonitorBuilder_ == null) {
+          qualityMonitor_ = null;
+          onChanged();
+        } else {
+          qualityMonitorBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00200000);
+        return this;
+      }
+      /**
+       * <pre>
+       * If present, the daemon measures each tunnel's round trip time, jitter and
+       * loss.
+       * </pre>
+       *
+       * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+       */
+      public pia4java.Proto.QualityMonitor.Builder getQualityMonitorBuilder() {
+        bitField0_ |= 0x00200000;
+        onChanged();
+        return getQualityMonitorFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * If present, the daemon measures each tunnel's round trip time, jitter and
+       * loss.
+       * </pre>
+       *
+       * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+       */
+      public pia4java.Proto.QualityMonitorOrBuilder getQualityMonitorOrBuilder() {
+        if (qualityMonitorBuilder_ != null) {
+          return qualityMonitorBuilder_.getMessageOrBuilder();
+        } else {
+          return qualityMonitor_ == null ?
+              pia4java.Proto.QualityMonitor.getDefaultInstance() : qualityMonitor_;
+        }
+      }
+      /**
+       * <pre>
+       * If present, the daemon measures each tunnel's round trip time, jitter and
+       * loss.
+       * </pre>
+       *
+       * <code>optional .pia4java.QualityMonitor quality_monitor = 22;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          pia4java.Proto.QualityMonitor, pia4java.Proto.QualityMonitor.Builder, pia4java.Proto.QualityMonitorOrBuilder> 
+          getQualityMonitorFieldBuilder() {
+        if (qualityMonitorBuilder_ == null) {
+          qualityMonitorBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              pia4java.Proto.QualityMonitor, pia4java.Proto.QualityMonitor.Builder, pia4java.Proto.QualityMonitorOrBuilder>(
+                  getQualityMonitor(),
+                  getParentForChildren(),
+                  isClean());
+          qualityMonitor_ = null;
+        }
+        return qualityMonitorBuilder_;
+      }
+
+      private java.lang.Object interfaceName_ = "pia";
+      /**
+       * <pre>
+       * Interface name of the single tunnel of a configuration without tunnels.
+       * </pre>
+       *
+       * <code>optional string interface_name = 23 [default = "pia"];</code>
+       * @return Whether the interfaceName field is set.
+       */
+      public boolean hasInterfaceName() {
+        return ((bitField0_ & 0x00400000) != 0);
+      }
+      /**
+       * <pre>
+       * Interface name of the single tunnel of a configuration without tunnels.
+       * </pre>
+       *
+       * <code>optional string interface_name = 23 [default = "pia"];</code>
+       * @return The interfaceName.
+       */
+      public java.lang.String getInterfaceName() {
+        java.lang.Object ref = interfaceName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            interfaceName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Interface name of the single tunnel of a configuration without tunnels.
+       * </pre>
+       *
+       * <code>optional string interface_name = 23 [default = "pia"];</code>
+       * @return The bytes for interfaceName.
+       */
+      public com.google.protobuf.ByteString
+          getInterfaceNameBytes() {
+        java.lang.Object ref = interfaceName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          interfaceName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Interface name of the single tunnel of a configuration without tunnels.
+       * </pre>
+       *
+       * <code>optional string interface_name = 23 [default = "pia"];</code>
+       * @param value The interfaceName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00400000;
+        interfaceName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Interface name of the single tunnel of a configuration without tunnels.
+       * </pre>
+       *
+       * <code>optional string interface_name = 23 [default = "pia"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInterfaceName() {
+        bitField0_ = (bitField0_ & ~0x00400000);
+        interfaceName_ = getDefaultInstance().getInterfaceName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Interface name of the single tunnel of a configuration without tunnels.
+       * </pre>
+       *
+       * <code>optional string interface_name = 23 [default = "pia"];</code>
+       * @param value The bytes for interfaceName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00400000;
+        interfaceName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int persistentKeepaliveSeconds_ ;
+      /**
+       * <pre>
+       * Keepalives are off unless set; 25 keeps a NAT mapping open while idle.
+       * </pre>
+       *
+       * <code>optional int32 persistent_keepalive_seconds = 24 [default = 0];</code>
+       * @return Whether the persistentKeepaliveSeconds field is set.
+       */
+      @java.lang.Override
+      public boolean hasPersistentKeepaliveSeconds() {
+        return ((bitField0_ & 0x00800000) != 0);
+      }
+      /**
+       * <pre>
+       * Keepalives are off unless set; 25 keeps a NAT mapping open while idle.
+       * </pre>
+       *
+       * <code>optional int32 persistent_keepalive_seconds = 24 [default = 0];</code>
+       * @return The persistentKeepaliveSeconds.
+       */
+      @java.lang.Override
+      public int getPersistentKeepaliveSeconds() {
+        return persistentKeepaliveSeconds_;
+      }
+      /**
+       * <pre>
+       * Keepalives are off unless set; 25 keeps a NAT mapping open while idle.
+       * </pre>
+       *
+       * <code>optional int32 persistent_keepalive_seconds = 24 [default = 0];</code>
+       * @param value The persistentKeepaliveSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPersistentKeepaliveSeconds(int value) {
+        bitField0_ |= 0x00800000;
+        persistentKeepaliveSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Keepalives are off unless set; 25 keeps a NAT mapping open while idle.
+       * </pre>
+       *
+       * <code>optional int32 persistent_keepalive_seconds = 24 [default = 0];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPersistentKeepaliveSeconds() {
+        bitField0_ = (bitField0_ & ~0x00800000);
+        persistentKeepaliveSeconds_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean usePiaDns_ ;
+      /**
+       * <pre>
+       * Whether wg-quick sets the server's DNS servers as the system's resolvers.
+       * Only the WG_QUICK backend does this.
+       * </pre>
+       *
+       * <code>optional bool use_pia_dns = 25 [default = false];</code>
+       * @return Whether the usePiaDns field is set.
+       */
+      @java.lang.Override
+      public boolean hasUsePiaDns() {
+        return ((bitField0_ & 0x01000000) != 0);
+      }
+      /**
+       * <pre>
+       * Whether wg-quick sets the server's DNS servers as the system's resolvers.
+       * Only the WG_QUICK backend does this.
+       * </pre>
+       *
+       * <code>optional bool use_pia_dns = 25 [default = false];</code>
+       * @return The usePiaDns.
+       */
+      @java.lang.Override
+      public boolean getUsePiaDns() {
+        return usePiaDns_;
+      }
+      /**
+       * <pre>
+       * Whether wg-quick sets the server's DNS servers as the system's resolvers.
+       * Only the WG_QUICK backend does this.
+       * </pre>
+       *
+       * <code>optional bool use_pia_dns = 25 [default = false];</code>
+       * @param value The usePiaDns to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUsePiaDns(boolean value) {
+        bitField0_ |= 0x01000000;
+        usePiaDns_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Whether wg-quick sets the server's DNS servers as the system's resolvers.
+       * Only the WG_QUICK backend does this.
+       * </pre>
+       *
+       * <code>optional bool use_pia_dns = 25 [default = false];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUsePiaDns() {
+        bitField0_ = (bitField0_ & ~0x01000000);
+        usePiaDns_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object table_ = "auto";
+      /**
+       * <pre>
+       * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+       * table, with the default route in its own table), "off" for no routes, or
+       * a table number.
+       * </pre>
+       *
+       * <code>optional string table = 26 [default = "auto"];</code>
+       * @return Whether the table field is set.
+       */
+      public boolean hasTable() {
+        return ((bitField0_ & 0x02000000) != 0);
+      }
+      /**
+       * <pre>
+       * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+       * table, with the default route in its own table), "off" for no routes, or
+       * a table number.
+       * </pre>
+       *
+       * <code>optional string table = 26 [default = "auto"];</code>
+       * @return The table.
+       */
+      public java.lang.String getTable() {
+        java.lang.Object ref = table_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            table_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+       * table, with the default route in its own table), "off" for no routes, or
+       * a table number.
+       * </pre>
+       *
+       * <code>optional string table = 26 [default = "auto"];</code>
+       * @return The bytes for table.
+       */
+      public com.google.protobuf.ByteString
+          getTableBytes() {
+        java.lang.Object ref = table_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          table_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+       * table, with the default route in its own table), "off" for no routes, or
+       * a table number.
+       * </pre>
+       *
+       * <code>optional string table = 26 [default = "auto"];</code>
+       * @param value The table to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTable(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x02000000;
+        table_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+       * table, with the default route in its own table), "off" for no routes, or
+       * a table number.
+       * </pre>
+       *
+       * <code>optional string table = 26 [default = "auto"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTable() {
+        bitField0_ = (bitField0_ & ~0x02000000);
+        table_ = getDefaultInstance().getTable();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Routing table of the allowed IPs, as wg-quick's Table: "auto" (the main
+       * table, with the default route in its own table), "off" for no routes, or
+       * a table number.
+       * </pre>
+       *
+       * <code>optional string table = 26 [default = "auto"];</code>
+       * @param value The bytes for table to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTableBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x02000000;
+        table_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object piaCaCertificate_ = "props/ca.rsa.4096.crt";
+      /**
+       * <pre>
+       * PEM file of the CA that signs the WireGuard servers' certificates.  If
+       * set, the hosts of token_url and serverlist_url are checked against it
+       * too, as for a local stand-in of the API.
+       * </pre>
+       *
+       * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+       * @return Whether the piaCaCertificate field is set.
+       */
+      public boolean hasPiaCaCertificate() {
+        return ((bitField0_ & 0x04000000) != 0);
+      }
+      /**
+       * <pre>
+       * PEM file of the CA that signs the WireGuard servers' certificates.  If
+       * set, the hosts of token_url and serverlist_url are checked against it
+       * too, as for a local stand-in of the API.
+       * </pre>
+       *
+       * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+       * @return The piaCaCertificate.
+       */
+      public java.lang.String getPiaCaCertificate() {
+        java.lang.Object ref = piaCaCertificate_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            piaCaCertificate_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * PEM file of the CA that signs the WireGuard servers' certificates.  If
+       * set, the hosts of token_url and serverlist_url are checked against it
+       * too, as for a local stand-in of the API.
+       * </pre>
+       *
+       * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+       * @return The bytes for piaCaCertificate.
+       */
+      public com.google.protobuf.ByteString
+          getPiaCaCertificateBytes() {
+        java.lang.Object ref = piaCaCertificate_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          piaCaCertificate_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * PEM file of the CA that signs the WireGuard servers' certificates.  If
+       * set, the hosts of token_url and serverlist_url are checked against it
+       * too, as for a local stand-in of the API.
+       * </pre>
+       *
+       * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+       * @param value The piaCaCertificate to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiaCaCertificate(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x04000000;
+        piaCaCertificate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * PEM file of the CA that signs the WireGuard servers' certificates.  If
+       * set, the hosts of token_url and serverlist_url are checked against it
+       * too, as for a local stand-in of the API.
+       * </pre>
+       *
+       * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPiaCaCertificate() {
+        bitField0_ = (bitField0_ & ~0x04000000);
+        piaCaCertificate_ = getDefaultInstance().getPiaCaCertificate();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * PEM file of the CA that signs the WireGuard servers' certificates.  If
+       * set, the hosts of token_url and serverlist_url are checked against it
+       * too, as for a local stand-in of the API.
+       * </pre>
+       *
+       * <code>optional string pia_ca_certificate = 27 [default = "props/ca.rsa.4096.crt"];</code>
+       * @param value The bytes for piaCaCertificate to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiaCaCertificateBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x04000000;
+        piaCaCertificate_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tokenUrl_ = "https://www.privateinternetaccess.com/api/client/v2/token";
+      /**
+       * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+       * @return Whether the tokenUrl field is set.
+       */
+      public boolean hasTokenUrl() {
+        return ((bitField0_ & 0x08000000) != 0);
+      }
+      /**
+       * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+       * @return The tokenUrl.
+       */
+      public java.lang.String getTokenUrl() {
+        java.lang.Object ref = tokenUrl_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tokenUrl_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+       * @return The bytes for tokenUrl.
+       */
+      public com.google.protobuf.ByteString
+          getTokenUrlBytes() {
+        java.lang.Object ref = tokenUrl_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tokenUrl_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+       * @param value The tokenUrl to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTokenUrl(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x08000000;
+        tokenUrl_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTokenUrl() {
+        bitField0_ = (bitField0_ & ~0x08000000);
+        tokenUrl_ = getDefaultInstance().getTokenUrl();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string token_url = 28 [default = "https://www.privateinternetaccess.com/api/client/v2/token"];</code>
+       * @param value The bytes for tokenUrl to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTokenUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x08000000;
+        tokenUrl_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object serverlistUrl_ = "https://serverlist.piaservers.net/vpninfo/servers/v6";
+      /**
+       * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+       * @return Whether the serverlistUrl field is set.
+       */
+      public boolean hasServerlistUrl() {
+        return ((bitField0_ & 0x10000000) != 0);
+      }
+      /**
+       * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+       * @return The serverlistUrl.
+       */
+      public java.lang.String getServerlistUrl() {
+        java.lang.Object ref = serverlistUrl_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            serverlistUrl_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+       * @return The bytes for serverlistUrl.
+       */
+      public com.google.protobuf.ByteString
+          getServerlistUrlBytes() {
+        java.lang.Object ref = serverlistUrl_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          serverlistUrl_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+       * @param value The serverlistUrl to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServerlistUrl(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x10000000;
+        serverlistUrl_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearServerlistUrl() {
+        bitField0_ = (bitField0_ & ~0x10000000);
+        serverlistUrl_ = getDefaultInstance().getServerlistUrl();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string serverlist_url = 29 [default = "https://serverlist.piaservers.net/vpninfo/servers/v6"];</code>
+       * @param value The bytes for serverlistUrl to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServerlistUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x10000000;
+        serverlistUrl_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.PiaConfig)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.PiaConfig)
+    private static final pia4java.Proto.PiaConfig DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.PiaConfig();
+    }
+
+    public static pia4java.Proto.PiaConfig getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<PiaConfig>
+        PARSER = new com.google.protobuf.AbstractParser<PiaConfig>() {
+      @java.lang.Override
+      public PiaConfig parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PiaConfig(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PiaConfig> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PiaConfig> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.PiaConfig getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CachedTokenOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.CachedToken)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string username = 1;</code>
+     * @return Whether the username field is set.
+     */
+    boolean hasUsername();
+    /**
+     * <code>optional string username = 1;</code>
+     * @return The username.
+     */
+    java.lang.String getUsername();
+    /**
+     * <code>optional string username = 1;</code>
+     * @return The bytes for username.
+     */
+    com.google.protobuf.ByteString
+        getUsernameBytes();
+
+    /**
+     * <code>optional string token = 2;</code>
+     * @return Whether the token field is set.
+     */
+    boolean hasToken();
+    /**
+     * <code>optional string token = 2;</code>
+     * @return The token.
+     */
+    java.lang.String getToken();
+    /**
+     * <code>optional string token = 2;</code>
+     * @return The bytes for token.
+     */
+    com.google.protobuf.ByteString
+        getTokenBytes();
+
+    /**
+     * <code>optional int64 issued_epoch_millis = 3;</code>
+     * @return Whether the issuedEpochMillis field is set.
+     */
+    boolean hasIssuedEpochMillis();
+    /**
+     * <code>optional int64 issued_epoch_millis = 3;</code>
+     * @return The issuedEpochMillis.
+     */
+    long getIssuedEpochMillis();
+  }
+  /**
+   * Protobuf type {@code pia4java.CachedToken}
+   */
+  public static final class CachedToken extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.CachedToken)
+      CachedTokenOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CachedToken.newBuilder() to construct.
+    private CachedToken(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CachedToken() {
+      username_ = "";
+      token_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CachedToken();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CachedToken(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              username_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              token_ = bs;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              issuedEpochMillis_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_CachedToken_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_CachedToken_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.CachedToken.class, pia4java.Proto.CachedToken.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int USERNAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object username_;
+    /**
+     * <code>optional string username = 1;</code>
+     * @return Whether the username field is set.
+     */
+    @java.lang.Override
+    public boolean hasUsername() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string username = 1;</code>
+     * @return The username.
+     */
+    @java.lang.Override
+    public java.lang.String getUsername() {
+      java.lang.Object ref = username_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          username_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string username = 1;</code>
+     * @return The bytes for username.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUsernameBytes() {
+      java.lang.Object ref = username_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        username_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TOKEN_FIELD_NUMBER = 2;
+    private volatile java.lang.Object token_;
+    /**
+     * <code>optional string token = 2;</code>
+     * @return Whether the token field is set.
+     */
+    @java.lang.Override
+    public boolean hasToken() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string token = 2;</code>
+     * @return The token.
+     */
+    @java.lang.Override
+    public java.lang.String getToken() {
+      java.lang.Object ref = token_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          token_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string token = 2;</code>
+     * @return The bytes for token.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTokenBytes() {
+      java.lang.Object ref = token_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        token_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ISSUED_EPOCH_MILLIS_FIELD_NUMBER = 3;
+    private long issuedEpochMillis_;
+    /**
+     * <code>optional int64 issued_epoch_millis = 3;</code>
+     * @return Whether the issuedEpochMillis field is set.
+     */
+    @java.lang.Override
+    public boolean hasIssuedEpochMillis() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int64 issued_epoch_millis = 3;</code>
+     * @return The issuedEpochMillis.
+     */
+    @java.lang.Override
+    public long getIssuedEpochMillis() {
+      return issuedEpochMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, username_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, token_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, issuedEpochMillis_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, username_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, token_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, issuedEpochMillis_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.CachedToken)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.CachedToken other = (pia4java.Proto.CachedToken) obj;
+
+      if (hasUsername() != other.hasUsername()) return false;
+      if (hasUsername()) {
+        if (!getUsername()
+            .equals(other.getUsername())) return false;
+      }
+      if (hasToken() != other.hasToken()) return false;
+      if (hasToken()) {
+        if (!getToken()
+            .equals(other.getToken())) return false;
+      }
+      if (hasIssuedEpochMillis() != other.hasIssuedEpochMillis()) return false;
+      if (hasIssuedEpochMillis()) {
+        if (getIssuedEpochMillis()
+            != other.getIssuedEpochMillis()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasUsername()) {
+        hash = (37 * hash) + USERNAME_FIELD_NUMBER;
+        hash = (53 * hash) + getUsername().hashCode();
+      }
+      if (hasToken()) {
+        hash = (37 * hash) + TOKEN_FIELD_NUMBER;
+        hash = (53 * hash) + getToken().hashCode();
+      }
+      if (hasIssuedEpochMillis()) {
+        hash = (37 * hash) + ISSUED_EPOCH_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getIssuedEpochMillis());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.CachedToken parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.CachedToken parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.CachedToken parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.CachedToken parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.CachedToken parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.CachedToken parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.CachedToken parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.CachedToken parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.CachedToken parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.CachedToken parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.CachedToken parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.CachedToken parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.CachedToken prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pia4java.CachedToken}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.CachedToken)
+        pia4java.Proto.CachedTokenOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_CachedToken_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_CachedToken_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.CachedToken.class, pia4java.Proto.CachedToken.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.CachedToken.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        username_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        token_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        issuedEpochMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_CachedToken_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.CachedToken getDefaultInstanceForType() {
+        return pia4java.Proto.CachedToken.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.CachedToken build() {
+        pia4java.Proto.CachedToken result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.CachedToken buildPartial() {
+        pia4java.Proto.CachedToken result = new pia4java.Proto.CachedToken(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.username_ = username_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.token_ = token_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.issuedEpochMillis_ = issuedEpochMillis_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.CachedToken) {
+          return mergeFrom((pia4java.Proto.CachedToken)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.CachedToken other) {
+        if (other == pia4java.Proto.CachedToken.getDefaultInstance()) return this;
+        if (other.hasUsername()) {
+          bitField0_ |= 0x00000001;
+          username_ = other.username_;
+          onChanged();
+        }
+        if (other.hasToken()) {
+          bitField0_ |= 0x00000002;
+          token_ = other.token_;
+          onChanged();
+        }
+        if (other.hasIssuedEpochMillis()) {
+          setIssuedEpochMillis(other.getIssuedEpochMillis());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.CachedToken parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.CachedToken) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object username_ = "";
+      /**
+       * <code>optional string username = 1;</code>
+       * @return Whether the username field is set.
+       */
+      public boolean hasUsername() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string username = 1;</code>
+       * @return The username.
+       */
+      public java.lang.String getUsername() {
+        java.lang.Object ref = username_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            username_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string username = 1;</code>
+       * @return The bytes for username.
+       */
+      public com.google.protobuf.ByteString
+          getUsernameBytes() {
+        java.lang.Object ref = username_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          username_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string username = 1;</code>
+       * @param value The username to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUsername(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        username_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string username = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUsername() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        username_ = getDefaultInstance().getUsername();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string username = 1;</code>
+       * @param value The bytes for username to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUsernameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        username_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object token_ = "";
+      /**
+       * <code>optional string token = 2;</code>
+       * @return Whether the token field is set.
+       */
+      public boolean hasToken() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string token = 2;</code>
+       * @return The token.
+       */
+      public java.lang.String getToken() {
+        java.lang.Object ref = token_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            token_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string token = 2;</code>
+       * @return The bytes for token.
+       */
+      public com.google.protobuf.ByteString
+          getTokenBytes() {
+        java.lang.Object ref = token_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          token_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string token = 2;</code>
+       * @param value The token to set.
+       * @return This builder for chaining.
+       */
+      public Builder setToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        token_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string token = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearToken() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        token_ = getDefaultInstance().getToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string token = 2;</code>
+       * @param value The bytes for token to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        token_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long issuedEpochMillis_ ;
+      /**
+       * <code>optional int64 issued_epoch_millis = 3;</code>
+       * @return Whether the issuedEpochMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasIssuedEpochMillis() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 issued_epoch_millis = 3;</code>
+       * @return The issuedEpochMillis.
+       */
+      @java.lang.Override
+      public long getIssuedEpochMillis() {
+        return issuedEpochMillis_;
+      }
+      /**
+       * <code>optional int64 issued_epoch_millis = 3;</code>
+       * @param value The issuedEpochMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIssuedEpochMillis(long value) {
+        bitField0_ |= 0x00000004;
+        issuedEpochMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 issued_epoch_millis = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIssuedEpochMillis() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        issuedEpochMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.CachedToken)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.CachedToken)
+    private static final pia4java.Proto.CachedToken DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.CachedToken();
+    }
+
+    public static pia4java.Proto.CachedToken getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<CachedToken>
+        PARSER = new com.google.protobuf.AbstractParser<CachedToken>() {
+      @java.lang.Override
+      public CachedToken parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CachedToken(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CachedToken> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CachedToken> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.CachedToken getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CachedServerListOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.CachedServerList)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Validators from the response that produced the cached body.
+     * </pre>
+     *
+     * <code>optional string etag = 1;</code>
+     * @return Whether the etag field is set.
+     */
+    boolean hasEtag();
+    /**
+     * <pre>
+     * Validators from the response that produced the cached body.
+     * </pre>
+     *
+     * <code>optional string etag = 1;</code>
+     * @return The etag.
+     */
+    java.lang.String getEtag();
+    /**
+     * <pre>
+     * Validators from the response that produced the cached body.
+     * </pre>
+     *
+     * <code>optional string etag = 1;</code>
+     * @return The bytes for etag.
+     */
+    com.google.protobuf.ByteString
+        getEtagBytes();
+
+    /**
+     * <code>optional string last_modified = 2;</code>
+     * @return Whether the lastModified field is set.
+     */
+    boolean hasLastModified();
+    /**
+     * <code>optional string last_modified = 2;</code>
+     * @return The lastModified.
+     */
+    java.lang.String getLastModified();
+    /**
+     * <code>optional string last_modified = 2;</code>
+     * @return The bytes for lastModified.
+     */
+    com.google.protobuf.ByteString
+        getLastModifiedBytes();
+
+    /**
+     * <pre>
+     * When the cached body was last fetched or revalidated.
+     * </pre>
+     *
+     * <code>optional int64 validated_epoch_millis = 3;</code>
+     * @return Whether the validatedEpochMillis field is set.
+     */
+    boolean hasValidatedEpochMillis();
+    /**
+     * <pre>
+     * When the cached body was last fetched or revalidated.
+     * </pre>
+     *
+     * <code>optional int64 validated_epoch_millis = 3;</code>
+     * @return The validatedEpochMillis.
+     */
+    long getValidatedEpochMillis();
+  }
+  /**
+   * Protobuf type {@code pia4java.CachedServerList}
+   */
+  public static final class CachedServerList extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.CachedServerList)
+      CachedServerListOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CachedServerList.newBuilder() to construct.
+    private CachedServerList(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CachedServerList() {
+      etag_ = "";
+      lastModified_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CachedServerList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CachedServerList(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              etag_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              lastModified_ = bs;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              validatedEpochMillis_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_CachedServerList_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_CachedServerList_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.CachedServerList.class, pia4java.Proto.CachedServerList.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ETAG_FIELD_NUMBER = 1;
+    private volatile java.lang.Object etag_;
+    /**
+     * <pre>
+     * Validators from the response that produced the cached body.
+     * </pre>
+     *
+     * <code>optional string etag = 1;</code>
+     * @return Whether the etag field is set.
+     */
+    @java.lang.Override
+    public boolean hasEtag() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * Validators from the response that produced the cached body.
+     * </pre>
+     *
+     * <code>optional string etag = 1;</code>
+     * @return The etag.
+     */
+    @java.lang.Override
+    public java.lang.String getEtag() {
+      java.lang.Object ref = etag_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          etag_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Validators from the response that produced the cached body.
+     * </pre>
+     *
+     * <code>optional string etag = 1;</code>
+     * @return The bytes for etag.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEtagBytes() {
+      java.lang.Object ref = etag_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        etag_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LAST_MODIFIED_FIELD_NUMBER = 2;
+    private volatile java.lang.Object lastModified_;
+    /**
+     * <code>optional string last_modified = 2;</code>
+     * @return Whether the lastModified field is set.
+     */
+    @java.lang.Override
+    public boolean hasLastModified() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string last_modified = 2;</code>
+     * @return The lastModified.
+     */
+    @java.lang.Override
+    public java.lang.String getLastModified() {
+      java.lang.Object ref = lastModified_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          lastModified_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string last_modified = 2;</code>
+     * @return The bytes for lastModified.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLastModifiedBytes() {
+      java.lang.Object ref = lastModified_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lastModified_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALIDATED_EPOCH_MILLIS_FIELD_NUMBER = 3;
+    private long validatedEpochMillis_;
+    /**
+     * <pre>
+     * When the cached body was last fetched or revalidated.
+     * </pre>
+     *
+     * <code>optional int64 validated_epoch_millis = 3;</code>
+     * @return Whether the validatedEpochMillis field is set.
+     */
+    @java.lang.Override
+    public boolean hasValidatedEpochMillis() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * When the cached body was last fetched or revalidated.
+     * </pre>
+     *
+     * <code>optional int64 validated_epoch_millis = 3;</code>
+     * @return The validatedEpochMillis.
+     */
+    @java.lang.Override
+    public long getValidatedEpochMillis() {
+      return validatedEpochMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, etag_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, lastModified_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, validatedEpochMillis_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, etag_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, lastModified_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, validatedEpochMillis_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.CachedServerList)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.CachedServerList other = (pia4java.Proto.CachedServerList) obj;
+
+      if (hasEtag() != other.hasEtag()) return false;
+      if (hasEtag()) {
+        if (!getEtag()
+            .equals(other.getEtag())) return false;
+      }
+      if (hasLastModified() != other.hasLastModified()) return false;
+      if (hasLastModified()) {
+        if (!getLastModified()
+            .equals(other.getLastModified())) return false;
+      }
+      if (hasValidatedEpochMillis() != other.hasValidatedEpochMillis()) return false;
+      if (hasValidatedEpochMillis()) {
+        if (getValidatedEpochMillis()
+            != other.getValidatedEpochMillis()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasEtag()) {
+        hash = (37 * hash) + ETAG_FIELD_NUMBER;
+        hash = (53 * hash) + getEtag().hashCode();
+      }
+      if (hasLastModified()) {
+        hash = (37 * hash) + LAST_MODIFIED_FIELD_NUMBER;
+        hash = (53 * hash) + getLastModified().hashCode();
+      }
+      if (hasValidatedEpochMillis()) {
+        hash = (37 * hash) + VALIDATED_EPOCH_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getValidatedEpochMillis());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.CachedServerList parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.CachedServerList parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.CachedServerList parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.CachedServerList parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.CachedServerList parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.CachedServerList parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.CachedServerList parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.CachedServerList parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.CachedServerList parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.CachedServerList parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.CachedServerList parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.CachedServerList parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.CachedServerList prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pia4java.CachedServerList}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.CachedServerList)
+        pia4java.Proto.CachedServerListOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_CachedServerList_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_CachedServerList_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.CachedServerList.class, pia4java.Proto.CachedServerList.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.CachedServerList.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        etag_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        lastModified_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        validatedEpochMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_CachedServerList_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.CachedServerList getDefaultInstanceForType() {
+        return pia4java.Proto.CachedServerList.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.CachedServerList build() {
+        pia4java.Proto.CachedServerList result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.CachedServerList buildPartial() {
+        pia4java.Proto.CachedServerList result = new pia4java.Proto.CachedServerList(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.etag_ = etag_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.lastModified_ = lastModified_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.validatedEpochMillis_ = validatedEpochMillis_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.CachedServerList) {
+          return mergeFrom((pia4java.Proto.CachedServerList)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.CachedServerList other) {
+        if (other == pia4java.Proto.CachedServerList.getDefaultInstance()) return this;
+        if (other.hasEtag()) {
+          bitField0_ |= 0x00000001;
+          etag_ = other.etag_;
+          onChanged();
+        }
+        if (other.hasLastModified()) {
+          bitField0_ |= 0x00000002;
+          lastModified_ = other.lastModified_;
+          onChanged();
+        }
+        if (other.hasValidatedEpochMillis()) {
+          setValidatedEpochMillis(other.getValidatedEpochMillis());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.CachedServerList parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.CachedServerList) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object etag_ = "";
+      /**
+       * <pre>
+       * Validators from the response that produced the cached body.
+       * </pre>
+       *
+       * <code>optional string etag = 1;</code>
+       * @return Whether the etag field is set.
+       */
+      public boolean hasEtag() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * Validators from the response that produced the cached body.
+       * </pre>
+       *
+       * <code>optional string etag = 1;</code>
+       * @return The etag.
+       */
+      public java.lang.String getEtag() {
+        java.lang.Object ref = etag_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            etag_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Validators from the response that produced the cached body.
+       * </pre>
+       *
+       * <code>optional string etag = 1;</code>
+       * @return The bytes for etag.
+       */
+      public com.google.protobuf.ByteString
+          getEtagBytes() {
+        java.lang.Object ref = etag_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          etag_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Validators from the response that produced the cached body.
+       * </pre>
+       *
+       * <code>optional string etag = 1;</code>
+       * @param value The etag to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEtag(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        etag_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Validators from the response that produced the cached body.
+       * </pre>
+       *
+       * <code>optional string etag = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEtag() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        etag_ = getDefaultInstance().getEtag();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Validators from the response that produced the cached body.
+       * </pre>
+       *
+       * <code>optional string etag = 1;</code>
+       * @param value The bytes for etag to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEtagBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        etag_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lastModified_ = "";
+      /**
+       * <code>optional string last_modified = 2;</code>
+       * @return Whether the lastModified field is set.
+       */
+      public boolean hasLastModified() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string last_modified = 2;</code>
+       * @return The lastModified.
+       */
+      public java.lang.String getLastModified() {
+        java.lang.Object ref = lastModified_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            lastModified_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string last_modified = 2;</code>
+       * @return The bytes for lastModified.
+       */
+      public com.google.protobuf.ByteString
+          getLastModifiedBytes() {
+        java.lang.Object ref = lastModified_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lastModified_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string last_modified = 2;</code>
+       * @param value The lastModified to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastModified(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        lastModified_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string last_modified = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastModified() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        lastModified_ = getDefaultInstance().getLastModified();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string last_modified = 2;</code>
+       * @param value The bytes for lastModified to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastModifiedBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        lastModified_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long validatedEpochMillis_ ;
+      /**
+       * <pre>
+       * When the cached body was last fetched or revalidated.
+       * </pre>
+       *
+       * <code>optional int64 validated_epoch_millis = 3;</code>
+       * @return Whether the validatedEpochMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasValidatedEpochMillis() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * When the cached body was last fetched or revalidated.
+       * </pre>
+       *
+       * <code>optional int64 validated_epoch_millis = 3;</code>
+       * @return The validatedEpochMillis.
+       */
+      @java.lang.Override
+      public long getValidatedEpochMillis() {
+        return validatedEpochMillis_;
+      }
+      /**
+       * <pre>
+       * When the cached body was last fetched or revalidated.
+       * </pre>
+       *
+       * <code>optional int64 validated_epoch_millis = 3;</code>
+       * @param value The validatedEpochMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValidatedEpochMillis(long value) {
+        bitField0_ |= 0x00000004;
+        validatedEpochMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * When the cached body was last fetched or revalidated.
+       * </pre>
+       *
+       * <code>optional int64 validated_epoch_millis = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValidatedEpochMillis() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        validatedEpochMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.CachedServerList)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.CachedServerList)
+    private static final pia4java.Proto.CachedServerList DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.CachedServerList();
+    }
+
+    public static pia4java.Proto.CachedServerList getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<CachedServerList>
+        PARSER = new com.google.protobuf.AbstractParser<CachedServerList>() {
+      @java.lang.Override
+      public CachedServerList parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CachedServerList(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CachedServerList> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CachedServerList> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.CachedServerList getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ForwardedPortOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.ForwardedPort)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The server's common name and the gateway the binding was made through.
+     * </pre>
+     *
+     * <code>optional string hostname = 1;</code>
+     * @return Whether the hostname field is set.
+     */
+    boolean hasHostname();
+    /**
+     * <pre>
+     * The server's common name and the gateway the binding was made through.
+     * </pre>
+     *
+     * <code>optional string hostname = 1;</code>
+     * @return The hostname.
+     */
+    java.lang.String getHostname();
+    /**
+     * <pre>
+     * The server's common name and the gateway the binding was made through.
+     * </pre>
+     *
+     * <code>optional string hostname = 1;</code>
+     * @return The bytes for hostname.
+     */
+    com.google.protobuf.ByteString
+        getHostnameBytes();
+
+    /**
+     * <code>optional string gateway = 2;</code>
+     * @return Whether the gateway field is set.
+     */
+    boolean hasGateway();
+    /**
+     * <code>optional string gateway = 2;</code>
+     * @return The gateway.
+     */
+    java.lang.String getGateway();
+    /**
+     * <code>optional string gateway = 2;</code>
+     * @return The bytes for gateway.
+     */
+    com.google.protobuf.ByteString
+        getGatewayBytes();
+
+    /**
+     * <pre>
+     * As returned by getSignature, and passed to every bindPort.
+     * </pre>
+     *
+     * <code>optional string payload = 3;</code>
+     * @return Whether the payload field is set.
+     */
+    boolean hasPayload();
+    /**
+     * <pre>
+     * As returned by getSignature, and passed to every bindPort.
+     * </pre>
+     *
+     * <code>optional string payload = 3;</code>
+     * @return The payload.
+     */
+    java.lang.String getPayload();
+    /**
+     * <pre>
+     * As returned by getSignature, and passed to every bindPort.
+     * </pre>
+     *
+     * <code>optional string payload = 3;</code>
+     * @return The bytes for payload.
+     */
+    com.google.protobuf.ByteString
+        getPayloadBytes();
+
+    /**
+     * <code>optional string signature = 4;</code>
+     * @return Whether the signature field is set.
+     */
+    boolean hasSignature();
+    /**
+     * <code>optional string signature = 4;</code>
+     * @return The signature.
+     */
+    java.lang.String getSignature();
+    /**
+     * <code>optional string signature = 4;</code>
+     * @return The bytes for signature.
+     */
+    com.google.protobuf.ByteString
+        getSignatureBytes();
+
+    /**
+     * <code>optional int32 port = 5;</code>
+     * @return Whether the port field is set.
+     */
+    boolean hasPort();
+    /**
+     * <code>optional int32 port = 5;</code>
+     * @return The port.
+     */
+    int getPort();
+
+    /**
+     * <code>optional int64 expires_epoch_millis = 6;</code>
+     * @return Whether the expiresEpochMillis field is set.
+     */
+    boolean hasExpiresEpochMillis();
+    /**
+     * <code>optional int64 expires_epoch_millis = 6;</code>
+     * @return The expiresEpochMillis.
+     */
+    long getExpiresEpochMillis();
+  }
+  /**
+   * Protobuf type {@code pia4java.ForwardedPort}
+   */
+  public static final class ForwardedPort extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.ForwardedPort)
+      ForwardedPortOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ForwardedPort.newBuilder() to construct.
+    private ForwardedPort(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ForwardedPort() {
+      hostname_ = "";
+      gateway_ = "";
+      payload_ = "";
+      signature_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ForwardedPort();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ForwardedPort(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              hostname_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              gateway_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              payload_ = bs;
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              signature_ = bs;
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              port_ = input.readInt32();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              expiresEpochMillis_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_ForwardedPort_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_ForwardedPort_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.ForwardedPort.class, pia4java.Proto.ForwardedPort.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int HOSTNAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object hostname_;
+    /**
+     * <pre>
+     * The server's common name and the gateway the binding was made through.
+     * </pre>
+     *
+     * <code>optional string hostname = 1;</code>
+     * @return Whether the hostname field is set.
+     */
+    @java.lang.Override
+    public boolean hasHostname() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * The server's common name and the gateway the binding was made through.
+     * </pre>
+     *
+     * <code>optional string hostname = 1;</code>
+     * @return The hostname.
+     */
+    @java.lang.Override
+    public java.lang.String getHostname() {
+      java.lang.Object ref = hostname_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          hostname_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The server's common name and the gateway the binding was made through.
+     * </pre>
+     *
+     * <code>optional string hostname = 1;</code>
+     * @return The bytes for hostname.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getHostnameBytes() {
+      java.lang.Object ref = hostname_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        hostname_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int GATEWAY_FIELD_NUMBER = 2;
+    private volatile java.lang.Object gateway_;
+    /**
+     * <code>optional string gateway = 2;</code>
+     * @return Whether the gateway field is set.
+     */
+    @java.lang.Override
+    public boolean hasGateway() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string gateway = 2;</code>
+     * @return The gateway.
+     */
+    @java.lang.Override
+    public java.lang.String getGateway() {
+      java.lang.Object ref = gateway_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          gateway_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string gateway = 2;</code>
+     * @return The bytes for gateway.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getGatewayBytes() {
+      java.lang.Object ref = gateway_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        gateway_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PAYLOAD_FIELD_NUMBER = 3;
+    private volatile java.lang.Object payload_;
+    /**
+     * <pre>
+     * As returned by getSignature, and passed to every bindPort.
+     * </pre>
+     *
+     * <code>optional string payload = 3;</code>
+     * @return Whether the payload field is set.
+     */
+    @java.lang.Override
+    public boolean hasPayload() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * As returned by getSignature, and passed to every bindPort.
+     * </pre>
+     *
+     * <code>optional string payload = 3;</code>
+     * @return The payload.
+     */
+    @java.lang.Override
+    public java.lang.String getPayload() {
+      java.lang.Object ref = payload_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          payload_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * As returned by getSignature, and passed to every bindPort.
+     * </pre>
+     *
+     * <code>optional string payload = 3;</code>
+     * @return The bytes for payload.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPayloadBytes() {
+      java.lang.Object ref = payload_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        payload_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SIGNATURE_FIELD_NUMBER = 4;
+    private volatile java.lang.Object signature_;
+    /**
+     * <code>optional string signature = 4;</code>
+     * @return Whether the signature field is set.
+     */
+    @java.lang.Override
+    public boolean hasSignature() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional string signature = 4;</code>
+     * @return The signature.
+     */
+    @java.lang.Override
+    public java.lang.String getSignature() {
+      java.lang.Object ref = signature_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          signature_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string signature = 4;</code>
+     * @return The bytes for signature.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSignatureBytes() {
+      java.lang.Object ref = signature_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        signature_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PORT_FIELD_NUMBER = 5;
+    private int port_;
+    /**
+     * <code>optional int32 port = 5;</code>
+     * @return Whether the port field is set.
+     */
+    @java.lang.Override
+    public boolean hasPort() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int32 port = 5;</code>
+     * @return The port.
+     */
+    @java.lang.Override
+    public int getPort() {
+      return port_;
+    }
+
+    public static final int EXPIRES_EPOCH_MILLIS_FIELD_NUMBER = 6;
+    private long expiresEpochMillis_;
+    /**
+     * <code>optional int64 expires_epoch_millis = 6;</code>
+     * @return Whether the expiresEpochMillis field is set.
+     */
+    @java.lang.Override
+    public boolean hasExpiresEpochMillis() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional int64 expires_epoch_millis = 6;</code>
+     * @return The expiresEpochMillis.
+     */
+    @java.lang.Override
+    public long getExpiresEpochMillis() {
+      return expiresEpochMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, hostname_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, gateway_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, payload_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, signature_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt32(5, port_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeInt64(6, expiresEpochMillis_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, hostname_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, gateway_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, payload_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, signature_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, port_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, expiresEpochMillis_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.ForwardedPort)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.ForwardedPort other = (pia4java.Proto.ForwardedPort) obj;
+
+      if (hasHostname() != other.hasHostname()) return false;
+      if (hasHostname()) {
+        if (!getHostname()
+            .equals(other.getHostname())) return false;
+      }
+      if (hasGateway() != other.hasGateway()) return false;
+      if (hasGateway()) {
+        if (!getGateway()
+            .equals(other.getGateway())) return false;
+      }
+      if (hasPayload() != other.hasPayload()) return false;
+      if (hasPayload()) {
+        if (!getPayload()
+            .equals(other.getPayload())) return false;
+      }
+      if (hasSignature() != other.hasSignature()) return false;
+      if (hasSignature()) {
+        if (!getSignature()
+            .equals(other.getSignature())) return false;
+      }
+      if (hasPort() != other.hasPort()) return false;
+      if (hasPort()) {
+        if (getPort()
+            != other.getPort()) return false;
+      }
+      if (hasExpiresEpochMillis() != other.hasExpiresEpochMillis()) return false;
+      if (hasExpiresEpochMillis()) {
+        if (getExpiresEpochMillis()
+            != other.getExpiresEpochMillis()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHostname()) {
+        hash = (37 * hash) + HOSTNAME_FIELD_NUMBER;
+        hash = (53 * hash) + getHostname().hashCode();
+      }
+      if (hasGateway()) {
+        hash = (37 * hash) + GATEWAY_FIELD_NUMBER;
+        hash = (53 * hash) + getGateway().hashCode();
+      }
+      if (hasPayload()) {
+        hash = (37 * hash) + PAYLOAD_FIELD_NUMBER;
+        hash = (53 * hash) + getPayload().hashCode();
+      }
+      if (hasSignature()) {
+        hash = (37 * hash) + SIGNATURE_FIELD_NUMBER;
+        hash = (53 * hash) + getSignature().hashCode();
+      }
+      if (hasPort()) {
+        hash = (37 * hash) + PORT_FIELD_NUMBER;
+        hash = (53 * hash) + getPort();
+      }
+      if (hasExpiresEpochMillis()) {
+        hash = (37 * hash) + EXPIRES_EPOCH_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getExpiresEpochMillis());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.ForwardedPort parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.ForwardedPort parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.ForwardedPort parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.ForwardedPort parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.ForwardedPort parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.ForwardedPort parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.ForwardedPort parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.ForwardedPort parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.ForwardedPort parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.ForwardedPort parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.ForwardedPort parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.ForwardedPort parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.ForwardedPort prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pia4java.ForwardedPort}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.ForwardedPort)
+        pia4java.Proto.ForwardedPortOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_ForwardedPort_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_ForwardedPort_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.ForwardedPort.class, pia4java.Proto.ForwardedPort.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.ForwardedPort.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        hostname_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        gateway_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        payload_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        signature_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        port_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        expiresEpochMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_ForwardedPort_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.ForwardedPort getDefaultInstanceForType() {
+        return pia4java.Proto.ForwardedPort.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.ForwardedPort build() {
+        pia4java.Proto.ForwardedPort result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.ForwardedPort buildPartial() {
+        pia4java.Proto.ForwardedPort result = new pia4java.Proto.ForwardedPort(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.hostname_ = hostname_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.gateway_ = gateway_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.payload_ = payload_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.signature_ = signature_;
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.port_ = port_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.expiresEpochMillis_ = expiresEpochMillis_;
+          to_bitField0_ |= 0x00000020;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.ForwardedPort) {
+          return mergeFrom((pia4java.Proto.ForwardedPort)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.ForwardedPort other) {
+        if (other == pia4java.Proto.ForwardedPort.getDefaultInstance()) return this;
+        if (other.hasHostname()) {
+          bitField0_ |= 0x00000001;
+          hostname_ = other.hostname_;
+          onChanged();
+        }
+        if (other.hasGateway()) {
+          bitField0_ |= 0x00000002;
+          gateway_ = other.gateway_;
+          onChanged();
+        }
+        if (other.hasPayload()) {
+          bitField0_ |= 0x00000004;
+          payload_ = other.payload_;
+          onChanged();
+        }
+        if (other.hasSignature()) {
+          bitField0_ |= 0x00000008;
+          signature_ = other.signature_;
+          onChanged();
+        }
+        if (other.hasPort()) {
+          setPort(other.getPort());
+        }
+        if (other.hasExpiresEpochMillis()) {
+          setExpiresEpochMillis(other.getExpiresEpochMillis());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.ForwardedPort parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.ForwardedPort) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object hostname_ = "";
+      /**
+       * <pre>
+       * The server's common name and the gateway the binding was made through.
+       * </pre>
+       *
+       * <code>optional string hostname = 1;</code>
+       * @return Whether the hostname field is set.
+       */
+      public boolean hasHostname() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * The server's common name and the gateway the binding was made through.
+       * </pre>
+       *
+       * <code>optional string hostname = 1;</code>
+       * @return The hostname.
+       */
+      public java.lang.String getHostname() {
+        java.lang.Object ref = hostname_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            hostname_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The server's common name and the gateway the binding was made through.
+       * </pre>
+       *
+       * <code>optional string hostname = 1;</code>
+       * @return The bytes for hostname.
+       */
+      public com.google.protobuf.ByteString
+          getHostnameBytes() {
+        java.lang.Object ref = hostname_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          hostname_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The server's common name and the gateway the binding was made through.
+       * </pre>
+       *
+       * <code>optional string hostname = 1;</code>
+       * @param value The hostname to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHostname(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        hostname_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The server's common name and the gateway the binding was made through.
+       * </pre>
+       *
+       * <code>optional string hostname = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHostname() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        hostname_ = getDefaultInstance().getHostname();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The server's common name and the gateway the binding was made through.
+       * </pre>
+       *
+       * <code>optional string hostname = 1;</code>
+       * @param value The bytes for hostname to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHostnameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        hostname_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object gateway_ = "";
+      /**
+       * <code>optional string gateway = 2;</code>
+       * @return Whether the gateway field is set.
+       */
+      public boolean hasGateway() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string gateway = 2;</code>
+       * @return The gateway.
+       */
+      public java.lang.String getGateway() {
+        java.lang.Object ref = gateway_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            gateway_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string gateway = 2;</code>
+       * @return The bytes for gateway.
+       */
+      public com.google.protobuf.ByteString
+          getGatewayBytes() {
+        java.lang.Object ref = gateway_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          gateway_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string gateway = 2;</code>
+       * @param value The gateway to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGateway(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        gateway_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string gateway = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGateway() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        gateway_ = getDefaultInstance().getGateway();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string gateway = 2;</code>
+       * @param value The bytes for gateway to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGatewayBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        gateway_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object payload_ = "";
+      /**
+       * <pre>
+       * As returned by getSignature, and passed to every bindPort.
+       * </pre>
+       *
+       * <code>optional string payload = 3;</code>
+       * @return Whether the payload field is set.
+       */
+      public boolean hasPayload() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * As returned by getSignature, and passed to every bindPort.
+       * </pre>
+       *
+       * <code>optional string payload = 3;</code>
+       * @return The payload.
+       */
+      public java.lang.String getPayload() {
+        java.lang.Object ref = payload_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            payload_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * As returned by getSignature, and passed to every bindPort.
+       * </pre>
+       *
+       * <code>optional string payload = 3;</code>
+       * @return The bytes for payload.
+       */
+      public com.google.protobuf.ByteString
+          getPayloadBytes() {
+        java.lang.Object ref = payload_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          payload_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * As returned by getSignature, and passed to every bindPort.
+       * </pre>
+       *
+       * <code>optional string payload = 3;</code>
+       * @param value The payload to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPayload(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * As returned by getSignature, and passed to every bindPort.
+       * </pre>
+       *
+       * <code>optional string payload = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPayload() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        payload_ = getDefaultInstance().getPayload();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * As returned by getSignature, and passed to every bindPort.
+       * </pre>
+       *
+       * <code>optional string payload = 3;</code>
+       * @param value The bytes for payload to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPayloadBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object signature_ = "";
+      /**
+       * <code>optional string signature = 4;</code>
+       * @return Whether the signature field is set.
+       */
+      public boolean hasSignature() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string signature = 4;</code>
+       * @return The signature.
+       */
+      public java.lang.String getSignature() {
+        java.lang.Object ref = signature_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            signature_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string signature = 4;</code>
+       * @return The bytes for signature.
+       */
+      public com.google.protobuf.ByteString
+          getSignatureBytes() {
+        java.lang.Object ref = signature_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          signature_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string signature = 4;</code>
+       * @param value The signature to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSignature(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        signature_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string signature = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSignature() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        signature_ = getDefaultInstance().getSignature();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string signature = 4;</code>
+       * @param value The bytes for signature to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSignatureBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        signature_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int port_ ;
+      /**
+       * <code>optional int32 port = 5;</code>
+       * @return Whether the port field is set.
+       */
+      @java.lang.Override
+      public boolean hasPort() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int32 port = 5;</code>
+       * @return The port.
+       */
+      @java.lang.Override
+      public int getPort() {
+        return port_;
+      }
+      /**
+       * <code>optional int32 port = 5;</code>
+       * @param value The port to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPort(int value) {
+        bitField0_ |= 0x00000010;
+        port_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 port = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPort() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        port_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long expiresEpochMillis_ ;
+      /**
+       * <code>optional int64 expires_epoch_millis = 6;</code>
+       * @return Whether the expiresEpochMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasExpiresEpochMillis() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional int64 expires_epoch_millis = 6;</code>
+       * @return The expiresEpochMillis.
+       */
+      @java.lang.Override
+      public long getExpiresEpochMillis() {
+        return expiresEpochMillis_;
+      }
+      /**
+       * <code>optional int64 expires_epoch_millis = 6;</code>
+       * @param value The expiresEpochMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setExpiresEpochMillis(long value) {
+        bitField0_ |= 0x00000020;
+        expiresEpochMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 expires_epoch_millis = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearExpiresEpochMillis() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        expiresEpochMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.ForwardedPort)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.ForwardedPort)
+    private static final pia4java.Proto.ForwardedPort DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.ForwardedPort();
+    }
+
+    public static pia4java.Proto.ForwardedPort getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<ForwardedPort>
+        PARSER = new com.google.protobuf.AbstractParser<ForwardedPort>() {
+      @java.lang.Override
+      public ForwardedPort parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ForwardedPort(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ForwardedPort> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ForwardedPort> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.ForwardedPort getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DnsCacheOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.DnsCache)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+     */
+    java.util.List<pia4java.Proto.DnsCache.Entry> 
+        getEntryList();
+    /**
+     * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+     */
+    pia4java.Proto.DnsCache.Entry getEntry(int index);
+    /**
+     * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+     */
+    int getEntryCount();
+    /**
+     * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+     */
+    java.util.List<? extends pia4java.Proto.DnsCache.EntryOrBuilder> 
+        getEntryOrBuilderList();
+    /**
+     * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+     */
+    pia4java.Proto.DnsCache.EntryOrBuilder getEntryOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code pia4java.DnsCache}
+   */
+  public static final class DnsCache extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.DnsCache)
+      DnsCacheOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DnsCache.newBuilder() to construct.
+    private DnsCache(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DnsCache() {
+      entry_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DnsCache();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DnsCache(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                entry_ = new java.util.ArrayList<pia4java.Proto.DnsCache.Entry>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              entry_.add(
+                  input.readMessage(pia4java.Proto.DnsCache.Entry.PARSER, extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          entry_ = java.util.Collections.unmodifiableList(entry_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_DnsCache_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_DnsCache_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.DnsCache.class, pia4java.Proto.DnsCache.Builder.class);
+    }
+
+    public interface EntryOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:pia4java.DnsCache.Entry)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string name = 1;</code>
+       * @return Whether the name field is set.
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 1;</code>
+       * @return The name.
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 1;</code>
+       * @return The bytes for name.
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <pre>
+       * DNS record type: 1 for A, 28 for AAAA.
+       * </pre>
+       *
+       * <code>optional int32 type = 2;</code>
+       * @return Whether the type field is set.
+       */
+      boolean hasType();
+      /**
+       * <pre>
+       * DNS record type: 1 for A, 28 for AAAA.
+       * </pre>
+       *
+       * <code>optional int32 type = 2;</code>
+       * @return The type.
+       */
+      int getType();
+
+      /**
+       * <code>repeated string address = 3;</code>
+       * @return A list containing the address.
+       */
+      java.util.List<java.lang.String>
+          getAddressList();
+      /**
+       * <code>repeated string address = 3;</code>
+       * @return The count of address.
+       */
+      int getAddressCount();
+      /**
+       * <code>repeated string address = 3;</code>
+       * @param index The index of the element to return.
+       * @return The address at the given index.
+       */
+      java.lang.String getAddress(int index);
+      /**
+       * <code>repeated string address = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the address at the given index.
+       */
+      com.google.protobuf.ByteString
+          getAddressBytes(int index);
+
+      /**
+       * <code>optional int64 expires_epoch_millis = 4;</code>
+       * @return Whether the expiresEpochMillis field is set.
+       */
+      boolean hasExpiresEpochMillis();
+      /**
+       * <code>optional int64 expires_epoch_millis = 4;</code>
+       * @return The expiresEpochMillis.
+       */
+      long getExpiresEpochMillis();
+    }
+    /**
+     * Protobuf type {@code pia4java.DnsCache.Entry}
+     */
+    public static final class Entry extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:pia4java.DnsCache.Entry)
+        EntryOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Entry.newBuilder() to construct.
+      private Entry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Entry() {
+        name_ = "";
+        address_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new Entry();
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Entry(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                name_ = bs;
+                break;
+              }
+              case 16: {
+                bitField0_ |= 0x00000002;
+                type_ = input.readInt32();
+                break;
+              }
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                  address_ = new com.google.protobuf.LazyStringArrayList();
+                  mutable_bitField0_ |= 0x00000004;
+                }
+                address_.add(bs);
+                break;
+              }
+              case 32: {
+                bitField0_ |= 0x00000004;
+                expiresEpochMillis_ = input.readInt64();
+                break;
+              }
+              default: {
+                if (!parseUnknownField(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000004) != 0)) {
+            address_ = address_.getUnmodifiableView();
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_DnsCache_Entry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_DnsCache_Entry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.DnsCache.Entry.class, pia4java.Proto.DnsCache.Entry.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int NAME_FIELD_NUMBER = 1;
+      private volatile java.lang.Object name_;
+      /**
+       * <code>optional string name = 1;</code>
+       * @return Whether the name field is set.
+       */
+      @java.lang.Override
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       * @return The name.
+       */
+      @java.lang.Override
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       * @return The bytes for name.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int TYPE_FIELD_NUMBER = 2;
+      private int type_;
+      /**
+       * <pre>
+       * DNS record type: 1 for A, 28 for AAAA.
+       * </pre>
+       *
+       * <code>optional int32 type = 2;</code>
+       * @return Whether the type field is set.
+       */
+      @java.lang.Override
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * DNS record type: 1 for A, 28 for AAAA.
+       * </pre>
+       *
+       * <code>optional int32 type = 2;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public int getType() {
+        return type_;
+      }
+
+      public static final int ADDRESS_FIELD_NUMBER = 3;
+      private com.google.protobuf.LazyStringList address_;
+      /**
+       * <code>repeated string address = 3;</code>
+       * @return A list containing the address.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getAddressList() {
+        return address_;
+      }
+      /**
+       * <code>repeated string address = 3;</code>
+       * @return The count of address.
+       */
+      public int getAddressCount() {
+        return address_.size();
+      }
+      /**
+       * <code>repeated string address = 3;</code>
+       * @param index The index of the element to return.
+       * @return The address at the given index.
+       */
+      public java.lang.String getAddress(int index) {
+        return address_.get(index);
+      }
+      /**
+       * <code>repeated string address = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the address at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getAddressBytes(int index) {
+        return address_.getByteString(index);
+      }
+
+      public static final int EXPIRES_EPOCH_MILLIS_FIELD_NUMBER = 4;
+      private long expiresEpochMillis_;
+      /**
+       * <code>optional int64 expires_epoch_millis = 4;</code>
+       * @return Whether the expiresEpochMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasExpiresEpochMillis() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 expires_epoch_millis = 4;</code>
+       * @return The expiresEpochMillis.
+       */
+      @java.lang.Override
+      public long getExpiresEpochMillis() {
+        return expiresEpochMillis_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          output.writeInt32(2, type_);
+        }
+        for (int i = 0; i < address_.size(); i++) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 3, address_.getRaw(i));
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          output.writeInt64(4, expiresEpochMillis_);
+        }
+        unknownFields.writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(2, type_);
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < address_.size(); i++) {
+            dataSize += computeStringSizeNoTag(address_.getRaw(i));
+          }
+          size += dataSize;
+          size += 1 * getAddressList().size();
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(4, expiresEpochMillis_);
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof pia4java.Proto.DnsCache.Entry)) {
+          return super.equals(obj);
+        }
+        pia4java.Proto.DnsCache.Entry other = (pia4java.Proto.DnsCache.Entry) obj;
+
+        if (hasName() != other.hasName()) return false;
+        if (hasName()) {
+          if (!getName()
+              .equals(other.getName())) return false;
+        }
+        if (hasType() != other.hasType()) return false;
+        if (hasType()) {
+          if (getType()
+              != other.getType()) return false;
+        }
+        if (!getAddressList()
+            .equals(other.getAddressList())) return false;
+        if (hasExpiresEpochMillis() != other.hasExpiresEpochMillis()) return false;
+        if (hasExpiresEpochMillis()) {
+          if (getExpiresEpochMillis()
+              != other.getExpiresEpochMillis()) return false;
+        }
+        if (!unknownFields.equals(other.unknownFields)) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasName()) {
+          hash = (37 * hash) + NAME_FIELD_NUMBER;
+          hash = (53 * hash) + getName().hashCode();
+        }
+        if (hasType()) {
+          hash = (37 * hash) + TYPE_FIELD_NUMBER;
+          hash = (53 * hash) + getType();
+        }
+        if (getAddressCount() > 0) {
+          hash = (37 * hash) + ADDRESS_FIELD_NUMBER;
+          hash = (53 * hash) + getAddressList().hashCode();
+        }
+        if (hasExpiresEpochMillis()) {
+          hash = (37 * hash) + EXPIRES_EPOCH_MILLIS_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              getExpiresEpochMillis());
+        }
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static pia4java.Proto.DnsCache.Entry parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static pia4java.Proto.DnsCache.Entry parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static pia4java.Proto.DnsCache.Entry parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static pia4java.Proto.DnsCache.Entry parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static pia4java.Proto.DnsCache.Entry parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static pia4java.Proto.DnsCache.Entry parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static pia4java.Proto.DnsCache.Entry parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static pia4java.Proto.DnsCache.Entry parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static pia4java.Proto.DnsCache.Entry parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static pia4java.Proto.DnsCache.Entry parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static pia4java.Proto.DnsCache.Entry parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static pia4java.Proto.DnsCache.Entry parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(pia4java.Proto.DnsCache.Entry prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code pia4java.DnsCache.Entry}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:pia4java.DnsCache.Entry)
+          pia4java.Proto.DnsCache.EntryOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return pia4java.Proto.internal_static_pia4java_DnsCache_Entry_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return pia4java.Proto.internal_static_pia4java_DnsCache_Entry_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  pia4java.Proto.DnsCache.Entry.class, pia4java.Proto.DnsCache.Entry.Builder.class);
+        }
+
+        // Construct using pia4java.Proto.DnsCache.Entry.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          type_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          address_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          expiresEpochMillis_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return pia4java.Proto.internal_static_pia4java_DnsCache_Entry_descriptor;
+        }
+
+        @java.lang.Override
+        public pia4java.Proto.DnsCache.Entry getDefaultInstanceForType() {
+          return pia4java.Proto.DnsCache.Entry.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public pia4java.Proto.DnsCache.Entry build() {
+          pia4java.Proto.DnsCache.Entry result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public pia4java.Proto.DnsCache.Entry buildPartial() {
+          pia4java.Proto.DnsCache.Entry result = new pia4java.Proto.DnsCache.Entry(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.type_ = type_;
+            to_bitField0_ |= 0x00000002;
+          }
+          if (((bitField0_ & 0x00000004) != 0)) {
+            address_ = address_.getUnmodifiableView();
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.address_ = address_;
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.expiresEpochMillis_ = expiresEpochMillis_;
+            to_bitField0_ |= 0x00000004;
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof pia4java.Proto.DnsCache.Entry) {
+            return mergeFrom((pia4java.Proto.DnsCache.Entry)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(pia4java.Proto.DnsCache.Entry other) {
+          if (other == pia4java.Proto.DnsCache.Entry.getDefaultInstance()) return this;
+          if (other.hasName()) {
+            bitField0_ |= 0x00000001;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasType()) {
+            setType(other.getType());
+          }
+          if (!other.address_.isEmpty()) {
+            if (address_.isEmpty()) {
+              address_ = other.address_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureAddressIsMutable();
+              address_.addAll(other.address_);
+            }
+            onChanged();
+          }
+          if (other.hasExpiresEpochMillis()) {
+            setExpiresEpochMillis(other.getExpiresEpochMillis());
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          pia4java.Proto.DnsCache.Entry parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (pia4java.Proto.DnsCache.Entry) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>optional string name = 1;</code>
+         * @return Whether the name field is set.
+         */
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         * @return The name.
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              name_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         * @return The bytes for name.
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         * @param value The name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         * @param value The bytes for name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private int type_ ;
+        /**
+         * <pre>
+         * DNS record type: 1 for A, 28 for AAAA.
+         * </pre>
+         *
+         * <code>optional int32 type = 2;</code>
+         * @return Whether the type field is set.
+         */
+        @java.lang.Override
+        public boolean hasType() {
+          return ((bitField0_ & 0x00000002) != 0);
+        }
+        /**
+         * <pre>
+         * DNS record type: 1 for A, 28 for AAAA.
+         * </pre>
+         *
+         * <code>optional int32 type = 2;</code>
+         * @return The type.
+         */
+        @java.lang.Override
+        public int getType() {
+          return type_;
+        }
+        /**
+         * <pre>
+         * DNS record type: 1 for A, 28 for AAAA.
+         * </pre>
+         *
+         * <code>optional int32 type = 2;</code>
+         * @param value The type to set.
+         * @return This builder for chaining.
+         */
+        public Builder setType(int value) {
+          bitField0_ |= 0x00000002;
+          type_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * DNS record type: 1 for A, 28 for AAAA.
+         * </pre>
+         *
+         * <code>optional int32 type = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearType() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          type_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.LazyStringList address_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        private void ensureAddressIsMutable() {
+          if (!((bitField0_ & 0x00000004) != 0)) {
+            address_ = new com.google.protobuf.LazyStringArrayList(address_);
+            bitField0_ |= 0x00000004;
+           }
+        }
+        /**
+         * <code>repeated string address = 3;</code>
+         * @return A list containing the address.
+         */
+        public com.google.protobuf.ProtocolStringList
+            getAddressList() {
+          return address_.getUnmodifiableView();
+        }
+        /**
+         * <code>repeated string address = 3;</code>
+         * @return The count of address.
+         */
+        public int getAddressCount() {
+          return address_.size();
+        }
+        /**
+         * <code>repeated string address = 3;</code>
+         * @param index The index of the element to return.
+         * @return The address at the given index.
+         */
+        public java.lang.String getAddress(int index) {
+          return address_.get(index);
+        }
+        /**
+         * <code>repeated string address = 3;</code>
+         * @param index The index of the value to return.
+         * @return The bytes of the address at the given index.
+         */
+        public com.google.protobuf.ByteString
+            getAddressBytes(int index) {
+          return address_.getByteString(index);
+        }
+        /**
+         * <code>repeated string address = 3;</code>
+         * @param index The index to set the value at.
+         * @param value The address to set.
+         * @return This builder for chaining.
+         */
+        public Builder setAddress(
+            int index, java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAddressIsMutable();
+          address_.set(index, value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string address = 3;</code>
+         * @param value The address to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAddress(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAddressIsMutable();
+          address_.add(value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string address = 3;</code>
+         * @param values The address to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllAddress(
+            java.lang.Iterable<java.lang.String> values) {
+          ensureAddressIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, address_);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string address = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearAddress() {
+          address_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string address = 3;</code>
+         * @param value The bytes of the address to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAddressBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAddressIsMutable();
+          address_.add(value);
+          onChanged();
+          return this;
+        }
+
+        private long expiresEpochMillis_ ;
+        /**
+         * <code>optional int64 expires_epoch_millis = 4;</code>
+         * @return Whether the expiresEpochMillis field is set.
+         */
+        @java.lang.Override
+        public boolean hasExpiresEpochMillis() {
+          return ((bitField0_ & 0x00000008) != 0);
+        }
+        /**
+         * <code>optional int64 expires_epoch_millis = 4;</code>
+         * @return The expiresEpochMillis.
+         */
+        @java.lang.Override
+        public long getExpiresEpochMillis() {
+          return expiresEpochMillis_;
+        }
+        /**
+         * <code>optional int64 expires_epoch_millis = 4;</code>
+         * @param value The expiresEpochMillis to set.
+         * @return This builder for chaining.
+         */
+        public Builder setExpiresEpochMillis(long value) {
+          bitField0_ |= 0x00000008;
+          expiresEpochMillis_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional int64 expires_epoch_millis = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearExpiresEpochMillis() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          expiresEpochMillis_ = 0L;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:pia4java.DnsCache.Entry)
+      }
+
+      // @@protoc_insertion_point(class_scope:pia4java.DnsCache.Entry)
+      private static final pia4java.Proto.DnsCache.Entry DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new pia4java.Proto.DnsCache.Entry();
+      }
+
+      public static pia4java.Proto.DnsCache.Entry getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      @java.lang.Deprecated public static final com.google.protobuf.Parser<Entry>
+          PARSER = new com.google.protobuf.AbstractParser<Entry>() {
+        @java.lang.Override
+        public Entry parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Entry(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<Entry> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Entry> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.DnsCache.Entry getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int ENTRY_FIELD_NUMBER = 1;
+    private java.util.List<pia4java.Proto.DnsCache.Entry> entry_;
+    /**
+     * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<pia4java.Proto.DnsCache.Entry> getEntryList() {
+      return entry_;
+    }
+    /**
+     * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends pia4java.Proto.DnsCache.EntryOrBuilder> 
+        getEntryOrBuilderList() {
+      return entry_;
+    }
+    /**
+     * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+     */
+    @java.lang.Override
+    public int getEntryCount() {
+      return entry_.size();
+    }
+    /**
+     * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.DnsCache.Entry getEntry(int index) {
+      return entry_.get(index);
+    }
+    /**
+     * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.DnsCache.EntryOrBuilder getEntryOrBuilder(
+        int index) {
+      return entry_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < entry_.size(); i++) {
+        output.writeMessage(1, entry_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < entry_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, entry_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.DnsCache)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.DnsCache other = (pia4java.Proto.DnsCache) obj;
+
+      if (!getEntryList()
+          .equals(other.getEntryList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getEntryCount() > 0) {
+        hash = (37 * hash) + ENTRY_FIELD_NUMBER;
+        hash = (53 * hash) + getEntryList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.DnsCache parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.DnsCache parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.DnsCache parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.DnsCache parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.DnsCache parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.DnsCache parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.DnsCache parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.DnsCache parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.DnsCache parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.DnsCache parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.DnsCache parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.DnsCache parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.DnsCache prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code pia4java.DnsCache}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.DnsCache)
+        pia4java.Proto.DnsCacheOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_DnsCache_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_DnsCache_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.DnsCache.class, pia4java.Proto.DnsCache.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.DnsCache.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getEntryFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (entryBuilder_ == null) {
+          entry_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          entryBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_DnsCache_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.DnsCache getDefaultInstanceForType() {
+        return pia4java.Proto.DnsCache.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.DnsCache build() {
+        pia4java.Proto.DnsCache result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.DnsCache buildPartial() {
+        pia4java.Proto.DnsCache result = new pia4java.Proto.DnsCache(this);
+        int from_bitField0_ = bitField0_;
+        if (entryBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            entry_ = java.util.Collections.unmodifiableList(entry_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entry_ = entry_;
+        } else {
+          result.entry_ = entryBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.DnsCache) {
+          return mergeFrom((pia4java.Proto.DnsCache)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.DnsCache other) {
+        if (other == pia4java.Proto.DnsCache.getDefaultInstance()) return this;
+        if (entryBuilder_ == null) {
+          if (!other.entry_.isEmpty()) {
+            if (entry_.isEmpty()) {
+              entry_ = other.entry_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntryIsMutable();
+              entry_.addAll(other.entry_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entry_.isEmpty()) {
+            if (entryBuilder_.isEmpty()) {
+              entryBuilder_.dispose();
+              entryBuilder_ = null;
+              entry_ = other.entry_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entryBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntryFieldBuilder() : null;
+            } else {
+              entryBuilder_.addAllMessages(other.entry_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.DnsCache parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.DnsCache) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<pia4java.Proto.DnsCache.Entry> entry_ =
+        java.util.Collections.emptyList();
+      private void ensureEntryIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          entry_ = new java.util.ArrayList<pia4java.Proto.DnsCache.Entry>(entry_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          pia4java.Proto.DnsCache.Entry, pia4java.Proto.DnsCache.Entry.Builder, pia4java.Proto.DnsCache.EntryOrBuilder> entryBuilder_;
+
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public java.util.List<pia4java.Proto.DnsCache.Entry> getEntryList() {
+        if (entryBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entry_);
+        } else {
+          return entryBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public int getEntryCount() {
+        if (entryBuilder_ == null) {
+          return entry_.size();
+        } else {
+          return entryBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public pia4java.Proto.DnsCache.Entry getEntry(int index) {
+        if (entryBuilder_ == null) {
+          return entry_.get(index);
+        } else {
+          return entryBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public Builder setEntry(
+          int index, pia4java.Proto.DnsCache.Entry value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.set(index, value);
+          onChanged();
+        } else {
+          entryBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public Builder setEntry(
+          int index, pia4java.Proto.DnsCache.Entry.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entryBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public Builder addEntry(pia4java.Proto.DnsCache.Entry value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.add(value);
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public Builder addEntry(
+          int index, pia4java.Proto.DnsCache.Entry value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.add(index, value);
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public Builder addEntry(
+          pia4java.Proto.DnsCache.Entry.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public Builder addEntry(
+          int index, pia4java.Proto.DnsCache.Entry.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public Builder addAllEntry(
+          java.lang.Iterable<? extends pia4java.Proto.DnsCache.Entry> values) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entry_);
+          onChanged();
+        } else {
+          entryBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public Builder clearEntry() {
+        if (entryBuilder_ == null) {
+          entry_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          entryBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public Builder removeEntry(int index) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.remove(index);
+          onChanged();
+        } else {
+          entryBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public pia4java.Proto.DnsCache.Entry.Builder getEntryBuilder(
+          int index) {
+        return getEntryFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public pia4java.Proto.DnsCache.EntryOrBuilder getEntryOrBuilder(
+          int index) {
+        if (entryBuilder_ == null) {
+          return entry_.get(index);  } else {
+          return entryBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public java.util.List<? extends pia4java.Proto.DnsCache.EntryOrBuilder> 
+           getEntryOrBuilderList() {
+        if (entryBuilder_ != null) {
+          return entryBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entry_);
+        }
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public pia4java.Proto.DnsCache.Entry.Builder addEntryBuilder() {
+        return getEntryFieldBuilder().addBuilder(
+            pia4java.Proto.DnsCache.Entry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public pia4java.Proto.DnsCache.Entry.Builder addEntryBuilder(
+          int index) {
+        return getEntryFieldBuilder().addBuilder(
+            index, pia4java.Proto.DnsCache.Entry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .pia4java.DnsCache.Entry entry = 1;</code>
+       */
+      public java.util.List<pia4java.Proto.DnsCache.Entry.Builder> 
+           getEntryBuilderList() {
+        return getEntryFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          pia4java.Proto.DnsCache.Entry, pia4java.Proto.DnsCache.Entry.Builder, pia4java.Proto.DnsCache.EntryOrBuilder> 
+          getEntryFieldBuilder() {
+        if (entryBuilder_ == null) {
+          entryBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              pia4java.Proto.DnsCache.Entry, pia4java.Proto.DnsCache.Entry.Builder, pia4java.Proto.DnsCache.EntryOrBuilder>(
+                  entry_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          entry_ = null;
+        }
+        return entryBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:pia4java.DnsCache)
+    }
+
+    // @@protoc_insertion_point(class_scope:pia4java.DnsCache)
+    private static final pia4java.Proto.DnsCache DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new pia4java.Proto.DnsCache();
+    }
+
+    public static pia4java.Proto.DnsCache getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<DnsCache>
+        PARSER = new com.google.protobuf.AbstractParser<DnsCache>() {
+      @java.lang.Override
+      public DnsCache parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DnsCache(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DnsCache> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DnsCache> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public pia4java.Proto.DnsCache getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PathMtuCacheOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:pia4java.PathMtuCache)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+     */
+    java.util.List<pia4java.Proto.PathMtuCache.Entry> 
+        getEntryList();
+    /**
+     * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+     */
+    pia4java.Proto.PathMtuCache.Entry getEntry(int index);
+    /**
+     * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+     */
+    int getEntryCount();
+    /**
+     * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+     */
+    java.util.List<? extends pia4java.Proto.PathMtuCache.EntryOrBuilder> 
+        getEntryOrBuilderList();
+    /**
+     * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+     */
+    pia4java.Proto.PathMtuCache.EntryOrBuilder getEntryOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Path MTUs found by PathMtuDiscovery, kept in the cache directory.
+   * </pre>
+   *
+   * Protobuf type {@code pia4java.PathMtuCache}
+   */
+  public static final class PathMtuCache extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:pia4java.PathMtuCache)
+      PathMtuCacheOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PathMtuCache.newBuilder() to construct.
+    private PathMtuCache(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PathMtuCache() {
+      entry_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PathMtuCache();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PathMtuCache(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                entry_ = new java.util.ArrayList<pia4java.Proto.PathMtuCache.Entry>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              entry_.add(
+                  input.readMessage(pia4java.Proto.PathMtuCache.Entry.PARSER, extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          entry_ = java.util.Collections.unmodifiableList(entry_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return pia4java.Proto.internal_static_pia4java_PathMtuCache_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return pia4java.Proto.internal_static_pia4java_PathMtuCache_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              pia4java.Proto.PathMtuCache.class, pia4java.Proto.PathMtuCache.Builder.class);
+    }
+
+    public interface EntryOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:pia4java.PathMtuCache.Entry)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string host = 1;</code>
+       * @return Whether the host field is set.
+       */
+      boolean hasHost();
+      /**
+       * <code>optional string host = 1;</code>
+       * @return The host.
+       */
+      java.lang.String getHost();
+      /**
+       * <code>optional string host = 1;</code>
+       * @return The bytes for host.
+       */
+      com.google.protobuf.ByteString
+          getHostBytes();
+
+      /**
+       * <pre>
+       * 0 if the host didn't answer.
+       * </pre>
+       *
+       * <code>optional int32 path_mtu = 2;</code>
+       * @return Whether the pathMtu field is set.
+       */
+      boolean hasPathMtu();
+      /**
+       * <pre>
+       * 0 if the host didn't answer.
+       * </pre>
+       *
+       * <code>optional int32 path_mtu = 2;</code>
+       * @return The pathMtu.
+       */
+      int getPathMtu();
+
+      /**
+       * <code>optional int64 measured_epoch_millis = 3;</code>
+       * @return Whether the measuredEpochMillis field is set.
+       */
+      boolean hasMeasuredEpochMillis();
+      /**
+       * <code>optional int64 measured_epoch_millis = 3;</code>
+       * @return The measuredEpochMillis.
+       */
+      long getMeasuredEpochMillis();
+    }
+    /**
+     * Protobuf type {@code pia4java.PathMtuCache.Entry}
+     */
+    public static final class Entry extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:pia4java.PathMtuCache.Entry)
+        EntryOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Entry.newBuilder() to construct.
+      private Entry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Entry() {
+        host_ = "";
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new Entry();
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Entry(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                host_ = bs;
+                break;
+              }
+              case 16: {
+                bitField0_ |= 0x00000002;
+                pathMtu_ = input.readInt32();
+                break;
+              }
+              case 24: {
+                bitField0_ |= 0x00000004;
+                measuredEpochMillis_ = input.readInt64();
+                break;
+              }
+              default: {
+                if (!parseUnknownField(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_PathMtuCache_Entry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_PathMtuCache_Entry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.PathMtuCache.Entry.class, pia4java.Proto.PathMtuCache.Entry.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int HOST_FIELD_NUMBER = 1;
+      private volatile java.lang.Object host_;
+      /**
+       * <code>optional string host = 1;</code>
+       * @return Whether the host field is set.
+       */
+      @java.lang.Override
+      public boolean hasHost() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string host = 1;</code>
+       * @return The host.
+       */
+      @java.lang.Override
+      public java.lang.String getHost() {
+        java.lang.Object ref = host_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            host_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string host = 1;</code>
+       * @return The bytes for host.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getHostBytes() {
+        java.lang.Object ref = host_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          host_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PATH_MTU_FIELD_NUMBER = 2;
+      private int pathMtu_;
+      /**
+       * <pre>
+       * 0 if the host didn't answer.
+       * </pre>
+       *
+       * <code>optional int32 path_mtu = 2;</code>
+       * @return Whether the pathMtu field is set.
+       */
+      @java.lang.Override
+      public boolean hasPathMtu() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * 0 if the host didn't answer.
+       * </pre>
+       *
+       * <code>optional int32 path_mtu = 2;</code>
+       * @return The pathMtu.
+       */
+      @java.lang.Override
+      public int getPathMtu() {
+        return pathMtu_;
+      }
+
+      public static final int MEASURED_EPOCH_MILLIS_FIELD_NUMBER = 3;
+      private long measuredEpochMillis_;
+      /**
+       * <code>optional int64 measured_epoch_millis = 3;</code>
+       * @return Whether the measuredEpochMillis field is set.
+       */
+      @java.lang.Override
+      public boolean hasMeasuredEpochMillis() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 measured_epoch_millis = 3;</code>
+       * @return The measuredEpochMillis.
+       */
+      @java.lang.Override
+      public long getMeasuredEpochMillis() {
+        return measuredEpochMillis_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, host_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          output.writeInt32(2, pathMtu_);
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          output.writeInt64(3, measuredEpochMillis_);
+        }
+        unknownFields.writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, host_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(2, pathMtu_);
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(3, measuredEpochMillis_);
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof pia4java.Proto.PathMtuCache.Entry)) {
+          return super.equals(obj);
+        }
+        pia4java.Proto.PathMtuCache.Entry other = (pia4java.Proto.PathMtuCache.Entry) obj;
+
+        if (hasHost() != other.hasHost()) return false;
+        if (hasHost()) {
+          if (!getHost()
+              .equals(other.getHost())) return false;
+        }
+        if (hasPathMtu() != other.hasPathMtu()) return false;
+        if (hasPathMtu()) {
+          if (getPathMtu()
+              != other.getPathMtu()) return false;
+        }
+        if (hasMeasuredEpochMillis() != other.hasMeasuredEpochMillis()) return false;
+        if (hasMeasuredEpochMillis()) {
+          if (getMeasuredEpochMillis()
+              != other.getMeasuredEpochMillis()) return false;
+        }
+        if (!unknownFields.equals(other.unknownFields)) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasHost()) {
+          hash = (37 * hash) + HOST_FIELD_NUMBER;
+          hash = (53 * hash) + getHost().hashCode();
+        }
+        if (hasPathMtu()) {
+          hash = (37 * hash) + PATH_MTU_FIELD_NUMBER;
+          hash = (53 * hash) + getPathMtu();
+        }
+        if (hasMeasuredEpochMillis()) {
+          hash = (37 * hash) + MEASURED_EPOCH_MILLIS_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              getMeasuredEpochMillis());
+        }
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static pia4java.Proto.PathMtuCache.Entry parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static pia4java.Proto.PathMtuCache.Entry parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static pia4java.Proto.PathMtuCache.Entry parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static pia4java.Proto.PathMtuCache.Entry parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static pia4java.Proto.PathMtuCache.Entry parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static pia4java.Proto.PathMtuCache.Entry parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static pia4java.Proto.PathMtuCache.Entry parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static pia4java.Proto.PathMtuCache.Entry parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static pia4java.Proto.PathMtuCache.Entry parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static pia4java.Proto.PathMtuCache.Entry parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static pia4java.Proto.PathMtuCache.Entry parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static pia4java.Proto.PathMtuCache.Entry parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(pia4java.Proto.PathMtuCache.Entry prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code pia4java.PathMtuCache.Entry}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:pia4java.PathMtuCache.Entry)
+          pia4java.Proto.PathMtuCache.EntryOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return pia4java.Proto.internal_static_pia4java_PathMtuCache_Entry_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return pia4java.Proto.internal_static_pia4java_PathMtuCache_Entry_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  pia4java.Proto.PathMtuCache.Entry.class, pia4java.Proto.PathMtuCache.Entry.Builder.class);
+        }
+
+        // Construct using pia4java.Proto.PathMtuCache.Entry.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          host_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          pathMtu_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          measuredEpochMillis_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return pia4java.Proto.internal_static_pia4java_PathMtuCache_Entry_descriptor;
+        }
+
+        @java.lang.Override
+        public pia4java.Proto.PathMtuCache.Entry getDefaultInstanceForType() {
+          return pia4java.Proto.PathMtuCache.Entry.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public pia4java.Proto.PathMtuCache.Entry build() {
+          pia4java.Proto.PathMtuCache.Entry result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public pia4java.Proto.PathMtuCache.Entry buildPartial() {
+          pia4java.Proto.PathMtuCache.Entry result = new pia4java.Proto.PathMtuCache.Entry(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.host_ = host_;
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.pathMtu_ = pathMtu_;
+            to_bitField0_ |= 0x00000002;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.measuredEpochMillis_ = measuredEpochMillis_;
+            to_bitField0_ |= 0x00000004;
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof pia4java.Proto.PathMtuCache.Entry) {
+            return mergeFrom((pia4java.Proto.PathMtuCache.Entry)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(pia4java.Proto.PathMtuCache.Entry other) {
+          if (other == pia4java.Proto.PathMtuCache.Entry.getDefaultInstance()) return this;
+          if (other.hasHost()) {
+            bitField0_ |= 0x00000001;
+            host_ = other.host_;
+            onChanged();
+          }
+          if (other.hasPathMtu()) {
+            setPathMtu(other.getPathMtu());
+          }
+          if (other.hasMeasuredEpochMillis()) {
+            setMeasuredEpochMillis(other.getMeasuredEpochMillis());
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          pia4java.Proto.PathMtuCache.Entry parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (pia4java.Proto.PathMtuCache.Entry) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object host_ = "";
+        /**
+         * <code>optional string host = 1;</code>
+         * @return Whether the host field is set.
+         */
+        public boolean hasHost() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <code>optional string host = 1;</code>
+         * @return The host.
+         */
+        public java.lang.String getHost() {
+          java.lang.Object ref = host_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              host_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string host = 1;</code>
+         * @return The bytes for host.
+         */
+        public com.google.protobuf.ByteString
+            getHostBytes() {
+          java.lang.Object ref = host_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            host_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string host = 1;</code>
+         * @param value The host to set.
+         * @return This builder for chaining.
+         */
+        public Builder setHost(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          host_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string host = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearHost() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          host_ = getDefaultInstance().getHost();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string host = 1;</code>
+         * @param value The bytes for host to set.
+         * @return This builder for chaining.
+         */
+        public Builder setHostBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          host_ = value;
+          onChanged();
+          return this;
+        }
+
+        private int pathMtu_ ;
+        /**
+         * <pre>
+         * 0 if the host didn't answer.
+         * </pre>
+         *
+         * <code>optional int32 path_mtu = 2;</code>
+         * @return Whether the pathMtu field is set.
+         */
+        @java.lang.Override
+        public boolean hasPathMtu() {
+          return ((bitField0_ & 0x00000002) != 0);
+        }
+        /**
+         * <pre>
+         * 0 if the host didn't answer.
+         * </pre>
+         *
+         * <code>optional int32 path_mtu = 2;</code>
+         * @return The pathMtu.
+         */
+        @java.lang.Override
+        public int getPathMtu() {
+          return pathMtu_;
+        }
+        /**
+         * <pre>
+         * 0 if the host didn't answer.
+         * </pre>
+         *
+         * <code>optional int32 path_mtu = 2;</code>
+         * @param value The pathMtu to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPathMtu(int value) {
+          bitField0_ |= 0x00000002;
+          pathMtu_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * 0 if the host didn't answer.
+         * </pre>
+         *
+         * <code>optional int32 path_mtu = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearPathMtu() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          pathMtu_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private long measuredEpochMillis_ ;
+        /**
+         * <code>optional int64 measured_epoch_millis = 3;</code>
+         * @return Whether the measuredEpochMillis field is set.
+         */
+        @java.lang.Override
+        public boolean hasMeasuredEpochMillis() {
+          return ((bitField0_ & 0x00000004) != 0);
+        }
+        /**
+         * <code>optional int64 measured_epoch_millis = 3;</code>
+         * @return The measuredEpochMillis.
+         */
+        @java.lang.Override
+        public long getMeasuredEpochMillis() {
+          return measuredEpochMillis_;
+        }
+        /**
+         * <code>optional int64 measured_epoch_millis = 3;</code>
+         * @param value The measuredEpochMillis to set.
+         * @return This builder for chaining.
+         */
+        public Builder setMeasuredEpochMillis(long value) {
+          bitField0_ |= 0x00000004;
+          measuredEpochMillis_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional int64 measured_epoch_millis = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearMeasuredEpochMillis() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          measuredEpochMillis_ = 0L;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:pia4java.PathMtuCache.Entry)
+      }
+
+      // @@protoc_insertion_point(class_scope:pia4java.PathMtuCache.Entry)
+      private static final pia4java.Proto.PathMtuCache.Entry DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new pia4java.Proto.PathMtuCache.Entry();
+      }
+
+      public static pia4java.Proto.PathMtuCache.Entry getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      @java.lang.Deprecated public static final com.google.protobuf.Parser<Entry>
+          PARSER = new com.google.protobuf.AbstractParser<Entry>() {
+        @java.lang.Override
+        public Entry parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Entry(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<Entry> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Entry> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.PathMtuCache.Entry getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int ENTRY_FIELD_NUMBER = 1;
+    private java.util.List<pia4java.Proto.PathMtuCache.Entry> entry_;
+    /**
+     * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<pia4java.Proto.PathMtuCache.Entry> getEntryList() {
+      return entry_;
+    }
+    /**
+     * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends pia4java.Proto.PathMtuCache.EntryOrBuilder> 
+        getEntryOrBuilderList() {
+      return entry_;
+    }
+    /**
+     * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+     */
+    @java.lang.Override
+    public int getEntryCount() {
+      return entry_.size();
+    }
+    /**
+     * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.PathMtuCache.Entry getEntry(int index) {
+      return entry_.get(index);
+    }
+    /**
+     * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+     */
+    @java.lang.Override
+    public pia4java.Proto.PathMtuCache.EntryOrBuilder getEntryOrBuilder(
+        int index) {
+      return entry_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < entry_.size(); i++) {
+        output.writeMessage(1, entry_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < entry_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, entry_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof pia4java.Proto.PathMtuCache)) {
+        return super.equals(obj);
+      }
+      pia4java.Proto.PathMtuCache other = (pia4java.Proto.PathMtuCache) obj;
+
+      if (!getEntryList()
+          .equals(other.getEntryList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getEntryCount() > 0) {
+        hash = (37 * hash) + ENTRY_FIELD_NUMBER;
+        hash = (53 * hash) + getEntryList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static pia4java.Proto.PathMtuCache parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.PathMtuCache parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.PathMtuCache parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.PathMtuCache parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.PathMtuCache parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static pia4java.Proto.PathMtuCache parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static pia4java.Proto.PathMtuCache parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.PathMtuCache parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.PathMtuCache parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.PathMtuCache parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static pia4java.Proto.PathMtuCache parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static pia4java.Proto.PathMtuCache parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(pia4java.Proto.PathMtuCache prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Path MTUs found by PathMtuDiscovery, kept in the cache directory.
+     * </pre>
+     *
+     * Protobuf type {@code pia4java.PathMtuCache}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:pia4java.PathMtuCache)
+        pia4java.Proto.PathMtuCacheOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return pia4java.Proto.internal_static_pia4java_PathMtuCache_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return pia4java.Proto.internal_static_pia4java_PathMtuCache_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                pia4java.Proto.PathMtuCache.class, pia4java.Proto.PathMtuCache.Builder.class);
+      }
+
+      // Construct using pia4java.Proto.PathMtuCache.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getEntryFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (entryBuilder_ == null) {
+          entry_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          entryBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return pia4java.Proto.internal_static_pia4java_PathMtuCache_descriptor;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.PathMtuCache getDefaultInstanceForType() {
+        return pia4java.Proto.PathMtuCache.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.PathMtuCache build() {
+        pia4java.Proto.PathMtuCache result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public pia4java.Proto.PathMtuCache buildPartial() {
+        pia4java.Proto.PathMtuCache result = new pia4java.Proto.PathMtuCache(this);
+        int from_bitField0_ = bitField0_;
+        if (entryBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            entry_ = java.util.Collections.unmodifiableList(entry_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entry_ = entry_;
+        } else {
+          result.entry_ = entryBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof pia4java.Proto.PathMtuCache) {
+          return mergeFrom((pia4java.Proto.PathMtuCache)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(pia4java.Proto.PathMtuCache other) {
+        if (other == pia4java.Proto.PathMtuCache.getDefaultInstance()) return this;
+        if (entryBuilder_ == null) {
+          if (!other.entry_.isEmpty()) {
+            if (entry_.isEmpty()) {
+              entry_ = other.entry_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntryIsMutable();
+              entry_.addAll(other.entry_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entry_.isEmpty()) {
+            if (entryBuilder_.isEmpty()) {
+              entryBuilder_.dispose();
+              entryBuilder_ = null;
+              entry_ = other.entry_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entryBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntryFieldBuilder() : null;
+            } else {
+              entryBuilder_.addAllMessages(other.entry_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        pia4java.Proto.PathMtuCache parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (pia4java.Proto.PathMtuCache) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<pia4java.Proto.PathMtuCache.Entry> entry_ =
+        java.util.Collections.emptyList();
+      private void ensureEntryIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          entry_ = new java.util.ArrayList<pia4java.Proto.PathMtuCache.Entry>(entry_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          pia4java.Proto.PathMtuCache.Entry, pia4java.Proto.PathMtuCache.Entry.Builder, pia4java.Proto.PathMtuCache.EntryOrBuilder> entryBuilder_;
+
+      /**
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+       */
+      public java.util.List<pia4java.Proto.PathMtuCache.Entry> getEntryList() {
+        if (entryBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entry_);
+        } else {
+          return entryBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+       */
+      public int getEntryCount() {
+        if (entryBuilder_ == null) {
+          return entry_.size();
+        } else {
+          return entryBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
+       */
+      public pia4java.Proto.PathMtuCache.Entry getEntry(int index) {
+        if (entryBuilder_ == null) {
+          return entry_.get(index);
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return entryBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>optional string pia_username = 3;</code>
-       * @param value The piaUsername to set.
-       * @return This builder for chaining.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public Builder setPiaUsername(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        piaUsername_ = value;
-        onChanged();
+      public Builder setEntry(
+          int index, pia4java.Proto.PathMtuCache.Entry value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.set(index, value);
+          onChanged();
+        } else {
+          entryBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>optional string pia_username = 3;</code>
-       * @return This builder for chaining.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public Builder clearPiaUsername() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        piaUsername_ = getDefaultInstance().getPiaUsername();
-        onChanged();
+      public Builder setEntry(
+          int index, pia4java.Proto.PathMtuCache.Entry.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entryBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>optional string pia_username = 3;</code>
-       * @param value The bytes for piaUsername to set.
-       * @return This builder for chaining.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public Builder setPiaUsernameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        piaUsername_ = value;
-        onChanged();
+      public Builder addEntry(pia4java.Proto.PathMtuCache.Entry value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.add(value);
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(value);
+        }
         return this;
       }
-
-      private java.lang.Object piaPassword_ = "";
       /**
-       * <code>optional string pia_password = 4;</code>
-       * @return Whether the piaPassword field is set.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public boolean hasPiaPassword() {
-        return ((bitField0_ & 0x00000008) != 0);
+      public Builder addEntry(
+          int index, pia4java.Proto.PathMtuCache.Entry value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.add(index, value);
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>optional string pia_password = 4;</code>
-       * @return The piaPassword.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public java.lang.String getPiaPassword() {
-        java.lang.Object ref = piaPassword_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            piaPassword_ = s;
-          }
-          return s;
+      public Builder addEntry(
+          pia4java.Proto.PathMtuCache.Entry.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.add(builderForValue.build());
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          entryBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional string pia_password = 4;</code>
-       * @return The bytes for piaPassword.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getPiaPasswordBytes() {
-        java.lang.Object ref = piaPassword_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          piaPassword_ = b;
-          return b;
+      public Builder addEntry(
+          int index, pia4java.Proto.PathMtuCache.Entry.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          entryBuilder_.addMessage(index, builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional string pia_password = 4;</code>
-       * @param value The piaPassword to set.
-       * @return This builder for chaining.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public Builder setPiaPassword(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        piaPassword_ = value;
-        onChanged();
+      public Builder addAllEntry(
+          java.lang.Iterable<? extends pia4java.Proto.PathMtuCache.Entry> values) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entry_);
+          onChanged();
+        } else {
+          entryBuilder_.addAllMessages(values);
+        }
         return this;
       }
       /**
-       * <code>optional string pia_password = 4;</code>
-       * @return This builder for chaining.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public Builder clearPiaPassword() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        piaPassword_ = getDefaultInstance().getPiaPassword();
-        onChanged();
+      public Builder clearEntry() {
+        if (entryBuilder_ == null) {
+          entry_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          entryBuilder_.clear();
+        }
         return this;
       }
       /**
-       * <code>optional string pia_password = 4;</code>
-       * @param value The bytes for piaPassword to set.
-       * @return This builder for chaining.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public Builder setPiaPasswordBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        piaPassword_ = value;
-        onChanged();
+      public Builder removeEntry(int index) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.remove(index);
+          onChanged();
+        } else {
+          entryBuilder_.remove(index);
+        }
         return this;
       }
-
-      private java.lang.Object targetDomain_ = "";
       /**
-       * <code>optional string target_domain = 5;</code>
-       * @return Whether the targetDomain field is set.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public boolean hasTargetDomain() {
-        return ((bitField0_ & 0x00000010) != 0);
+      public pia4java.Proto.PathMtuCache.Entry.Builder getEntryBuilder(
+          int index) {
+        return getEntryFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>optional string target_domain = 5;</code>
-       * @return The targetDomain.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public java.lang.String getTargetDomain() {
-        java.lang.Object ref = targetDomain_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            targetDomain_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
+      public pia4java.Proto.PathMtuCache.EntryOrBuilder getEntryOrBuilder(
+          int index) {
+        if (entryBuilder_ == null) {
+          return entry_.get(index);  } else {
+          return entryBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>optional string target_domain = 5;</code>
-       * @return The bytes for targetDomain.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getTargetDomainBytes() {
-        java.lang.Object ref = targetDomain_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          targetDomain_ = b;
-          return b;
+      public java.util.List<? extends pia4java.Proto.PathMtuCache.EntryOrBuilder> 
+           getEntryOrBuilderList() {
+        if (entryBuilder_ != null) {
+          return entryBuilder_.getMessageOrBuilderList();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return java.util.Collections.unmodifiableList(entry_);
         }
       }
       /**
-       * <code>optional string target_domain = 5;</code>
-       * @param value The targetDomain to set.
-       * @return This builder for chaining.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public Builder setTargetDomain(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
-        targetDomain_ = value;
-        onChanged();
-        return this;
+      public pia4java.Proto.PathMtuCache.Entry.Builder addEntryBuilder() {
+        return getEntryFieldBuilder().addBuilder(
+            pia4java.Proto.PathMtuCache.Entry.getDefaultInstance());
       }
       /**
-       * <code>optional string target_domain = 5;</code>
-       * @return This builder for chaining.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public Builder clearTargetDomain() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        targetDomain_ = getDefaultInstance().getTargetDomain();
-        onChanged();
-        return this;
+      public pia4java.Proto.PathMtuCache.Entry.Builder addEntryBuilder(
+          int index) {
+        return getEntryFieldBuilder().addBuilder(
+            index, pia4java.Proto.PathMtuCache.Entry.getDefaultInstance());
       }
       /**
-       * <code>optional string target_domain = 5;</code>
-       * @param value The bytes for targetDomain to set.
-       * @return This builder for chaining.
+       * <code>repeated .pia4java.PathMtuCache.Entry entry = 1;</code>
        */
-      public Builder setTargetDomainBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
-        targetDomain_ = value;
-        onChanged();
-        return this;
+      public java.util.List<pia4java.Proto.PathMtuCache.Entry.Builder> 
+           getEntryBuilderList() {
+        return getEntryFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          pia4java.Proto.PathMtuCache.Entry, pia4java.Proto.PathMtuCache.Entry.Builder, pia4java.Proto.PathMtuCache.EntryOrBuilder> 
+          getEntryFieldBuilder() {
+        if (entryBuilder_ == null) {
+          entryBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              pia4java.Proto.PathMtuCache.Entry, pia4java.Proto.PathMtuCache.Entry.Builder, pia4java.Proto.PathMtuCache.EntryOrBuilder>(
+                  entry_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          entry_ = null;
+        }
+        return entryBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -1225,51 +23624,126 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:pia4java.PiaConfig)
+      // @@protoc_insertion_point(builder_scope:pia4java.PathMtuCache)
     }
 
-    // @@protoc_insertion_point(class_scope:pia4java.PiaConfig)
-    private static final pia4java.Proto.PiaConfig DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:pia4java.PathMtuCache)
+    private static final pia4java.Proto.PathMtuCache DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new pia4java.Proto.PiaConfig();
+      DEFAULT_INSTANCE = new pia4java.Proto.PathMtuCache();
     }
 
-    public static pia4java.Proto.PiaConfig getDefaultInstance() {
+    public static pia4java.Proto.PathMtuCache getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<PiaConfig>
-        PARSER = new com.google.protobuf.AbstractParser<PiaConfig>() {
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<PathMtuCache>
+        PARSER = new com.google.protobuf.AbstractParser<PathMtuCache>() {
       @java.lang.Override
-      public PiaConfig parsePartialFrom(
+      public PathMtuCache parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PiaConfig(input, extensionRegistry);
+        return new PathMtuCache(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<PiaConfig> parser() {
+    public static com.google.protobuf.Parser<PathMtuCache> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PiaConfig> getParserForType() {
+    public com.google.protobuf.Parser<PathMtuCache> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public pia4java.Proto.PiaConfig getDefaultInstanceForType() {
+    public pia4java.Proto.PathMtuCache getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_ServerSelection_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_ServerSelection_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_Standby_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_Standby_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_DnsSettings_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_DnsSettings_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_Supervisor_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_Supervisor_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_QualityMonitor_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_QualityMonitor_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_QualityReport_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_QualityReport_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_PortForwarding_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_PortForwarding_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_Tunnel_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_Tunnel_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_pia4java_PiaConfig_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_pia4java_PiaConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_CachedToken_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_CachedToken_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_CachedServerList_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_CachedServerList_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_ForwardedPort_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_ForwardedPort_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_DnsCache_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_DnsCache_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_DnsCache_Entry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_DnsCache_Entry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_PathMtuCache_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_PathMtuCache_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_pia4java_PathMtuCache_Entry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_pia4java_PathMtuCache_Entry_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -1280,21 +23754,183 @@ public final class Proto {
   static {
     java.lang.String[] descriptorData = {
       "\n\035src/main/proto/pia4java.proto\022\010pia4jav" +
-      "a\"\210\001\n\tPiaConfig\022\034\n\024pia_wireguard_server\030" +
-      "\001 \001(\t\022\032\n\022pia_wireguard_port\030\002 \001(\005\022\024\n\014pia" +
-      "_username\030\003 \001(\t\022\024\n\014pia_password\030\004 \001(\t\022\025\n" +
-      "\rtarget_domain\030\005 \001(\tB\021\n\010pia4javaB\005Proto"
+      "a\"n\n\017ServerSelection\022\016\n\006region\030\001 \003(\t\022\035\n\017" +
+      "probe_budget_ms\030\002 \001(\005:\0042000\022\026\n\nmax_probe" +
+      "s\030\003 \001(\005:\00232\022\024\n\014port_forward\030\004 \001(\010\"e\n\007Sta" +
+      "ndby\0223\n\020server_selection\030\001 \001(\0132\031.pia4jav" +
+      "a.ServerSelection\022%\n\030refresh_interval_se" +
+      "conds\030\002 \001(\005:\003600\"i\n\013DnsSettings\022\033\n\017max_c" +
+      "oncurrency\030\001 \001(\005:\00264\022\037\n\022queries_per_seco" +
+      "nd\030\002 \001(\001:\003500\022\034\n\016timeout_millis\030\003 \001(\005:\0045" +
+      "000\"\301\001\n\nSupervisor\022\"\n\026check_interval_sec" +
+      "onds\030\001 \001(\005:\00210\022&\n\031max_handshake_age_seco" +
+      "nds\030\002 \001(\005:\003180\022%\n\031max_receive_stall_seco" +
+      "nds\030\003 \001(\005:\00230\022\036\n\023min_backoff_seconds\030\004 \001" +
+      "(\005:\0011\022 \n\023max_backoff_seconds\030\005 \001(\005:\003300\"" +
+      "\351\001\n\016QualityMonitor\022\016\n\006target\030\001 \001(\t\022\023\n\004po" +
+      "rt\030\002 \001(\005:\00519999\022\035\n\017interval_millis\030\003 \001(\005" +
+      ":\0041000\022\034\n\016timeout_millis\030\004 \001(\005:\0041000\022\032\n\016" +
+      "window_seconds\030\005 \001(\005:\00260\022#\n\027report_inter" +
+      "val_seconds\030\006 \001(\005:\00260\022\030\n\020max_loss_percen" +
+      "t\030\007 \001(\001\022\032\n\022max_p99_rtt_millis\030\010 \001(\001\"\202\002\n\r" +
+      "QualityReport\022\026\n\016interface_name\030\001 \001(\t\022\016\n" +
+      "\006target\030\002 \001(\t\022\024\n\014epoch_millis\030\003 \001(\003\022\026\n\016w" +
+      "indow_seconds\030\004 \001(\005\022\016\n\006probes\030\005 \001(\003\022\024\n\014l" +
+      "oss_percent\030\006 \001(\001\022\025\n\rjitter_millis\030\007 \001(\001" +
+      "\022\026\n\016rtt_p50_millis\030\010 \001(\001\022\026\n\016rtt_p90_mill" +
+      "is\030\t \001(\001\022\026\n\016rtt_p99_millis\030\n \001(\001\022\026\n\016rtt_" +
+      "max_millis\030\013 \001(\001\"<\n\016PortForwarding\022\021\n\tpo" +
+      "rt_file\030\001 \001(\t\022\027\n\010api_port\030\002 \001(\005:\00519999\"\354" +
+      "\001\n\006Tunnel\022\014\n\004name\030\001 \001(\t\022\034\n\024pia_wireguard" +
+      "_server\030\002 \001(\t\0223\n\020server_selection\030\003 \001(\0132" +
+      "\031.pia4java.ServerSelection\022\025\n\rtarget_dom" +
+      "ain\030\004 \003(\t\0221\n\017port_forwarding\030\005 \001(\0132\030.pia" +
+      "4java.PortForwarding\022\023\n\013domain_list\030\006 \003(" +
+      "\t\022\"\n\007standby\030\007 \001(\0132\021.pia4java.Standby\"\245\010" +
+      "\n\tPiaConfig\022\034\n\024pia_wireguard_server\030\001 \001(" +
+      "\t\022\032\n\022pia_wireguard_port\030\002 \001(\005\022\024\n\014pia_use" +
+      "rname\030\003 \001(\t\022\024\n\014pia_password\030\004 \001(\t\022\025\n\rtar" +
+      "get_domain\030\005 \001(\t\0223\n\020server_selection\030\006 \001" +
+      "(\0132\031.pia4java.ServerSelection\022\030\n\tcache_d" +
+      "ir\030\007 \001(\t:\005cache\022\030\n\rkey_pool_size\030\010 \001(\005:\001" +
+      "0\022\022\n\ndns_server\030\t \001(\t\022(\n\nsupervisor\030\n \001(" +
+      "\0132\024.pia4java.Supervisor\022\035\n\025serverlist_pu" +
+      "blic_key\030\013 \001(\t\022(\n\032serverlist_max_age_sec" +
+      "onds\030\014 \001(\005:\0043600\022 \n\006tunnel\030\r \003(\0132\020.pia4j" +
+      "ava.Tunnel\022\026\n\016sharded_domain\030\016 \003(\t\0221\n\017po" +
+      "rt_forwarding\030\017 \001(\0132\030.pia4java.PortForwa" +
+      "rding\022?\n\021interface_backend\030\020 \001(\0162\032.pia4j" +
+      "ava.InterfaceBackend:\010WG_QUICK\022\032\n\017max_al" +
+      "lowed_ips\030\021 \001(\005:\0010\022\023\n\013domain_list\030\022 \003(\t\022" +
+      "\"\n\003dns\030\023 \001(\0132\025.pia4java.DnsSettings\022\"\n\007s" +
+      "tandby\030\024 \001(\0132\021.pia4java.Standby\022\013\n\003mtu\030\025" +
+      " \001(\005\0221\n\017quality_monitor\030\026 \001(\0132\030.pia4java" +
+      ".QualityMonitor\022\033\n\016interface_name\030\027 \001(\t:" +
+      "\003pia\022\'\n\034persistent_keepalive_seconds\030\030 \001" +
+      "(\005:\0010\022\032\n\013use_pia_dns\030\031 \001(\010:\005false\022\023\n\005tab" +
+      "le\030\032 \001(\t:\004auto\0221\n\022pia_ca_certificate\030\033 \001" +
+      "(\t:\025props/ca.rsa.4096.crt\022L\n\ttoken_url\030\034" +
+      " \001(\t:9https://www.privateinternetaccess." +
+      "com/api/client/v2/token\022L\n\016serverlist_ur" +
+      "l\030\035 \001(\t:4https://serverlist.piaservers.n" +
+      "et/vpninfo/servers/v6\"K\n\013CachedToken\022\020\n\010" +
+      "username\030\001 \001(\t\022\r\n\005token\030\002 \001(\t\022\033\n\023issued_" +
+      "epoch_millis\030\003 \001(\003\"W\n\020CachedServerList\022\014" +
+      "\n\004etag\030\001 \001(\t\022\025\n\rlast_modified\030\002 \001(\t\022\036\n\026v" +
+      "alidated_epoch_millis\030\003 \001(\003\"\202\001\n\rForwarde" +
+      "dPort\022\020\n\010hostname\030\001 \001(\t\022\017\n\007gateway\030\002 \001(\t" +
+      "\022\017\n\007payload\030\003 \001(\t\022\021\n\tsignature\030\004 \001(\t\022\014\n\004" +
+      "port\030\005 \001(\005\022\034\n\024expires_epoch_millis\030\006 \001(\003" +
+      "\"\207\001\n\010DnsCache\022\'\n\005entry\030\001 \003(\0132\030.pia4java." +
+      "DnsCache.Entry\032R\n\005Entry\022\014\n\004name\030\001 \001(\t\022\014\n" +
+      "\004type\030\002 \001(\005\022\017\n\007address\030\003 \003(\t\022\034\n\024expires_" +
+      "epoch_millis\030\004 \001(\003\"\203\001\n\014PathMtuCache\022+\n\005e" +
+      "ntry\030\001 \003(\0132\034.pia4java.PathMtuCache.Entry" +
+      "\032F\n\005Entry\022\014\n\004host\030\001 \001(\t\022\020\n\010path_mtu\030\002 \001(" +
+      "\005\022\035\n\025measured_epoch_millis\030\003 \001(\003*,\n\020Inte" +
+      "rfaceBackend\022\014\n\010WG_QUICK\020\001\022\n\n\006DIRECT\020\002B\021" +
+      "\n\010pia4javaB\005Proto"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
         });
-    internal_static_pia4java_PiaConfig_descriptor =
+    internal_static_pia4java_ServerSelection_descriptor =
       getDescriptor().getMessageTypes().get(0);
+    internal_static_pia4java_ServerSelection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_ServerSelection_descriptor,
+        new java.lang.String[] { "Region", "ProbeBudgetMs", "MaxProbes", "PortForward", });
+    internal_static_pia4java_Standby_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_pia4java_Standby_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_Standby_descriptor,
+        new java.lang.String[] { "ServerSelection", "RefreshIntervalSeconds", });
+    internal_static_pia4java_DnsSettings_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_pia4java_DnsSettings_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_DnsSettings_descriptor,
+        new java.lang.String[] { "MaxConcurrency", "QueriesPerSecond", "TimeoutMillis", });
+    internal_static_pia4java_Supervisor_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_pia4java_Supervisor_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_Supervisor_descriptor,
+        new java.lang.String[] { "CheckIntervalSeconds", "MaxHandshakeAgeSeconds", "MaxReceiveStallSeconds", "MinBackoffSeconds", "MaxBackoffSeconds", });
+    internal_static_pia4java_QualityMonitor_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_pia4java_QualityMonitor_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_QualityMonitor_descriptor,
+        new java.lang.String[] { "Target", "Port", "IntervalMillis", "TimeoutMillis", "WindowSeconds", "ReportIntervalSeconds", "MaxLossPercent", "MaxP99RttMillis", });
+    internal_static_pia4java_QualityReport_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_pia4java_QualityReport_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_QualityReport_descriptor,
+        new java.lang.String[] { "InterfaceName", "Target", "EpochMillis", "WindowSeconds", "Probes", "LossPercent", "JitterMillis", "RttP50Millis", "RttP90Millis", "RttP99Millis", "RttMaxMillis", });
+    internal_static_pia4java_PortForwarding_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_pia4java_PortForwarding_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_PortForwarding_descriptor,
+        new java.lang.String[] { "PortFile", "ApiPort", });
+    internal_static_pia4java_Tunnel_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_pia4java_Tunnel_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_Tunnel_descriptor,
+        new java.lang.String[] { "Name", "PiaWireguardServer", "ServerSelection", "TargetDomain", "PortForwarding", "DomainList", "Standby", });
+    internal_static_pia4java_PiaConfig_descriptor =
+      getDescriptor().getMessageTypes().get(8);
     internal_static_pia4java_PiaConfig_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_pia4java_PiaConfig_descriptor,
-        new java.lang.String[] { "PiaWireguardServer", "PiaWireguardPort", "PiaUsername", "PiaPassword", "TargetDomain", });
+        new java.lang.String[] { "PiaWireguardServer", "PiaWireguardPort", "PiaUsername", "PiaPassword", "TargetDomain", "ServerSelection", "CacheDir", "KeyPoolSize", "DnsServer", "Supervisor", "ServerlistPublicKey", "ServerlistMaxAgeSeconds", "Tunnel", "ShardedDomain", "PortForwarding", "InterfaceBackend", "MaxAllowedIps", "DomainList", "Dns", "Standby", "Mtu", "QualityMonitor", "InterfaceName", "PersistentKeepaliveSeconds", "UsePiaDns", "Table", "PiaCaCertificate", "TokenUrl", "ServerlistUrl", });
+    internal_static_pia4java_CachedToken_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_pia4java_CachedToken_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_CachedToken_descriptor,
+        new java.lang.String[] { "Username", "Token", "IssuedEpochMillis", });
+    internal_static_pia4java_CachedServerList_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_pia4java_CachedServerList_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_CachedServerList_descriptor,
+        new java.lang.String[] { "Etag", "LastModified", "ValidatedEpochMillis", });
+    internal_static_pia4java_ForwardedPort_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_pia4java_ForwardedPort_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_ForwardedPort_descriptor,
+        new java.lang.String[] { "Hostname", "Gateway", "Payload", "Signature", "Port", "ExpiresEpochMillis", });
+    internal_static_pia4java_DnsCache_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_pia4java_DnsCache_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_DnsCache_descriptor,
+        new java.lang.String[] { "Entry", });
+    internal_static_pia4java_DnsCache_Entry_descriptor =
+      internal_static_pia4java_DnsCache_descriptor.getNestedTypes().get(0);
+    internal_static_pia4java_DnsCache_Entry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_DnsCache_Entry_descriptor,
+        new java.lang.String[] { "Name", "Type", "Address", "ExpiresEpochMillis", });
+    internal_static_pia4java_PathMtuCache_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_pia4java_PathMtuCache_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_PathMtuCache_descriptor,
+        new java.lang.String[] { "Entry", });
+    internal_static_pia4java_PathMtuCache_Entry_descriptor =
+      internal_static_pia4java_PathMtuCache_descriptor.getNestedTypes().get(0);
+    internal_static_pia4java_PathMtuCache_Entry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_pia4java_PathMtuCache_Entry_descriptor,
+        new java.lang.String[] { "Host", "PathMtu", "MeasuredEpochMillis", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
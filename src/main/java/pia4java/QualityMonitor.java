@@ -0,0 +1,141 @@
+package pia4java;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Probes a host through a tunnel at a low rate and keeps the round trip
+ * times, jitter and loss of the last window in a {@link QualityWindow}.  Every
+ * report interval the window's percentiles are logged, as a warning if they
+ * exceed the configured limits, and written to a report file.
+ */
+class QualityMonitor {
+  private final Logger logger = Logger.getLogger(getClass().getCanonicalName());
+  private static final int WINDOW_SLOTS = 12;
+
+  interface Probe {
+    /** Returns the round trip time to {@code target}, or -1 if it didn't answer. */
+    long roundTripNanos(String target) throws IOException, InterruptedException;
+  }
+
+  private final String name;
+  private final Proto.QualityMonitor config;
+  private final Supplier<String> target;
+  private final Probe probe;
+  private final Path reportPath;
+  private final QualityWindow window;
+  private final ScheduledExecutorService executor;
+
+  /**
+   * {@code target} returns the host to probe, or null while there is none.
+   */
+  QualityMonitor(String name, Proto.QualityMonitor config, Supplier<String> target, Probe probe, Path reportPath) {
+    this.name = name;
+    this.config = config;
+    this.target = target;
+    this.probe = probe;
+    this.reportPath = reportPath;
+    this.window = new QualityWindow(TimeUnit.SECONDS.toMillis(config.getWindowSeconds()), WINDOW_SLOTS);
+    this.executor = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofVirtual().name("quality-" + name).factory());
+  }
+
+  /**
+   * Returns a probe that times a TCP connect to {@code port}.  Both an
+   * accepted and a refused connection take one round trip.
+   */
+  static Probe tcpProbe(int port, int timeoutMillis) {
+    return target -> {
+      long start = System.nanoTime();
+      try (Socket socket = new Socket()) {
+        socket.connect(new InetSocketAddress(target, port), timeoutMillis);
+      } catch (ConnectException e) {
+        // Refused: the reset took a round trip too.  Local errors, such as no
+        // route, are other SocketExceptions and took none.
+      } catch (SocketTimeoutException e) {
+        return -1;
+      }
+      return System.nanoTime() - start;
+    };
+  }
+
+  void start() {
+    executor.scheduleAtFixedRate(this::probe, 0, config.getIntervalMillis(), TimeUnit.MILLISECONDS);
+    executor.scheduleAtFixedRate(this::report, config.getReportIntervalSeconds(),
+        config.getReportIntervalSeconds(), TimeUnit.SECONDS);
+  }
+
+  void stop() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Returns the round trip times, jitter and loss of the last window.
+   */
+  QualityWindow.Snapshot snapshot() {
+    return window.snapshot(System.currentTimeMillis());
+  }
+
+  private void probe() {
+    String host = target.get();
+    if (host == null) {
+      return;
+    }
+    long rttNanos;
+    try {
+      rttNanos = probe.roundTripNanos(host);
+    } catch (IOException | RuntimeException e) {
+      logger.log(Level.FINE, "Probe of " + host + " through " + name + " failed", e);
+      rttNanos = -1;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    window.record(System.currentTimeMillis(), rttNanos);
+  }
+
+  private void report() {
+    QualityWindow.Snapshot snapshot = snapshot();
+    if (snapshot.sent == 0) {
+      return;
+    }
+    Proto.QualityReport report = Proto.QualityReport.newBuilder()
+        .setInterfaceName(name)
+        .setTarget(String.valueOf(target.get()))
+        .setEpochMillis(System.currentTimeMillis())
+        .setWindowSeconds(config.getWindowSeconds())
+        .setProbes(snapshot.sent)
+        .setLossPercent(snapshot.lossPercent())
+        .setJitterMillis(snapshot.jitterMillis())
+        .setRttP50Millis(snapshot.rttMillis(50))
+        .setRttP90Millis(snapshot.rttMillis(90))
+        .setRttP99Millis(snapshot.rttMillis(99))
+        .setRttMaxMillis(snapshot.rttMillis(100))
+        .build();
+    String summary = String.format("%s to %s: rtt p50 %.1fms p90 %.1fms p99 %.1fms max %.1fms, jitter %.1fms, "
+            + "loss %.1f%% of %d probes", name, report.getTarget(), report.getRttP50Millis(),
+        report.getRttP90Millis(), report.getRttP99Millis(), report.getRttMaxMillis(), report.getJitterMillis(),
+        report.getLossPercent(), report.getProbes());
+    if (config.hasMaxLossPercent() && report.getLossPercent() > config.getMaxLossPercent()
+        || config.hasMaxP99RttMillis() && report.getRttP99Millis() > config.getMaxP99RttMillis()) {
+      logger.warning("Degraded " + summary);
+    } else {
+      logger.info(summary);
+    }
+    try {
+      TextProtoFiles.write(reportPath, report, false);
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Unable to write " + reportPath, e);
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package pia4java;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Round trip times, losses and jitter over a sliding window, in fixed memory.
+ * The window is a ring of slots, each covering an equal span of time with its
+ * own counts and histogram, and a slot is cleared when the ring comes back
+ * round to it, so the window slides in steps of one slot.
+ *
+ * <p>The histograms are log-linear like HdrHistogram's: 32 buckets per power
+ * of two, so a percentile is within about 3% of the recorded value, in 704
+ * buckets from 1µs to 67s.
+ *
+ * <p>One thread records.  Any thread can take a {@link #snapshot} without
+ * locking; a slot that is cleared while it is being read is left out.
+ */
+class QualityWindow {
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final long MAX_MICROS = (1L << 26) - 1;
+  static final int BUCKETS = index(MAX_MICROS) + 1;
+
+  // Each slot is its start time, its counts, then its histogram.  The start
+  // is -1 while the slot is cleared.
+  private static final int START = 0;
+  private static final int SENT = 1;
+  private static final int LOST = 2;
+  private static final int JITTER_SUM_MICROS = 3;
+  private static final int JITTER_COUNT = 4;
+  private static final int HEADER = 5;
+  private static final int STRIDE = HEADER + BUCKETS;
+
+  private final long slotMillis;
+  private final int slots;
+  private final AtomicLongArray data;
+  private long lastRttMicros = -1;
+
+  QualityWindow(long windowMillis, int slots) {
+    Preconditions.checkState(slots > 0 && windowMillis >= slots, "Window of %sms in %s slots", windowMillis, slots);
+    this.slotMillis = windowMillis / slots;
+    this.slots = slots;
+    this.data = new AtomicLongArray(slots * STRIDE);
+    for (int slot = 0; slot < slots; slot++) {
+      data.set(slot * STRIDE + START, -1);
+    }
+  }
+
+  /**
+   * Records a probe sent at {@code nowMillis} that was answered after
+   * {@code rttNanos}, or lost if {@code rttNanos} is negative.
+   */
+  void record(long nowMillis, long rttNanos) {
+    int base = slot(nowMillis);
+    data.incrementAndGet(base + SENT);
+    if (rttNanos < 0) {
+      data.incrementAndGet(base + LOST);
+      return;
+    }
+    long rttMicros = Math.min(rttNanos / 1000, MAX_MICROS);
+    data.incrementAndGet(base + HEADER + index(rttMicros));
+    if (lastRttMicros >= 0) {
+      // The mean difference between consecutive round trips.
+      data.addAndGet(base + JITTER_SUM_MICROS, Math.abs(rttMicros - lastRttMicros));
+      data.incrementAndGet(base + JITTER_COUNT);
+    }
+    lastRttMicros = rttMicros;
+  }
+
+  /**
+   * Returns the offset of the slot for {@code nowMillis}, cleared first if it
+   * last held an earlier span.
+   */
+  private int slot(long nowMillis) {
+    long start = nowMillis - Math.floorMod(nowMillis, slotMillis);
+    int base = (int) Math.floorMod(nowMillis / slotMillis, (long) slots) * STRIDE;
+    if (data.get(base + START) != start) {
+      data.set(base + START, -1);
+      for (int i = base + 1; i < base + STRIDE; i++) {
+        data.set(i, 0);
+      }
+      data.set(base + START, start);
+    }
+    return base;
+  }
+
+  /**
+   * Returns the totals of the slots that started within the window before
+   * {@code nowMillis}.
+   */
+  Snapshot snapshot(long nowMillis) {
+    Snapshot snapshot = new Snapshot();
+    long[] slotCounts = new long[STRIDE];
+    for (int slot = 0; slot < slots; slot++) {
+      int base = slot * STRIDE;
+      long start = data.get(base + START);
+      if (start < 0 || start > nowMillis || nowMillis - start >= slotMillis * slots) {
+        continue;
+      }
+      for (int i = 1; i < STRIDE; i++) {
+        slotCounts[i] = data.get(base + i);
+      }
+      if (data.get(base + START) != start) {
+        continue;
+      }
+      snapshot.sent += slotCounts[SENT];
+      snapshot.lost += slotCounts[LOST];
+      snapshot.jitterSumMicros += slotCounts[JITTER_SUM_MICROS];
+      snapshot.jitterCount += slotCounts[JITTER_COUNT];
+      for (int i = 0; i < BUCKETS; i++) {
+        snapshot.counts[i] += slotCounts[HEADER + i];
+      }
+    }
+    for (long count : snapshot.counts) {
+      snapshot.answered += count;
+    }
+    return snapshot;
+  }
+
+  static class Snapshot {
+    private final long[] counts = new long[BUCKETS];
+    long sent;
+    long lost;
+    long answered;
+    private long jitterSumMicros;
+    private long jitterCount;
+
+    double lossPercent() {
+      return sent == 0 ? 0 : 100.0 * lost / sent;
+    }
+
+    double jitterMillis() {
+      return jitterCount == 0 ? 0 : jitterSumMicros / 1000.0 / jitterCount;
+    }
+
+    /**
+     * Returns the round trip time below which {@code percentile} percent of
+     * the answered probes fall, or 0 if none were answered.
+     */
+    double rttMillis(double percentile) {
+      if (answered == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * answered));
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          // The middle of the bucket.
+          return (lowest(i) + lowest(i + 1) - 1) / 2000.0;
+        }
+      }
+      return MAX_MICROS / 1000.0;
+    }
+  }
+
+  static int index(long micros) {
+    if (micros < SUB_BUCKETS) {
+      return (int) micros;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+    return ((shift + 1) << SUB_BUCKET_BITS) + (int) (micros >>> shift) - SUB_BUCKETS;
+  }
+
+  static long lowest(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = (index >> SUB_BUCKET_BITS) - 1;
+    return (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+  }
+}
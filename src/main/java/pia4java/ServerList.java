@@ -0,0 +1,28 @@
+package pia4java;
+
+/**
+ * The PIA serverlist (https://serverlist.piaservers.net/vpninfo/servers/v6).
+ * Field names follow the JSON document; the trailing signature is checked by
+ * {@link ServerListCache}.  Look servers up through a {@link ServerListIndex}.
+ */
+public class ServerList {
+  Region[] regions;
+
+  static class Region {
+    String id;
+    String name;
+    String country;
+    boolean portForward;
+    boolean offline;
+    Servers servers;
+  }
+
+  static class Servers {
+    Server[] wg;
+  }
+
+  static class Server {
+    String ip;
+    String cn;
+  }
+}
@@ -0,0 +1,184 @@
+package pia4java;
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Bytes;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The PIA serverlist, kept in memory and in the cache directory.  A copy
+ * younger than the maximum age is used without contacting the server; an older
+ * one is revalidated with If-None-Match and If-Modified-Since, so an unchanged
+ * serverlist costs a 304 and no parsing.  If the serverlist can't be fetched, a
+ * stale copy is used.
+ *
+ * <p>The document is a JSON object, a blank line and a base64 SHA-256 RSA
+ * signature of the JSON.  Given the public key, a document whose signature
+ * doesn't verify is rejected, whether it was fetched or read from disk.
+ */
+class ServerListCache {
+  private final Logger logger = Logger.getLogger(getClass().getCanonicalName());
+
+  private static final byte[] SIGNATURE_SEPARATOR = "\n\n".getBytes(StandardCharsets.US_ASCII);
+
+  private final SimpleRestClient restClient;
+  private final String url;
+  private final Path documentPath;
+  private final Path metadataPath;
+  private final Path publicKeyPath;
+  private final Duration maxAge;
+  // Held while the serverlist is fetched, which a virtual thread must not do
+  // in a monitor: that pins its carrier.
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private PublicKey publicKey;
+  private Proto.CachedServerList metadata;
+  private ServerListIndex index;
+
+  /**
+   * @param cacheDir where the document and its validators are kept
+   * @param publicKeyPath PEM file with the signing key, or null to skip the
+   *     signature check
+   */
+  ServerListCache(SimpleRestClient restClient, String url, Path cacheDir, Path publicKeyPath, Duration maxAge) {
+    this.restClient = restClient;
+    this.url = url;
+    this.documentPath = cacheDir.resolve("servers.txt");
+    this.metadataPath = cacheDir.resolve("servers-metadata.txt");
+    this.publicKeyPath = publicKeyPath;
+    this.maxAge = maxAge;
+  }
+
+  /**
+   * Returns the index of the current serverlist, fetching it only if the
+   * cached copy is missing or older than the maximum age.
+   */
+  ServerListIndex get() throws IOException, GeneralSecurityException, InterruptedException {
+    lock.lock();
+    try {
+      if (publicKey == null && publicKeyPath != null) {
+        publicKey = loadPublicKey(publicKeyPath);
+      }
+      if (index == null) {
+        load();
+      }
+      if (index != null
+          && System.currentTimeMillis() - metadata.getValidatedEpochMillis() < maxAge.toMillis()) {
+        return index;
+      }
+      try {
+        fetch();
+      } catch (IOException | GeneralSecurityException | RuntimeException e) {
+        if (index == null) {
+          throw e;
+        }
+        logger.log(Level.WARNING, "Cannot refresh the serverlist, using the cached copy", e);
+      }
+      return index;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void load() {
+    Proto.CachedServerList.Builder builder = Proto.CachedServerList.newBuilder();
+    if (!TextProtoFiles.merge(metadataPath, builder)) {
+      return;
+    }
+    try {
+      index = parse(Files.readAllBytes(documentPath));
+      metadata = builder.build();
+      logger.fine("Loaded " + index.getRegionCount() + " regions from " + documentPath);
+    } catch (NoSuchFileException e) {
+      // Only the metadata was written.
+    } catch (IOException | GeneralSecurityException | RuntimeException e) {
+      logger.log(Level.WARNING, "Ignoring cached " + documentPath, e);
+    }
+  }
+
+  private void fetch() throws IOException, GeneralSecurityException, InterruptedException {
+    Map<String, String> headers = new LinkedHashMap<>();
+    if (index != null) {
+      if (metadata.hasEtag()) {
+        headers.put("If-None-Match", metadata.getEtag());
+      }
+      if (metadata.hasLastModified()) {
+        headers.put("If-Modified-Since", metadata.getLastModified());
+      }
+    }
+    SimpleRestClient.RawResponse response = restClient.getRaw(url, headers);
+    long now = System.currentTimeMillis();
+    if (response.statusCode == HttpURLConnection.HTTP_NOT_MODIFIED && index != null) {
+      logger.fine("Serverlist not modified");
+      metadata = metadata.toBuilder().setValidatedEpochMillis(now).build();
+      TextProtoFiles.write(metadataPath, metadata, false);
+      return;
+    }
+    Preconditions.checkState(response.statusCode == HttpURLConnection.HTTP_OK,
+        "Non-OK response " + response.statusCode + " for " + url);
+
+    if (publicKey == null) {
+      logger.warning("Serverlist signature not checked; set serverlist_public_key");
+    }
+    ServerListIndex fetched = parse(response.body);
+    Proto.CachedServerList.Builder builder = Proto.CachedServerList.newBuilder().setValidatedEpochMillis(now);
+    response.headers.firstValue("ETag").ifPresent(builder::setEtag);
+    response.headers.firstValue("Last-Modified").ifPresent(builder::setLastModified);
+    AtomicFiles.write(documentPath, response.body, false);
+    TextProtoFiles.write(metadataPath, builder.build(), false);
+    index = fetched;
+    metadata = builder.build();
+    logger.info("Fetched serverlist, " + index.getRegionCount() + " regions");
+  }
+
+  private ServerListIndex parse(byte[] document) throws IOException, GeneralSecurityException {
+    int separator = Bytes.indexOf(document, SIGNATURE_SEPARATOR);
+    int jsonLength = separator >= 0 ? separator : document.length;
+    if (publicKey != null) {
+      if (separator < 0) {
+        throw new SignatureException("Serverlist is not signed");
+      }
+      String signature = new String(document, separator + SIGNATURE_SEPARATOR.length,
+          document.length - separator - SIGNATURE_SEPARATOR.length, StandardCharsets.US_ASCII).trim();
+      Signature verifier = Signature.getInstance("SHA256withRSA");
+      verifier.initVerify(publicKey);
+      verifier.update(document, 0, jsonLength);
+      if (!verifier.verify(Base64.getMimeDecoder().decode(signature))) {
+        throw new SignatureException("Bad serverlist signature");
+      }
+    }
+    ServerList serverList = SimpleRestClient.decode(
+        new ByteArrayInputStream(document, 0, jsonLength), ServerList.class);
+    Preconditions.checkState(serverList != null && serverList.regions != null, "Serverlist has no regions");
+    return new ServerListIndex(serverList);
+  }
+
+  /**
+   * Reads an RSA public key from a PEM file ("BEGIN PUBLIC KEY").
+   */
+  static PublicKey loadPublicKey(Path path) throws IOException, GeneralSecurityException {
+    String pem = Files.readString(path, StandardCharsets.US_ASCII)
+        .replaceAll("-----(BEGIN|END) PUBLIC KEY-----", "")
+        .replaceAll("\\s", "");
+    return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(pem)));
+  }
+}
@@ -0,0 +1,102 @@
+package pia4java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The online regions of a {@link ServerList} that have WireGuard servers,
+ * indexed by region id, country, port forwarding support and server ip.
+ * Immutable once built, so it can be shared between threads.
+ */
+class ServerListIndex {
+  private final Map<String, ServerList.Region> regionsById = new LinkedHashMap<>();
+  private final Map<String, List<ServerList.Region>> regionsByCountry = new HashMap<>();
+  private final List<ServerList.Region> portForwardRegions = new ArrayList<>();
+  private final Map<String, List<PiaServer>> serversByRegionId = new HashMap<>();
+  private final Map<String, PiaServer> serversByIp = new HashMap<>();
+
+  ServerListIndex(ServerList serverList) {
+    if (serverList.regions == null) {
+      return;
+    }
+    for (ServerList.Region region : serverList.regions) {
+      if (region.offline || region.id == null || region.servers == null || region.servers.wg == null
+          || region.servers.wg.length == 0) {
+        continue;
+      }
+      String id = normalize(region.id);
+      List<PiaServer> servers = new ArrayList<>(region.servers.wg.length);
+      for (ServerList.Server server : region.servers.wg) {
+        PiaServer piaServer = new PiaServer(server.cn, server.ip, region.id);
+        servers.add(piaServer);
+        serversByIp.put(server.ip, piaServer);
+      }
+      serversByRegionId.put(id, Collections.unmodifiableList(servers));
+      regionsById.put(id, region);
+      if (region.country != null) {
+        regionsByCountry.computeIfAbsent(normalize(region.country), k -> new ArrayList<>()).add(region);
+      }
+      if (region.portForward) {
+        portForwardRegions.add(region);
+      }
+    }
+  }
+
+  int getRegionCount() {
+    return regionsById.size();
+  }
+
+  /**
+   * Returns the region with {@code id}, or null if it is unknown or offline.
+   */
+  ServerList.Region getRegion(String id) {
+    return regionsById.get(normalize(id));
+  }
+
+  /**
+   * Returns the server with WireGuard endpoint {@code ip}, or null.
+   */
+  PiaServer getServerByIp(String ip) {
+    return serversByIp.get(ip);
+  }
+
+  List<PiaServer> getWireGuardServers(ServerList.Region region) {
+    return serversByRegionId.getOrDefault(normalize(region.id), List.of());
+  }
+
+  /**
+   * Returns the WireGuard servers of the regions whose id or country matches
+   * one of {@code regionFilter}, or of all regions if the filter is empty.
+   * With {@code portForwardOnly}, regions without port forwarding are left out.
+   */
+  List<PiaServer> getWireGuardServers(List<String> regionFilter, boolean portForwardOnly) {
+    List<ServerList.Region> regions = new ArrayList<>();
+    if (regionFilter.isEmpty()) {
+      regions.addAll(portForwardOnly ? portForwardRegions : regionsById.values());
+    } else {
+      for (String filter : regionFilter) {
+        ServerList.Region region = getRegion(filter);
+        if (region != null) {
+          regions.add(region);
+        }
+        regions.addAll(regionsByCountry.getOrDefault(normalize(filter), List.of()));
+      }
+    }
+    List<PiaServer> result = new ArrayList<>();
+    for (ServerList.Region region : regions.stream().distinct().toList()) {
+      if (!portForwardOnly || region.portForward) {
+        result.addAll(getWireGuardServers(region));
+      }
+    }
+    return result;
+  }
+
+  private static String normalize(String key) {
+    return key.toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,123 @@
+package pia4java;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Picks the WireGuard server with the lowest TCP connect time to its API port.
+ * All candidates are probed in parallel, one virtual thread each.
+ */
+public class ServerSelector {
+  private final Logger logger = Logger.getLogger(getClass().getCanonicalName());
+  private final Proto.ServerSelection selection;
+  private final int port;
+
+  public ServerSelector(Proto.ServerSelection selection, int port) {
+    this.selection = selection;
+    this.port = port;
+  }
+
+  public PiaServer select(ServerListIndex index) throws InterruptedException {
+    return select(index, null);
+  }
+
+  /**
+   * Like {@link #select(ServerListIndex)}, but never picks a server in region
+   * {@code excludedRegionId}.
+   */
+  public PiaServer select(ServerListIndex index, String excludedRegionId) throws InterruptedException {
+    List<PiaServer> servers = new ArrayList<>();
+    for (PiaServer server : index.getWireGuardServers(selection.getRegionList(), selection.getPortForward())) {
+      if (excludedRegionId == null || !excludedRegionId.equals(server.regionId)) {
+        servers.add(server);
+      }
+    }
+    List<PiaServer> candidates = pickCandidates(servers, selection.getMaxProbes());
+    Preconditions.checkState(!candidates.isEmpty(),
+        "No WireGuard servers match " + selection.getRegionList());
+
+    int budgetMs = selection.getProbeBudgetMs();
+    List<Callable<Long>> probes = new ArrayList<>();
+    for (PiaServer candidate : candidates) {
+      probes.add(() -> probe(candidate, budgetMs));
+    }
+    List<Future<Long>> results;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      results = executor.invokeAll(probes, budgetMs, TimeUnit.MILLISECONDS);
+    }
+
+    PiaServer best = null;
+    long bestNanos = Long.MAX_VALUE;
+    for (int i = 0; i < candidates.size(); i++) {
+      try {
+        long nanos = results.get(i).get();
+        logger.fine("Probe " + candidates.get(i) + " " + formatMillis(nanos));
+        if (nanos < bestNanos) {
+          best = candidates.get(i);
+          bestNanos = nanos;
+        }
+      } catch (ExecutionException | CancellationException e) {
+        logger.fine("Probe " + candidates.get(i) + " failed: " + e);
+      }
+    }
+    Preconditions.checkState(best != null,
+        "None of " + candidates.size() + " servers answered within " + budgetMs + "ms");
+    logger.info("Selected " + best + " rtt " + formatMillis(bestNanos)
+        + " (" + candidates.size() + " probed)");
+    return best;
+  }
+
+  /**
+   * Takes servers round-robin across regions so that a small {@code maxProbes}
+   * still samples as many regions as possible.
+   */
+  static List<PiaServer> pickCandidates(List<PiaServer> servers, int maxProbes) {
+    Map<String, Iterator<PiaServer>> byRegion = new LinkedHashMap<>();
+    Map<String, List<PiaServer>> grouped = new LinkedHashMap<>();
+    for (PiaServer server : servers) {
+      grouped.computeIfAbsent(server.regionId, k -> new ArrayList<>()).add(server);
+    }
+    grouped.forEach((region, list) -> byRegion.put(region, list.iterator()));
+
+    List<PiaServer> candidates = new ArrayList<>();
+    while (candidates.size() < maxProbes && !byRegion.isEmpty()) {
+      Iterator<Iterator<PiaServer>> regions = byRegion.values().iterator();
+      while (regions.hasNext() && candidates.size() < maxProbes) {
+        Iterator<PiaServer> region = regions.next();
+        candidates.add(region.next());
+        if (!region.hasNext()) {
+          regions.remove();
+        }
+      }
+    }
+    return candidates;
+  }
+
+  private long probe(PiaServer server, int timeoutMs) throws IOException {
+    long start = System.nanoTime();
+    try (Socket socket = new Socket()) {
+      socket.connect(new InetSocketAddress(server.ip, port), timeoutMs);
+    }
+    return System.nanoTime() - start;
+  }
+
+  private static String formatMillis(long nanos) {
+    return String.format("%.1fms", nanos / 1e6);
+  }
+}
@@ -2,52 +2,140 @@ package pia4java;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
-import com.google.gson.FieldNamingPolicy;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
 
-import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
-import java.io.Closeable;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
 import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A JSON REST client that is safe to share between threads.  Connections and
+ * TLS sessions are pooled by the underlying {@link HttpClient}, so repeated
+ * requests to the same host skip the TCP and TLS handshakes.
+ */
+public class SimpleRestClient {
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
 
-public class SimpleRestClient<T> {
   private final Logger logger = Logger.getLogger(getClass().getCanonicalName());
-  private final TrustManager trustManager;
+  private final HttpClient httpClient;
 
   private enum Method {
     GET,
     POST
   }
 
-  public SimpleRestClient(TrustManager trustManager) {
-    this.trustManager = trustManager;
+  public SimpleRestClient(TrustManager trustManager) throws NoSuchAlgorithmException, KeyManagementException {
+    SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(null, new TrustManager[]{trustManager}, null);
+    this.httpClient = HttpClient.newBuilder()
+        .sslContext(sslContext)
+        .version(HttpClient.Version.HTTP_2)
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .connectTimeout(TIMEOUT)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+  }
+
+  public <T> T get(Map<String, String> parameters, String urlString, Class<T> resultClazz)
+      throws IOException, InterruptedException {
+    return send(Method.GET, parameters, urlString, resultClazz);
   }
 
-  public T get(Map<String, String> parameters, String urlString, Class resultClazz)
-      throws IOException, NoSuchAlgorithmException, KeyManagementException {
-    return invoke(Method.GET, parameters, urlString, resultClazz);
+  public <T> T post(Map<String, String> parameters, String urlString, Class<T> resultClazz)
+      throws IOException, InterruptedException {
+    return send(Method.POST, parameters, urlString, resultClazz);
   }
 
-  public T post(Map<String, String> parameters, String urlString, Class resultClazz)
-      throws IOException, NoSuchAlgorithmException, KeyManagementException {
-    return invoke(Method.POST, parameters, urlString, resultClazz);
+  public <T> CompletableFuture<T> getAsync(Map<String, String> parameters, String urlString, Class<T> resultClazz) {
+    return sendAsync(Method.GET, parameters, urlString, resultClazz);
+  }
+
+  public <T> CompletableFuture<T> postAsync(Map<String, String> parameters, String urlString, Class<T> resultClazz) {
+    return sendAsync(Method.POST, parameters, urlString, resultClazz);
+  }
+
+  /**
+   * A response whose body was read as bytes and, if the server gzipped it,
+   * decompressed.
+   */
+  static class RawResponse {
+    final int statusCode;
+    final HttpHeaders headers;
+    final byte[] body;
+
+    RawResponse(int statusCode, HttpHeaders headers, byte[] body) {
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.body = body;
+    }
+  }
+
+  /**
+   * GETs {@code urlString} with the extra request {@code headers}, accepting a
+   * gzipped body.  Every status is returned rather than treated as an error.
+   */
+  public RawResponse getRaw(String urlString, Map<String, String> headers)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(urlString))
+        .timeout(TIMEOUT)
+        .header("Accept-Encoding", "gzip")
+        .GET();
+    headers.forEach(builder::header);
+    HttpResponse<InputStream> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+    boolean gzipped = response.statusCode() == HttpURLConnection.HTTP_OK
+        && response.headers().firstValue("Content-Encoding").orElse("").equalsIgnoreCase("gzip");
+    try (InputStream body = gzipped ? new GZIPInputStream(response.body()) : response.body()) {
+      byte[] bytes = body.readAllBytes();
+      logger.fine("Retrieved " + bytes.length + " bytes" + (gzipped ? " (gzipped)" : "")
+          + " status " + response.statusCode() + " from " + response.uri());
+      return new RawResponse(response.statusCode(), response.headers(), bytes);
+    }
   }
 
-  private T invoke(Method method, Map<String, String> parameters, String urlString, Class resultClazz)
-      throws IOException, NoSuchAlgorithmException, KeyManagementException {
+  private <T> T send(Method method, Map<String, String> parameters, String urlString, Class<T> resultClazz)
+      throws IOException, InterruptedException {
+    HttpResponse<InputStream> response = httpClient.send(
+        buildRequest(method, parameters, urlString), HttpResponse.BodyHandlers.ofInputStream());
+    return parse(response, resultClazz);
+  }
+
+  private <T> CompletableFuture<T> sendAsync(
+      Method method, Map<String, String> parameters, String urlString, Class<T> resultClazz) {
+    return httpClient.sendAsync(
+            buildRequest(method, parameters, urlString), HttpResponse.BodyHandlers.ofInputStream())
+        .thenApply(response -> {
+          try {
+            return parse(response, resultClazz);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  private HttpRequest buildRequest(Method method, Map<String, String> parameters, String urlString) {
     List<String> keyValues = new ArrayList<>();
     for (String key : parameters.keySet()) {
       keyValues.add(String.format("%s=%s",
@@ -55,51 +143,41 @@ public class SimpleRestClient<T> {
           URLEncoder.encode(parameters.get(key), StandardCharsets.UTF_8)));
     }
     String postDataString = Joiner.on('&').join(keyValues);
-    byte[] postData = null;
-    if (method == Method.POST) {
-      postData = postDataString.getBytes(StandardCharsets.UTF_8);
-    } else {
+    if (method == Method.GET && !postDataString.isEmpty()) {
       urlString = urlString + "?" + postDataString;
     }
 
-    SSLContext sslContext = SSLContext.getInstance("SSL");
-    sslContext.init(null, new TrustManager[]{trustManager}, null);
-    HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
-    HttpsURLConnection.setFollowRedirects(false);
-    URL url = new URL(urlString);
-    HttpsURLConnection connection = (HttpsURLConnection) url.openConnection();
-    connection.setConnectTimeout(5000); // 5 seconds connectTimeout
-    connection.setReadTimeout(5000); // 5 seconds socketTimeout
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(urlString))
+        .timeout(TIMEOUT);
     if (method == Method.POST) {
-      connection.setRequestMethod("POST");
-      connection.setDoOutput(true);
-      connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
-      connection.setRequestProperty("Content-Length", Integer.toString(postData.length));
-    }
-    connection.setUseCaches(false);
-
-    String content;
-    try (Closeable ignored = connection::disconnect) {
-      if (method == Method.POST) {
-        connection.getOutputStream().write(postData);
-      } else {
-        connection.connect();
-      }
-      Preconditions.checkState(connection.getResponseCode() == HttpURLConnection.HTTP_OK,
-          "Non-OK response " + connection.getResponseCode());
-      InputStream inputStream = connection.getInputStream();
-      StringBuilder sb = new StringBuilder();
-      for (int c; (c = inputStream.read()) >= 0;) {
-        sb.append((char) c);
-      }
-      content = sb.toString();
+      builder.header("Content-Type", "application/x-www-form-urlencoded")
+          .POST(HttpRequest.BodyPublishers.ofString(postDataString, StandardCharsets.UTF_8));
+    } else {
+      builder.GET();
     }
+    return builder.build();
+  }
 
-    logger.fine("Retrieved [" + content + "]");
+  private <T> T parse(HttpResponse<InputStream> response, Class<T> resultClazz) throws IOException {
+    try (InputStream body = response.body()) {
+      Preconditions.checkState(response.statusCode() == HttpURLConnection.HTTP_OK,
+          "Non-OK response " + response.statusCode());
+      T result = decode(body, resultClazz);
+      logger.fine("Retrieved " + resultClazz.getSimpleName() + " from " + response.uri());
+      return result;
+    }
+  }
 
-    Gson gson = new GsonBuilder()
-        .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-        .create();
-    return (T) gson.fromJson(content, resultClazz);
+  /**
+   * Decodes the first JSON value in {@code body}, which is left drained.
+   */
+  static <T> T decode(InputStream body, Class<T> resultClazz) throws IOException {
+    // Reads only the first JSON value; the serverlist is followed by a signature.
+    T result = JsonAdapters.GSON.fromJson(
+        new JsonReader(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))),
+        resultClazz);
+    // Drains anything after the JSON value so the connection can be reused.
+    body.transferTo(OutputStream.nullOutputStream());
+    return result;
   }
 }
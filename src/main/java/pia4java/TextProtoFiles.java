@@ -0,0 +1,48 @@
+package pia4java;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.TextFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads and writes the text format protos kept in the cache directory.
+ */
+class TextProtoFiles {
+  private static final Logger logger = Logger.getLogger(TextProtoFiles.class.getCanonicalName());
+
+  private TextProtoFiles() {}
+
+  /**
+   * Merges {@code path} into {@code builder}.  Returns false, leaving the
+   * builder untouched, if the file is missing or unreadable.
+   */
+  static boolean merge(Path path, Message.Builder builder) {
+    Message.Builder parsed = builder.clone();
+    try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      TextFormat.merge(reader, parsed);
+    } catch (NoSuchFileException e) {
+      return false;
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Ignoring unreadable " + path, e);
+      return false;
+    }
+    builder.mergeFrom(parsed.build());
+    return true;
+  }
+
+  /**
+   * Replaces {@code path} atomically with {@code message}, as
+   * {@link AtomicFiles#write} does.
+   */
+  static void write(Path path, Message message, boolean ownerOnly) throws IOException {
+    AtomicFiles.write(path, TextFormat.printer().printToString(message).getBytes(StandardCharsets.UTF_8), ownerOnly);
+  }
+}
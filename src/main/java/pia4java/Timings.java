@@ -0,0 +1,171 @@
+package pia4java;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Times the phases of a command.  Every phase is emitted as a JFR event, kept
+ * for {@link #printSummary}, and can be appended to a JSON history with
+ * percentiles across runs.
+ */
+public class Timings {
+  // Samples kept per phase in the history file.
+  private static final int MAX_HISTORY_SAMPLES = 1000;
+  private static final Gson HISTORY_GSON = new GsonBuilder().setPrettyPrinting().create();
+
+  @Name("pia4java.Phase")
+  @Label("Phase")
+  @Category("pia4java")
+  @Description("One phase of connecting, restarting or disconnecting")
+  static class PhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Detail")
+    String detail;
+
+    @Label("Outcome")
+    String outcome;
+  }
+
+  /**
+   * A running phase; {@link #close} ends it.  The outcome is "failed" unless
+   * {@link #succeed} or {@link #setOutcome} was called.
+   */
+  public class Phase implements AutoCloseable {
+    private final PhaseEvent event = new PhaseEvent();
+    private final long startNanos = System.nanoTime();
+    private String outcome = "failed";
+
+    private Phase(String phase, String detail) {
+      event.phase = phase;
+      event.detail = detail;
+      event.begin();
+    }
+
+    public void succeed() {
+      outcome = "ok";
+    }
+
+    public void setOutcome(String outcome) {
+      this.outcome = outcome;
+    }
+
+    @Override
+    public void close() {
+      event.end();
+      event.outcome = outcome;
+      event.commit();
+      record(new Sample(event.phase, event.detail, outcome, System.nanoTime() - startNanos));
+    }
+  }
+
+  private static class Sample {
+    final String phase;
+    final String detail;
+    final String outcome;
+    final long nanos;
+
+    Sample(String phase, String detail, String outcome, long nanos) {
+      this.phase = phase;
+      this.detail = detail;
+      this.outcome = outcome;
+      this.nanos = nanos;
+    }
+  }
+
+  private static class PhaseHistory {
+    long count;
+    double p50Millis;
+    double p95Millis;
+    double p99Millis;
+    List<Double> samplesMillis = new ArrayList<>();
+  }
+
+  private final List<Sample> samples = new ArrayList<>();
+
+  public Phase begin(String phase) {
+    return new Phase(phase, null);
+  }
+
+  public Phase begin(String phase, String detail) {
+    return new Phase(phase, detail);
+  }
+
+  private synchronized void record(Sample sample) {
+    samples.add(sample);
+  }
+
+  public synchronized void printSummary(PrintStream out) {
+    out.printf("%-12s %-24s %10s  %s%n", "phase", "detail", "millis", "outcome");
+    for (Sample sample : samples) {
+      out.printf("%-12s %-24s %10.1f  %s%n",
+          sample.phase, sample.detail == null ? "" : sample.detail, sample.nanos / 1e6, sample.outcome);
+    }
+  }
+
+  /**
+   * Adds this run's successful phases to the history in {@code path} and
+   * recomputes the p50/p95/p99 of each phase over its most recent samples.
+   */
+  public synchronized void appendToHistory(Path path) throws IOException {
+    Map<String, PhaseHistory> history = new TreeMap<>();
+    try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      Map<String, PhaseHistory> previous =
+          HISTORY_GSON.fromJson(reader, new TypeToken<Map<String, PhaseHistory>>() {}.getType());
+      if (previous != null) {
+        history.putAll(previous);
+      }
+    } catch (NoSuchFileException e) {
+      // First run.
+    }
+    for (Sample sample : samples) {
+      if (!sample.outcome.equals("ok")) {
+        continue;
+      }
+      String key = sample.detail == null ? sample.phase : sample.phase + " " + sample.detail;
+      PhaseHistory phaseHistory = history.computeIfAbsent(key, k -> new PhaseHistory());
+      phaseHistory.count++;
+      phaseHistory.samplesMillis.add(sample.nanos / 1e6);
+      if (phaseHistory.samplesMillis.size() > MAX_HISTORY_SAMPLES) {
+        phaseHistory.samplesMillis.subList(0, phaseHistory.samplesMillis.size() - MAX_HISTORY_SAMPLES).clear();
+      }
+    }
+    for (PhaseHistory phaseHistory : history.values()) {
+      List<Double> sorted = new ArrayList<>(phaseHistory.samplesMillis);
+      Collections.sort(sorted);
+      phaseHistory.p50Millis = percentile(sorted, 50);
+      phaseHistory.p95Millis = percentile(sorted, 95);
+      phaseHistory.p99Millis = percentile(sorted, 99);
+    }
+
+    AtomicFiles.write(path, HISTORY_GSON.toJson(history).getBytes(StandardCharsets.UTF_8), false);
+  }
+
+  private static double percentile(List<Double> sorted, int percentile) {
+    if (sorted.isEmpty()) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+    return sorted.get(Math.max(0, index));
+  }
+}
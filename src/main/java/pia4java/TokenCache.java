@@ -0,0 +1,139 @@
+package pia4java;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the PIA auth token on disk, readable only by its owner, so that
+ * connecting does not need a token round-trip while the token is still valid.
+ */
+public class TokenCache {
+  private final Logger logger = Logger.getLogger(getClass().getCanonicalName());
+
+  // PIA tokens are valid for 24 hours after they are issued.
+  static final Duration TOKEN_LIFETIME = Duration.ofHours(24);
+  // Cached tokens this close to expiry are not handed out.
+  private static final Duration EXPIRY_MARGIN = Duration.ofMinutes(10);
+  // Background refresh happens this long before expiry.
+  private static final Duration REFRESH_AHEAD = Duration.ofHours(1);
+  private static final Duration REFRESH_RETRY = Duration.ofMinutes(1);
+
+  interface TokenSource {
+    String retrieveToken() throws IOException, InterruptedException;
+  }
+
+  private final Path path;
+  private final String username;
+  private final TokenSource source;
+  // Not a monitor: a token is retrieved while it is held, and a virtual thread
+  // blocked in a monitor pins its carrier, which can starve the HTTP client.
+  private final ReentrantLock lock = new ReentrantLock();
+  private Proto.CachedToken cachedToken;
+  private boolean loaded;
+
+  public TokenCache(Path path, String username, TokenSource source) {
+    this.path = path;
+    this.username = username;
+    this.source = source;
+  }
+
+  /**
+   * Returns true if {@link #getToken} would return a cached token.
+   */
+  public boolean hasValidToken() {
+    lock.lock();
+    try {
+      load();
+      return cachedToken != null
+          && System.currentTimeMillis() < expiryMillis(cachedToken) - EXPIRY_MARGIN.toMillis();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public String getToken() throws IOException, InterruptedException {
+    lock.lock();
+    try {
+      if (hasValidToken()) {
+        return cachedToken.getToken();
+      }
+      return refresh();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves a new token regardless of the cached one, e.g. after the cached
+   * token was rejected.
+   */
+  public String refresh() throws IOException, InterruptedException {
+    lock.lock();
+    try {
+      long issuedMillis = System.currentTimeMillis();
+      String token = source.retrieveToken();
+      cachedToken = Proto.CachedToken.newBuilder()
+          .setUsername(username)
+          .setToken(token)
+          .setIssuedEpochMillis(issuedMillis)
+          .build();
+      loaded = true;
+      TextProtoFiles.write(path, cachedToken, true);
+      return token;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Keeps the cached token fresh by retrieving a new one ahead of expiry,
+   * for as long as {@code executor} runs.
+   */
+  public void scheduleRefresh(ScheduledExecutorService executor) {
+    long delayMillis;
+    lock.lock();
+    try {
+      load();
+      delayMillis = cachedToken == null
+          ? 0
+          : expiryMillis(cachedToken) - REFRESH_AHEAD.toMillis() - System.currentTimeMillis();
+    } finally {
+      lock.unlock();
+    }
+    executor.schedule(() -> {
+      try {
+        refresh();
+        logger.fine("Refreshed auth token");
+        scheduleRefresh(executor);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (IOException | RuntimeException e) {
+        logger.log(Level.WARNING, "Unable to refresh auth token", e);
+        executor.schedule(() -> scheduleRefresh(executor),
+            REFRESH_RETRY.toMillis(), TimeUnit.MILLISECONDS);
+      }
+    }, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+  }
+
+  private static long expiryMillis(Proto.CachedToken token) {
+    return token.getIssuedEpochMillis() + TOKEN_LIFETIME.toMillis();
+  }
+
+  private void load() {
+    if (loaded) {
+      return;
+    }
+    loaded = true;
+    Proto.CachedToken.Builder builder = Proto.CachedToken.newBuilder();
+    if (TextProtoFiles.merge(path, builder)
+        && builder.getUsername().equals(username) && builder.hasToken()) {
+      cachedToken = builder.build();
+    }
+  }
+}
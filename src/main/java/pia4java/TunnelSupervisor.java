@@ -0,0 +1,155 @@
+package pia4java;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches the interface's handshake and transfer counters and reconnects when
+ * the tunnel stops working, backing off exponentially (with jitter) while
+ * reconnecting fails.
+ *
+ * <p>An idle tunnel has no handshakes, so the tunnel is only judged while it
+ * sends: it is unhealthy if the latest handshake is older than
+ * {@code max_handshake_age_seconds}, or if nothing was received for
+ * {@code max_receive_stall_seconds}.  Failures are therefore detected within
+ * that bound plus {@code check_interval_seconds}.
+ */
+public class TunnelSupervisor {
+  private final Logger logger = Logger.getLogger(getClass().getCanonicalName());
+
+  interface Tunnel {
+    /** Returns the interface state, or null if the interface is down. */
+    WireGuardDump read() throws IOException, InterruptedException;
+
+    void reconnect() throws IOException, GeneralSecurityException, InterruptedException;
+  }
+
+  private final String name;
+  private final Proto.Supervisor config;
+  private final Tunnel tunnel;
+  private final ScheduledExecutorService executor;
+
+  private long lastSentBytes = -1;
+  private long lastReceivedBytes = -1;
+  private long lastReceiveMillis;
+  private long backoffMillis;
+
+  public TunnelSupervisor(String name, Proto.Supervisor config, Tunnel tunnel) {
+    this.name = name;
+    this.config = config;
+    this.tunnel = tunnel;
+    // One virtual thread does all the work; it is idle between checks.
+    this.executor = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofVirtual().name("supervisor-" + name).factory());
+    this.backoffMillis = TimeUnit.SECONDS.toMillis(config.getMinBackoffSeconds());
+  }
+
+  ScheduledExecutorService getExecutor() {
+    return executor;
+  }
+
+  public void start() {
+    executor.execute(this::tick);
+  }
+
+  /**
+   * Blocks until the supervisor is stopped.
+   */
+  public void awaitTermination() throws InterruptedException {
+    while (!executor.awaitTermination(1, TimeUnit.DAYS)) {
+      // Keep waiting.
+    }
+  }
+
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  void tick() {
+    String problem;
+    try {
+      problem = check(System.currentTimeMillis());
+    } catch (IOException | RuntimeException e) {
+      problem = "check failed: " + e;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    if (problem == null) {
+      schedule(TimeUnit.SECONDS.toMillis(config.getCheckIntervalSeconds()));
+      return;
+    }
+
+    logger.warning(name + " unhealthy (" + problem + "), reconnecting");
+    try {
+      tunnel.reconnect();
+      logger.info("Reconnected " + name);
+      resetCounters();
+      backoffMillis = TimeUnit.SECONDS.toMillis(config.getMinBackoffSeconds());
+      schedule(TimeUnit.SECONDS.toMillis(config.getCheckIntervalSeconds()));
+    } catch (IOException | GeneralSecurityException | RuntimeException e) {
+      long delayMillis = nextRetryDelayMillis();
+      logger.log(Level.WARNING, "Reconnecting " + name + " failed, retrying in " + delayMillis + "ms", e);
+      schedule(delayMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns how long to wait before reconnecting again: between half and all
+   * of the current backoff, which then doubles up to the maximum.
+   */
+  long nextRetryDelayMillis() {
+    long delayMillis = ThreadLocalRandom.current().nextLong(backoffMillis / 2, backoffMillis + 1);
+    backoffMillis = Math.min(backoffMillis * 2, TimeUnit.SECONDS.toMillis(config.getMaxBackoffSeconds()));
+    return delayMillis;
+  }
+
+  /**
+   * Returns why the tunnel is unhealthy at {@code now}, or null if it is
+   * healthy.
+   */
+  String check(long now) throws IOException, InterruptedException {
+    WireGuardDump dump = tunnel.read();
+    if (dump == null || dump.peers.isEmpty()) {
+      return "interface down";
+    }
+    WireGuardDump.Peer peer = dump.peers.get(0);
+    boolean sending = lastSentBytes >= 0 && peer.sentBytes > lastSentBytes;
+    if (peer.receivedBytes != lastReceivedBytes) {
+      lastReceiveMillis = now;
+    }
+    lastSentBytes = peer.sentBytes;
+    lastReceivedBytes = peer.receivedBytes;
+    if (!sending) {
+      return null;
+    }
+    long handshakeAgeSeconds = now / 1000 - peer.latestHandshakeEpochSeconds;
+    if (handshakeAgeSeconds > config.getMaxHandshakeAgeSeconds()) {
+      return "latest handshake " + handshakeAgeSeconds + "s ago";
+    }
+    if (now - lastReceiveMillis > TimeUnit.SECONDS.toMillis(config.getMaxReceiveStallSeconds())) {
+      return "nothing received for " + (now - lastReceiveMillis) / 1000 + "s";
+    }
+    return null;
+  }
+
+  private void resetCounters() {
+    lastSentBytes = -1;
+    lastReceivedBytes = -1;
+    lastReceiveMillis = System.currentTimeMillis();
+  }
+
+  private void schedule(long delayMillis) {
+    if (!executor.isShutdown()) {
+      executor.schedule(this::tick, delayMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package pia4java;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The state of one interface as printed by {@code wg show <interface> dump}:
+ * a line for the interface followed by a tab separated line per peer.
+ */
+class WireGuardDump {
+  static class Peer {
+    final String publicKey;
+    final String endpoint;
+    final List<String> allowedIps;
+    final long latestHandshakeEpochSeconds;
+    final long receivedBytes;
+    final long sentBytes;
+
+    Peer(String publicKey, String endpoint, List<String> allowedIps,
+        long latestHandshakeEpochSeconds, long receivedBytes, long sentBytes) {
+      this.publicKey = publicKey;
+      this.endpoint = endpoint;
+      this.allowedIps = allowedIps;
+      this.latestHandshakeEpochSeconds = latestHandshakeEpochSeconds;
+      this.receivedBytes = receivedBytes;
+      this.sentBytes = sentBytes;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("publicKey", publicKey)
+          .add("endpoint", endpoint)
+          .add("allowedIps", allowedIps.size())
+          .add("latestHandshakeEpochSeconds", latestHandshakeEpochSeconds)
+          .add("receivedBytes", receivedBytes)
+          .add("sentBytes", sentBytes)
+          .toString();
+    }
+  }
+
+  final String publicKey;
+  // Zero if the interface has no firewall mark.
+  final int fwmark;
+  final List<Peer> peers;
+
+  private WireGuardDump(String publicKey, int fwmark, List<Peer> peers) {
+    this.publicKey = publicKey;
+    this.fwmark = fwmark;
+    this.peers = peers;
+  }
+
+  static WireGuardDump parse(String dump) {
+    String[] lines = dump.split("\n");
+    // private-key, public-key, listen-port, fwmark
+    String[] interfaceFields = lines[0].split("\t");
+    Preconditions.checkArgument(interfaceFields.length >= 4, "Bad interface line " + lines[0]);
+    List<Peer> peers = new ArrayList<>();
+    for (int i = 1; i < lines.length; i++) {
+      // public-key, preshared-key, endpoint, allowed-ips, latest-handshake,
+      // transfer-rx, transfer-tx, persistent-keepalive
+      String[] fields = lines[i].split("\t");
+      Preconditions.checkArgument(fields.length >= 8, "Bad peer line " + lines[i]);
+      List<String> allowedIps = fields[3].equals("(none)")
+          ? List.of()
+          : Arrays.asList(fields[3].split(","));
+      peers.add(new Peer(fields[0], fields[2], allowedIps,
+          Long.parseLong(fields[4]), Long.parseLong(fields[5]), Long.parseLong(fields[6])));
+    }
+    int fwmark = interfaceFields[3].equals("off") ? 0 : Integer.decode(interfaceFields[3]);
+    return new WireGuardDump(interfaceFields[1], fwmark, peers);
+  }
+
+  Peer getPeer(String publicKey) {
+    for (Peer peer : peers) {
+      if (peer.publicKey.equals(publicKey)) {
+        return peer;
+      }
+    }
+    return null;
+  }
+}
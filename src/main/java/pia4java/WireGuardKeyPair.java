@@ -0,0 +1,63 @@
+package pia4java;
+
+import com.google.common.base.MoreObjects;
+
+import javax.crypto.KeyAgreement;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.spec.NamedParameterSpec;
+import java.security.spec.XECPrivateKeySpec;
+import java.security.spec.XECPublicKeySpec;
+import java.util.Base64;
+
+/**
+ * A Curve25519 keypair in the base64 format of {@code wg genkey} and
+ * {@code wg pubkey}.
+ */
+public class WireGuardKeyPair {
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final BigInteger BASE_POINT = BigInteger.valueOf(9);
+
+  final String privateKey;
+  final String publicKey;
+
+  private WireGuardKeyPair(String privateKey, String publicKey) {
+    this.privateKey = privateKey;
+    this.publicKey = publicKey;
+  }
+
+  public static WireGuardKeyPair generate() throws GeneralSecurityException {
+    byte[] privateKey = new byte[32];
+    RANDOM.nextBytes(privateKey);
+    // Clamped like wg genkey, see RFC 7748 section 5.
+    privateKey[0] &= (byte) 248;
+    privateKey[31] &= 127;
+    privateKey[31] |= 64;
+    return new WireGuardKeyPair(
+        Base64.getEncoder().encodeToString(privateKey),
+        Base64.getEncoder().encodeToString(publicKey(privateKey)));
+  }
+
+  static byte[] publicKey(byte[] privateKey) throws GeneralSecurityException {
+    KeyFactory keyFactory = KeyFactory.getInstance("XDH");
+    PrivateKey scalar = keyFactory.generatePrivate(
+        new XECPrivateKeySpec(NamedParameterSpec.X25519, privateKey));
+    PublicKey basePoint = keyFactory.generatePublic(
+        new XECPublicKeySpec(NamedParameterSpec.X25519, BASE_POINT));
+    KeyAgreement keyAgreement = KeyAgreement.getInstance("XDH");
+    keyAgreement.init(scalar);
+    keyAgreement.doPhase(basePoint, true);
+    return keyAgreement.generateSecret();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("publicKey", publicKey)
+        .toString();
+  }
+}
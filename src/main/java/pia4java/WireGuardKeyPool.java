@@ -0,0 +1,38 @@
+package pia4java;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps up to {@code size} keypairs generated ahead of time so that connecting
+ * never waits for key generation.  Each keypair is handed out once.
+ */
+public class WireGuardKeyPool {
+  private final Logger logger = Logger.getLogger(getClass().getCanonicalName());
+  private final BlockingQueue<WireGuardKeyPair> keyPairs;
+
+  public WireGuardKeyPool(int size) {
+    this.keyPairs = new ArrayBlockingQueue<>(size);
+    Thread.ofVirtual().name("wireguard-key-pool").start(this::fill);
+  }
+
+  public WireGuardKeyPair take() throws GeneralSecurityException {
+    WireGuardKeyPair keyPair = keyPairs.poll();
+    return keyPair != null ? keyPair : WireGuardKeyPair.generate();
+  }
+
+  private void fill() {
+    try {
+      while (true) {
+        keyPairs.put(WireGuardKeyPair.generate());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (GeneralSecurityException e) {
+      logger.log(Level.WARNING, "Key generation failed, pool disabled", e);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.stream.Stream;
+
+class AtomicFilesTest {
+  @TempDir
+  Path dir;
+
+  @Test
+  void replacesFiles() throws Exception {
+    Path path = dir.resolve("cache/file.txt");
+    AtomicFiles.write(path, "old".getBytes(StandardCharsets.UTF_8), false);
+    AtomicFiles.write(path, "new".getBytes(StandardCharsets.UTF_8), false);
+    assertEquals("new", Files.readString(path));
+    try (Stream<Path> files = Files.list(path.getParent())) {
+      assertEquals(List.of(path), files.toList());
+    }
+  }
+
+  @Test
+  void writesOwnerOnlyFiles() throws Exception {
+    Path path = dir.resolve("private/file.txt");
+    AtomicFiles.write(path, new byte[] {1, 2}, true);
+    assertEquals("rw-------", permissions(path));
+    assertEquals("rwx------", permissions(path.getParent()));
+  }
+
+  @Test
+  void writesFilesReadableByEveryone() throws Exception {
+    Path path = dir.resolve("file.txt");
+    AtomicFiles.write(path, new byte[] {1}, true);
+    // Replacing an owner-only file opens it up.
+    AtomicFiles.write(path, new byte[] {2}, false);
+    assertEquals("rw-r--r--", permissions(path));
+    AtomicFiles.write(path, new byte[] {3}, true);
+    assertEquals("rw-------", permissions(path));
+  }
+
+  private static String permissions(Path path) throws Exception {
+    return PosixFilePermissions.toString(Files.getPosixFilePermissions(path));
+  }
+}
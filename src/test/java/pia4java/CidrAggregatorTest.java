@@ -0,0 +1,105 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class CidrAggregatorTest {
+  // input, budget, expected
+  private static final Object[][] CASES = {
+      {List.of("10.0.0.0", "10.0.0.1"), 0, List.of("10.0.0.0/31")},
+      {List.of("10.0.0.1", "10.0.0.2"), 0, List.of("10.0.0.1/32", "10.0.0.2/32")},
+      {List.of("10.0.0.5", "10.0.0.0/24"), 0, List.of("10.0.0.0/24")},
+      {List.of("10.0.1.0/24", "10.0.0.0/24"), 0, List.of("10.0.0.0/23")},
+      {List.of("10.0.0.0/24", "10.0.0.0/24"), 0, List.of("10.0.0.0/24")},
+      {List.of("2001:db8::1", "2001:db8::"), 0, List.of("2001:db8::/127")},
+      {List.of("2001:DB8:0:0:1:0:0:1"), 0, List.of("2001:db8::1:0:0:1/128")},
+      {List.of("2001:db8::1", "1.2.3.4"), 0, List.of("1.2.3.4/32", "2001:db8::1/128")},
+      {List.of("::ffff:10.0.0.1", "::ffff:10.0.0.0/127"), 0, List.of("10.0.0.0/31")},
+      // Shorter than /96, a mapped prefix also covers IPv6 addresses.
+      {List.of("::ffff:0:0/80"), 0, List.of("::/80")},
+      {List.of("10.0.0.0", "10.0.0.3"), 1, List.of("10.0.0.0/30")},
+      {List.of("10.0.0.0", "10.0.0.3", "10.0.0.8"), 2, List.of("10.0.0.0/30", "10.0.0.8/32")},
+      // Families are never merged, whatever the budget.
+      {List.of("1.2.3.4", "2001:db8::1"), 1, List.of("1.2.3.4/32", "2001:db8::1/128")},
+      {List.of(), 0, List.of()},
+  };
+
+  @Test
+  void aggregatesCases() {
+    for (Object[] c : CASES) {
+      @SuppressWarnings("unchecked")
+      List<String> input = (List<String>) c[0];
+      assertEquals(c[2], CidrAggregator.aggregate(input, (Integer) c[1]), input + " within " + c[1]);
+    }
+  }
+
+  /**
+   * Compares random sets of addresses in 10.0.0.0/26 with a brute-force
+   * oracle over the 64 addresses, as bitmasks.
+   */
+  @Test
+  void matchesBruteForceOracle() {
+    Random random = new Random(18);
+    for (int trial = 0; trial < 5000; trial++) {
+      long addresses = 0;
+      List<String> input = new ArrayList<>();
+      for (int i = random.nextInt(24) + 1; i > 0; i--) {
+        int address = random.nextInt(64);
+        addresses |= 1L << address;
+        input.add("10.0.0." + address);
+      }
+
+      List<String> exact = CidrAggregator.aggregate(input);
+      assertEquals(addresses, cover(exact), input.toString());
+      assertEquals(fewestExact(addresses, 0, 64), exact.size(), input.toString());
+
+      int budget = random.nextInt(8) + 1;
+      List<String> budgeted = CidrAggregator.aggregate(input, budget);
+      long covered = cover(budgeted);
+      assertEquals(addresses, covered & addresses, input + " within " + budget);
+      assertTrue(budgeted.size() <= budget, input + " within " + budget + ": " + budgeted);
+      if (budget >= exact.size()) {
+        assertEquals(exact, budgeted, input + " within " + budget);
+      }
+    }
+  }
+
+  /**
+   * Returns the addresses of 10.0.0.0/26 covered by {@code prefixes}, which
+   * must be disjoint.
+   */
+  private static long cover(List<String> prefixes) {
+    long covered = 0;
+    for (String prefix : prefixes) {
+      String[] parts = prefix.split("/");
+      int first = Integer.parseInt(parts[0].substring("10.0.0.".length()));
+      int size = 1 << 32 - Integer.parseInt(parts[1]);
+      assertEquals(0, first % size, prefix);
+      long block = size == 64 ? -1L : (1L << size) - 1 << first;
+      assertEquals(0, covered & block, "Overlapping " + prefix + " in " + prefixes);
+      covered |= block;
+    }
+    return covered;
+  }
+
+  /**
+   * Returns the fewest prefixes that cover exactly the set addresses of the
+   * block of {@code size} addresses at {@code first}.
+   */
+  private static int fewestExact(long addresses, int first, int size) {
+    long block = size == 64 ? -1L : (1L << size) - 1 << first;
+    if ((addresses & block) == 0) {
+      return 0;
+    }
+    if ((addresses & block) == block) {
+      return 1;
+    }
+    return fewestExact(addresses, first, size / 2) + fewestExact(addresses, first + size / 2, size / 2);
+  }
+}
@@ -0,0 +1,32 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class CommandExecutorTest {
+  private final CommandExecutor commandExecutor = new CommandExecutor(command -> result -> {
+  }, 16);
+
+  @Test
+  void runsCommands() throws Exception {
+    CommandExecutor.Result result = commandExecutor.execute("in", "sh", "-c", "cat; echo err >&2; exit 3");
+    assertEquals("in", result.stdout);
+    assertEquals("err", result.stderr);
+    assertEquals(3, result.exitValue);
+    // Output past the limit is dropped.
+    assertEquals("x".repeat(16), commandExecutor.execute("", "sh", "-c", "printf %032d 0 | tr 0 x").stdout);
+  }
+
+  @Test
+  void killsCommandsPastTheirTimeout() {
+    long start = System.nanoTime();
+    assertThrows(CommandExecutor.CommandTimeoutException.class,
+        () -> commandExecutor.execute(Duration.ofMillis(200), "", "sh", "-c", "sleep 10 & wait"));
+    assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+  }
+}
@@ -0,0 +1,97 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+
+class DnsMessageTest {
+  private static final HexFormat HEX = HexFormat.of();
+
+  // www.example.com: a CNAME to web.example.com with an A and an AAAA
+  // record, names compressed.
+  private static final String RESPONSE = "12348180000100030000000003777777076578616d706c6503636f6d0000010001"
+      + "c00c000500010000012c000603776562c010"
+      + "c02d000100010000003c00045db8d822"
+      + "c02d001c00010000003c001020010db8000000000000000000000001";
+
+  @Test
+  void encodesQueries() {
+    // name, type, expected
+    Object[][] cases = {
+        {"example.com", DnsMessage.TYPE_A, "abcd01000001000000000000076578616d706c6503636f6d0000010001"},
+        {"Example.COM.", DnsMessage.TYPE_AAAA, "abcd01000001000000000000076578616d706c6503636f6d00001c0001"},
+        {"a", DnsMessage.TYPE_A, "abcd0100000100000000000001610000010001"},
+    };
+    for (Object[] c : cases) {
+      assertEquals(c[2], HEX.formatHex(DnsMessage.encodeQuery(0xabcd, (String) c[0], (Integer) c[1])),
+          (String) c[0]);
+    }
+    assertThrows(IllegalArgumentException.class, () -> DnsMessage.encodeQuery(1, "a..b", DnsMessage.TYPE_A));
+    assertThrows(IllegalArgumentException.class,
+        () -> DnsMessage.encodeQuery(1, "a".repeat(64) + ".com", DnsMessage.TYPE_A));
+  }
+
+  @Test
+  void decodesCompressedAnswers() throws Exception {
+    DnsMessage message = DnsMessage.decode(ByteBuffer.wrap(HEX.parseHex(RESPONSE)));
+    assertEquals(0x1234, message.id);
+    assertFalse(message.truncated);
+    assertEquals(0, message.rcode);
+    assertEquals(3, message.answers.size());
+
+    DnsMessage.Record cname = message.answers.get(0);
+    assertEquals("www.example.com", cname.name);
+    assertEquals(DnsMessage.TYPE_CNAME, cname.type);
+    assertEquals(300, cname.ttlSeconds);
+    assertEquals("web.example.com", cname.data);
+
+    DnsMessage.Record a = message.answers.get(1);
+    assertEquals("web.example.com", a.name);
+    assertEquals(DnsMessage.TYPE_A, a.type);
+    assertEquals(60, a.ttlSeconds);
+    assertEquals(InetAddress.getByName("93.184.216.34"), a.data);
+
+    DnsMessage.Record aaaa = message.answers.get(2);
+    assertEquals(DnsMessage.TYPE_AAAA, aaaa.type);
+    assertEquals(InetAddress.getByName("2001:db8::1"), aaaa.data);
+  }
+
+  @Test
+  void decodesFlags() throws Exception {
+    // NXDOMAIN, no answers.
+    DnsMessage nxdomain = DnsMessage.decode(ByteBuffer.wrap(HEX.parseHex(
+        "00018183000100000000000001610000010001")));
+    assertEquals(DnsMessage.RCODE_NXDOMAIN, nxdomain.rcode);
+    assertTrue(nxdomain.answers.isEmpty());
+    // Truncated: the answers are ignored.
+    DnsMessage truncated = DnsMessage.decode(ByteBuffer.wrap(HEX.parseHex(
+        "00018380000100010000000001610000010001c00c")));
+    assertTrue(truncated.truncated);
+    assertTrue(truncated.answers.isEmpty());
+  }
+
+  @Test
+  void rejectsMalformedResponses() {
+    String[] malformed = {
+        // A query, not a response.
+        "00010100000100000000000001610000010001",
+        // Cut short in the answer.
+        "00018180000100010000000001610000010001c00c000100010000",
+        // An answer whose name points at itself.
+        "00018180000100010000000001610000010001c013000100010000003c00047f000001",
+        // An extended label type.
+        "00018180000100000000000041610000010001",
+    };
+    for (String response : malformed) {
+      assertThrows(IllegalArgumentException.class,
+          () -> DnsMessage.decode(ByteBuffer.wrap(HEX.parseHex(response))), response);
+    }
+  }
+}
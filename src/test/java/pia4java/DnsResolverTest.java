@@ -0,0 +1,227 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class DnsResolverTest {
+  private static final int RCODE_SERVFAIL = 2;
+
+  @TempDir
+  Path dir;
+
+  private DatagramSocket socket;
+  // Answers by "type name".
+  private final Map<String, List<Answer>> answers = new ConcurrentHashMap<>();
+  private final Set<String> nxdomains = ConcurrentHashMap.newKeySet();
+  private final Set<String> unanswered = ConcurrentHashMap.newKeySet();
+  private final Set<String> failing = ConcurrentHashMap.newKeySet();
+  private final Map<String, AtomicInteger> queries = new ConcurrentHashMap<>();
+
+  private record Answer(String name, int type, long ttlSeconds, Object data) {
+  }
+
+  /** Answers queries on a loopback UDP port until the test ends. */
+  @BeforeEach
+  void startResponder() throws IOException {
+    socket = new DatagramSocket(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    Thread.ofVirtual().start(() -> {
+      byte[] buffer = new byte[512];
+      while (!socket.isClosed()) {
+        try {
+          DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+          socket.receive(packet);
+          byte[] query = Arrays.copyOf(packet.getData(), packet.getLength());
+          byte[] response = respond(query);
+          if (response != null) {
+            socket.send(new DatagramPacket(response, response.length, packet.getSocketAddress()));
+          }
+        } catch (IOException e) {
+          // Closed.
+        }
+      }
+    });
+  }
+
+  @AfterEach
+  void stopResponder() {
+    socket.close();
+  }
+
+  private byte[] respond(byte[] query) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(query);
+    int id = buffer.getShort(0) & 0xffff;
+    buffer.position(12);
+    List<String> labels = new ArrayList<>();
+    for (int length = buffer.get(); length != 0; length = buffer.get()) {
+      byte[] label = new byte[length];
+      buffer.get(label);
+      labels.add(new String(label, StandardCharsets.US_ASCII));
+    }
+    String name = String.join(".", labels);
+    int type = buffer.getShort() & 0xffff;
+    String key = type + " " + name;
+    queries.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+    if (unanswered.contains(name)) {
+      return null;
+    }
+    int rcode = failing.contains(name) ? RCODE_SERVFAIL : nxdomains.contains(name) ? DnsMessage.RCODE_NXDOMAIN : 0;
+    List<Answer> records = rcode == 0 ? answers.getOrDefault(key, List.of()) : List.of();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeShort(id);
+    out.writeShort(0x8180 | rcode);
+    out.writeShort(1);
+    out.writeShort(records.size());
+    out.writeShort(0);
+    out.writeShort(0);
+    out.write(query, 12, query.length - 12);
+    for (Answer answer : records) {
+      writeName(out, answer.name);
+      out.writeShort(answer.type);
+      out.writeShort(1);
+      out.writeInt((int) answer.ttlSeconds);
+      byte[] data = answer.data instanceof InetAddress address
+          ? address.getAddress()
+          : encodeName((String) answer.data);
+      out.writeShort(data.length);
+      out.write(data);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static byte[] encodeName(String name) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    writeName(new DataOutputStream(bytes), name);
+    return bytes.toByteArray();
+  }
+
+  private static void writeName(DataOutputStream out, String name) throws IOException {
+    for (String label : name.split("\\.")) {
+      out.writeByte(label.length());
+      out.writeBytes(label);
+    }
+    out.writeByte(0);
+  }
+
+  private void answer(String question, int type, Answer... records) {
+    answers.put(type + " " + question, List.of(records));
+  }
+
+  private int queryCount(String name, int type) {
+    AtomicInteger count = queries.get(type + " " + name);
+    return count == null ? 0 : count.get();
+  }
+
+  private DnsResolver newResolver(int timeoutMillis) {
+    return new DnsResolver((InetSocketAddress) socket.getLocalSocketAddress(), dir.resolve("dns.txt"),
+        Proto.DnsSettings.newBuilder().setTimeoutMillis(timeoutMillis).build());
+  }
+
+  @Test
+  void followsCnames() throws Exception {
+    InetAddress web = InetAddress.getByName("93.184.216.34");
+    InetAddress target = InetAddress.getByName("10.0.0.2");
+    // The chain within one answer.
+    answer("www.example.com", DnsMessage.TYPE_A,
+        new Answer("www.example.com", DnsMessage.TYPE_CNAME, 300, "web.example.com"),
+        new Answer("web.example.com", DnsMessage.TYPE_A, 60, web));
+    // A chain that ends without addresses is queried again at its end.
+    answer("alias.example.com", DnsMessage.TYPE_A,
+        new Answer("alias.example.com", DnsMessage.TYPE_CNAME, 300, "middle.example.com"),
+        new Answer("middle.example.com", DnsMessage.TYPE_CNAME, 300, "target.example.net"));
+    answer("target.example.net", DnsMessage.TYPE_A, new Answer("target.example.net", DnsMessage.TYPE_A, 60, target));
+
+    DnsResolver resolver = newResolver(5000);
+    assertEquals(List.of(web), resolver.resolve("WWW.example.com."));
+    assertEquals(0, queryCount("web.example.com", DnsMessage.TYPE_A));
+    assertEquals(List.of(target), resolver.resolve("alias.example.com"));
+    assertEquals(1, queryCount("target.example.net", DnsMessage.TYPE_A));
+    assertEquals(0, queryCount("middle.example.com", DnsMessage.TYPE_A));
+  }
+
+  @Test
+  void givesUpOnNameAtDeadline() throws Exception {
+    InetAddress address = InetAddress.getByName("10.0.0.1");
+    answer("fast.example.com", DnsMessage.TYPE_A, new Answer("fast.example.com", DnsMessage.TYPE_A, 60, address));
+    unanswered.add("slow.example.com");
+
+    DnsResolver resolver = newResolver(300);
+    long start = System.nanoTime();
+    Map<String, List<InetAddress>> resolved = resolver.resolveAll(List.of("slow.example.com", "fast.example.com"));
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    assertEquals(Map.of("fast.example.com", List.of(address)), resolved);
+    // Well within the 2s timeout of a single attempt.
+    assertTrue(elapsedMillis < 1500, elapsedMillis + "ms");
+    assertEquals(1, queryCount("slow.example.com", DnsMessage.TYPE_A));
+  }
+
+  @Test
+  void cachesNegativeAnswers() throws Exception {
+    InetAddress address = InetAddress.getByName("10.0.0.1");
+    nxdomains.add("missing.example.com");
+    answer("v4.example.com", DnsMessage.TYPE_A, new Answer("v4.example.com", DnsMessage.TYPE_A, 60, address));
+
+    DnsResolver resolver = newResolver(5000);
+    for (int i = 0; i < 2; i++) {
+      assertEquals(List.of(), resolver.resolve("missing.example.com"));
+      assertEquals(List.of(address), resolver.resolve("v4.example.com"));
+    }
+    assertEquals(1, queryCount("missing.example.com", DnsMessage.TYPE_A));
+    assertEquals(1, queryCount("missing.example.com", DnsMessage.TYPE_AAAA));
+    assertEquals(1, queryCount("v4.example.com", DnsMessage.TYPE_AAAA));
+
+    // Kept on disk too.
+    DnsResolver reloaded = newResolver(5000);
+    assertEquals(List.of(), reloaded.resolve("missing.example.com"));
+    assertEquals(1, queryCount("missing.example.com", DnsMessage.TYPE_A));
+  }
+
+  @Test
+  void reusesExpiredAnswers() throws Exception {
+    long now = System.currentTimeMillis();
+    TextProtoFiles.write(dir.resolve("dns.txt"), Proto.DnsCache.newBuilder()
+        .addEntry(Proto.DnsCache.Entry.newBuilder()
+            .setName("stale.example.com").setType(DnsMessage.TYPE_A).addAddress("10.0.0.9")
+            .setExpiresEpochMillis(now - 60_000))
+        .addEntry(Proto.DnsCache.Entry.newBuilder()
+            .setName("stale.example.com").setType(DnsMessage.TYPE_AAAA)
+            .setExpiresEpochMillis(now - 60_000))
+        // Expired more than a day ago.
+        .addEntry(Proto.DnsCache.Entry.newBuilder()
+            .setName("old.example.com").setType(DnsMessage.TYPE_A).addAddress("10.0.0.10")
+            .setExpiresEpochMillis(now - 2 * 86_400_000L))
+        .build(), false);
+    failing.add("stale.example.com");
+    failing.add("old.example.com");
+
+    DnsResolver resolver = newResolver(5000);
+    assertEquals(List.of(InetAddress.getByName("10.0.0.9")), resolver.resolve("stale.example.com"));
+    assertEquals(1, queryCount("stale.example.com", DnsMessage.TYPE_A));
+    assertThrows(IOException.class, () -> resolver.resolve("old.example.com"));
+  }
+}
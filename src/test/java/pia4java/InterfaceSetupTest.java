@@ -0,0 +1,106 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+class InterfaceSetupTest {
+  private static InterfaceSetup setup(List<String> allowedIps, String table) {
+    return new InterfaceSetup("pia", "10.1.2.3", 1400, "cHJpdmF0ZQ==", "cGVlcg==", "203.0.113.1:1337",
+        allowedIps, List.of("10.0.0.243"), table, 25);
+  }
+
+  @Test
+  void rendersDefaultRoute() throws Exception {
+    InterfaceSetup setup = setup(List.of("0.0.0.0/0", "192.0.2.0/24"), InterfaceSetup.TABLE_AUTO);
+    assertEquals("""
+        link add dev pia type wireguard
+        address add 10.1.2.3 dev pia
+        link set dev pia mtu 1400 up
+        route add 192.0.2.0/24 dev pia
+        """, setup.getUpCommands());
+    assertEquals("""
+        route add 0.0.0.0/0 dev pia table 51820
+        rule add not fwmark 51820 table 51820
+        rule add table main suppress_prefixlength 0
+        """, setup.getDefaultRouteCommands());
+    assertEquals("""
+        [Interface]
+        PrivateKey = cHJpdmF0ZQ==
+        FwMark = 51820
+        [Peer]
+        PublicKey = cGVlcg==
+        AllowedIPs = 0.0.0.0/0, 192.0.2.0/24
+        Endpoint = 203.0.113.1:1337
+        PersistentKeepalive = 25
+        """, setup.getWireGuardConfiguration());
+    assertEquals("""
+        link del dev pia
+        rule del not fwmark 51820 table 51820
+        rule del table main suppress_prefixlength 0
+        """, InterfaceSetup.getDownCommands("pia", setup.hasDefaultRoute()));
+  }
+
+  @Test
+  void rendersRoutesInTables() {
+    // table, expected up commands
+    String[][] cases = {
+        {InterfaceSetup.TABLE_AUTO, "route add 192.0.2.0/24 dev pia\nroute add 2001:db8::/32 dev pia\n"},
+        {"1000", "route add 192.0.2.0/24 dev pia table 1000\nroute add 2001:db8::/32 dev pia table 1000\n"},
+        {InterfaceSetup.TABLE_OFF, ""},
+    };
+    for (String[] c : cases) {
+      InterfaceSetup setup = setup(List.of("192.0.2.0/24", "2001:db8::/32"), c[0]);
+      assertEquals("link add dev pia type wireguard\naddress add 10.1.2.3 dev pia\nlink set dev pia mtu 1400 up\n"
+          + c[1], setup.getUpCommands(), c[0]);
+      assertEquals("", setup.getDefaultRouteCommands(), c[0]);
+    }
+    // A default route in a given table is an ordinary route.
+    assertEquals("route add 0.0.0.0/0 dev pia table 1000\n",
+        setup(List.of("0.0.0.0/0"), "1000").getUpCommands().split("up\n")[1]);
+    assertEquals("link del dev pia\n", InterfaceSetup.getDownCommands("pia", false));
+  }
+
+  @Test
+  void scalesCommandTimeoutWithRoutes() {
+    assertEquals(Duration.ofMillis(30_010), setup(List.of("0.0.0.0/0", "::/0"), "auto").getCommandTimeout());
+    assertEquals(Duration.ofSeconds(530),
+        setup(Collections.nCopies(100_000, "192.0.2.1/32"), "auto").getCommandTimeout());
+  }
+
+  @Test
+  void writesWgQuickConfiguration() throws Exception {
+    StringWriter out = new StringWriter();
+    setup(List.of("0.0.0.0/0"), "off").writeWgQuickConfiguration(out);
+    assertEquals("""
+        [Interface]
+        Address = 10.1.2.3
+        PrivateKey = cHJpdmF0ZQ==
+        MTU = 1400
+        DNS = 10.0.0.243
+        Table = off
+        [Peer]
+        PublicKey = cGVlcg==
+        AllowedIPs = 0.0.0.0/0
+        Endpoint = 203.0.113.1:1337
+        PersistentKeepalive = 25
+        """, out.toString());
+  }
+
+  @Test
+  void omitsKeepaliveByDefault() throws Exception {
+    InterfaceSetup setup = new InterfaceSetup("pia", "10.1.2.3", 1400, "cHJpdmF0ZQ==", "cGVlcg==", "203.0.113.1:1337",
+        List.of("0.0.0.0/0"), List.of(), InterfaceSetup.TABLE_AUTO,
+        Proto.PiaConfig.getDefaultInstance().getPersistentKeepaliveSeconds());
+    StringWriter out = new StringWriter();
+    setup.writeWgQuickConfiguration(out);
+    assertFalse(setup.getWireGuardConfiguration().contains("PersistentKeepalive"));
+    assertFalse(out.toString().contains("PersistentKeepalive"));
+  }
+}
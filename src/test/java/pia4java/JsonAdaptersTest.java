@@ -0,0 +1,50 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class JsonAdaptersTest {
+  private static final String ADD_KEY_RESPONSE = """
+      {"status":"OK","server_key":"c2VydmVy","server_port":1337,"server_ip":"203.0.113.1",
+       "server_vip":"10.0.0.1","peer_ip":"10.1.2.3","peer_pubkey":"cGVlcg==",
+       "dns_servers":["10.0.0.243","10.0.0.242"],"unknown":{"nested":[1,2]}}""";
+
+  @Test
+  void readsResponses() {
+    PiaManager.AddKeyResponse response = JsonAdapters.GSON.fromJson(ADD_KEY_RESPONSE, PiaManager.AddKeyResponse.class);
+    assertEquals("OK", response.status);
+    assertEquals("c2VydmVy", response.serverKey);
+    assertEquals(1337, response.serverPort);
+    assertEquals("203.0.113.1", response.serverIp);
+    assertEquals("10.0.0.1", response.serverVip);
+    assertEquals("10.1.2.3", response.peerIp);
+    assertArrayEquals(new String[] {"10.0.0.243", "10.0.0.242"}, response.dnsServers);
+
+    ServerList serverList = JsonAdapters.GSON.fromJson("""
+        {"groups":{},"regions":[{"id":"ca","name":"CA Montreal","country":"CA","port_forward":true,
+         "offline":false,"servers":{"wg":[{"ip":"203.0.113.2","cn":"montreal401"}],"ovpn":[]}}]}""",
+        ServerList.class);
+    ServerList.Region region = serverList.regions[0];
+    assertEquals("ca", region.id);
+    assertTrue(region.portForward);
+    assertFalse(region.offline);
+    assertEquals("montreal401", region.servers.wg[0].cn);
+
+    assertNull(JsonAdapters.GSON.fromJson("null", PiaManager.TokenResponse.class));
+    assertNull(JsonAdapters.GSON.fromJson("{\"token\":null}", PiaManager.TokenResponse.class).token);
+  }
+
+  @Test
+  void writesWhatItReads() {
+    PiaManager.AddKeyResponse response = JsonAdapters.GSON.fromJson(ADD_KEY_RESPONSE, PiaManager.AddKeyResponse.class);
+    String json = JsonAdapters.GSON.toJson(response);
+    assertEquals(response.toString(),
+        JsonAdapters.GSON.fromJson(json, PiaManager.AddKeyResponse.class).toString(), json);
+    assertEquals("null", JsonAdapters.GSON.toJson(null, PiaManager.AddKeyResponse.class));
+  }
+}
@@ -0,0 +1,119 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+class PathMtuDiscoveryTest {
+  @TempDir
+  Path cacheDir;
+
+  /**
+   * A path that passes packets up to {@code pathMtu}, where a router reports
+   * {@code reportedMtu} for bigger ones, if positive, and a fraction of
+   * packets is lost.
+   */
+  private static class FakeProbe implements PathMtuDiscovery.Probe {
+    final int pathMtu;
+    final int reportedMtu;
+    final double loss;
+    final Random random = new Random(21);
+    int sent;
+
+    FakeProbe(int pathMtu, int reportedMtu, double loss) {
+      this.pathMtu = pathMtu;
+      this.reportedMtu = reportedMtu;
+      this.loss = loss;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Integer> send(String host, int packetSize) {
+      sent++;
+      if (pathMtu == 0 || random.nextDouble() < loss) {
+        return CompletableFuture.completedFuture(PathMtuDiscovery.LOST);
+      }
+      if (packetSize <= pathMtu) {
+        return CompletableFuture.completedFuture(PathMtuDiscovery.PASSED);
+      }
+      return CompletableFuture.completedFuture(reportedMtu > 0 ? reportedMtu : PathMtuDiscovery.LOST);
+    }
+  }
+
+  private PathMtuDiscovery discovery(FakeProbe probe) {
+    return new PathMtuDiscovery(probe, cacheDir.resolve("mtu.txt"));
+  }
+
+  @Test
+  void findsPathMtu() throws Exception {
+    // host, path MTU, reported MTU, expected
+    Object[][] cases = {
+        {"192.0.2.1", 1500, 0, 1500},
+        {"192.0.2.1", 1400, 0, 1400},
+        {"192.0.2.1", 1400, 1400, 1400},
+        {"192.0.2.1", 576, 0, 576},
+        {"192.0.2.1", 1492, 9000, 1492},
+        {"192.0.2.1", 1492, 100, 1492},
+        {"192.0.2.1", 0, 0, 0},
+        {"2001:db8::1", 1280, 0, 1280},
+        {"2001:db8::1", 1480, 1480, 1480},
+    };
+    for (Object[] c : cases) {
+      FakeProbe probe = new FakeProbe((Integer) c[1], (Integer) c[2], 0);
+      assertEquals(c[3], discovery(probe).discover((String) c[0]), Arrays.toString(c));
+    }
+  }
+
+  @Test
+  void reportedMtuSavesRounds() throws Exception {
+    FakeProbe searched = new FakeProbe(1400, 0, 0);
+    FakeProbe reported = new FakeProbe(1400, 1400, 0);
+    discovery(searched).discover("192.0.2.1");
+    discovery(reported).discover("192.0.2.1");
+    assertTrue(reported.sent < searched.sent, reported.sent + " probes, not under " + searched.sent);
+  }
+
+  @Test
+  void neverOverestimatesWithLoss() throws Exception {
+    for (int pathMtu = 600; pathMtu <= 1500; pathMtu += 37) {
+      for (double loss : new double[] {0.1, 0.3}) {
+        FakeProbe probe = new FakeProbe(pathMtu, 0, loss);
+        int found = discovery(probe).discover("192.0.2.1");
+        assertTrue(found == 0 || found >= 576 && found <= pathMtu, found + " for " + pathMtu + " at loss " + loss);
+      }
+    }
+  }
+
+  @Test
+  void cachesTunnelMtu() throws Exception {
+    FakeProbe probe = new FakeProbe(1400, 0, 0);
+    assertEquals(1400 - PathMtuDiscovery.IPV4_OVERHEAD, discovery(probe).getTunnelMtu("192.0.2.1", 1420));
+    int sent = probe.sent;
+    // A new instance reads the result from disk.
+    assertEquals(1400 - PathMtuDiscovery.IPV4_OVERHEAD, discovery(probe).getTunnelMtu("192.0.2.1", 1420));
+    assertEquals(sent, probe.sent);
+    assertEquals(1420, discovery(new FakeProbe(0, 0, 0)).getTunnelMtu("192.0.2.2", 1420));
+  }
+
+  @Test
+  void pingsOutsideTheTunnel() throws Exception {
+    List<String[]> commands = new ArrayList<>();
+    CommandExecutor commandExecutor = new CommandExecutor(command -> result -> {
+    }, (timeout, input, command) -> {
+      commands.add(command);
+      return CompletableFuture.completedFuture(new CommandExecutor.Result("", "", 0));
+    });
+    PathMtuDiscovery.Probe probe = PathMtuDiscovery.pingProbe(commandExecutor);
+    assertEquals(PathMtuDiscovery.PASSED, probe.send("192.0.2.1", 1400).get());
+    assertEquals(List.of("ping", "-4", "-n", "-q", "-c", "1", "-W", "1", "-M", "do", "-m", "51820", "-s", "1372",
+        "192.0.2.1"), Arrays.asList(commands.get(0)));
+  }
+}
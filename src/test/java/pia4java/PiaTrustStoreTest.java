@@ -0,0 +1,50 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import javax.net.ssl.X509ExtendedTrustManager;
+
+class PiaTrustStoreTest {
+  private static final Path PIA_CA = Paths.get("props/ca.rsa.4096.crt");
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void keepsTrustManagerUntilThePemChanges() throws Exception {
+    Path pem = dir.resolve("ca.crt");
+    Path cache = dir.resolve("cache/pia-ca.p12");
+    String ca = Files.readString(PIA_CA);
+    Files.writeString(pem, ca);
+    Files.setLastModifiedTime(pem, FileTime.from(Instant.parse("2026-01-01T00:00:00Z")));
+
+    X509ExtendedTrustManager first = PiaTrustStore.getPiaTrustManager(pem, cache);
+    assertEquals(1, first.getAcceptedIssuers().length);
+    assertSame(first, PiaTrustStore.getPiaTrustManager(pem, cache));
+
+    // Not read again while the modification time stays the same.
+    Files.writeString(pem, "not a certificate\n");
+    Files.setLastModifiedTime(pem, FileTime.from(Instant.parse("2026-01-01T00:00:00Z")));
+    assertSame(first, PiaTrustStore.getPiaTrustManager(pem, cache));
+    Files.setLastModifiedTime(pem, FileTime.from(Instant.parse("2026-01-02T00:00:00Z")));
+    assertThrows(IllegalStateException.class, () -> PiaTrustStore.getPiaTrustManager(pem, cache));
+
+    Files.writeString(pem, ca);
+    Files.setLastModifiedTime(pem, FileTime.from(Instant.parse("2026-01-03T00:00:00Z")));
+    X509ExtendedTrustManager edited = PiaTrustStore.getPiaTrustManager(pem, cache);
+    assertNotSame(first, edited);
+    assertSame(edited, PiaTrustStore.getPiaTrustManager(pem, cache));
+  }
+}
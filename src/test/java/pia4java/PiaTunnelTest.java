@@ -0,0 +1,113 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class PiaTunnelTest {
+  @TempDir
+  Path dir;
+
+  @Test
+  void keepsShardsWhenTunnelIsAdded() {
+    int moved = 0;
+    for (int i = 0; i < 2000; i++) {
+      String domain = "host" + i + ".example.com";
+      int shard = PiaTunnel.shardOf(domain, 3);
+      assertTrue(shard >= 0 && shard < 3, domain);
+      assertEquals(shard, PiaTunnel.shardOf(domain, 3), domain);
+      assertEquals(shard, PiaTunnel.shardOf(domain.toUpperCase() + ".", 3), domain);
+      int added = PiaTunnel.shardOf(domain, 4);
+      if (added != shard) {
+        // Only to the new tunnel.
+        assertEquals(3, added, domain);
+        moved++;
+      }
+    }
+    // About a quarter move.
+    assertTrue(moved > 400 && moved < 600, moved + " moved");
+  }
+
+  @Test
+  void readsDomainLists() throws Exception {
+    Path list = dir.resolve("domains.txt");
+    Files.writeString(list, String.join("\n",
+        "# Streaming",
+        "",
+        "example.com",
+        "  Example.NET.  ",
+        "example.org # trailing comment",
+        "\t",
+        "#example.info",
+        "example.com",
+        "last.example"));
+    assertEquals(List.of("example.com", "example.net", "example.org", "last.example"),
+        PiaTunnel.readDomainList(list));
+
+    Files.writeString(list, "# Nothing yet\n\n");
+    assertEquals(List.of(), PiaTunnel.readDomainList(list));
+  }
+
+  @Test
+  void buildsTunnelsFromConfig() throws Exception {
+    Path list = dir.resolve("domains.txt");
+    Files.writeString(list, "listed.example\n");
+    Proto.PiaConfig config = Proto.PiaConfig.newBuilder()
+        .addTunnel(Proto.Tunnel.newBuilder().setPiaWireguardServer("10.0.0.1").addTargetDomain("a.example"))
+        .addTunnel(Proto.Tunnel.newBuilder().setName("wg-b").setPiaWireguardServer("10.0.0.2")
+            .addDomainList(list.toString()))
+        .addShardedDomain("sharded.example")
+        .build();
+    List<PiaTunnel> tunnels = PiaTunnel.fromConfig(config, dir);
+    assertEquals(2, tunnels.size());
+    assertEquals("pia0", tunnels.get(0).interfaceName);
+    assertEquals(dir.resolve("pia0.conf"), tunnels.get(0).configurationPath);
+    assertEquals("wg-b", tunnels.get(1).interfaceName);
+    assertTrue(tunnels.get(0).domains.contains("a.example"));
+    assertTrue(tunnels.get(1).domains.contains("listed.example"));
+    assertTrue(tunnels.get(PiaTunnel.shardOf("sharded.example", 2)).domains.contains("sharded.example"));
+    assertNull(tunnels.get(0).portForwarding);
+
+    // A single tunnel from the top level fields may route everything.
+    tunnels = PiaTunnel.fromConfig(Proto.PiaConfig.newBuilder().setPiaWireguardServer("10.0.0.1").build(), dir);
+    assertEquals(1, tunnels.size());
+    assertEquals("pia", tunnels.get(0).interfaceName);
+    assertEquals(List.of(), tunnels.get(0).domains);
+  }
+
+  @Test
+  void rejectsInvalidTunnels() {
+    Proto.Tunnel.Builder tunnel = Proto.Tunnel.newBuilder().setPiaWireguardServer("10.0.0.1");
+    Proto.PiaConfig[] invalid = {
+        // Duplicate names, explicit or not.
+        Proto.PiaConfig.newBuilder()
+            .addTunnel(tunnel.clone().setName("wg").addTargetDomain("a.example"))
+            .addTunnel(tunnel.clone().setName("wg").addTargetDomain("b.example"))
+            .build(),
+        Proto.PiaConfig.newBuilder()
+            .addTunnel(tunnel.clone().addTargetDomain("a.example"))
+            .addTunnel(tunnel.clone().setName("pia0").addTargetDomain("b.example"))
+            .build(),
+        // Without domains, next to another tunnel.
+        Proto.PiaConfig.newBuilder()
+            .addTunnel(tunnel.clone().addTargetDomain("a.example"))
+            .addTunnel(tunnel.clone())
+            .build(),
+        // Without a server.
+        Proto.PiaConfig.newBuilder()
+            .addTunnel(Proto.Tunnel.newBuilder().addTargetDomain("a.example"))
+            .build(),
+    };
+    for (Proto.PiaConfig config : invalid) {
+      assertThrows(IllegalStateException.class, () -> PiaTunnel.fromConfig(config, dir), config.toString());
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+class PortForwarderTest {
+  @TempDir
+  Path dir;
+
+  /** Answers getSignature and bindPort without a server. */
+  private static class FakeRestClient extends SimpleRestClient {
+    FakeRestClient() throws Exception {
+      super(new PiaTrustManager(Path.of("unused")));
+    }
+
+    @Override
+    public <T> T get(Map<String, String> parameters, String urlString, Class<T> resultClazz) {
+      PortForwarder.SignatureResponse response = new PortForwarder.SignatureResponse();
+      response.status = "OK";
+      String payload = "{\"port\":47123,\"expires_at\":\"" + Instant.now().plus(60, ChronoUnit.DAYS) + "\"}";
+      response.payload = Base64.getEncoder().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+      response.signature = "signature";
+      return resultClazz.cast(response);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getAsync(Map<String, String> parameters, String urlString,
+        Class<T> resultClazz) {
+      PortForwarder.BindPortResponse response = new PortForwarder.BindPortResponse();
+      response.status = "OK";
+      return CompletableFuture.completedFuture(resultClazz.cast(response));
+    }
+  }
+
+  @Test
+  void writesPortFileReadableByEveryone() throws Exception {
+    Path cacheDir = dir.resolve("cache");
+    PortForwarder portForwarder = new PortForwarder(new FakeRestClient(), new PiaTrustManager(Path.of("unused")),
+        new TokenCache(cacheDir.resolve("token.txt"), "p1234567", () -> "token"), cacheDir);
+
+    assertEquals(47123, portForwarder.forward("pia0", Proto.PortForwarding.getDefaultInstance(),
+        "server", "10.0.0.1"));
+    Path portFile = cacheDir.resolve("pia0.port");
+    assertEquals("47123\n", Files.readString(portFile));
+    assertEquals("rw-r--r--", PosixFilePermissions.toString(Files.getPosixFilePermissions(portFile)));
+    // The signed payload, unlike the port, stays private.
+    assertEquals("rw-------",
+        PosixFilePermissions.toString(Files.getPosixFilePermissions(cacheDir.resolve("pia0-port.txt"))));
+
+    portForwarder.stop("pia0", Proto.PortForwarding.getDefaultInstance());
+    assertFalse(Files.exists(portFile));
+  }
+}
@@ -0,0 +1,21 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+
+class QualityMonitorTest {
+  @Test
+  void timesAcceptedAndRefusedConnects() throws Exception {
+    int port;
+    try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      port = server.getLocalPort();
+      assertTrue(QualityMonitor.tcpProbe(port, 1000).roundTripNanos("127.0.0.1") > 0);
+    }
+    // Nothing listens on the port any more: refused, whatever the message.
+    assertTrue(QualityMonitor.tcpProbe(port, 1000).roundTripNanos("127.0.0.1") > 0);
+  }
+}
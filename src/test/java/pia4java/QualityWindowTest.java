@@ -0,0 +1,105 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class QualityWindowTest {
+  private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  void roundTripsBucketEdges() {
+    assertEquals(704, QualityWindow.BUCKETS);
+    for (int i = 0; i < QualityWindow.BUCKETS; i++) {
+      long lowest = QualityWindow.lowest(i);
+      long highest = QualityWindow.lowest(i + 1) - 1;
+      assertEquals(i, QualityWindow.index(lowest), "lowest of " + i);
+      assertEquals(i, QualityWindow.index(highest), "highest of " + i);
+      // Within about 3% of any value in the bucket.
+      assertTrue(highest - lowest <= Math.max(0, lowest / 32), "width of " + i);
+    }
+    assertEquals(0, QualityWindow.index(0));
+    assertEquals(31, QualityWindow.index(31));
+    assertEquals(63, QualityWindow.index(63));
+    assertEquals(64, QualityWindow.index(64));
+    assertEquals(64, QualityWindow.index(65));
+    assertEquals(65, QualityWindow.index(66));
+    assertEquals(QualityWindow.BUCKETS - 1, QualityWindow.index((1L << 26) - 1));
+  }
+
+  @Test
+  void computesPercentiles() {
+    QualityWindow window = new QualityWindow(60_000, 6);
+    assertEquals(0, window.snapshot(0).rttMillis(50));
+
+    // 1ms to 100ms, recorded out of order.
+    for (int i = 0; i < 100; i++) {
+      window.record(1000, (i * 37 % 100 + 1) * MILLI);
+    }
+    QualityWindow.Snapshot snapshot = window.snapshot(1000);
+    assertEquals(100, snapshot.answered);
+    // percentile, expected milliseconds
+    double[][] cases = {{1, 1}, {50, 50}, {90, 90}, {99, 99}, {100, 100}};
+    for (double[] c : cases) {
+      double rtt = snapshot.rttMillis(c[0]);
+      assertEquals(c[1], rtt, c[1] / 32, "p" + c[0]);
+    }
+
+    // Below 32µs every bucket holds a single value.
+    window = new QualityWindow(60_000, 6);
+    for (long micros : new long[] {3, 5, 5, 7}) {
+      window.record(0, TimeUnit.MICROSECONDS.toNanos(micros));
+    }
+    assertEquals(0.003, window.snapshot(0).rttMillis(25));
+    assertEquals(0.005, window.snapshot(0).rttMillis(50));
+    assertEquals(0.007, window.snapshot(0).rttMillis(100));
+
+    // Longer round trips count as the longest.
+    window.record(0, TimeUnit.MINUTES.toNanos(5));
+    assertEquals((1L << 26) / 1000.0, window.snapshot(0).rttMillis(100), 67_108.864 / 32);
+  }
+
+  @Test
+  void expiresSamplesAfterTheWindow() {
+    // Ten slots of one second.
+    QualityWindow window = new QualityWindow(10_000, 10);
+    window.record(500, 10 * MILLI);
+    window.record(5_500, 20 * MILLI);
+    assertEquals(2, window.snapshot(5_500).answered);
+    assertEquals(2, window.snapshot(9_999).answered);
+    // The first slot started at 0, a window ago.
+    assertEquals(1, window.snapshot(10_000).answered);
+    assertEquals(1, window.snapshot(14_999).answered);
+    assertEquals(0, window.snapshot(15_000).answered);
+
+    // The ring comes back round to the first slot, which is cleared.
+    window.record(10_200, 30 * MILLI);
+    QualityWindow.Snapshot snapshot = window.snapshot(10_200);
+    assertEquals(2, snapshot.answered);
+    assertEquals(20, snapshot.rttMillis(1), 20.0 / 32);
+    assertEquals(30, snapshot.rttMillis(100), 30.0 / 32);
+  }
+
+  @Test
+  void computesLossAndJitter() {
+    QualityWindow window = new QualityWindow(10_000, 10);
+    assertEquals(0, window.snapshot(0).lossPercent());
+    assertEquals(0, window.snapshot(0).jitterMillis());
+
+    window.record(0, 10 * MILLI);
+    window.record(100, -1);
+    window.record(200, 14 * MILLI);
+    window.record(1_300, 8 * MILLI);
+    window.record(1_400, -1);
+    QualityWindow.Snapshot snapshot = window.snapshot(1_400);
+    assertEquals(5, snapshot.sent);
+    assertEquals(2, snapshot.lost);
+    assertEquals(3, snapshot.answered);
+    assertEquals(40, snapshot.lossPercent());
+    // Losses are skipped: |14 - 10| and |8 - 14|, across slots.
+    assertEquals(5, snapshot.jitterMillis());
+  }
+}
@@ -0,0 +1,183 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class ServerListCacheTest {
+  private static final String URL = "https://serverlist.example/vpninfo/servers/v6";
+  private static final String JSON = "{\"regions\":[{\"id\":\"us_east\",\"name\":\"US East\","
+      + "\"servers\":{\"wg\":[{\"ip\":\"1.2.3.4\",\"cn\":\"useast401\"}]}}]}";
+
+  private static KeyPair keyPair;
+
+  @TempDir
+  Path dir;
+
+  @BeforeAll
+  static void generateKey() throws GeneralSecurityException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    keyPair = generator.generateKeyPair();
+  }
+
+  /** Answers getRaw from a queue, and keeps the request headers. */
+  private static class FakeRestClient extends SimpleRestClient {
+    interface Response {
+      SimpleRestClient.RawResponse get() throws IOException;
+    }
+
+    final Deque<Response> responses = new ArrayDeque<>();
+    final List<Map<String, String>> requests = new ArrayList<>();
+
+    FakeRestClient() throws GeneralSecurityException {
+      super(new PiaTrustManager(Path.of("unused")));
+    }
+
+    @Override
+    public RawResponse getRaw(String urlString, Map<String, String> headers) throws IOException {
+      assertEquals(URL, urlString);
+      requests.add(Map.copyOf(headers));
+      return responses.remove().get();
+    }
+  }
+
+  private static SimpleRestClient.RawResponse response(int statusCode, byte[] body, String... headers) {
+    Map<String, List<String>> map = new HashMap<>();
+    for (int i = 0; i < headers.length; i += 2) {
+      map.put(headers[i], List.of(headers[i + 1]));
+    }
+    return new SimpleRestClient.RawResponse(statusCode, HttpHeaders.of(map, (name, value) -> true), body);
+  }
+
+  private static byte[] sign(String json) throws GeneralSecurityException {
+    Signature signer = Signature.getInstance("SHA256withRSA");
+    signer.initSign(keyPair.getPrivate());
+    signer.update(json.getBytes(StandardCharsets.UTF_8));
+    return (json + "\n\n" + Base64.getMimeEncoder().encodeToString(signer.sign()) + "\n")
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  private ServerListCache newCache(FakeRestClient restClient, Duration maxAge) throws IOException {
+    Path publicKeyPath = dir.resolve("serverlist.pem");
+    Files.writeString(publicKeyPath, "-----BEGIN PUBLIC KEY-----\n"
+        + Base64.getMimeEncoder().encodeToString(keyPair.getPublic().getEncoded())
+        + "\n-----END PUBLIC KEY-----\n");
+    return new ServerListCache(restClient, URL, dir.resolve("cache"), publicKeyPath, maxAge);
+  }
+
+  @Test
+  void acceptsGoodSignature() throws Exception {
+    FakeRestClient restClient = new FakeRestClient();
+    byte[] document = sign(JSON);
+    restClient.responses.add(() -> response(200, document));
+    ServerListCache cache = newCache(restClient, Duration.ofHours(1));
+
+    ServerListIndex index = cache.get();
+    assertEquals(1, index.getRegionCount());
+    assertEquals("US East", index.getRegion("us_east").name);
+    assertArrayEquals(document, Files.readAllBytes(dir.resolve("cache/servers.txt")));
+    // Younger than the maximum age, in memory and on disk.
+    assertSame(index, cache.get());
+    assertEquals(1, newCache(restClient, Duration.ofHours(1)).get().getRegionCount());
+    assertEquals(1, restClient.requests.size());
+  }
+
+  @Test
+  void rejectsTamperedBody() throws Exception {
+    FakeRestClient restClient = new FakeRestClient();
+    byte[] document = sign(JSON);
+    String tampered = new String(document, StandardCharsets.UTF_8).replace("1.2.3.4", "6.6.6.6");
+    restClient.responses.add(() -> response(200, tampered.getBytes(StandardCharsets.UTF_8)));
+
+    assertThrows(SignatureException.class, () -> newCache(restClient, Duration.ofHours(1)).get());
+    assertTrue(Files.notExists(dir.resolve("cache/servers.txt")));
+  }
+
+  @Test
+  void rejectsMissingSignature() throws Exception {
+    FakeRestClient restClient = new FakeRestClient();
+    restClient.responses.add(() -> response(200, JSON.getBytes(StandardCharsets.UTF_8)));
+
+    assertThrows(SignatureException.class, () -> newCache(restClient, Duration.ofHours(1)).get());
+  }
+
+  @Test
+  void updatesOnlyMetadataWhenNotModified() throws Exception {
+    FakeRestClient restClient = new FakeRestClient();
+    byte[] document = sign(JSON);
+    String lastModified = "Thu, 01 Oct 2026 00:00:00 GMT";
+    restClient.responses.add(() -> response(200, document, "ETag", "\"v1\"", "Last-Modified", lastModified));
+    restClient.responses.add(() -> response(304, new byte[0]));
+    // Always revalidated.
+    ServerListCache cache = newCache(restClient, Duration.ZERO);
+
+    ServerListIndex index = cache.get();
+    Path documentPath = dir.resolve("cache/servers.txt");
+    long documentModified = Files.getLastModifiedTime(documentPath).toMillis();
+    Proto.CachedServerList.Builder metadata = Proto.CachedServerList.newBuilder();
+    TextProtoFiles.merge(dir.resolve("cache/servers-metadata.txt"), metadata);
+    long validated = metadata.getValidatedEpochMillis();
+    Thread.sleep(5);
+
+    assertSame(index, cache.get());
+    assertEquals(Map.of("If-None-Match", "\"v1\"", "If-Modified-Since", lastModified), restClient.requests.get(1));
+    assertArrayEquals(document, Files.readAllBytes(documentPath));
+    assertEquals(documentModified, Files.getLastModifiedTime(documentPath).toMillis());
+    metadata.clear();
+    TextProtoFiles.merge(dir.resolve("cache/servers-metadata.txt"), metadata);
+    assertEquals("\"v1\"", metadata.getEtag());
+    assertTrue(metadata.getValidatedEpochMillis() > validated);
+  }
+
+  @Test
+  void fallsBackToStaleCopy() throws Exception {
+    FakeRestClient restClient = new FakeRestClient();
+    byte[] document = sign(JSON);
+    restClient.responses.add(() -> response(200, document));
+    newCache(restClient, Duration.ofHours(1)).get();
+
+    // Stale, and neither the server nor its error answer is usable.
+    restClient.responses.add(() -> {
+      throw new ConnectException("Connection refused");
+    });
+    restClient.responses.add(() -> response(503, new byte[0]));
+    ServerListCache cache = newCache(restClient, Duration.ZERO);
+    assertEquals(1, cache.get().getRegionCount());
+    assertEquals(1, cache.get().getRegionCount());
+    assertEquals(3, restClient.requests.size());
+
+    // Without a cached copy the failure is thrown.
+    Files.delete(dir.resolve("cache/servers.txt"));
+    restClient.responses.add(() -> {
+      throw new ConnectException("Connection refused");
+    });
+    assertThrows(ConnectException.class, () -> newCache(restClient, Duration.ZERO).get());
+  }
+}
@@ -0,0 +1,37 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+class TextProtoFilesTest {
+  @TempDir
+  Path dir;
+
+  @Test
+  void writesMessagesReadableByEveryone() throws Exception {
+    Path path = dir.resolve("report.txt");
+    TextProtoFiles.write(path, Proto.PathMtuCache.getDefaultInstance(), false);
+    assertEquals("rw-r--r--", PosixFilePermissions.toString(Files.getPosixFilePermissions(path)));
+    TextProtoFiles.write(path, Proto.PathMtuCache.getDefaultInstance(), true);
+    assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(path)));
+  }
+
+  @Test
+  void roundTripsMessages() throws Exception {
+    Path path = dir.resolve("mtu.txt");
+    Proto.PathMtuCache cache = Proto.PathMtuCache.newBuilder()
+        .addEntry(Proto.PathMtuCache.Entry.newBuilder().setHost("192.0.2.1").setPathMtu(1400))
+        .build();
+    TextProtoFiles.write(path, cache, false);
+    Proto.PathMtuCache.Builder read = Proto.PathMtuCache.newBuilder();
+    assertTrue(TextProtoFiles.merge(path, read));
+    assertEquals(cache, read.build());
+  }
+}
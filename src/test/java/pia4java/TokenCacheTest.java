@@ -0,0 +1,78 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TokenCacheTest {
+  @TempDir
+  Path dir;
+
+  private final AtomicInteger retrievals = new AtomicInteger();
+
+  private String retrieveToken() {
+    return "token" + retrievals.incrementAndGet();
+  }
+
+  private void writeCachedToken(String username, String token, Duration age) throws IOException {
+    TextProtoFiles.write(dir.resolve("token.txt"), Proto.CachedToken.newBuilder()
+        .setUsername(username)
+        .setToken(token)
+        .setIssuedEpochMillis(System.currentTimeMillis() - age.toMillis())
+        .build(), true);
+  }
+
+  @Test
+  void reusesCachedTokenUntilCloseToExpiry() throws Exception {
+    // Expires in 15 minutes, outside the 10 minute margin.
+    writeCachedToken("p1234567", "cached", TokenCache.TOKEN_LIFETIME.minusMinutes(15));
+    TokenCache tokenCache = new TokenCache(dir.resolve("token.txt"), "p1234567", this::retrieveToken);
+    assertTrue(tokenCache.hasValidToken());
+    assertEquals("cached", tokenCache.getToken());
+    assertEquals(0, retrievals.get());
+
+    // Expires in 5 minutes, inside the margin.
+    writeCachedToken("p1234567", "cached", TokenCache.TOKEN_LIFETIME.minusMinutes(5));
+    tokenCache = new TokenCache(dir.resolve("token.txt"), "p1234567", this::retrieveToken);
+    assertFalse(tokenCache.hasValidToken());
+    assertEquals("token1", tokenCache.getToken());
+    // The new token is kept, on disk too.
+    assertEquals("token1", tokenCache.getToken());
+    assertEquals("token1",
+        new TokenCache(dir.resolve("token.txt"), "p1234567", this::retrieveToken).getToken());
+    assertEquals(1, retrievals.get());
+  }
+
+  @Test
+  void ignoresTokenOfAnotherUser() throws Exception {
+    writeCachedToken("p1234567", "cached", Duration.ZERO);
+    TokenCache tokenCache = new TokenCache(dir.resolve("token.txt"), "p7654321", this::retrieveToken);
+    assertFalse(tokenCache.hasValidToken());
+    assertEquals("token1", tokenCache.getToken());
+
+    // The other user's token was replaced.
+    tokenCache = new TokenCache(dir.resolve("token.txt"), "p1234567", this::retrieveToken);
+    assertFalse(tokenCache.hasValidToken());
+  }
+
+  @Test
+  void refreshesRejectedToken() throws Exception {
+    writeCachedToken("p1234567", "cached", Duration.ZERO);
+    TokenCache tokenCache = new TokenCache(dir.resolve("token.txt"), "p1234567", this::retrieveToken);
+    assertEquals("cached", tokenCache.getToken());
+
+    assertEquals("token1", tokenCache.refresh());
+    assertEquals("token1", tokenCache.getToken());
+    assertEquals("token1",
+        new TokenCache(dir.resolve("token.txt"), "p1234567", this::retrieveToken).getToken());
+    assertEquals(1, retrievals.get());
+  }
+}
@@ -0,0 +1,137 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+
+class TunnelSupervisorTest {
+  // 2026-10-01T00:00:00Z
+  private static final long NOW = 1_790_812_800_000L;
+
+  private static final Proto.Supervisor CONFIG = Proto.Supervisor.newBuilder()
+      .setMaxHandshakeAgeSeconds(180)
+      .setMaxReceiveStallSeconds(30)
+      .setMinBackoffSeconds(1)
+      .setMaxBackoffSeconds(8)
+      .build();
+
+  /** Returns the dump set by the test, and counts reconnects. */
+  private static class FakeTunnel implements TunnelSupervisor.Tunnel {
+    WireGuardDump dump;
+    boolean reconnectFails;
+    int reconnects;
+
+    @Override
+    public WireGuardDump read() {
+      return dump;
+    }
+
+    @Override
+    public void reconnect() throws IOException {
+      reconnects++;
+      if (reconnectFails) {
+        throw new ConnectException("Connection refused");
+      }
+    }
+  }
+
+  private static WireGuardDump dump(long handshakeEpochSeconds, long receivedBytes, long sentBytes) {
+    return WireGuardDump.parse("cHJpdmF0ZQ==\tcHVibGlj\t51820\toff\n"
+        + "cGVlcjE=\t(none)\t203.0.113.1:1337\t0.0.0.0/0\t" + handshakeEpochSeconds
+        + "\t" + receivedBytes + "\t" + sentBytes + "\t25");
+  }
+
+  @Test
+  void reportsInterfaceDown() throws Exception {
+    FakeTunnel tunnel = new FakeTunnel();
+    TunnelSupervisor supervisor = new TunnelSupervisor("pia0", CONFIG, tunnel);
+    assertEquals("interface down", supervisor.check(NOW));
+    tunnel.dump = WireGuardDump.parse("cHJpdmF0ZQ==\tcHVibGlj\t51820\toff");
+    assertEquals("interface down", supervisor.check(NOW));
+  }
+
+  @Test
+  void ignoresIdleTunnel() throws Exception {
+    FakeTunnel tunnel = new FakeTunnel();
+    TunnelSupervisor supervisor = new TunnelSupervisor("pia0", CONFIG, tunnel);
+    // No handshake for an hour and nothing received, but nothing sent either.
+    tunnel.dump = dump(NOW / 1000 - 3600, 100, 200);
+    assertNull(supervisor.check(NOW));
+    assertNull(supervisor.check(NOW + 60_000));
+    assertNull(supervisor.check(NOW + 600_000));
+  }
+
+  @Test
+  void reportsStaleHandshakeWhileSending() throws Exception {
+    FakeTunnel tunnel = new FakeTunnel();
+    TunnelSupervisor supervisor = new TunnelSupervisor("pia0", CONFIG, tunnel);
+    long handshake = NOW / 1000;
+    tunnel.dump = dump(handshake, 100, 200);
+    assertNull(supervisor.check(NOW));
+    // Sending and receiving, with the handshake 180s old.
+    tunnel.dump = dump(handshake, 300, 400);
+    assertNull(supervisor.check(NOW + 180_000));
+    tunnel.dump = dump(handshake, 500, 600);
+    assertEquals("latest handshake 190s ago", supervisor.check(NOW + 190_000));
+  }
+
+  @Test
+  void reportsStalledReceiveWhileSending() throws Exception {
+    FakeTunnel tunnel = new FakeTunnel();
+    TunnelSupervisor supervisor = new TunnelSupervisor("pia0", CONFIG, tunnel);
+    long handshake = NOW / 1000;
+    tunnel.dump = dump(handshake, 100, 200);
+    assertNull(supervisor.check(NOW));
+    tunnel.dump = dump(handshake, 100, 300);
+    assertNull(supervisor.check(NOW + 30_000));
+    tunnel.dump = dump(handshake, 100, 400);
+    assertEquals("nothing received for 40s", supervisor.check(NOW + 40_000));
+    // Receiving again.
+    tunnel.dump = dump(handshake, 150, 500);
+    assertNull(supervisor.check(NOW + 50_000));
+    // Stalled without sending is idle.
+    tunnel.dump = dump(handshake, 150, 500);
+    assertNull(supervisor.check(NOW + 120_000));
+  }
+
+  @Test
+  void backsOffWithJitterWithinBounds() {
+    for (int trial = 0; trial < 100; trial++) {
+      TunnelSupervisor supervisor = new TunnelSupervisor("pia0", CONFIG, new FakeTunnel());
+      long backoffMillis = 1000;
+      for (int attempt = 0; attempt < 8; attempt++) {
+        long delayMillis = supervisor.nextRetryDelayMillis();
+        assertTrue(delayMillis >= backoffMillis / 2 && delayMillis <= backoffMillis,
+            delayMillis + "ms for a backoff of " + backoffMillis + "ms");
+        backoffMillis = Math.min(backoffMillis * 2, 8000);
+      }
+    }
+  }
+
+  @Test
+  void reconnectsAndResetsBackoff() {
+    FakeTunnel tunnel = new FakeTunnel();
+    TunnelSupervisor supervisor = new TunnelSupervisor("pia0", CONFIG, tunnel);
+    // Stopped, so that ticks run here and schedule nothing.
+    supervisor.stop();
+
+    tunnel.reconnectFails = true;
+    for (int i = 0; i < 4; i++) {
+      supervisor.tick();
+    }
+    assertEquals(4, tunnel.reconnects);
+    long delayMillis = supervisor.nextRetryDelayMillis();
+    assertTrue(delayMillis >= 4000 && delayMillis <= 8000, delayMillis + "ms");
+
+    tunnel.reconnectFails = false;
+    supervisor.tick();
+    assertEquals(5, tunnel.reconnects);
+    delayMillis = supervisor.nextRetryDelayMillis();
+    assertTrue(delayMillis >= 500 && delayMillis <= 1000, delayMillis + "ms");
+  }
+}
@@ -0,0 +1,55 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class WireGuardDumpTest {
+  private static final String DUMP = String.join("\n",
+      "cHJpdmF0ZQ==\tcHVibGlj\t51820\t0xca6c",
+      "cGVlcjE=\t(none)\t203.0.113.1:1337\t0.0.0.0/0,::/0\t1700000000\t1024\t2048\t25",
+      "cGVlcjI=\t(none)\t(none)\t(none)\t0\t0\t148\toff");
+
+  @Test
+  void parsesInterfaceAndPeers() {
+    WireGuardDump dump = WireGuardDump.parse(DUMP);
+    assertEquals("cHVibGlj", dump.publicKey);
+    assertEquals(51820, dump.fwmark);
+    assertEquals(2, dump.peers.size());
+
+    WireGuardDump.Peer active = dump.getPeer("cGVlcjE=");
+    assertEquals("203.0.113.1:1337", active.endpoint);
+    assertEquals(List.of("0.0.0.0/0", "::/0"), active.allowedIps);
+    assertEquals(1700000000, active.latestHandshakeEpochSeconds);
+    assertEquals(1024, active.receivedBytes);
+    assertEquals(2048, active.sentBytes);
+
+    WireGuardDump.Peer idle = dump.getPeer("cGVlcjI=");
+    assertEquals("(none)", idle.endpoint);
+    assertEquals(List.of(), idle.allowedIps);
+    assertEquals(0, idle.latestHandshakeEpochSeconds);
+    assertNull(dump.getPeer("other"));
+  }
+
+  @Test
+  void parsesFwmarks() {
+    // fwmark field, expected
+    Object[][] cases = {{"off", 0}, {"0xca6c", 51820}, {"51820", 51820}};
+    for (Object[] c : cases) {
+      assertEquals(c[1], WireGuardDump.parse("a\tb\t0\t" + c[0]).fwmark, (String) c[0]);
+    }
+    assertEquals(List.of(), WireGuardDump.parse("a\tb\t0\toff").peers);
+  }
+
+  @Test
+  void rejectsShortLines() {
+    String[] malformed = {"a\tb\t0", "a\tb\t0\toff\npeer\t(none)\t(none)\t(none)\t0\t0\t0"};
+    for (String dump : malformed) {
+      assertThrows(IllegalArgumentException.class, () -> WireGuardDump.parse(dump), dump);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package pia4java;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.HexFormat;
+
+class WireGuardKeyPairTest {
+  // Private and public keys from RFC 7748 section 6.1.
+  private static final String[][] VECTORS = {
+      {"77076d0a7318a57d3c16c17251b26645df4c2f87ebc0992ab177fba51db92c2a",
+          "8520f0098930a754748b7ddcb43ef75a0dbf3a0d26381af4eba4a98eaa9b4e6a"},
+      {"5dab087e624a8a4b79e17f8b83800ee66f3bb1292618b6fd1c2f8b27ff88e0eb",
+          "de9edb7d7b7dc1b4d35b61c2ece435373f8343c85b78674dadfc7e146f882b4f"},
+  };
+
+  @Test
+  void derivesRfc7748PublicKeys() throws Exception {
+    HexFormat hex = HexFormat.of();
+    for (String[] vector : VECTORS) {
+      assertEquals(vector[1], hex.formatHex(WireGuardKeyPair.publicKey(hex.parseHex(vector[0]))));
+    }
+  }
+
+  @Test
+  void generatesClampedMatchingKeys() throws Exception {
+    WireGuardKeyPair keyPair = WireGuardKeyPair.generate();
+    byte[] privateKey = Base64.getDecoder().decode(keyPair.privateKey);
+    assertEquals(32, privateKey.length);
+    assertEquals(0, privateKey[0] & 7);
+    assertEquals(64, privateKey[31] & 192);
+    assertArrayEquals(WireGuardKeyPair.publicKey(privateKey), Base64.getDecoder().decode(keyPair.publicKey));
+    assertNotEquals(keyPair.publicKey, WireGuardKeyPair.generate().publicKey);
+  }
+}